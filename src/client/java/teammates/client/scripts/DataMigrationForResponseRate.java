@@ -63,6 +63,7 @@ public class DataMigrationForResponseRate extends RemoteApiClient {
         List<FeedbackSessionAttributes> feedbackSessionsWithNoRespondents = new ArrayList<FeedbackSessionAttributes>();
 
         for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
+            logic.loadFeedbackSessionRespondents(feedbackSession);
             if (feedbackSession.getRespondingStudentList().size() != 0
                     || feedbackSession.getRespondingInstructorList().size() != 0) {
                 continue;
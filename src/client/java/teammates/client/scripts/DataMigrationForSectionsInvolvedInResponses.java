@@ -0,0 +1,92 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.Query;
+
+import org.datanucleus.store.appengine.query.JDOCursorHelper;
+
+import teammates.client.remoteapi.RemoteApiClient;
+import teammates.storage.entity.FeedbackResponse;
+
+import com.google.appengine.api.datastore.Cursor;
+
+/**
+ * Script to populate the sectionsInvolved attribute of feedback responses stored before it was added,
+ * as section-filtered response queries only find responses with the attribute once
+ * app.responses.sectionsinvolved.backfilled is set in build.properties.
+ *
+ * <p>The responses are processed in batches, and the lastUpdate time stamp of each response is preserved.
+ * The same backfill can be run on the server through {@code FeedbackResponseSectionsBackfillWorkerAction}.
+ */
+public class DataMigrationForSectionsInvolvedInResponses extends RemoteApiClient {
+
+    private static final int BATCH_SIZE = 500;
+
+    private boolean isPreview = true;
+
+    public static void main(String[] args) throws IOException {
+        new DataMigrationForSectionsInvolvedInResponses().doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        int numberOfResponses = 0;
+        int numberOfResponsesToMigrate = 0;
+
+        Cursor cursor = null;
+        List<FeedbackResponse> responses;
+        do {
+            responses = getResponseEntities(cursor);
+            for (FeedbackResponse response : responses) {
+                if (isMigrationNeeded(response)) {
+                    numberOfResponsesToMigrate++;
+                    migrateResponse(response);
+                }
+            }
+            numberOfResponses += responses.size();
+
+            if (!responses.isEmpty()) {
+                cursor = JDOCursorHelper.getCursor(responses);
+            }
+            // writes the migrated responses of the batch and releases them
+            PM.flush();
+            PM.evictAll();
+
+            System.out.println(numberOfResponsesToMigrate + " of " + numberOfResponses
+                               + " responses " + (isPreview ? "to be migrated" : "migrated"));
+        } while (responses.size() == BATCH_SIZE);
+    }
+
+    private boolean isMigrationNeeded(FeedbackResponse response) {
+        return response.isSectionsInvolvedOutdated();
+    }
+
+    private void migrateResponse(FeedbackResponse response) {
+        if (isPreview) {
+            System.out.println("Sections involved in " + response.getId() + " to be set to "
+                               + response.getGiverSection() + " and " + response.getRecipientSection());
+            return;
+        }
+
+        response.keepUpdateTimestamp = true;
+        response.updateSectionsInvolved();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeedbackResponse> getResponseEntities(Cursor cursor) {
+        Query q = PM.newQuery(FeedbackResponse.class);
+        if (cursor != null) {
+            Map<String, Object> extensions = new HashMap<String, Object>();
+            extensions.put(JDOCursorHelper.CURSOR_EXTENSION, cursor);
+            q.setExtensions(extensions);
+        }
+        q.setRange(0, BATCH_SIZE);
+
+        return (List<FeedbackResponse>) q.execute();
+    }
+
+}
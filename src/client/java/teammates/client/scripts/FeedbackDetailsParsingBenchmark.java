@@ -0,0 +1,89 @@
+package teammates.client.scripts;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
+/**
+ * Usage: measures the time taken to build the answers of a large session in CSV format,
+ * with the question and response details parsed on every call, and parsed only once per attributes object.
+ *
+ * <p>Runs locally without any datastore access; each measurement is repeated to let the JIT compiler warm up.
+ */
+public final class FeedbackDetailsParsingBenchmark {
+
+    private static final int NUM_OF_RESPONSES = 5000;
+    private static final int NUM_OF_ROUNDS = 10;
+
+    private FeedbackDetailsParsingBenchmark() {
+        // script, not meant to be instantiated
+    }
+
+    public static void main(String[] args) {
+        FeedbackQuestionAttributes question = createQuestion();
+        List<FeedbackResponseAttributes> responses = createResponses(question);
+
+        for (int round = 1; round <= NUM_OF_ROUNDS; round++) {
+            long parsedOnEveryCallTime = timeBuildingAnswers(question, responses, true);
+            long parsedOnceTime = timeBuildingAnswers(question, responses, false);
+            System.out.println("Round " + round + ": parsed on every call " + parsedOnEveryCallTime + " ms, "
+                               + "parsed once " + parsedOnceTime + " ms");
+        }
+    }
+
+    private static long timeBuildingAnswers(FeedbackQuestionAttributes question,
+                                            List<FeedbackResponseAttributes> responses,
+                                            boolean isParsedOnEveryCall) {
+        long startTime = System.nanoTime();
+        StringBuilder csv = new StringBuilder();
+        for (FeedbackResponseAttributes response : responses) {
+            // fresh copies have nothing parsed yet, as was the case for every call before details were cached
+            FeedbackQuestionAttributes questionToUse = isParsedOnEveryCall ? question.getCopy() : question;
+            FeedbackResponseAttributes responseToUse =
+                    isParsedOnEveryCall ? new FeedbackResponseAttributes(response) : response;
+
+            FeedbackQuestionDetails questionDetails = questionToUse.getQuestionDetails();
+            csv.append(responseToUse.getResponseDetails().getAnswerCsv(questionDetails)).append('\n');
+        }
+        return (System.nanoTime() - startTime) / 1000000;
+    }
+
+    private static FeedbackQuestionAttributes createQuestion() {
+        FeedbackQuestionAttributes question = new FeedbackQuestionAttributes();
+        question.questionType = FeedbackQuestionType.MCQ;
+        question.giverType = FeedbackParticipantType.STUDENTS;
+        question.recipientType = FeedbackParticipantType.SELF;
+        question.showResponsesTo = new ArrayList<FeedbackParticipantType>();
+        question.showGiverNameTo = new ArrayList<FeedbackParticipantType>();
+        question.showRecipientNameTo = new ArrayList<FeedbackParticipantType>();
+        FeedbackMcqQuestionDetails questionDetails = new FeedbackMcqQuestionDetails();
+        questionDetails.setQuestionText("Which option do you prefer?");
+        question.setQuestionDetails(questionDetails);
+        return question;
+    }
+
+    private static List<FeedbackResponseAttributes> createResponses(FeedbackQuestionAttributes question) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        for (int i = 0; i < NUM_OF_RESPONSES; i++) {
+            FeedbackResponseAttributes response = new FeedbackResponseAttributes();
+            response.feedbackQuestionType = FeedbackQuestionType.MCQ;
+            response.giver = "student" + i + "@example.tmt";
+            response.recipient = response.giver;
+
+            FeedbackMcqResponseDetails responseDetails = new FeedbackMcqResponseDetails();
+            responseDetails.extractResponseDetails(FeedbackQuestionType.MCQ, question.getQuestionDetails(),
+                                                   new String[] {"Option " + i % 4});
+            response.setResponseDetails(responseDetails);
+            responses.add(response);
+        }
+        return responses;
+    }
+
+}
@@ -0,0 +1,182 @@
+package teammates.client.scripts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
+import teammates.common.util.Const;
+import teammates.logic.core.FeedbackResponseVisibilityEvaluator;
+import teammates.logic.core.FeedbackResponsesLogic;
+
+/**
+ * Usage: measures the time taken to filter the responses of a large session for an instructor with section
+ * restrictions and to check whether the names in them are visible, by checking the visibility options of the
+ * question for every response, and by evaluating them through {@link FeedbackResponseVisibilityEvaluator}.
+ *
+ * <p>Runs locally without any datastore access; each measurement is repeated to let the JIT compiler warm up.
+ */
+public final class FeedbackResponseVisibilityBenchmark {
+
+    private static final String COURSE_ID = "benchmark.course";
+    private static final String FEEDBACK_SESSION_NAME = "Benchmark Session";
+    private static final String INSTRUCTOR_EMAIL = "instructor@example.tmt";
+
+    private static final int NUM_OF_SECTIONS = 10;
+    private static final int NUM_OF_STUDENTS_PER_SECTION = 100;
+    private static final int NUM_OF_RESPONSES_PER_STUDENT = 10;
+    private static final int NUM_OF_ROUNDS = 10;
+
+    private FeedbackResponseVisibilityBenchmark() {
+        // script, not meant to be instantiated
+    }
+
+    public static void main(String[] args) {
+        List<StudentAttributes> students = createStudents();
+        InstructorAttributes instructor = createInstructor();
+        CourseRoster roster = new CourseRoster(students, Arrays.asList(instructor));
+        FeedbackQuestionAttributes question = createQuestion();
+        List<FeedbackResponseAttributes> responses = createResponses(question, students);
+
+        for (int round = 1; round <= NUM_OF_ROUNDS; round++) {
+            long[] perResponseResult = timePerResponseChecks(question, responses, instructor, roster);
+            long[] evaluatorResult = timeEvaluator(question, responses, instructor, roster);
+            System.out.println("Round " + round + ": checked per response " + perResponseResult[0] + " ms ("
+                               + perResponseResult[1] + " named), "
+                               + "evaluator " + evaluatorResult[0] + " ms (" + evaluatorResult[1] + " named)");
+        }
+    }
+
+    private static long[] timePerResponseChecks(FeedbackQuestionAttributes question,
+                                                List<FeedbackResponseAttributes> responses,
+                                                InstructorAttributes instructor, CourseRoster roster) {
+        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+        long startTime = System.nanoTime();
+        long numOfNamedResponses = 0;
+        for (FeedbackResponseAttributes response : responses) {
+            if (isResponseVisibleToInstructor(response, question, instructor)) {
+                boolean isGiverNameVisible = frLogic.isNameVisibleToUser(
+                        question, response, INSTRUCTOR_EMAIL, UserRole.INSTRUCTOR, true, roster);
+                boolean isRecipientNameVisible = frLogic.isNameVisibleToUser(
+                        question, response, INSTRUCTOR_EMAIL, UserRole.INSTRUCTOR, false, roster);
+                if (isGiverNameVisible && isRecipientNameVisible) {
+                    numOfNamedResponses++;
+                }
+            }
+        }
+        return new long[] {(System.nanoTime() - startTime) / 1000000, numOfNamedResponses};
+    }
+
+    private static long[] timeEvaluator(FeedbackQuestionAttributes question,
+                                        List<FeedbackResponseAttributes> responses,
+                                        InstructorAttributes instructor, CourseRoster roster) {
+        long startTime = System.nanoTime();
+        FeedbackResponseVisibilityEvaluator evaluator = new FeedbackResponseVisibilityEvaluator(
+                FEEDBACK_SESSION_NAME, INSTRUCTOR_EMAIL, UserRole.INSTRUCTOR, null, null, instructor, roster);
+        long numOfNamedResponses = 0;
+        for (FeedbackResponseAttributes response : responses) {
+            if (evaluator.isResponseVisible(response, question)) {
+                boolean isGiverNameVisible = evaluator.isNameVisible(response, question, true);
+                boolean isRecipientNameVisible = evaluator.isNameVisible(response, question, false);
+                if (isGiverNameVisible && isRecipientNameVisible) {
+                    numOfNamedResponses++;
+                }
+            }
+        }
+        return new long[] {(System.nanoTime() - startTime) / 1000000, numOfNamedResponses};
+    }
+
+    /**
+     * The checks made for an instructor before the visibility options of questions were compiled.
+     */
+    private static boolean isResponseVisibleToInstructor(FeedbackResponseAttributes response,
+                                                         FeedbackQuestionAttributes question,
+                                                         InstructorAttributes instructor) {
+        boolean isVisibleResponse = question.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
+                                    || response.recipient.equals(INSTRUCTOR_EMAIL)
+                                       && question.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
+                                    || response.giver.equals(INSTRUCTOR_EMAIL);
+        if (isVisibleResponse) {
+            boolean isGiverSectionRestricted =
+                    !instructor.isAllowedForPrivilege(response.giverSection, response.feedbackSessionName,
+                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            boolean isRecipientSectionRestricted =
+                    question.recipientType != FeedbackParticipantType.NONE
+                    && !instructor.isAllowedForPrivilege(response.recipientSection, response.feedbackSessionName,
+                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            isVisibleResponse = !isGiverSectionRestricted && !isRecipientSectionRestricted;
+        }
+        return isVisibleResponse;
+    }
+
+    private static List<StudentAttributes> createStudents() {
+        List<StudentAttributes> students = new ArrayList<StudentAttributes>();
+        for (int section = 0; section < NUM_OF_SECTIONS; section++) {
+            for (int i = 0; i < NUM_OF_STUDENTS_PER_SECTION; i++) {
+                students.add(new StudentAttributes("Section " + section, "Team " + section + "." + i / 5,
+                                                   "Student " + section + "." + i,
+                                                   "student" + section + "." + i + "@example.tmt", "", COURSE_ID));
+            }
+        }
+        return students;
+    }
+
+    private static InstructorAttributes createInstructor() {
+        InstructorAttributes instructor = new InstructorAttributes("instructor", COURSE_ID, "Instructor",
+                                                                   INSTRUCTOR_EMAIL);
+        for (int section = 0; section < NUM_OF_SECTIONS; section += 2) {
+            instructor.privileges.updatePrivilege("Section " + section,
+                    Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        }
+        return instructor;
+    }
+
+    private static FeedbackQuestionAttributes createQuestion() {
+        FeedbackQuestionAttributes question = new FeedbackQuestionAttributes();
+        question.setId("benchmarkQuestionId");
+        question.feedbackSessionName = FEEDBACK_SESSION_NAME;
+        question.courseId = COURSE_ID;
+        question.questionType = FeedbackQuestionType.TEXT;
+        question.giverType = FeedbackParticipantType.STUDENTS;
+        question.recipientType = FeedbackParticipantType.STUDENTS;
+        question.showResponsesTo = new ArrayList<FeedbackParticipantType>(
+                Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.INSTRUCTORS));
+        question.showGiverNameTo = new ArrayList<FeedbackParticipantType>(
+                Arrays.asList(FeedbackParticipantType.INSTRUCTORS));
+        question.showRecipientNameTo = new ArrayList<FeedbackParticipantType>(
+                Arrays.asList(FeedbackParticipantType.RECEIVER, FeedbackParticipantType.INSTRUCTORS));
+        question.setQuestionDetails(new FeedbackTextQuestionDetails("How well did this student contribute?"));
+        return question;
+    }
+
+    private static List<FeedbackResponseAttributes> createResponses(FeedbackQuestionAttributes question,
+                                                                    List<StudentAttributes> students) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        for (int i = 0; i < students.size(); i++) {
+            StudentAttributes giver = students.get(i);
+            for (int j = 1; j <= NUM_OF_RESPONSES_PER_STUDENT; j++) {
+                StudentAttributes recipient = students.get((i + j * NUM_OF_STUDENTS_PER_SECTION / 2) % students.size());
+                FeedbackResponseAttributes response = new FeedbackResponseAttributes();
+                response.feedbackSessionName = FEEDBACK_SESSION_NAME;
+                response.courseId = COURSE_ID;
+                response.feedbackQuestionId = question.getId();
+                response.feedbackQuestionType = FeedbackQuestionType.TEXT;
+                response.giver = giver.email;
+                response.giverSection = giver.section;
+                response.recipient = recipient.email;
+                response.recipientSection = recipient.section;
+                responses.add(response);
+            }
+        }
+        return responses;
+    }
+
+}
@@ -0,0 +1,92 @@
+package teammates.client.scripts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.client.remoteapi.RemoteApiClient;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.logic.api.Logic;
+import teammates.storage.api.FeedbackSessionsDb;
+
+/**
+ * Script to go through either every feedback session or a specified feedback session,
+ * and verify that the stored statistics of each question match the statistics counted from its responses.
+ *
+ * <p>If isPreview is false, the statistics of sessions with missing or inconsistent statistics are
+ * rebuilt with {@code logic.rebuildFeedbackQuestionStatisticsForSession}. This also creates the statistics
+ * of sessions created before the statistics were kept.
+ */
+public class RepairFeedbackQuestionStatistics extends RemoteApiClient {
+
+    private Logic logic = new Logic();
+    private FeedbackSessionsDb fsDb = new FeedbackSessionsDb();
+
+    // if isPreview is true, then no writes will be done
+    private boolean isPreview = true;
+
+    // If both courseId and feedbackSessionName are specified,
+    // the feedback session specified will be operated upon.
+    // Otherwise, all feedback sessions will be checked
+    private String courseId;
+    private String feedbackSessionName;
+
+    public static void main(String[] args) throws IOException {
+        new RepairFeedbackQuestionStatistics().doOperationRemotely();
+    }
+
+    @Override
+    protected void doOperation() {
+        List<FeedbackSessionAttributes> feedbackSessions;
+        if (courseId == null || feedbackSessionName == null) {
+            feedbackSessions = getAllFeedbackSessions();
+        } else {
+            feedbackSessions = new ArrayList<FeedbackSessionAttributes>();
+            feedbackSessions.add(logic.getFeedbackSession(feedbackSessionName, courseId));
+        }
+
+        int numberOfInconsistentSessions = 0;
+        try {
+            for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
+                if (findAndFixInconsistentStatistics(feedbackSession)) {
+                    numberOfInconsistentSessions++;
+                }
+            }
+        } catch (EntityDoesNotExistException e) {
+            e.printStackTrace();
+        }
+
+        System.out.println(numberOfInconsistentSessions + " of " + feedbackSessions.size()
+                           + " sessions " + (isPreview ? "to be repaired" : "repaired"));
+    }
+
+    private boolean findAndFixInconsistentStatistics(FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException {
+        List<FeedbackQuestionAttributes> inconsistentQuestions =
+                logic.getFeedbackQuestionsWithInconsistentStatistics(feedbackSession.getFeedbackSessionName(),
+                                                                     feedbackSession.getCourseId());
+        if (inconsistentQuestions.isEmpty()) {
+            return false;
+        }
+
+        for (FeedbackQuestionAttributes question : inconsistentQuestions) {
+            System.out.println("Inconsistent statistics for " + feedbackSession.getIdentificationString()
+                               + " question " + question.questionNumber);
+        }
+
+        if (!isPreview) {
+            System.out.println("fixing " + feedbackSession.getIdentificationString());
+            logic.rebuildFeedbackQuestionStatisticsForSession(feedbackSession.getFeedbackSessionName(),
+                                                              feedbackSession.getCourseId());
+        }
+        return true;
+    }
+
+    @SuppressWarnings("deprecation")
+    private List<FeedbackSessionAttributes> getAllFeedbackSessions() {
+        return fsDb.getAllFeedbackSessions();
+    }
+
+}
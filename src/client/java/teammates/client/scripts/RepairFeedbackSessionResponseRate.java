@@ -80,6 +80,7 @@ public class RepairFeedbackSessionResponseRate extends RemoteApiClient {
             for (FeedbackSessionAttributes feedbackSession : feedbackSessions) {
                 System.out.println(feedbackSession.getIdentificationString());
 
+                logic.loadFeedbackSessionRespondents(feedbackSession);
                 Set<String> nonRespondents = getNonRespondentsForFeedbackSession(feedbackSession);
                 findAndFixInconsistentNonRespondentList(feedbackSession, nonRespondents);
             }
@@ -0,0 +1,29 @@
+package teammates.common.datatransfer;
+
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+
+/**
+ * Represents one page of the feedback responses matching a query.
+ */
+public class FeedbackResponsesPage {
+
+    public List<FeedbackResponseAttributes> responses;
+
+    /**
+     * An opaque string to pass back to the query to get the next page,
+     * or null if there are no more responses.
+     */
+    public String nextPageCursor;
+
+    public FeedbackResponsesPage(List<FeedbackResponseAttributes> responses, String nextPageCursor) {
+        this.responses = responses;
+        this.nextPageCursor = nextPageCursor;
+    }
+
+    public boolean hasNextPage() {
+        return nextPageCursor != null;
+    }
+
+}
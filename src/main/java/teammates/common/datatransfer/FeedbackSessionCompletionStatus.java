@@ -0,0 +1,43 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Contains the students and instructors of a course who have yet to complete a feedback session,
+ * together with the roster of the course they were picked from.
+ */
+public class FeedbackSessionCompletionStatus {
+
+    private final CourseRoster roster;
+    private final List<StudentAttributes> studentsYetToComplete = new ArrayList<StudentAttributes>();
+    private final List<InstructorAttributes> instructorsYetToComplete = new ArrayList<InstructorAttributes>();
+
+    public FeedbackSessionCompletionStatus(CourseRoster roster) {
+        this.roster = roster;
+    }
+
+    public CourseRoster getRoster() {
+        return roster;
+    }
+
+    public List<StudentAttributes> getStudentsYetToComplete() {
+        return studentsYetToComplete;
+    }
+
+    public List<InstructorAttributes> getInstructorsYetToComplete() {
+        return instructorsYetToComplete;
+    }
+
+    public void addStudentYetToComplete(StudentAttributes student) {
+        studentsYetToComplete.add(student);
+    }
+
+    public void addInstructorYetToComplete(InstructorAttributes instructor) {
+        instructorsYetToComplete.add(instructor);
+    }
+
+}
@@ -12,6 +12,7 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -46,6 +47,12 @@ public class FeedbackSessionResultsBundle {
     public Map<String, List<FeedbackResponseCommentAttributes>> responseComments;
     public boolean isComplete;
 
+    /**
+     * The cursor to get the page of responses following the responses in the bundle,
+     * or null if the responses were not loaded by pages or there are no more responses.
+     */
+    public String nextPageCursor;
+
     /**
      * Responses with identities of giver/recipients NOT hidden.
      * To be used for anonymous result calculation only, and identities hidden before showing to users.
@@ -60,6 +67,12 @@ public class FeedbackSessionResultsBundle {
     public Map<String, Map<String, TeamEvalResult>> contributionQuestionTeamEvalResults =
             new HashMap<String, Map<String, TeamEvalResult>>();
 
+    // Stored statistics of the questions, loaded only for instructors viewing all sections.
+    // If the bundle is not complete, the responses of these questions were not loaded.
+    // Key is questionId
+    public Map<String, FeedbackQuestionStatisticsAttributes> questionStatistics =
+            new HashMap<String, FeedbackQuestionStatisticsAttributes>();
+
     /*
      * sectionTeamNameTable takes into account the section viewing privileges of the logged-in instructor
      * and the selected section for viewing
@@ -2216,4 +2229,25 @@ public class FeedbackSessionResultsBundle {
         return isComplete;
     }
 
+    /**
+     * Returns the stored statistics of {@code question} if they count exactly the given {@code responses},
+     * or if only the statistics of the question were loaded, so that the statistics need not be counted
+     * from the responses. Returns null otherwise.
+     */
+    public FeedbackQuestionStatisticsAttributes getQuestionStatistics(FeedbackQuestionAttributes question,
+                                                                      List<FeedbackResponseAttributes> responses) {
+        FeedbackQuestionStatisticsAttributes statistics = questionStatistics.get(question.getId());
+        boolean isAllResponsesCounted = isComplete && statistics != null
+                                        && statistics.numberOfResponses == responses.size();
+        return isAllResponsesCounted || isStatisticsOnly(question) ? statistics : null;
+    }
+
+    /**
+     * Returns true if the stored statistics of {@code question} were loaded without its responses,
+     * as they count too many responses to be loaded at once.
+     */
+    public boolean isStatisticsOnly(FeedbackQuestionAttributes question) {
+        return !isComplete && questionStatistics.containsKey(question.getId());
+    }
+
 }
@@ -1,6 +1,7 @@
 package teammates.common.datatransfer;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -11,6 +12,10 @@ import teammates.common.util.Const;
 
 /**
  * Representation of instructor privileges. Store the privileges of the instructor
+ *
+ * <p>The privileges are persisted in their JSON form. Checking them goes through a {@link PrivilegeIndex}
+ * built from the current privileges on the first check, which is shared by copies of the privileges
+ * until they are changed.
  */
 public final class InstructorPrivileges {
 
@@ -113,6 +118,9 @@ public final class InstructorPrivileges {
     private Map<String, Map<String, Boolean>> sectionLevel;
     private Map<String, Map<String, Map<String, Boolean>>> sessionLevel;
 
+    /** Index of the privileges above, discarded whenever they are changed. Not persisted. */
+    private transient PrivilegeIndex index;
+
     public InstructorPrivileges() {
         this.courseLevel = new LinkedHashMap<String, Boolean>();
         this.sectionLevel = new LinkedHashMap<String, Map<String, Boolean>>();
@@ -143,6 +151,18 @@ public final class InstructorPrivileges {
         }
     }
 
+    /**
+     * Returns a copy of the privileges, which can be changed without affecting this object.
+     */
+    public InstructorPrivileges getCopy() {
+        InstructorPrivileges copy = new InstructorPrivileges();
+        copy.courseLevel = getCourseLevelPrivileges();
+        copy.sectionLevel = getSectionLevelPrivileges();
+        copy.sessionLevel = getSessionLevelPrivileges();
+        copy.index = getIndex();
+        return copy;
+    }
+
     public static boolean isPrivilegeNameValid(String privilegeName) {
         return COURSE_LEVEL_ONLY_PRIVILEGES.contains(privilegeName)
                 || SECTION_LEVEL_ONLY_PRIVILEGES.contains(privilegeName)
@@ -179,6 +199,7 @@ public final class InstructorPrivileges {
     }
 
     private void setDefaultPrivileges(Map<String, Boolean> defaultPrivileges) {
+        index = null;
         for (Map.Entry<String, Boolean> entry : defaultPrivileges.entrySet()) {
             courseLevel.put(entry.getKey(), entry.getValue());
         }
@@ -245,6 +266,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValid(privilegeName)) {
             return;
         }
+        index = null;
         this.courseLevel.put(privilegeName, isAllowed);
     }
 
@@ -252,6 +274,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValidForSectionLevel(privilegeName)) {
             return;
         }
+        index = null;
         if (!this.sectionLevel.containsKey(sectionName)) {
             sectionLevel.put(sectionName, new LinkedHashMap<String, Boolean>());
         }
@@ -263,6 +286,7 @@ public final class InstructorPrivileges {
         if (!isPrivilegeNameValidForSessionLevel(privilegeName)) {
             return;
         }
+        index = null;
         verifyExistenceOfsectionName(sectionName);
         if (!this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<String, Boolean>());
@@ -284,6 +308,7 @@ public final class InstructorPrivileges {
                 return;
             }
         }
+        index = null;
         sectionLevel.put(sectionName, new LinkedHashMap<String, Boolean>(privileges));
     }
 
@@ -294,12 +319,14 @@ public final class InstructorPrivileges {
                 return;
             }
         }
+        index = null;
         verifyExistenceOfsectionName(sectionName);
         this.sessionLevel.get(sectionName).put(sessionName, new LinkedHashMap<String, Boolean>(privileges));
     }
 
     private void verifyExistenceOfsectionName(String sectionName) {
         if (!this.sessionLevel.containsKey(sectionName)) {
+            index = null;
             addSectionWithDefaultPrivileges(sectionName);
             this.sessionLevel.put(sectionName, new LinkedHashMap<String, Map<String, Boolean>>());
         }
@@ -309,6 +336,7 @@ public final class InstructorPrivileges {
         if (this.sectionLevel.containsKey(sectionName)) {
             return;
         }
+        index = null;
         this.sectionLevel.put(sectionName, getOverallPrivilegesForSections());
     }
 
@@ -317,6 +345,7 @@ public final class InstructorPrivileges {
         if (this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             return;
         }
+        index = null;
         this.sessionLevel.get(sectionName).put(sessionName, getOverallPrivilegesForSessionsInSection(sectionName));
     }
 
@@ -402,6 +431,7 @@ public final class InstructorPrivileges {
      * Removes special settings for sectionName.
      */
     public void removeSectionLevelPrivileges(String sectionName) {
+        index = null;
         if (this.sectionLevel.containsKey(sectionName)) {
             this.sectionLevel.remove(sectionName);
         }
@@ -412,6 +442,7 @@ public final class InstructorPrivileges {
      * Removes special settings for all sessionNames in sectionName.
      */
     public void removeSessionsPrivilegesForSection(String sectionName) {
+        index = null;
         if (this.sessionLevel.containsKey(sectionName)) {
             this.sessionLevel.remove(sectionName);
         }
@@ -421,63 +452,54 @@ public final class InstructorPrivileges {
      * Removes special settings for sessionName in sectionName.
      */
     public void removeSessionPrivileges(String sectionName, String sessionName) {
+        index = null;
         if (this.sessionLevel.containsKey(sectionName) && this.sessionLevel.get(sectionName).containsKey(sessionName)) {
             this.sessionLevel.get(sectionName).remove(sessionName);
         }
     }
 
     private boolean isAllowedInCourseLevel(String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.courseLevel.containsKey(privilegeName)) {
-            return false;
-        }
-
-        return this.courseLevel.get(privilegeName).booleanValue();
+        return getIndex().isAllowed(getPrivilege(privilegeName));
     }
 
     private boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sectionLevel.containsKey(sectionName)) {
-            return isAllowedInCourseLevel(privilegeName);
-        }
-        if (!this.sectionLevel.get(sectionName).containsKey(privilegeName)) {
-            return false;
-        }
-        return this.sectionLevel.get(sectionName).get(privilegeName).booleanValue();
+        return getIndex().isAllowed(sectionName, getPrivilege(privilegeName));
     }
 
     private boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
-
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
-
-        if (!this.sessionLevel.containsKey(sectionName)
-                || !this.sessionLevel.get(sectionName).containsKey(sessionName)) {
-            return isAllowedInSectionLevel(sectionName, privilegeName);
-        }
-        if (!this.sessionLevel.get(sectionName).get(sessionName).containsKey(privilegeName)) {
-            return false;
-        }
-        return this.sessionLevel.get(sectionName).get(sessionName).get(privilegeName).booleanValue();
+        return getIndex().isAllowed(sectionName, sessionName, getPrivilege(privilegeName));
     }
 
     private boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
 
-        Assumption.assertTrue(isPrivilegeNameValid(privilegeName));
+        Privilege privilege = getPrivilege(privilegeName);
+        PrivilegeIndex currentIndex = getIndex();
 
         Set<String> sections = new LinkedHashSet<String>(this.sessionLevel.keySet());
         sections.addAll(this.sectionLevel.keySet());
         for (String sectionName : sections) {
-            if (isAllowedInSessionLevel(sectionName, sessionName, privilegeName)) {
+            if (currentIndex.isAllowed(sectionName, sessionName, privilege)) {
                 return true;
             }
         }
         return false;
     }
 
+    private PrivilegeIndex getIndex() {
+        PrivilegeIndex currentIndex = index;
+        if (currentIndex == null) {
+            currentIndex = new PrivilegeIndex(courseLevel, sectionLevel, sessionLevel);
+            index = currentIndex;
+        }
+        return currentIndex;
+    }
+
+    private static Privilege getPrivilege(String privilegeName) {
+        Privilege privilege = Privilege.PRIVILEGES_BY_NAME.get(privilegeName);
+        Assumption.assertNotNull(privilege);
+        return privilege;
+    }
+
     /**
      * Validates the privileges in course level, section level and session level.
      *
@@ -485,6 +507,7 @@ public final class InstructorPrivileges {
      * prerequisite privileges if they have not been granted yet.
      */
     public void validatePrivileges() {
+        index = null;
         if (this.courseLevel.containsKey(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COMMENT_IN_SECTIONS)
                 && this.courseLevel.get(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COMMENT_IN_SECTIONS).booleanValue()) {
             this.courseLevel.put(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_COMMENT_IN_SECTIONS, true);
@@ -579,4 +602,106 @@ public final class InstructorPrivileges {
         return result;
     }
 
+    /**
+     * The privileges that can be checked, each represented by the bit of its ordinal in a {@link PrivilegeIndex}.
+     */
+    private enum Privilege {
+        MODIFY_COURSE(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE),
+        MODIFY_INSTRUCTOR(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR),
+        MODIFY_SESSION(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION),
+        MODIFY_STUDENT(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT),
+        VIEW_STUDENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS),
+        VIEW_COMMENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_COMMENT_IN_SECTIONS),
+        GIVE_COMMENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_GIVE_COMMENT_IN_SECTIONS),
+        MODIFY_COMMENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COMMENT_IN_SECTIONS),
+        VIEW_SESSION_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS),
+        SUBMIT_SESSION_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS),
+        MODIFY_SESSION_COMMENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS);
+
+        static final Map<String, Privilege> PRIVILEGES_BY_NAME = new HashMap<String, Privilege>();
+
+        static {
+            for (Privilege privilege : values()) {
+                PRIVILEGES_BY_NAME.put(privilege.privilegeName, privilege);
+            }
+        }
+
+        final String privilegeName;
+
+        Privilege(String privilegeName) {
+            this.privilegeName = privilegeName;
+        }
+
+        int getBit() {
+            return 1 << ordinal();
+        }
+    }
+
+    /**
+     * Immutable index of the privileges in course level, section level and session level, with the privileges
+     * of each level held as a bit mask of {@link Privilege} ordinals.
+     *
+     * <p>Privileges missing from a level that has special settings are not allowed, as in the maps
+     * they are built from, and a level without special settings falls back to the enclosing level.
+     */
+    private static final class PrivilegeIndex {
+
+        private final int courseLevel;
+        private final Map<String, Integer> sectionLevel;
+        private final Map<String, Map<String, Integer>> sessionLevel;
+
+        PrivilegeIndex(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+                       Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+            this.courseLevel = getMask(courseLevel);
+
+            this.sectionLevel = new HashMap<String, Integer>();
+            for (Map.Entry<String, Map<String, Boolean>> sectionPrivileges : sectionLevel.entrySet()) {
+                this.sectionLevel.put(sectionPrivileges.getKey(), getMask(sectionPrivileges.getValue()));
+            }
+
+            this.sessionLevel = new HashMap<String, Map<String, Integer>>();
+            for (Map.Entry<String, Map<String, Map<String, Boolean>>> sectionPrivileges : sessionLevel.entrySet()) {
+                Map<String, Integer> sessionMasks = new HashMap<String, Integer>();
+                for (Map.Entry<String, Map<String, Boolean>> sessionPrivileges
+                        : sectionPrivileges.getValue().entrySet()) {
+                    sessionMasks.put(sessionPrivileges.getKey(), getMask(sessionPrivileges.getValue()));
+                }
+                this.sessionLevel.put(sectionPrivileges.getKey(), sessionMasks);
+            }
+        }
+
+        boolean isAllowed(Privilege privilege) {
+            return (courseLevel & privilege.getBit()) != 0;
+        }
+
+        boolean isAllowed(String sectionName, Privilege privilege) {
+            Integer sectionMask = sectionLevel.get(sectionName);
+            if (sectionMask == null) {
+                return isAllowed(privilege);
+            }
+            return (sectionMask & privilege.getBit()) != 0;
+        }
+
+        boolean isAllowed(String sectionName, String sessionName, Privilege privilege) {
+            Map<String, Integer> sessionMasks = sessionLevel.get(sectionName);
+            Integer sessionMask = sessionMasks == null ? null : sessionMasks.get(sessionName);
+            if (sessionMask == null) {
+                return isAllowed(sectionName, privilege);
+            }
+            return (sessionMask & privilege.getBit()) != 0;
+        }
+
+        private static int getMask(Map<String, Boolean> privileges) {
+            int mask = 0;
+            for (Map.Entry<String, Boolean> privilege : privileges.entrySet()) {
+                Privilege privilegeInIndex = Privilege.PRIVILEGES_BY_NAME.get(privilege.getKey());
+                if (privilegeInIndex != null && privilege.getValue() != null && privilege.getValue()) {
+                    mask |= privilegeInIndex.getBit();
+                }
+            }
+            return mask;
+        }
+
+    }
+
 }
@@ -0,0 +1,196 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.CourseStatistics;
+
+import com.google.appengine.api.datastore.Text;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The counts of the students of a course that its {@link CourseStats} are computed from.
+ *
+ * <p>Attributes with negative counts are used as changes to be added to stored statistics.</p>
+ */
+public class CourseStatisticsAttributes extends EntityAttributes {
+
+    public String courseId;
+    public int studentsTotal;
+    public int unregisteredTotal;
+
+    /**
+     * The number of students in each team, keyed by team name.
+     * Counts which drop to zero are removed.
+     */
+    public Map<String, Integer> studentsPerTeam;
+
+    /**
+     * The number of students in each section, keyed by section name, including the default section.
+     * Counts which drop to zero are removed.
+     */
+    public Map<String, Integer> studentsPerSection;
+
+    /** The time the stored statistics were last changed, or null if they are not read from storage. */
+    public Date updatedAt;
+
+    /** Whether the stored statistics are to be counted again, as their counts are unknown. */
+    public boolean isRecountNeeded;
+
+    public CourseStatisticsAttributes(String courseId) {
+        this.courseId = courseId;
+        this.studentsTotal = 0;
+        this.unregisteredTotal = 0;
+        this.studentsPerTeam = new LinkedHashMap<String, Integer>();
+        this.studentsPerSection = new LinkedHashMap<String, Integer>();
+    }
+
+    public CourseStatisticsAttributes(CourseStatistics statistics) {
+        this.courseId = statistics.getCourseId();
+        this.studentsTotal = statistics.getStudentsTotal();
+        this.unregisteredTotal = statistics.getUnregisteredTotal();
+        this.studentsPerTeam = parseCounts(statistics.getStudentsPerTeam());
+        this.studentsPerSection = parseCounts(statistics.getStudentsPerSection());
+        this.updatedAt = statistics.getUpdatedAt();
+        this.isRecountNeeded = statistics.isRecountNeeded();
+    }
+
+    /**
+     * Counts {@code student} in the statistics.
+     */
+    public void addStudent(StudentAttributes student) {
+        addStudent(student, 1);
+    }
+
+    /**
+     * Removes {@code student} from the statistics.
+     */
+    public void removeStudent(StudentAttributes student) {
+        addStudent(student, -1);
+    }
+
+    /**
+     * Adds the counts of {@code other} to the statistics.
+     */
+    public void add(CourseStatisticsAttributes other) {
+        studentsTotal += other.studentsTotal;
+        unregisteredTotal += other.unregisteredTotal;
+        for (Map.Entry<String, Integer> entry : other.studentsPerTeam.entrySet()) {
+            addCount(studentsPerTeam, entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<String, Integer> entry : other.studentsPerSection.entrySet()) {
+            addCount(studentsPerSection, entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Returns true if the statistics do not count any student, e.g. a change which moves no student.
+     */
+    public boolean isEmpty() {
+        return studentsTotal == 0 && unregisteredTotal == 0
+               && studentsPerTeam.isEmpty() && studentsPerSection.isEmpty();
+    }
+
+    /**
+     * Returns the {@link CourseStats} of the course, in which the default section is not counted as a section.
+     */
+    public CourseStats toCourseStats() {
+        CourseStats stats = new CourseStats();
+        stats.studentsTotal = studentsTotal;
+        stats.unregisteredTotal = unregisteredTotal;
+        stats.teamsTotal = studentsPerTeam.size();
+        stats.sectionsTotal = studentsPerSection.containsKey(Const.DEFAULT_SECTION)
+                              ? studentsPerSection.size() - 1
+                              : studentsPerSection.size();
+        return stats;
+    }
+
+    private void addStudent(StudentAttributes student, int change) {
+        studentsTotal += change;
+        if (!student.isRegistered()) {
+            unregisteredTotal += change;
+        }
+        addCount(studentsPerTeam, student.team, change);
+        addCount(studentsPerSection, student.section, change);
+    }
+
+    private static void addCount(Map<String, Integer> counts, String key, int change) {
+        Integer count = counts.get(key);
+        int newCount = (count == null ? 0 : count) + change;
+        if (newCount == 0) {
+            counts.remove(key);
+        } else {
+            counts.put(key, newCount);
+        }
+    }
+
+    private static Map<String, Integer> parseCounts(Text countsJson) {
+        if (countsJson == null) {
+            return new LinkedHashMap<String, Integer>();
+        }
+        Map<String, Integer> parsedCounts =
+                JsonUtils.fromJson(countsJson.getValue(), new TypeToken<Map<String, Integer>>(){}.getType());
+        return new LinkedHashMap<String, Integer>(parsedCounts);
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<String>();
+
+        String error = validator.getInvalidityInfoForCourseId(courseId);
+        if (!error.isEmpty()) {
+            errors.add(error);
+        }
+
+        return errors;
+    }
+
+    @Override
+    public CourseStatistics toEntity() {
+        return new CourseStatistics(courseId, studentsTotal, unregisteredTotal,
+                                    new Text(JsonUtils.toJson(studentsPerTeam)),
+                                    new Text(JsonUtils.toJson(studentsPerSection)));
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return courseId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Course Statistics";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, CourseStatisticsAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize before saving
+    }
+
+    @Override
+    public String toString() {
+        return "CourseStatisticsAttributes [courseId=" + courseId + ", studentsTotal=" + studentsTotal
+               + ", unregisteredTotal=" + unregisteredTotal + ", studentsPerTeam=" + studentsPerTeam
+               + ", studentsPerSection=" + studentsPerSection + ", updatedAt=" + updatedAt
+               + ", isRecountNeeded=" + isRecountNeeded + "]";
+    }
+
+}
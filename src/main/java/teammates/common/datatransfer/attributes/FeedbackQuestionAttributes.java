@@ -43,6 +43,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes implements Comp
     protected transient Date updatedAt;
     private String feedbackQuestionId;
 
+    /**
+     * The question details parsed from {@link #questionMetaData} by {@link #getQuestionDetails()},
+     * together with the metadata and the question type they were parsed from.
+     */
+    private transient FeedbackQuestionDetails parsedQuestionDetails;
+    private transient Text questionDetailsMetaData;
+    private transient FeedbackQuestionType questionDetailsType;
+
     public FeedbackQuestionAttributes() {
         // attributes to be set after construction
     }
@@ -559,9 +567,32 @@ public class FeedbackQuestionAttributes extends EntityAttributes implements Comp
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
      *
+     * <p>The details are parsed only once until {@link #questionMetaData} or {@link #questionType} changes,
+     * so the same object is returned by repeated calls and must not be changed.
+     * To change the details, use {@link #getQuestionDetailsCopy()} and store the copy back using
+     * {@link #setQuestionDetails(FeedbackQuestionDetails)}.
+     *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
     public FeedbackQuestionDetails getQuestionDetails() {
+        if (parsedQuestionDetails == null || questionDetailsMetaData != questionMetaData
+                || questionDetailsType != questionType) {
+            parsedQuestionDetails = parseQuestionDetails();
+            questionDetailsMetaData = questionMetaData;
+            questionDetailsType = questionType;
+        }
+        return parsedQuestionDetails;
+    }
+
+    /**
+     * Retrieves a new Feedback*QuestionDetails object for this question, which can be changed
+     * without affecting the object returned by {@link #getQuestionDetails()}.
+     */
+    public FeedbackQuestionDetails getQuestionDetailsCopy() {
+        return parseQuestionDetails();
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -0,0 +1,183 @@
+package teammates.common.datatransfer.attributes;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackQuestionStatistics;
+
+import com.google.appengine.api.datastore.Text;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The aggregates of the responses to a feedback question that its statistics are rendered from.
+ *
+ * <p>What is counted depends on the type of the question, see
+ * {@link teammates.common.datatransfer.questions.FeedbackQuestionDetails#getStatisticsCounts}.
+ * Attributes with negative counts are used as changes to be added to stored statistics.</p>
+ */
+public class FeedbackQuestionStatisticsAttributes extends EntityAttributes {
+
+    public String feedbackQuestionId;
+    public String feedbackSessionName;
+    public String courseId;
+    public int numberOfResponses;
+
+    /**
+     * The counts of the question, in the order in which they were first counted.
+     * Counts which drop to zero are removed.
+     */
+    public Map<String, Integer> counts;
+
+    /**
+     * The time the stored statistics were last changed, or null if they are not read from storage.
+     */
+    public Date updatedAt;
+
+    public FeedbackQuestionStatisticsAttributes(String feedbackQuestionId, String feedbackSessionName,
+                                                String courseId) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.numberOfResponses = 0;
+        this.counts = new LinkedHashMap<String, Integer>();
+    }
+
+    public FeedbackQuestionStatisticsAttributes(FeedbackQuestionStatistics statistics) {
+        this.feedbackQuestionId = statistics.getFeedbackQuestionId();
+        this.feedbackSessionName = statistics.getFeedbackSessionName();
+        this.courseId = statistics.getCourseId();
+        this.numberOfResponses = statistics.getNumberOfResponses();
+        this.counts = statistics.getCounts() == null
+                    ? new LinkedHashMap<String, Integer>()
+                    : parseCounts(statistics.getCounts().getValue());
+        this.updatedAt = statistics.getUpdatedAt();
+    }
+
+    /**
+     * Counts a response with {@code responseCounts} in the statistics.
+     */
+    public void addResponse(Map<String, Integer> responseCounts) {
+        numberOfResponses++;
+        addCounts(responseCounts, 1);
+    }
+
+    /**
+     * Removes a response with {@code responseCounts} from the statistics.
+     */
+    public void removeResponse(Map<String, Integer> responseCounts) {
+        numberOfResponses--;
+        addCounts(responseCounts, -1);
+    }
+
+    /**
+     * Adds the number of responses and the counts of {@code other} to the statistics.
+     */
+    public void add(FeedbackQuestionStatisticsAttributes other) {
+        numberOfResponses += other.numberOfResponses;
+        addCounts(other.counts, 1);
+    }
+
+    /**
+     * Returns true if the statistics neither count any response nor contain any count.
+     */
+    public boolean isEmpty() {
+        return numberOfResponses == 0 && counts.isEmpty();
+    }
+
+    public int getCount(String key) {
+        Integer count = counts.get(key);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Returns the total of all counts of the statistics.
+     */
+    public int getTotalCount() {
+        int total = 0;
+        for (int count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private void addCounts(Map<String, Integer> countsToAdd, int multiplier) {
+        for (Map.Entry<String, Integer> entry : countsToAdd.entrySet()) {
+            int count = getCount(entry.getKey()) + multiplier * entry.getValue();
+            if (count == 0) {
+                counts.remove(entry.getKey());
+            } else {
+                counts.put(entry.getKey(), count);
+            }
+        }
+    }
+
+    private static Map<String, Integer> parseCounts(String countsJson) {
+        Map<String, Integer> parsedCounts =
+                JsonUtils.fromJson(countsJson, new TypeToken<Map<String, Integer>>(){}.getType());
+        return new LinkedHashMap<String, Integer>(parsedCounts);
+    }
+
+    @Override
+    public List<String> getInvalidityInfo() {
+        FieldValidator validator = new FieldValidator();
+        List<String> errors = new ArrayList<String>();
+        String error;
+
+        error = validator.getInvalidityInfoForFeedbackSessionName(feedbackSessionName);
+        if (!error.isEmpty()) {
+            errors.add(error);
+        }
+
+        error = validator.getInvalidityInfoForCourseId(courseId);
+        if (!error.isEmpty()) {
+            errors.add(error);
+        }
+
+        return errors;
+    }
+
+    @Override
+    public FeedbackQuestionStatistics toEntity() {
+        return new FeedbackQuestionStatistics(feedbackQuestionId, feedbackSessionName, courseId,
+                                              numberOfResponses, new Text(JsonUtils.toJson(counts)));
+    }
+
+    @Override
+    public String getIdentificationString() {
+        return feedbackQuestionId;
+    }
+
+    @Override
+    public String getEntityTypeAsString() {
+        return "Feedback Question Statistics";
+    }
+
+    @Override
+    public String getBackupIdentifier() {
+        return Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId;
+    }
+
+    @Override
+    public String getJsonString() {
+        return JsonUtils.toJson(this, FeedbackQuestionStatisticsAttributes.class);
+    }
+
+    @Override
+    public void sanitizeForSaving() {
+        // nothing to sanitize before saving
+    }
+
+    @Override
+    public String toString() {
+        return "FeedbackQuestionStatisticsAttributes [feedbackQuestionId=" + feedbackQuestionId
+               + ", feedbackSessionName=" + feedbackSessionName + ", courseId=" + courseId
+               + ", numberOfResponses=" + numberOfResponses + ", counts=" + counts + "]";
+    }
+
+}
@@ -45,6 +45,14 @@ public class FeedbackResponseAttributes extends EntityAttributes {
     protected transient Date updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * The response details parsed from {@link #responseMetaData} by {@link #getResponseDetails()},
+     * together with the metadata and the question type they were parsed from.
+     */
+    private transient FeedbackResponseDetails parsedResponseDetails;
+    private transient Text responseDetailsMetaData;
+    private transient FeedbackQuestionType responseDetailsType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -195,6 +203,11 @@ public class FeedbackResponseAttributes extends EntityAttributes {
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The details are parsed only once until {@link #responseMetaData} or {@link #feedbackQuestionType}
+     * changes, so the same object is returned by repeated calls and must not be changed.
+     * To change the details, use {@link #getResponseDetailsCopy()} and store the copy back using
+     * {@link #setResponseDetails(FeedbackResponseDetails)}.
      * @return The Feedback*ResponseDetails object representing the response's details
      */
     public FeedbackResponseDetails getResponseDetails() {
@@ -203,6 +216,24 @@ public class FeedbackResponseAttributes extends EntityAttributes {
             return null;
         }
 
+        if (parsedResponseDetails == null || responseDetailsMetaData != responseMetaData
+                || responseDetailsType != feedbackQuestionType) {
+            parsedResponseDetails = parseResponseDetails();
+            responseDetailsMetaData = responseMetaData;
+            responseDetailsType = feedbackQuestionType;
+        }
+        return parsedResponseDetails;
+    }
+
+    /**
+     * Retrieves a new Feedback*ResponseDetails object for this response, which can be changed
+     * without affecting the object returned by {@link #getResponseDetails()}.
+     */
+    public FeedbackResponseDetails getResponseDetailsCopy() {
+        return isMissingResponse() ? null : parseResponseDetails();
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
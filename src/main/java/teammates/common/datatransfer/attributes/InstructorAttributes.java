@@ -1,7 +1,10 @@
 package teammates.common.datatransfer.attributes;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
@@ -17,6 +20,23 @@ public class InstructorAttributes extends EntityAttributes {
 
     public static final String DEFAULT_DISPLAY_NAME = "Instructor";
 
+    private static final int MAX_CACHED_PRIVILEGES = 1000;
+
+    /**
+     * Privileges parsed from their JSON form, most recently used last. Instructors with the same privileges
+     * get copies of the same parsed privileges, so that the JSON is parsed and the privileges are indexed
+     * only once. The cached privileges themselves are never handed out, as they can be changed.
+     */
+    private static final Map<String, InstructorPrivileges> PARSED_PRIVILEGES = Collections.synchronizedMap(
+            new LinkedHashMap<String, InstructorPrivileges>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, InstructorPrivileges> eldest) {
+                    return size() > MAX_CACHED_PRIVILEGES;
+                }
+            });
+
     // Note: be careful when changing these variables as their names are used in *.json files.
     public String googleId;
     public String courseId;
@@ -126,7 +146,8 @@ public class InstructorAttributes extends EntityAttributes {
 
     private InstructorAttributes(InstructorAttributes other) {
         this(other.googleId, other.courseId, other.name, other.email,
-             other.role, other.isDisplayedToStudents, other.displayedName, other.privileges);
+             other.role, other.isDisplayedToStudents, other.displayedName,
+             other.privileges == null ? null : other.privileges.getCopy());
         this.key = other.key;
         this.isArchived = other.isArchived;
     }
@@ -140,7 +161,17 @@ public class InstructorAttributes extends EntityAttributes {
     }
 
     private static InstructorPrivileges getInstructorPrivilegesFromText(String instructorPrivilegesAsText) {
-        return JsonUtils.fromJson(instructorPrivilegesAsText, InstructorPrivileges.class);
+        InstructorPrivileges parsedPrivileges = PARSED_PRIVILEGES.get(instructorPrivilegesAsText);
+        if (parsedPrivileges == null) {
+            parsedPrivileges = JsonUtils.fromJson(instructorPrivilegesAsText, InstructorPrivileges.class);
+            if (parsedPrivileges == null) {
+                return null;
+            }
+            // indexes the privileges, so that the copies of the cached privileges share the index
+            parsedPrivileges = parsedPrivileges.getCopy();
+            PARSED_PRIVILEGES.put(instructorPrivilegesAsText, parsedPrivileges);
+        }
+        return parsedPrivileges.getCopy();
     }
 
     public String getName() {
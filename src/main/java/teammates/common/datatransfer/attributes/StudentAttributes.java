@@ -82,8 +82,11 @@ public class StudentAttributes extends EntityAttributes {
     private StudentAttributes(StudentAttributes other) {
         this(other.googleId, other.email, other.name, other.comments,
              other.course, other.team, other.section);
+        this.lastName = other.lastName;
         this.key = other.key;
         this.updateStatus = other.updateStatus;
+        this.createdAt = other.createdAt;
+        this.updatedAt = other.updatedAt;
     }
 
     public StudentAttributes getCopy() {
@@ -364,10 +364,9 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                 optionListHtml.append(optionFragment);
             }
             optionListHtml.append("</ul>");
-            additionalInfo.append(Templates.populateTemplate(
-                    FormTemplates.MSQ_ADDITIONAL_INFO,
+            Templates.appendPopulatedTemplate(additionalInfo, FormTemplates.MSQ_ADDITIONAL_INFO,
                     Slots.QUESTION_TYPE_NAME, this.getQuestionTypeDisplayName(),
-                    Slots.MSQ_ADDITIONAL_INFO_FRAGMENTS, optionListHtml.toString()));
+                    Slots.MSQ_ADDITIONAL_INFO_FRAGMENTS, optionListHtml.toString());
 
         }
         //Point information
@@ -424,18 +423,18 @@ public class FeedbackConstantSumQuestionDetails extends FeedbackQuestionDetails
                 String name = bundle.getNameForEmail(participantIdentifier);
                 String teamName = bundle.getTeamNameForEmail(participantIdentifier);
 
-                fragments.append(Templates.populateTemplate(FormTemplates.CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT,
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(name),
                         Slots.TEAM, SanitizationHelper.sanitizeForHtml(teamName),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average));
             } else {
                 String option = entry.getKey();
 
-                fragments.append(Templates.populateTemplate(FormTemplates.CONSTSUM_RESULT_STATS_OPTIONFRAGMENT,
+                Templates.appendPopulatedTemplate(fragments, FormTemplates.CONSTSUM_RESULT_STATS_OPTIONFRAGMENT,
                         Slots.CONSTSUM_OPTION_VALUE, SanitizationHelper.sanitizeForHtml(option),
                         Slots.CONSTSUM_POINTS_RECEIVED, pointsReceived,
-                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average)));
+                        Slots.CONSTSUM_AVERAGE_POINTS, df.format(average));
             }
         }
 
@@ -14,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -378,42 +379,23 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return "";
         }
 
-        StringBuilder fragments = new StringBuilder();
-        Map<String, Integer> answerFrequency = new LinkedHashMap<String, Integer>();
-
-        for (String option : mcqChoices) {
-            answerFrequency.put(option, 0);
-        }
-
-        if (otherEnabled) {
-            answerFrequency.put("Other", 0);
-        }
-
-        for (FeedbackResponseAttributes response : responses) {
-            String answerString = response.getResponseDetails().getAnswerString();
-            boolean isOtherOptionAnswer =
-                    ((FeedbackMcqResponseDetails) response.getResponseDetails()).isOtherOptionAnswer();
+        return getQuestionResultStatisticsHtml(getStatistics(question, responses));
+    }
 
-            if (isOtherOptionAnswer) {
-                if (!answerFrequency.containsKey("Other")) {
-                    answerFrequency.put("Other", 0);
-                }
-                answerFrequency.put("Other", answerFrequency.get("Other") + 1);
-            } else {
-                if (!answerFrequency.containsKey(answerString)) {
-                    answerFrequency.put(answerString, 0);
-                }
-                answerFrequency.put(answerString, answerFrequency.get(answerString) + 1);
-            }
+    @Override
+    public String getQuestionResultStatisticsHtml(FeedbackQuestionStatisticsAttributes statistics) {
+        if (statistics.numberOfResponses == 0) {
+            return "";
         }
 
+        StringBuilder fragments = new StringBuilder();
         DecimalFormat df = new DecimalFormat("#.##");
 
-        for (Entry<String, Integer> entry : answerFrequency.entrySet()) {
-            fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+        for (Entry<String, Integer> entry : getAnswerFrequency(statistics).entrySet()) {
+            Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(entry.getKey()),
                     Slots.COUNT, entry.getValue().toString(),
-                    Slots.PERCENTAGE, df.format(100 * (double) entry.getValue() / responses.size())));
+                    Slots.PERCENTAGE, df.format(100 * (double) entry.getValue() / statistics.numberOfResponses));
         }
 
         return Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS,
@@ -429,7 +411,34 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             return "";
         }
 
+        return getQuestionResultStatisticsCsv(getStatistics(question, responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(FeedbackQuestionStatisticsAttributes statistics) {
+        if (statistics.numberOfResponses == 0) {
+            return "";
+        }
+
         StringBuilder fragments = new StringBuilder();
+        DecimalFormat df = new DecimalFormat("#.##");
+
+        for (Entry<String, Integer> entry : getAnswerFrequency(statistics).entrySet()) {
+            fragments.append(SanitizationHelper.sanitizeForCsv(entry.getKey())).append(',')
+                     .append(entry.getValue().toString()).append(',')
+                     .append(df.format(100 * (double) entry.getValue() / statistics.numberOfResponses))
+                     .append(Const.EOL);
+        }
+
+        return "Choice, Response Count, Percentage" + Const.EOL
+               + fragments.toString();
+    }
+
+    /**
+     * Returns the number of responses for each choice, followed by "Other" if it is enabled,
+     * followed by the other answers in {@code statistics}.
+     */
+    private Map<String, Integer> getAnswerFrequency(FeedbackQuestionStatisticsAttributes statistics) {
         Map<String, Integer> answerFrequency = new LinkedHashMap<String, Integer>();
 
         for (String option : mcqChoices) {
@@ -440,34 +449,26 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             answerFrequency.put("Other", 0);
         }
 
-        for (FeedbackResponseAttributes response : responses) {
-            String answerString = response.getResponseDetails().getAnswerString();
-            boolean isOtherOptionAnswer =
-                    ((FeedbackMcqResponseDetails) response.getResponseDetails()).isOtherOptionAnswer();
-
-            if (isOtherOptionAnswer) {
-                if (!answerFrequency.containsKey("Other")) {
-                    answerFrequency.put("Other", 0);
-                }
-                answerFrequency.put("Other", answerFrequency.get("Other") + 1);
-            } else {
-                if (!answerFrequency.containsKey(answerString)) {
-                    answerFrequency.put(answerString, 0);
-                }
-                answerFrequency.put(answerString, answerFrequency.get(answerString) + 1);
-            }
-        }
+        answerFrequency.putAll(statistics.counts);
+        return answerFrequency;
+    }
 
-        DecimalFormat df = new DecimalFormat("#.##");
+    @Override
+    public boolean isStatisticsKept() {
+        return true;
+    }
 
-        for (Entry<String, Integer> entry : answerFrequency.entrySet()) {
-            fragments.append(SanitizationHelper.sanitizeForCsv(entry.getKey())).append(',')
-                     .append(entry.getValue().toString()).append(',')
-                     .append(df.format(100 * (double) entry.getValue() / responses.size())).append(Const.EOL);
-        }
+    /**
+     * Counts the chosen option of {@code response}, or "Other" if the other option is chosen.
+     */
+    @Override
+    public Map<String, Integer> getStatisticsCounts(FeedbackResponseAttributes response) {
+        FeedbackMcqResponseDetails responseDetails = (FeedbackMcqResponseDetails) response.getResponseDetails();
+        String answer = responseDetails.isOtherOptionAnswer() ? "Other" : responseDetails.getAnswerString();
 
-        return "Choice, Response Count, Percentage" + Const.EOL
-               + fragments.toString();
+        Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+        counts.put(answer, 1);
+        return counts;
     }
 
     @Override
@@ -14,6 +14,7 @@ import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -403,71 +404,25 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             return "";
         }
 
-        boolean isContainsNonEmptyResponse = false; // we will only show stats if there is at least one nonempty response
-
-        Map<String, Integer> answerFrequency = new LinkedHashMap<String, Integer>();
-
-        for (String option : msqChoices) {
-            answerFrequency.put(option, 0);
-        }
-
-        if (otherEnabled) {
-            answerFrequency.put("Other", 0);
-        }
-
-        int numChoicesSelected = 0;
-        for (FeedbackResponseAttributes response : responses) {
-            List<String> answerStrings =
-                    ((FeedbackMsqResponseDetails) response.getResponseDetails()).getAnswerStrings();
-            boolean isOtherOptionAnswer =
-                    ((FeedbackMsqResponseDetails) response.getResponseDetails()).isOtherOptionAnswer();
-            String otherAnswer = "";
-
-            if (isOtherOptionAnswer) {
-                if (!answerFrequency.containsKey("Other")) {
-                    answerFrequency.put("Other", 0);
-                }
-
-                answerFrequency.put("Other", answerFrequency.get("Other") + 1);
-
-                numChoicesSelected++;
-                // remove other answer temporarily to calculate stats for other options
-                otherAnswer = answerStrings.get(answerStrings.size() - 1);
-                answerStrings.remove(otherAnswer);
-            }
-
-            for (String answerString : answerStrings) {
-                if (answerString.isEmpty()) {
-                    continue;
-                }
-
-                isContainsNonEmptyResponse = true;
-                numChoicesSelected++;
-
-                if (!answerFrequency.containsKey(answerString)) {
-                    answerFrequency.put(answerString, 0);
-                }
-                answerFrequency.put(answerString, answerFrequency.get(answerString) + 1);
-            }
-
-            // restore other answer if any
-            if (isOtherOptionAnswer) {
-                answerStrings.add(otherAnswer);
-            }
-        }
+        return getQuestionResultStatisticsHtml(getStatistics(question, responses));
+    }
 
-        if (!isContainsNonEmptyResponse) {
+    @Override
+    public String getQuestionResultStatisticsHtml(FeedbackQuestionStatisticsAttributes statistics) {
+        // we will only show stats if there is at least one nonempty response
+        if (!isContainsNonEmptyResponse(statistics)) {
             return "";
         }
 
+        int numChoicesSelected = statistics.getTotalCount();
         DecimalFormat df = new DecimalFormat("#.##");
 
         StringBuilder fragments = new StringBuilder();
-        for (Entry<String, Integer> entry : answerFrequency.entrySet()) {
-            fragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+        for (Entry<String, Integer> entry : getAnswerFrequency(statistics).entrySet()) {
+            Templates.appendPopulatedTemplate(fragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                                 Slots.MCQ_CHOICE_VALUE, entry.getKey(),
                                 Slots.COUNT, entry.getValue().toString(),
-                                Slots.PERCENTAGE, df.format(100 * (double) entry.getValue() / numChoicesSelected)));
+                                Slots.PERCENTAGE, df.format(100 * (double) entry.getValue() / numChoicesSelected));
 
         }
         //Use same template as MCQ for now, until they need to be different.
@@ -483,8 +438,41 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             return "";
         }
 
+        return getQuestionResultStatisticsCsv(getStatistics(question, responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(FeedbackQuestionStatisticsAttributes statistics) {
+        // we will only show stats if there is at least one nonempty response
+        if (!isContainsNonEmptyResponse(statistics)) {
+            return "";
+        }
+
+        int numChoicesSelected = statistics.getTotalCount();
+        DecimalFormat df = new DecimalFormat("#.##");
+
+        StringBuilder fragments = new StringBuilder();
+        for (Entry<String, Integer> entry : getAnswerFrequency(statistics).entrySet()) {
+            fragments.append(SanitizationHelper.sanitizeForCsv(entry.getKey()) + ','
+                             + entry.getValue().toString() + ','
+                             + df.format(100 * (double) entry.getValue() / numChoicesSelected) + Const.EOL);
+        }
+
+        return "Choice, Response Count, Percentage" + Const.EOL
+               + fragments + Const.EOL;
+    }
+
+    private boolean isContainsNonEmptyResponse(FeedbackQuestionStatisticsAttributes statistics) {
+        int numOtherOptionsSelected = otherEnabled ? statistics.getCount("Other") : 0;
+        return statistics.getTotalCount() > numOtherOptionsSelected;
+    }
+
+    /**
+     * Returns the number of times each choice is selected, followed by "Other" if it is enabled,
+     * followed by the other answers in {@code statistics}.
+     */
+    private Map<String, Integer> getAnswerFrequency(FeedbackQuestionStatisticsAttributes statistics) {
         Map<String, Integer> answerFrequency = new LinkedHashMap<String, Integer>();
-        boolean isContainsNonEmptyResponse = false; // we will only show stats if there is at least one nonempty response
 
         for (String option : msqChoices) {
             answerFrequency.put(option, 0);
@@ -494,60 +482,36 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             answerFrequency.put("Other", 0);
         }
 
-        int numChoicesSelected = 0;
-
-        for (FeedbackResponseAttributes response : responses) {
-            List<String> answerStrings =
-                    ((FeedbackMsqResponseDetails) response.getResponseDetails()).getAnswerStrings();
-            boolean isOtherOptionAnswer =
-                    ((FeedbackMsqResponseDetails) response.getResponseDetails()).isOtherOptionAnswer();
-            String otherAnswer = "";
-
-            if (isOtherOptionAnswer) {
-                if (!answerFrequency.containsKey("Other")) {
-                    answerFrequency.put("Other", 0);
-                }
-                answerFrequency.put("Other", answerFrequency.get("Other") + 1);
-
-                numChoicesSelected++;
-                // remove other answer temporarily to calculate stats for other options
-                otherAnswer = answerStrings.get(answerStrings.size() - 1);
-                answerStrings.remove(otherAnswer);
-            }
-
-            for (String answerString : answerStrings) {
-                if (answerString.isEmpty()) {
-                    continue;
-                }
-                isContainsNonEmptyResponse = true;
-                numChoicesSelected++;
-                if (!answerFrequency.containsKey(answerString)) {
-                    answerFrequency.put(answerString, 0);
-                }
-                answerFrequency.put(answerString, answerFrequency.get(answerString) + 1);
-
-            }
+        answerFrequency.putAll(statistics.counts);
+        return answerFrequency;
+    }
 
-            // restore other answer if any
-            if (isOtherOptionAnswer) {
-                answerStrings.add(otherAnswer);
-            }
-        }
+    @Override
+    public boolean isStatisticsKept() {
+        return true;
+    }
 
-        if (!isContainsNonEmptyResponse) {
-            return "";
+    /**
+     * Counts each non-empty option selected in {@code response}, and "Other" if the other option is selected.
+     */
+    @Override
+    public Map<String, Integer> getStatisticsCounts(FeedbackResponseAttributes response) {
+        FeedbackMsqResponseDetails responseDetails = (FeedbackMsqResponseDetails) response.getResponseDetails();
+        List<String> answerStrings = new ArrayList<String>(responseDetails.getAnswerStrings());
+
+        Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+        if (responseDetails.isOtherOptionAnswer()) {
+            counts.put("Other", 1);
+            // the other answer is the last answer, and is counted as "Other" only
+            answerStrings.remove(answerStrings.size() - 1);
         }
 
-        DecimalFormat df = new DecimalFormat("#.##");
-        StringBuilder fragments = new StringBuilder();
-        for (Entry<String, Integer> entry : answerFrequency.entrySet()) {
-            fragments.append(SanitizationHelper.sanitizeForCsv(entry.getKey()) + ','
-                             + entry.getValue().toString() + ','
-                             + df.format(100 * (double) entry.getValue() / numChoicesSelected) + Const.EOL);
+        for (String answerString : answerStrings) {
+            if (!answerString.isEmpty()) {
+                counts.put(answerString, counts.containsKey(answerString) ? counts.get(answerString) + 1 : 1);
+            }
         }
-
-        return "Choice, Response Count, Percentage" + Const.EOL
-               + fragments + Const.EOL;
+        return counts;
     }
 
     @Override
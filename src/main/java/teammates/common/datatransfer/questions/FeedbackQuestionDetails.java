@@ -7,6 +7,7 @@ import java.util.Map;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -62,6 +63,61 @@ public abstract class FeedbackQuestionDetails {
                                                           FeedbackQuestionAttributes question,
                                                           FeedbackSessionResultsBundle bundle);
 
+    /**
+     * Returns true if the statistics of the question can be rendered from the counts kept in
+     * {@link FeedbackQuestionStatisticsAttributes} as its responses are saved, instead of from the responses.
+     *
+     * <p>Override together with {@link #getStatisticsCounts} and the methods rendering the statistics
+     * from the counts, for question types whose statistics for instructors do not depend on who gave
+     * or received the responses.
+     */
+    public boolean isStatisticsKept() {
+        return false;
+    }
+
+    /**
+     * Returns the counts that {@code response} contributes to the statistics of the question.
+     *
+     * @throws UnsupportedOperationException if the statistics of the question are not kept
+     */
+    public Map<String, Integer> getStatisticsCounts(FeedbackResponseAttributes response) {
+        throw new UnsupportedOperationException("Statistics are not kept for " + getQuestionTypeDisplayName());
+    }
+
+    /**
+     * Returns the statistics of all responses to the question, as shown to instructors,
+     * rendered from {@code statistics}.
+     *
+     * @throws UnsupportedOperationException if the statistics of the question are not kept
+     */
+    public String getQuestionResultStatisticsHtml(FeedbackQuestionStatisticsAttributes statistics) {
+        throw new UnsupportedOperationException("Statistics are not kept for " + getQuestionTypeDisplayName());
+    }
+
+    /**
+     * Returns the statistics of all responses to the question in CSV format, rendered from {@code statistics}.
+     *
+     * @throws UnsupportedOperationException if the statistics of the question are not kept
+     */
+    public String getQuestionResultStatisticsCsv(FeedbackQuestionStatisticsAttributes statistics) {
+        throw new UnsupportedOperationException("Statistics are not kept for " + getQuestionTypeDisplayName());
+    }
+
+    /**
+     * Counts {@code responses} to {@code question} into new statistics.
+     *
+     * @throws UnsupportedOperationException if the statistics of the question are not kept
+     */
+    public FeedbackQuestionStatisticsAttributes getStatistics(FeedbackQuestionAttributes question,
+                                                              List<FeedbackResponseAttributes> responses) {
+        FeedbackQuestionStatisticsAttributes statistics = new FeedbackQuestionStatisticsAttributes(
+                question.getId(), question.feedbackSessionName, question.courseId);
+        for (FeedbackResponseAttributes response : responses) {
+            statistics.addResponse(getStatisticsCounts(response));
+        }
+        return statistics;
+    }
+
     public abstract boolean isChangesRequiresResponseDeletion(FeedbackQuestionDetails newDetails);
 
     public abstract String getCsvHeader();
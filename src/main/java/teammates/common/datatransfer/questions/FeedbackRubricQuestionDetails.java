@@ -3,12 +3,14 @@ package teammates.common.datatransfer.questions;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
@@ -534,10 +536,27 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         List<FeedbackResponseAttributes> responsesForStatistics =
                 filterResponsesForStatistics(responses, question, studentEmail, bundle, view);
 
-        FeedbackRubricQuestionDetails fqd =
-                (FeedbackRubricQuestionDetails) question.getQuestionDetails();
+        String statsTitle = "Response Summary";
+
+        if ("student".equals(view)) {
+            if (responses.size() == responsesForStatistics.size()) {
+                statsTitle = "Response Summary (of visible responses)";
+            } else {
+                statsTitle = "Response Summary (of received responses)";
+            }
+        }
+
+        return getQuestionResultStatisticsHtml(getStatistics(question, responsesForStatistics), statsTitle);
+    }
+
+    @Override
+    public String getQuestionResultStatisticsHtml(FeedbackQuestionStatisticsAttributes statistics) {
+        return getQuestionResultStatisticsHtml(statistics, "Response Summary");
+    }
 
-        RubricStatistics statistics = new RubricStatistics(responsesForStatistics, fqd);
+    private String getQuestionResultStatisticsHtml(FeedbackQuestionStatisticsAttributes responseStatistics,
+                                                   String statsTitle) {
+        RubricStatistics statistics = new RubricStatistics(responseStatistics, this);
         int[][] responseFrequency = statistics.getResponseFrequency();
         float[][] rubricStats = statistics.getPercentageFrequencyAndAverage();
 
@@ -549,7 +568,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         for (int i = 0; i < numOfRubricChoices; i++) {
 
             String header = SanitizationHelper.sanitizeForHtml(rubricChoices.get(i))
-                          + (fqd.hasAssignedWeights
+                          + (hasAssignedWeights
                             ? "<span style=\"font-weight:normal;\"> (Weight: "
                               + weightFormat.format(rubricWeights.get(i)) + ")</span>"
                             : "");
@@ -559,7 +578,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             tableHeaderFragmentHtml.append(tableHeaderCell).append(Const.EOL);
         }
 
-        if (fqd.hasAssignedWeights) {
+        if (hasAssignedWeights) {
             String tableHeaderAverageCell =
                     Templates.populateTemplate(tableHeaderFragmentTemplate,
                             Slots.RUBRIC_CHOICE_VALUE, "Average");
@@ -588,7 +607,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
                 tableBodyFragmentHtml.append(tableBodyCell).append(Const.EOL);
             }
 
-            if (fqd.hasAssignedWeights) {
+            if (hasAssignedWeights) {
                 String averageString = isSubQuestionRespondedTo
                                      ? dfAverage.format(rubricStats[i][numOfRubricChoices])
                                      : STATISTICS_NO_VALUE_STRING;
@@ -605,16 +624,6 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             tableBodyHtml.append(tableRow).append(Const.EOL);
         }
 
-        String statsTitle = "Response Summary";
-
-        if ("student".equals(view)) {
-            if (responses.size() == responsesForStatistics.size()) {
-                statsTitle = "Response Summary (of visible responses)";
-            } else {
-                statsTitle = "Response Summary (of received responses)";
-            }
-        }
-
         return Templates.populateTemplate(
                 FormTemplates.RUBRIC_RESULT_STATS,
                 Slots.STATS_TITLE, statsTitle,
@@ -670,6 +679,15 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
             return "";
         }
 
+        return getQuestionResultStatisticsCsv(getStatistics(question, responses));
+    }
+
+    @Override
+    public String getQuestionResultStatisticsCsv(FeedbackQuestionStatisticsAttributes responseStatistics) {
+        if (responseStatistics.numberOfResponses == 0) {
+            return "";
+        }
+
         StringBuilder csv = new StringBuilder();
         DecimalFormat dfWeight = new DecimalFormat("#.##");
 
@@ -694,7 +712,7 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         DecimalFormat df = new DecimalFormat("#");
         DecimalFormat dfAverage = new DecimalFormat("0.00");
 
-        RubricStatistics statistics = new RubricStatistics(responses, this);
+        RubricStatistics statistics = new RubricStatistics(responseStatistics, this);
         int[][] responseFrequency = statistics.getResponseFrequency();
         float[][] rubricStats = statistics.getPercentageFrequencyAndAverage();
 
@@ -901,6 +919,32 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
         return rubricSubQuestions;
     }
 
+    @Override
+    public boolean isStatisticsKept() {
+        return true;
+    }
+
+    /**
+     * Counts the choice chosen for each sub-question answered in {@code response}.
+     */
+    @Override
+    public Map<String, Integer> getStatisticsCounts(FeedbackResponseAttributes response) {
+        FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
+
+        Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+        for (int i = 0; i < numOfRubricSubQuestions; i++) {
+            int chosenChoice = frd.getAnswer(i);
+            if (chosenChoice != -1) {
+                counts.put(getStatisticsCountKey(i, chosenChoice), 1);
+            }
+        }
+        return counts;
+    }
+
+    private static String getStatisticsCountKey(int subQuestionIndex, int choiceIndex) {
+        return subQuestionIndex + "-" + choiceIndex;
+    }
+
     /**
      * Class to calculate the statistics of responses for a rubric question.
      */
@@ -935,16 +979,17 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
          */
         float[][] percentageFrequencyAndAverage;
 
-        List<FeedbackResponseAttributes> responses;
+        FeedbackQuestionStatisticsAttributes statistics;
         FeedbackRubricQuestionDetails questionDetails;
 
         int numOfRubricSubQuestions;
         int numOfRubricChoices;
         int responseTotalIndex;
 
-        RubricStatistics(List<FeedbackResponseAttributes> responses, FeedbackRubricQuestionDetails questionDetails) {
+        RubricStatistics(FeedbackQuestionStatisticsAttributes statistics,
+                         FeedbackRubricQuestionDetails questionDetails) {
 
-            this.responses = responses;
+            this.statistics = statistics;
             this.questionDetails = questionDetails;
 
             this.numOfRubricSubQuestions = questionDetails.getNumOfRubricSubQuestions();
@@ -957,15 +1002,12 @@ public class FeedbackRubricQuestionDetails extends FeedbackQuestionDetails {
 
         void calculateResponseFrequency() {
             responseFrequency = new int[numOfRubricSubQuestions][numOfRubricChoices + 1];
-            // count frequencies
-            for (FeedbackResponseAttributes response : responses) {
-                FeedbackRubricResponseDetails frd = (FeedbackRubricResponseDetails) response.getResponseDetails();
-                for (int i = 0; i < numOfRubricSubQuestions; i++) {
-                    int chosenChoice = frd.getAnswer(i);
-                    if (chosenChoice != -1) {
-                        responseFrequency[i][chosenChoice] += 1;
-                        responseFrequency[i][responseTotalIndex] += 1;
-                    }
+            // take frequencies from the counts
+            for (int i = 0; i < numOfRubricSubQuestions; i++) {
+                for (int j = 0; j < numOfRubricChoices; j++) {
+                    int count = statistics.getCount(getStatisticsCountKey(i, j));
+                    responseFrequency[i][j] = count;
+                    responseFrequency[i][responseTotalIndex] += count;
                 }
             }
         }
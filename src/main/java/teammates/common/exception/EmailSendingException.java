@@ -1,10 +1,32 @@
 package teammates.common.exception;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.util.EmailWrapper;
+
 @SuppressWarnings("serial")
 public class EmailSendingException extends TeammatesException {
 
+    private final transient List<EmailWrapper> unsentEmails;
+
     public EmailSendingException(Exception e) {
+        this(e, new ArrayList<EmailWrapper>());
+    }
+
+    /**
+     * Creates an exception for the sending of many emails, of which {@code unsentEmails} were not sent.
+     */
+    public EmailSendingException(Exception e, List<EmailWrapper> unsentEmails) {
         super(e.getMessage());
+        this.unsentEmails = unsentEmails;
+    }
+
+    /**
+     * Returns the emails which were not sent, or an empty list if it is not known which emails were sent.
+     */
+    public List<EmailWrapper> getUnsentEmails() {
+        return unsentEmails;
     }
 
 }
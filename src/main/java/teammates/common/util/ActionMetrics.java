@@ -0,0 +1,219 @@
+package teammates.common.util;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import teammates.common.util.RequestOperationCounter.Operation;
+
+/**
+ * Keeps the latencies and the operation counts of the requests handled by each action
+ * in the current app instance, for the current period and the previous one.
+ *
+ * <p>Recording does not lock: the statistics of a period are kept in concurrent maps and atomic counters,
+ * and a new period is started by whichever request first finds the current period over.
+ * The memory used is bounded, as at most {@link #MAX_ACTIONS_PER_PERIOD} actions are kept per period,
+ * the requests of any other action being counted under {@link #OTHER_ACTIONS}.</p>
+ */
+public final class ActionMetrics {
+
+    /**
+     * The name the statistics of actions beyond {@link #MAX_ACTIONS_PER_PERIOD} are kept under.
+     */
+    public static final String OTHER_ACTIONS = "Other actions";
+
+    /**
+     * The name requests are recorded under when they fail before their action is known.
+     */
+    public static final String UNKNOWN_ACTION = "Unknown action";
+
+    /**
+     * How a request ended. Requests are recorded whatever their outcome, so that the latencies
+     * include the requests which failed or timed out.
+     */
+    public enum Outcome {
+        SUCCESS,
+        ERROR,
+        TIMEOUT
+    }
+
+    static final int MAX_ACTIONS_PER_PERIOD = 300;
+
+    private static final long DEFAULT_PERIOD_LENGTH = 60 * 60 * 1000L; // one hour in milliseconds
+
+    private static ActionMetrics instance = new ActionMetrics(DEFAULT_PERIOD_LENGTH, System.currentTimeMillis());
+
+    private final long periodLength;
+    private final AtomicReference<Period> currentPeriod;
+    private final AtomicReference<Period> previousPeriod = new AtomicReference<Period>();
+
+    /**
+     * Creates metrics with periods of {@code periodLength} milliseconds, the first of which starts at
+     * {@code startTime}.
+     */
+    public ActionMetrics(long periodLength, long startTime) {
+        this.periodLength = periodLength;
+        this.currentPeriod = new AtomicReference<Period>(new Period(startTime, periodLength));
+    }
+
+    public static ActionMetrics inst() {
+        return instance;
+    }
+
+    /**
+     * Records a request handled by {@code actionName} which ended with {@code outcome}, took
+     * {@code timeTaken} milliseconds and made the calls counted in {@code operationCounts}.
+     *
+     * @see RequestOperationCounter#getCounts()
+     */
+    public void record(String actionName, Outcome outcome, long timeTaken, long[] operationCounts) {
+        record(actionName, outcome, timeTaken, operationCounts, System.currentTimeMillis());
+    }
+
+    /**
+     * Records a request which ended at {@code currentTime}.
+     *
+     * @see #record(String, Outcome, long, long[])
+     */
+    public void record(String actionName, Outcome outcome, long timeTaken, long[] operationCounts,
+                       long currentTime) {
+        getCurrentPeriod(currentTime).getActionStatsForRecording(actionName)
+                                     .record(outcome, timeTaken, operationCounts);
+    }
+
+    /**
+     * Returns the period {@code currentTime} is in, starting it if the last period started is over.
+     */
+    public Period getCurrentPeriod(long currentTime) {
+        Period period = currentPeriod.get();
+        while (currentTime >= period.getEndTime()) {
+            long periodsPassed = (currentTime - period.getStartTime()) / periodLength;
+            Period nextPeriod = new Period(period.getStartTime() + periodsPassed * periodLength, periodLength);
+            if (currentPeriod.compareAndSet(period, nextPeriod)) {
+                previousPeriod.set(period);
+                return nextPeriod;
+            }
+            period = currentPeriod.get();
+        }
+        return period;
+    }
+
+    /**
+     * Returns the last period before the current one in which a request was recorded, or null if none.
+     */
+    public Period getPreviousPeriod() {
+        return previousPeriod.get();
+    }
+
+    /**
+     * The statistics of the actions in a period of time.
+     */
+    public static final class Period {
+
+        private final long startTime;
+        private final long endTime;
+        private final ConcurrentMap<String, ActionStats> statsOfActions =
+                new ConcurrentHashMap<String, ActionStats>();
+
+        Period(long startTime, long length) {
+            this.startTime = startTime;
+            this.endTime = startTime + length;
+        }
+
+        public long getStartTime() {
+            return startTime;
+        }
+
+        public long getEndTime() {
+            return endTime;
+        }
+
+        /**
+         * Returns the statistics of the actions which handled a request in the period, by action name.
+         */
+        public Map<String, ActionStats> getStatsOfActions() {
+            return Collections.unmodifiableMap(new TreeMap<String, ActionStats>(statsOfActions));
+        }
+
+        private ActionStats getActionStatsForRecording(String actionName) {
+            ActionStats stats = statsOfActions.get(actionName);
+            if (stats != null) {
+                return stats;
+            }
+
+            String nameToRecordAs = statsOfActions.size() < MAX_ACTIONS_PER_PERIOD ? actionName : OTHER_ACTIONS;
+            ActionStats newStats = new ActionStats();
+            stats = statsOfActions.putIfAbsent(nameToRecordAs, newStats);
+            return stats == null ? newStats : stats;
+        }
+
+    }
+
+    /**
+     * The latencies and the operation counts of the requests handled by an action,
+     * over all requests and by outcome.
+     */
+    public static final class ActionStats {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LatencyHistogram[] latenciesByOutcome = new LatencyHistogram[Outcome.values().length];
+        private final AtomicLongArray operationTotals = new AtomicLongArray(Operation.values().length);
+
+        ActionStats() {
+            // created only when recording
+            for (int i = 0; i < latenciesByOutcome.length; i++) {
+                latenciesByOutcome[i] = new LatencyHistogram();
+            }
+        }
+
+        private void record(Outcome outcome, long timeTaken, long[] operationCounts) {
+            for (int i = 0; i < operationCounts.length; i++) {
+                if (operationCounts[i] != 0) {
+                    operationTotals.addAndGet(i, operationCounts[i]);
+                }
+            }
+            latenciesByOutcome[outcome.ordinal()].record(timeTaken);
+            latencies.record(timeTaken);
+        }
+
+        public long getRequestCount() {
+            return latencies.getCount();
+        }
+
+        public long getRequestCount(Outcome outcome) {
+            return getLatencies(outcome).getCount();
+        }
+
+        /**
+         * Returns the latencies of all requests, whatever their outcome.
+         */
+        public LatencyHistogram getLatencies() {
+            return latencies;
+        }
+
+        public LatencyHistogram getLatencies(Outcome outcome) {
+            return latenciesByOutcome[outcome.ordinal()];
+        }
+
+        /**
+         * Returns the total number of calls of {@code operation} made by the requests.
+         */
+        public long getOperationTotal(Operation operation) {
+            return operationTotals.get(operation.ordinal());
+        }
+
+        /**
+         * Returns the mean number of calls of {@code operation} made per request.
+         */
+        public double getOperationMean(Operation operation) {
+            long requestCount = getRequestCount();
+            return requestCount == 0 ? 0 : (double) getOperationTotal(operation) / requestCount;
+        }
+
+    }
+
+}
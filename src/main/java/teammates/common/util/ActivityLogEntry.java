@@ -89,6 +89,26 @@ public class ActivityLogEntry {
         }
     }
 
+    /**
+     * Constructor that creates an ActivityLog object from the attributes of an activity log stored in the datastore.
+     * Used in AdminActivityLogServlet.
+     */
+    public ActivityLogEntry(long time, String servletName, String action, String role, String name, String googleId,
+                            String email, boolean toShow, String message, String url, String id, long timeTaken) {
+        this.time = time;
+        this.servletName = servletName;
+        this.action = action;
+        this.role = role;
+        this.name = name;
+        this.googleId = googleId;
+        this.email = email;
+        this.toShow = toShow;
+        this.message = message;
+        this.url = url;
+        this.id = id;
+        this.timeTaken = timeTaken;
+    }
+
     /**
      * Constructor that creates an ActivityLog object from scratch.
      */
@@ -302,6 +322,14 @@ public class ActivityLogEntry {
         return timeTaken;
     }
 
+    public void setTimeTaken(long timeTaken) {
+        this.timeTaken = timeTaken;
+    }
+
+    public boolean isToShow() {
+        return toShow;
+    }
+
     public String getUrl() {
         return url;
     }
@@ -339,6 +367,14 @@ public class ActivityLogEntry {
     }
 
     public static String generateServletActionFailureLogMessage(HttpServletRequest req, Exception e, UserType userType) {
+        return generateServletActionFailureLogEntry(req, e, userType).generateLogMessage();
+    }
+
+    /**
+     * Creates the log entry of an action which failed with {@code e}.
+     */
+    public static ActivityLogEntry generateServletActionFailureLogEntry(HttpServletRequest req, Exception e,
+                                                                        UserType userType) {
         String[] actionTaken = req.getServletPath().split("/");
         String action = req.getServletPath();
         if (actionTaken.length > 0) {
@@ -352,10 +388,8 @@ public class ActivityLogEntry {
 
         String courseId = HttpRequestHelper.getValueFromRequestParameterMap(req, Const.ParamsNames.COURSE_ID);
         String studentEmail = HttpRequestHelper.getValueFromRequestParameterMap(req, Const.ParamsNames.STUDENT_EMAIL);
-        ActivityLogEntry exceptionLog = new ActivityLogEntry(action, Const.ACTION_RESULT_FAILURE, null, message,
-                                                             url, courseId, studentEmail, userType);
-
-        return exceptionLog.generateLogMessage();
+        return new ActivityLogEntry(action, Const.ACTION_RESULT_FAILURE, null, message,
+                                    url, courseId, studentEmail, userType);
     }
 
     public boolean isTestingData() {
@@ -59,6 +59,9 @@ public final class Config {
     /** The value of the "app.mailjet.secretkey" in build.properties file. */
     public static final String MAILJET_SECRETKEY;
 
+    /** The value of the "app.responses.sectionsinvolved.backfilled" in build.properties file. */
+    public static final boolean IS_SECTIONS_INVOLVED_BACKFILLED;
+
     static {
         Properties properties = new Properties();
         try {
@@ -82,6 +85,8 @@ public final class Config {
         MAILGUN_DOMAINNAME = properties.getProperty("app.mailgun.domainname");
         MAILJET_APIKEY = properties.getProperty("app.mailjet.apikey");
         MAILJET_SECRETKEY = properties.getProperty("app.mailjet.secretkey");
+        IS_SECTIONS_INVOLVED_BACKFILLED =
+                Boolean.parseBoolean(properties.getProperty("app.responses.sectionsinvolved.backfilled"));
     }
 
     private Config() {
@@ -617,8 +617,7 @@ public final class Const {
         public static final String ADMIN_EMAIL_EMPTY_TRASH_BIN = "emptytrashbin";
         public static final String ADMIN_EMAIL_TRASH_ACTION_REDIRECT = "redirect";
 
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX = "emaillistindex";
-        public static final String ADMIN_GROUP_RECEIVER_EMAIL_INDEX = "emailindex";
+        public static final String ADMIN_GROUP_RECEIVER_FILE_OFFSET = "fileoffset";
 
         public static final String FEEDBACK_SESSION_NAME = "fsname";
         public static final String FEEDBACK_SESSION_INDEX = "fsindex";
@@ -713,6 +712,7 @@ public final class Const {
         public static final String FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES = "frindicatemissingresponses";
         public static final String FEEDBACK_RESULTS_NEED_AJAX = "frneedajax";
         public static final String FEEDBACK_RESULTS_MAIN_INDEX = "frmainindex";
+        public static final String FEEDBACK_RESULTS_CURSOR = "frcursor";
 
         public static final String PREVIEWAS = "previewas";
 
@@ -785,10 +785,13 @@ public final class Const {
         public static final String SUBMISSION_COURSE = "course";
         public static final String SUBMISSION_FEEDBACK = "feedback";
         public static final String SUBMISSION_REMIND_USERLIST = "usersToRemind";
+        public static final String BACKFILL_CURSOR = "backfillcursor";
 
         public static final String ENROLLMENT_DETAILS = "enrollmentdetails";
 
         public static final String SEARCH_KEY = "searchkey";
+        public static final String SEARCH_INDEX_NAME = "searchindexname";
+        public static final String SEARCH_INDEX_ENTITY_ID = "searchindexentityid";
         public static final String DISPLAY_ARCHIVE = "displayarchive";
 
         //Parameters for checking persistence of data during Eventual Consistency
@@ -954,6 +957,8 @@ public final class Const {
         public static final String ADMIN_EXCEPTION_TEST = "/admin/adminExceptionTest";
         public static final String ADMIN_ACTIVITY_LOG_PAGE = "/admin/adminActivityLogPage";
         public static final String ADMIN_SESSIONS_PAGE = "/admin/adminSessionsPage";
+        public static final String ADMIN_METRICS_PAGE = "/admin/adminMetricsPage";
+        public static final String ADMIN_METRICS = "/admin/adminMetrics";
         public static final String ADMIN_SEARCH_PAGE = "/admin/adminSearchPage";
         public static final String ADMIN_EMAIL_COMPOSE_PAGE = "/admin/adminEmailComposePage";
         public static final String ADMIN_EMAIL_COMPOSE_SAVE = "/admin/adminEmailComposeSave";
@@ -976,6 +981,7 @@ public final class Const {
         public static final String ADMIN_STUDENT_GOOGLE_ID_RESET = "/admin/adminStudentGoogleIdReset";
 
         public static final String AUTOMATED_LOG_COMPILATION = "/auto/compileLogs";
+        public static final String AUTOMATED_ACTIVITY_LOGS_CLEANUP = "/auto/activityLogsCleanup";
         public static final String AUTOMATED_FEEDBACK_OPENING_REMINDERS = "/auto/feedbackSessionOpeningReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSED_REMINDERS = "/auto/feedbackSessionClosedReminders";
         public static final String AUTOMATED_FEEDBACK_CLOSING_REMINDERS = "/auto/feedbackSessionClosingReminders";
@@ -1002,6 +1008,16 @@ public final class Const {
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME = "feedback-response-adjustment-queue";
         public static final String FEEDBACK_RESPONSE_ADJUSTMENT_WORKER_URL = "/worker/feedbackResponseAdjustment";
 
+        public static final String FEEDBACK_RESPONSE_SECTIONS_BACKFILL_QUEUE_NAME =
+                "feedback-response-sections-backfill-queue";
+        public static final String FEEDBACK_RESPONSE_SECTIONS_BACKFILL_WORKER_URL =
+                "/worker/feedbackResponseSectionsBackfill";
+
+        public static final String FEEDBACK_QUESTION_STATISTICS_REBUILD_QUEUE_NAME =
+                "feedback-question-statistics-rebuild-queue";
+        public static final String FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL =
+                "/worker/feedbackQuestionStatisticsRebuild";
+
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_QUEUE_NAME =
                 "feedback-session-published-email-queue";
         public static final String FEEDBACK_SESSION_PUBLISHED_EMAIL_WORKER_URL =
@@ -1028,6 +1044,9 @@ public final class Const {
         public static final String PENDING_COMMENT_CLEARED_EMAIL_WORKER_URL =
                 "/worker/pendingCommentClearedEmail";
 
+        public static final String SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME = "search-documents-update-queue";
+        public static final String SEARCH_DOCUMENTS_UPDATE_WORKER_URL = "/worker/searchDocumentsUpdate";
+
         public static final String SEND_EMAIL_QUEUE_NAME = "send-email-queue";
         public static final String SEND_EMAIL_WORKER_URL = "/worker/sendEmail";
 
@@ -1111,6 +1130,7 @@ public final class Const {
         public static final String ADMIN_ACTIVITY_LOG_AJAX = "/jsp/adminActivityLogAjax.jsp";
         public static final String ADMIN_ACCOUNT_DETAILS = "/jsp/adminAccountDetails.jsp";
         public static final String ADMIN_SESSIONS = "/jsp/adminSessions.jsp";
+        public static final String ADMIN_METRICS = "/jsp/adminMetrics.jsp";
         public static final String ADMIN_EMAIL_LOG = "/jsp/adminEmailLog.jsp";
         public static final String ADMIN_EMAIL_LOG_AJAX = "/jsp/adminEmailLogAjax.jsp";
 
@@ -1337,6 +1357,12 @@ public final class Const {
                 + "It is recommended to view the results one question/section at a time. "
                 + "To view responses for a particular question, click on the question below. "
                 + "To view response for a particular section, choose the section from the drop-down box above.";
+        public static final String FEEDBACK_RESULTS_NEXTPAGEWARNING =
+                "This session has too many responses to show at once, so only some of them are shown below. "
+                + "Click <a href=\"%s\">here</a> to view the next page of responses.";
+        public static final String FILE_DOWNLOAD_INCOMPLETE =
+                "Error: the download stopped before the end of the file, so this file is incomplete. "
+                + "Please download it again.";
         public static final String FEEDBACK_RESULTS_QUESTIONVIEWWARNING =
                 "This session seems to have a large number of responses. "
                 + "It is recommended to view the results for one question at a time. "
@@ -1505,6 +1531,9 @@ public final class Const {
 
         public static final int TIME_TAKEN_EXPECTED = 10000;
         public static final int TIME_TAKEN_MODERATE = 20000;
+
+        /** The number of days activity logs are kept for, the same as the logs of the log service. */
+        public static final int RETENTION_PERIOD_IN_DAYS = 90;
     }
 
     /**
@@ -0,0 +1,72 @@
+package teammates.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the email addresses in a group receiver list file one at a time.<br>
+ * Assumption: the file is a txt file containing email addresses separated by comma.
+ *
+ * <p>Only the address being read is kept in memory, so files of any size can be read.
+ * The reader keeps track of the byte offset in the file after the last address read,
+ * so that reading can be resumed from there by another reader.
+ */
+public class GroupReceiverListReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SEPARATOR = ',';
+
+    private final InputStream stream;
+    private long offset;
+
+    /**
+     * Creates a reader of the addresses in {@code stream}.
+     * @param stream the file content, starting at {@code offset}
+     * @param offset the byte offset in the file of the first byte in {@code stream}
+     */
+    public GroupReceiverListReader(InputStream stream, long offset) {
+        this.stream = new BufferedInputStream(stream, BUFFER_SIZE);
+        this.offset = offset;
+    }
+
+    /**
+     * Returns the next email address in the file, without surrounding whitespace,
+     * or {@code null} if there are no more addresses.
+     */
+    public String readNextAddress() throws IOException {
+        ByteArrayOutputStream addressBytes = new ByteArrayOutputStream();
+        int nextByte = stream.read();
+        while (nextByte != -1) {
+            offset++;
+            if (nextByte == SEPARATOR) {
+                String address = addressBytes.toString(Const.SystemParams.ENCODING).trim();
+                if (!address.isEmpty()) {
+                    return address;
+                }
+                addressBytes.reset();
+            } else {
+                addressBytes.write(nextByte);
+            }
+            nextByte = stream.read();
+        }
+
+        String address = addressBytes.toString(Const.SystemParams.ENCODING).trim();
+        return address.isEmpty() ? null : address;
+    }
+
+    /**
+     * Returns the byte offset in the file right after the last address read.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        stream.close();
+    }
+
+}
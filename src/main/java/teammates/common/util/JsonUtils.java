@@ -14,20 +14,23 @@ import com.google.gson.JsonSyntaxException;
  */
 public final class JsonUtils {
 
-    private JsonUtils() {
-        // utility class
-    }
+    /**
+     * Handles the Date format we use in the Json file and also reformats the Json string in pretty-print format.
+     * Gson instances are thread-safe, so a single instance is shared instead of being created on every call.
+     */
+    private static final Gson TEAMMATES_GSON = new GsonBuilder().setDateFormat(DateFormat.FULL)
+                                                                .setDateFormat(Const.SystemParams.DEFAULT_DATE_TIME_FORMAT)
+                                                                .setPrettyPrinting()
+                                                                .disableHtmlEscaping()
+                                                                .create();
 
     /**
-     * This creates a Gson object that can handle the Date format we use in the
-     * Json file and also reformat the Json string in pretty-print format.
+     * Handles the existing data that does not use the prescribed date format.
      */
-    private static Gson getTeammatesGson() {
-        return new GsonBuilder().setDateFormat(DateFormat.FULL)
-                                .setDateFormat(Const.SystemParams.DEFAULT_DATE_TIME_FORMAT)
-                                .setPrettyPrinting()
-                                .disableHtmlEscaping()
-                                .create();
+    private static final Gson DEFAULT_GSON = new Gson();
+
+    private JsonUtils() {
+        // utility class
     }
 
     /**
@@ -36,7 +39,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object, Type)
      */
     public static String toJson(Object src, Type typeOfSrc) {
-        return getTeammatesGson().toJson(src, typeOfSrc);
+        return TEAMMATES_GSON.toJson(src, typeOfSrc);
     }
 
     /**
@@ -45,7 +48,7 @@ public final class JsonUtils {
      * @see Gson#toJson(Object)
      */
     public static String toJson(Object src) {
-        return getTeammatesGson().toJson(src);
+        return TEAMMATES_GSON.toJson(src);
     }
 
     /**
@@ -55,10 +58,10 @@ public final class JsonUtils {
      */
     public static <T> T fromJson(String json, Type typeOfT) {
         try {
-            return getTeammatesGson().fromJson(json, typeOfT);
+            return TEAMMATES_GSON.fromJson(json, typeOfT);
         } catch (JsonSyntaxException e) {
             // some of the existing data does not use the prescribed date format
-            return new Gson().fromJson(json, typeOfT);
+            return DEFAULT_GSON.fromJson(json, typeOfT);
         }
     }
 
@@ -0,0 +1,94 @@
+package teammates.common.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in a fixed set of buckets, so that percentiles can be estimated in bounded memory.
+ *
+ * <p>Latencies can be recorded concurrently without locking; a percentile read while latencies are
+ * being recorded may not include the latest ones.</p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * The upper bounds of the buckets in milliseconds, inclusive.
+     * Latencies above the last bound are counted in an extra bucket.
+     */
+    static final long[] BUCKET_UPPER_BOUNDS = {
+            5, 10, 20, 50, 100, 200, 300, 500, 750, 1000, 1500, 2000, 3000, 5000, 10000, 20000, 30000, 60000
+    };
+
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency of {@code latency} milliseconds.
+     */
+    public void record(long latency) {
+        bucketCounts.incrementAndGet(getBucketIndex(latency));
+        count.incrementAndGet();
+        total.addAndGet(latency);
+
+        long currentMax = max.get();
+        while (latency > currentMax && !max.compareAndSet(currentMax, latency)) {
+            currentMax = max.get();
+        }
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean latency in milliseconds, or 0 if no latency has been recorded.
+     */
+    public long getMean() {
+        long currentCount = count.get();
+        return currentCount == 0 ? 0 : total.get() / currentCount;
+    }
+
+    /**
+     * Returns an estimate of the latency in milliseconds that {@code percentile} percent of the latencies
+     * recorded do not exceed, which is the upper bound of the bucket the percentile falls in,
+     * or the maximum latency if that is lower. Returns 0 if no latency has been recorded.
+     */
+    public long getPercentile(double percentile) {
+        long[] counts = new long[bucketCounts.length()];
+        long currentCount = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+            currentCount += counts[i];
+        }
+        if (currentCount == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(currentCount * percentile / 100));
+        long currentMax = max.get();
+        long countSoFar = 0;
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS.length; i++) {
+            countSoFar += counts[i];
+            if (countSoFar >= rank) {
+                return Math.min(BUCKET_UPPER_BOUNDS[i], currentMax);
+            }
+        }
+        return currentMax;
+    }
+
+    private static int getBucketIndex(long latency) {
+        for (int i = 0; i < BUCKET_UPPER_BOUNDS.length; i++) {
+            if (latency <= BUCKET_UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_BOUNDS.length;
+    }
+
+}
@@ -0,0 +1,62 @@
+package teammates.common.util;
+
+/**
+ * Counts the calls made by the current request to the datastore and other services,
+ * to be recorded in the {@link ActionMetrics} of the action handling the request.
+ */
+public final class RequestOperationCounter {
+
+    /**
+     * The calls counted.
+     */
+    public enum Operation {
+        DATASTORE_QUERY,
+        DATASTORE_GET,
+        DATASTORE_PUT,
+        DATASTORE_DELETE,
+        SEARCH_API_CALL,
+        TASK_QUEUE_CALL
+    }
+
+    private static final ThreadLocal<long[]> PER_THREAD_COUNTS = new ThreadLocal<long[]>() {
+        @Override
+        protected long[] initialValue() {
+            return new long[Operation.values().length];
+        }
+    };
+
+    private RequestOperationCounter() {
+        // utility class
+    }
+
+    /**
+     * Counts a call of {@code operation} made by the current request.
+     */
+    public static void record(Operation operation) {
+        record(operation, 1);
+    }
+
+    /**
+     * Counts {@code count} calls of {@code operation} made by the current request.
+     */
+    public static void record(Operation operation, long count) {
+        PER_THREAD_COUNTS.get()[operation.ordinal()] += count;
+    }
+
+    /**
+     * Returns the number of calls of each operation made by the current request so far,
+     * indexed by the ordinal of the operation.
+     */
+    public static long[] getCounts() {
+        return PER_THREAD_COUNTS.get().clone();
+    }
+
+    /**
+     * Forgets the calls counted. To be called at the start and the end of every request,
+     * as threads are reused across requests.
+     */
+    public static void reset() {
+        PER_THREAD_COUNTS.remove();
+    }
+
+}
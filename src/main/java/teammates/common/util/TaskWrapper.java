@@ -10,11 +10,20 @@ public class TaskWrapper {
     private final String queueName;
     private final String workerUrl;
     private final Map<String, String[]> paramMap;
+    private final long countdownTime;
 
     public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap) {
+        this(queueName, workerUrl, paramMap, 0);
+    }
+
+    /**
+     * Creates a task to be run after {@code countdownTime} milliseconds.
+     */
+    public TaskWrapper(String queueName, String workerUrl, Map<String, String[]> paramMap, long countdownTime) {
         this.queueName = queueName;
         this.workerUrl = workerUrl;
         this.paramMap = paramMap;
+        this.countdownTime = countdownTime;
     }
 
     public String getQueueName() {
@@ -29,4 +38,8 @@ public class TaskWrapper {
         return paramMap;
     }
 
+    public long getCountdownTime() {
+        return countdownTime;
+    }
+
 }
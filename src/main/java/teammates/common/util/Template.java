@@ -0,0 +1,119 @@
+package teammates.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A template parsed once into its literal text and its <code>${...}</code> placeholders,
+ * so that it can be populated in a single pass instead of being copied once per placeholder.
+ */
+public final class Template {
+
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+
+    // the template is literals[0], placeholders[0], literals[1], ..., placeholders[n - 1], literals[n]
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalsLength;
+
+    private Template(List<String> literals, List<String> placeholders) {
+        this.literals = literals.toArray(new String[literals.size()]);
+        this.placeholders = placeholders.toArray(new String[placeholders.size()]);
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalsLength = length;
+    }
+
+    /**
+     * Parses {@code template} into its literal text and its placeholders.
+     */
+    public static Template compile(String template) {
+        List<String> literals = new ArrayList<String>();
+        List<String> placeholders = new ArrayList<String>();
+
+        int literalStart = 0;
+        int placeholderStart = template.indexOf(PLACEHOLDER_START);
+        while (placeholderStart != -1) {
+            int placeholderEnd = template.indexOf(PLACEHOLDER_END, placeholderStart + PLACEHOLDER_START.length());
+            if (placeholderEnd == -1) {
+                break;
+            }
+            // a placeholder does not contain another placeholder start, e.g. "${a ${b}" has the placeholder "${b}"
+            placeholderStart = template.lastIndexOf(PLACEHOLDER_START, placeholderEnd - PLACEHOLDER_START.length());
+
+            literals.add(template.substring(literalStart, placeholderStart));
+            placeholders.add(template.substring(placeholderStart, placeholderEnd + PLACEHOLDER_END.length()));
+            literalStart = placeholderEnd + PLACEHOLDER_END.length();
+            placeholderStart = template.indexOf(PLACEHOLDER_START, literalStart);
+        }
+        literals.add(template.substring(literalStart));
+
+        return new Template(literals, placeholders);
+    }
+
+    /**
+     * Returns true if {@code key} can be matched against the placeholders of a compiled template,
+     * i.e. it is of the form <code>${name}</code>.
+     */
+    public static boolean isPlaceholder(String key) {
+        return key.startsWith(PLACEHOLDER_START) && key.endsWith(PLACEHOLDER_END)
+                && key.indexOf(PLACEHOLDER_START, 1) == -1
+                && key.indexOf(PLACEHOLDER_END) == key.length() - PLACEHOLDER_END.length();
+    }
+
+    /**
+     * Populates the template with the given values.
+     * @see #populateTo(StringBuilder, String...)
+     */
+    public String populate(String... keyValuePairs) {
+        StringBuilder populatedTemplate = new StringBuilder(literalsLength + 32 * placeholders.length);
+        populateTo(populatedTemplate, keyValuePairs);
+        return populatedTemplate.toString();
+    }
+
+    /**
+     * Appends the template, populated with the given values, to {@code populatedTemplate}.
+     * Placeholders without a value are kept as they are.
+     *
+     * <p>The result is the same as replacing the keys one after another: if the value of a key contains
+     * the placeholders of keys given after it, those placeholders are populated as well.
+     * @param keyValuePairs Array of a variable, even number of key-value pairs:
+     *                   { "${key1}", "val1", "${key2}", "val2", ... }
+     */
+    public void populateTo(StringBuilder populatedTemplate, String... keyValuePairs) {
+        populateTo(populatedTemplate, keyValuePairs, 0);
+    }
+
+    private void populateTo(StringBuilder populatedTemplate, String[] keyValuePairs, int firstKeyIndex) {
+        for (int i = 0; i < placeholders.length; i++) {
+            populatedTemplate.append(literals[i]);
+
+            int keyIndex = indexOfKey(keyValuePairs, firstKeyIndex, placeholders[i]);
+            if (keyIndex == -1) {
+                populatedTemplate.append(placeholders[i]);
+                continue;
+            }
+
+            String value = keyValuePairs[keyIndex + 1];
+            if (value.contains(PLACEHOLDER_START)) {
+                compile(value).populateTo(populatedTemplate, keyValuePairs, keyIndex + 2);
+            } else {
+                populatedTemplate.append(value);
+            }
+        }
+        populatedTemplate.append(literals[placeholders.length]);
+    }
+
+    private static int indexOfKey(String[] keyValuePairs, int firstKeyIndex, String placeholder) {
+        for (int i = firstKeyIndex; i < keyValuePairs.length; i += 2) {
+            if (keyValuePairs[i].equals(placeholder)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -1,7 +1,13 @@
 package teammates.common.util;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class Templates {
 
+    // compiled forms of the templates read from resource files, by their content
+    private static final Map<String, Template> COMPILED_TEMPLATES = new ConcurrentHashMap<String, Template>();
+
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
 
     private Templates() {
@@ -17,8 +23,43 @@ public final class Templates {
      * @return The populated template
      */
     public static String populateTemplate(String template, String... keyValuePairs) {
+        StringBuilder populatedTemplate = new StringBuilder(template.length() * 2);
+        appendPopulatedTemplate(populatedTemplate, template, keyValuePairs);
+        return populatedTemplate.toString();
+    }
+
+    /**
+     * Populates the HTML template in the same way as {@link #populateTemplate(String, String...)},
+     * appending the result to {@code populatedTemplate}.
+     *
+     * <p>Templates read from resource files are parsed only once. If all keys are of the form
+     * <code>${key}</code>, the template is populated in a single pass.
+     */
+    public static void appendPopulatedTemplate(StringBuilder populatedTemplate, String template,
+                                               String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
+        if (!areAllPlaceholders(keyValuePairs)) {
+            populatedTemplate.append(replaceOneAfterAnother(template, keyValuePairs));
+            return;
+        }
+        Template compiledTemplate = COMPILED_TEMPLATES.get(template);
+        if (compiledTemplate == null) {
+            compiledTemplate = Template.compile(template);
+        }
+        compiledTemplate.populateTo(populatedTemplate, keyValuePairs);
+    }
+
+    private static boolean areAllPlaceholders(String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            if (!Template.isPlaceholder(keyValuePairs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String replaceOneAfterAnother(String template, String... keyValuePairs) {
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -26,185 +67,191 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    private static String readTemplate(String fileName) {
+        String template = FileHelper.readResourceFile(fileName);
+        COMPILED_TEMPLATES.put(template, Template.compile(template));
+        return template;
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
     public static class EmailTemplates {
         public static final String USER_COURSE_JOIN =
-                FileHelper.readResourceFile("userEmailTemplate-courseJoin.html");
+                readTemplate("userEmailTemplate-courseJoin.html");
         public static final String FRAGMENT_STUDENT_COURSE_JOIN =
-                FileHelper.readResourceFile("studentEmailFragment-courseJoin.html");
+                readTemplate("studentEmailFragment-courseJoin.html");
         public static final String FRAGMENT_STUDENT_COURSE_REJOIN_AFTER_GOOGLE_ID_RESET =
-                FileHelper.readResourceFile("studentEmailFragment-googleIdReset.html");
+                readTemplate("studentEmailFragment-googleIdReset.html");
         public static final String FRAGMENT_INSTRUCTOR_COURSE_JOIN =
-                FileHelper.readResourceFile("instructorEmailFragment-courseJoin.html");
+                readTemplate("instructorEmailFragment-courseJoin.html");
         public static final String USER_FEEDBACK_SESSION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSession.html");
+                readTemplate("userEmailTemplate-feedbackSession.html");
         public static final String USER_FEEDBACK_SESSION_CLOSING =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionClosing.html");
+                readTemplate("userEmailTemplate-feedbackSessionClosing.html");
         public static final String USER_FEEDBACK_SESSION_CLOSED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionClosed.html");
+                readTemplate("userEmailTemplate-feedbackSessionClosed.html");
         public static final String USER_FEEDBACK_SESSION_PUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionPublished.html");
+                readTemplate("userEmailTemplate-feedbackSessionPublished.html");
         public static final String USER_FEEDBACK_SUBMISSION_CONFIRMATION =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSubmissionConfirmation.html");
+                readTemplate("userEmailTemplate-feedbackSubmissionConfirmation.html");
         public static final String USER_FEEDBACK_SESSION_UNPUBLISHED =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionUnpublished.html");
+                readTemplate("userEmailTemplate-feedbackSessionUnpublished.html");
         public static final String USER_PENDING_COMMENTS_CLEARED =
-                FileHelper.readResourceFile("userEmailTemplate-pendingCommentsCleared.html");
+                readTemplate("userEmailTemplate-pendingCommentsCleared.html");
         public static final String FRAGMENT_SINGLE_FEEDBACK_SESSION_LINKS =
-                FileHelper.readResourceFile("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
+                readTemplate("userEmailTemplateFragment-feedbackSessionResendAllLinks.html");
         public static final String USER_FEEDBACK_SESSION_RESEND_ALL_LINKS =
-                FileHelper.readResourceFile("userEmailTemplate-feedbackSessionResendAllLinks.html");
+                readTemplate("userEmailTemplate-feedbackSessionResendAllLinks.html");
         public static final String SEVERE_ERROR_LOG_LINE =
-                FileHelper.readResourceFile("severeErrorLogLine.html");
+                readTemplate("severeErrorLogLine.html");
         public static final String NEW_INSTRUCTOR_ACCOUNT_WELCOME =
-                FileHelper.readResourceFile("newInstructorAccountWelcome.html");
+                readTemplate("newInstructorAccountWelcome.html");
     }
 
     public static class FeedbackQuestion {
 
         public static class FormTemplates {
             public static final String FEEDBACK_QUESTION_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionAdditionalInfoTemplate.html");
+                    readTemplate("feedbackQuestionAdditionalInfoTemplate.html");
 
             public static final String TEXT_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionTextSubmissionFormTemplate.html");
             public static final String TEXT_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionTextResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionTextResultStatsTemplate.html");
             public static final String TEXT_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionTextEditFormTemplate.html");
+                    readTemplate("feedbackQuestionTextEditFormTemplate.html");
 
             public static final String MCQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionMcqSubmissionFormTemplate.html");
             public static final String MCQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOptionFragment.html");
+                    readTemplate("feedbackQuestionMcqSubmissionFormOptionFragment.html");
             public static final String MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
+                    readTemplate("feedbackQuestionMcqSubmissionFormOtherOptionFragment.html");
             public static final String MCQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormTemplate.html");
+                    readTemplate("feedbackQuestionMcqEditFormTemplate.html");
             public static final String MCQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqEditFormOptionFragment.html");
+                    readTemplate("feedbackQuestionMcqEditFormOptionFragment.html");
             public static final String MCQ_ADDITIONAL_INFO_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqAdditionalInfoFragment.html");
+                    readTemplate("feedbackQuestionMcqAdditionalInfoFragment.html");
             public static final String MCQ_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionMcqAdditionalInfoTemplate.html");
+                    readTemplate("feedbackQuestionMcqAdditionalInfoTemplate.html");
             public static final String MCQ_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionMcqResultStatsTemplate.html");
             public static final String MCQ_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMcqResultStatsOptionFragment.html");
+                    readTemplate("feedbackQuestionMcqResultStatsOptionFragment.html");
 
             public static final String MSQ_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionMsqSubmissionFormTemplate.html");
             public static final String MSQ_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOptionFragment.html");
+                    readTemplate("feedbackQuestionMsqSubmissionFormOptionFragment.html");
             public static final String MSQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
+                    readTemplate("feedbackQuestionMsqSubmissionFormOtherOptionFragment.html");
             public static final String MSQ_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormTemplate.html");
+                    readTemplate("feedbackQuestionMsqEditFormTemplate.html");
             public static final String MSQ_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqEditFormOptionFragment.html");
+                    readTemplate("feedbackQuestionMsqEditFormOptionFragment.html");
             public static final String MSQ_ADDITIONAL_INFO_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionMsqAdditionalInfoFragment.html");
+                    readTemplate("feedbackQuestionMsqAdditionalInfoFragment.html");
             public static final String MSQ_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionMsqAdditionalInfoTemplate.html");
+                    readTemplate("feedbackQuestionMsqAdditionalInfoTemplate.html");
 
             public static final String NUMSCALE_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleEditFormTemplate.html");
+                    readTemplate("feedbackQuestionNumScaleEditFormTemplate.html");
             public static final String NUMSCALE_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionNumScaleSubmissionFormTemplate.html");
             public static final String NUMSCALE_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionNumScaleResultStatsTemplate.html");
             public static final String NUMSCALE_RESULTS_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragment.html");
+                    readTemplate("feedbackQuestionNumScaleResultsStatsFragment.html");
             public static final String NUMSCALE_RESULT_STATS_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
+                    readTemplate("feedbackQuestionNumScaleResultStatsTemplateWithSelfResponse.html");
             public static final String NUMSCALE_RESULTS_STATS_FRAGMENT_WITH_SELF_RESPONSE =
-                    FileHelper.readResourceFile("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
+                    readTemplate("feedbackQuestionNumScaleResultsStatsFragmentWithSelfResponse.html");
 
             public static final String CONSTSUM_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionConstSumSubmissionFormTemplate.html");
             public static final String CONSTSUM_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
+                    readTemplate("feedbackQuestionConstSumSubmissionFormOptionFragment.html");
             public static final String CONSTSUM_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormTemplate.html");
+                    readTemplate("feedbackQuestionConstSumEditFormTemplate.html");
             public static final String CONSTSUM_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumEditFormOptionFragment.html");
+                    readTemplate("feedbackQuestionConstSumEditFormOptionFragment.html");
             public static final String CONSTSUM_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionConstSumResultStatsTemplate.html");
             public static final String CONSTSUM_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsOptionFragment.html");
+                    readTemplate("feedbackQuestionConstSumResultStatsOptionFragment.html");
             public static final String CONSTSUM_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
+                    readTemplate("feedbackQuestionConstSumResultStatsRecipientTemplate.html");
             public static final String CONSTSUM_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionConstSumResultStatsRecipientFragment.html");
+                    readTemplate("feedbackQuestionConstSumResultStatsRecipientFragment.html");
 
             public static final String CONTRIB_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribAdditionalInfoTemplate.html");
+                    readTemplate("feedbackQuestionContribAdditionalInfoTemplate.html");
             public static final String CONTRIB_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribEditFormTemplate.html");
+                    readTemplate("feedbackQuestionContribEditFormTemplate.html");
             public static final String CONTRIB_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionContribSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionContribSubmissionFormTemplate.html");
             public static final String CONTRIB_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionContribResultStatsTemplate.html");
             public static final String CONTRIB_RESULT_STATS_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsFragment.html");
+                    readTemplate("feedbackQuestionContribResultStatsFragment.html");
             public static final String CONTRIB_RESULT_STATS_STUDENT =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewTemplate.html");
+                    readTemplate("feedbackQuestionContribResultStatsStudentViewTemplate.html");
             public static final String CONTRIB_RESULT_STATS_STUDENT_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
+                    readTemplate("feedbackQuestionContribResultStatsStudentViewAdditionalInfo.html");
 
             public static final String RUBRIC_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormTemplate.html");
             public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormMobilePanelFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_MOBILE_PANEL =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormMobilePanel.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormMobilePanel.html");
             public static final String RUBRIC_SUBMISSION_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormHeaderFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBodyFragment.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormBodyFragment.html");
             public static final String RUBRIC_SUBMISSION_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricSubmissionFormBody.html");
+                    readTemplate("feedbackQuestionRubricSubmissionFormBody.html");
             public static final String RUBRIC_EDIT_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormTemplate.html");
+                    readTemplate("feedbackQuestionRubricEditFormTemplate.html");
             public static final String RUBRIC_EDIT_FORM_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormHeaderFragment.html");
+                    readTemplate("feedbackQuestionRubricEditFormHeaderFragment.html");
             public static final String RUBRIC_EDIT_FORM_WEIGHT_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormWeightFragment.html");
+                    readTemplate("feedbackQuestionRubricEditFormWeightFragment.html");
             public static final String RUBRIC_EDIT_FORM_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBodyFragment.html");
+                    readTemplate("feedbackQuestionRubricEditFormBodyFragment.html");
             public static final String RUBRIC_EDIT_FORM_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricEditFormBody.html");
+                    readTemplate("feedbackQuestionRubricEditFormBody.html");
             public static final String RUBRIC_RESULT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionRubricResultStatsTemplate.html");
             public static final String RUBRIC_RESULT_STATS_HEADER_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsHeaderFragment.html");
+                    readTemplate("feedbackQuestionRubricResultStatsHeaderFragment.html");
             public static final String RUBRIC_RESULT_STATS_BODY_FRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBodyFragment.html");
+                    readTemplate("feedbackQuestionRubricResultStatsBodyFragment.html");
             public static final String RUBRIC_RESULT_STATS_BODY =
-                    FileHelper.readResourceFile("feedbackQuestionRubricResultStatsBody.html");
+                    readTemplate("feedbackQuestionRubricResultStatsBody.html");
             public static final String RUBRIC_ADDITIONAL_INFO =
-                    FileHelper.readResourceFile("feedbackQuestionRubricAdditionalInfoTemplate.html");
+                    readTemplate("feedbackQuestionRubricAdditionalInfoTemplate.html");
 
             public static final String RANK_SUBMISSION_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormTemplate.html");
+                    readTemplate("feedbackQuestionRankSubmissionFormTemplate.html");
             public static final String RANK_SUBMISSION_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankSubmissionFormOptionFragment.html");
+                    readTemplate("feedbackQuestionRankSubmissionFormOptionFragment.html");
             public static final String RANK_EDIT_RECIPIENTS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankRecipientsEditFormTemplate.html");
+                    readTemplate("feedbackQuestionRankRecipientsEditFormTemplate.html");
             public static final String RANK_EDIT_OPTIONS_FORM =
-                    FileHelper.readResourceFile("feedbackQuestionRankOptionsEditFormTemplate.html");
+                    readTemplate("feedbackQuestionRankOptionsEditFormTemplate.html");
             public static final String RANK_EDIT_FORM_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankEditFormOptionFragment.html");
+                    readTemplate("feedbackQuestionRankEditFormOptionFragment.html");
             public static final String RANK_RESULT_OPTION_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsTemplate.html");
+                    readTemplate("feedbackQuestionRankResultStatsTemplate.html");
             public static final String RANK_RESULT_STATS_OPTIONFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsOptionFragment.html");
+                    readTemplate("feedbackQuestionRankResultStatsOptionFragment.html");
             public static final String RANK_RESULT_RECIPIENT_STATS =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientTemplate.html");
+                    readTemplate("feedbackQuestionRankResultStatsRecipientTemplate.html");
             public static final String RANK_RESULT_STATS_RECIPIENTFRAGMENT =
-                    FileHelper.readResourceFile("feedbackQuestionRankResultStatsRecipientFragment.html");
+                    readTemplate("feedbackQuestionRankResultStatsRecipientFragment.html");
         }
 
         public static class Slots {
@@ -422,6 +469,6 @@ public final class Templates {
     // TODO: Or simply use static strings here?
     public static class FeedbackSessionTemplates {
         public static final String TEAM_EVALUATION =
-                FileHelper.readResourceFile("feedbackSessionTeamEvaluationTemplate.json");
+                readTemplate("feedbackSessionTeamEvaluationTemplate.json");
     }
 }
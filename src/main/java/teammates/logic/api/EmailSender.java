@@ -1,6 +1,9 @@
 package teammates.logic.api;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
@@ -35,6 +38,13 @@ public class EmailSender {
         }
     }
 
+    /**
+     * Creates an email sender which sends emails with the given {@code service} regardless of configuration.
+     */
+    public EmailSender(EmailSenderService service) {
+        this.service = service;
+    }
+
     /**
      * Sends the given {@code message} and generates a log report.
      */
@@ -46,6 +56,35 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages} in as few requests to the email sending service as it allows
+     * and generates a log report for each of them which is sent.
+     *
+     * @throws EmailSendingException if any of the messages is not sent, with the messages not sent as
+     *         {@link EmailSendingException#getUnsentEmails()}
+     */
+    public void sendEmails(List<EmailWrapper> messages) throws EmailSendingException {
+        EmailSendingException failure = null;
+        Set<EmailWrapper> unsentMessages = Collections.newSetFromMap(new IdentityHashMap<EmailWrapper, Boolean>());
+        try {
+            service.sendEmails(messages);
+        } catch (EmailSendingException e) {
+            failure = e;
+            unsentMessages.addAll(e.getUnsentEmails());
+        }
+
+        for (EmailWrapper message : messages) {
+            if (!unsentMessages.contains(message)) {
+                EmailLogEntry newEntry = new EmailLogEntry(message);
+                log.info(newEntry.generateLogMessage());
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
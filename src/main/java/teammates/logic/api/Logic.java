@@ -1,10 +1,14 @@
 package teammates.logic.api;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
@@ -18,10 +22,12 @@ import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.FeedbackSessionCompletionStatus;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
@@ -41,22 +47,29 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.JoinCourseException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.ActivityLogsLogic;
 import teammates.logic.core.AdminEmailsLogic;
 import teammates.logic.core.CommentsLogic;
 import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackQuestionStatisticsLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.RequestScopedCache;
+import teammates.logic.core.SearchDocumentsLogic;
 import teammates.logic.core.StudentsLogic;
 
 import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.datastore.Key;
 
 /**
  * This class represents the API to the business logic of the system. Please
@@ -74,11 +87,15 @@ public class Logic {
     protected static final CommentsLogic commentsLogic = CommentsLogic.inst();
     protected static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     protected static final FeedbackQuestionsLogic feedbackQuestionsLogic = FeedbackQuestionsLogic.inst();
+    protected static final FeedbackQuestionStatisticsLogic feedbackQuestionStatisticsLogic =
+            FeedbackQuestionStatisticsLogic.inst();
     protected static final FeedbackResponsesLogic feedbackResponsesLogic = FeedbackResponsesLogic.inst();
     protected static final FeedbackResponseCommentsLogic feedbackResponseCommentsLogic =
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
+    protected static final SearchDocumentsLogic searchDocumentsLogic = SearchDocumentsLogic.inst();
 
     //TODO: remove this constant
     private static final String ERROR_NULL_PARAMETER = "The supplied parameter was null\n";
@@ -302,6 +319,15 @@ public class Logic {
         instructorsLogic.putDocument(instructor);
     }
 
+    /**
+     * Creates or updates documents for the given instructors in as few calls as possible.
+     *
+     * @see InstructorsLogic#putDocuments(List)
+     */
+    public void putInstructorDocuments(List<InstructorAttributes> instructors) {
+        instructorsLogic.putDocuments(instructors);
+    }
+
     /**
      * Removes document for the given Instructor.
      *
@@ -561,6 +587,18 @@ public class Logic {
         return coursesLogic.getCourse(courseId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the students and instructors of the course.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+
+        return coursesLogic.getCourseRoster(courseId);
+    }
+
     /**
      * Returns a detailed version of course data. <br>
      * Preconditions: <br>
@@ -571,6 +609,16 @@ public class Logic {
         return coursesLogic.getCourseSummary(courseId);
     }
 
+    /**
+     * Returns course data with its stats but without its sections, which does not read its students. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        return coursesLogic.getCourseSummaryWithoutSections(courseId);
+    }
+
     /**
      * Returns a course data, including its feedback sessions, according to the instructor passed in.<br>
      * Preconditions: <br>
@@ -608,26 +656,27 @@ public class Logic {
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
-     * @return A less detailed version of courses for this instructor.
+     * @return A less detailed version of courses for this instructor, without their sections.
      *         Returns an empty list if none found.
      */
-    public HashMap<String, CourseDetailsBundle> getCourseSummariesForInstructor(String googleId)
+    public HashMap<String, CourseDetailsBundle> getCourseSummariesWithoutSectionsForInstructor(String googleId)
             throws EntityDoesNotExistException {
 
         Assumption.assertNotNull(ERROR_NULL_PARAMETER, googleId);
-        return coursesLogic.getCourseSummariesForInstructor(googleId, false);
+        return coursesLogic.getCourseSummariesWithoutSectionsForInstructor(googleId, false);
     }
 
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
-     * @return A less detailed version of courses for the specified instructor attributes.
+     * @return A less detailed version of courses for the specified instructor attributes, without their sections.
      *         Returns an empty list if none found.
      */
-    public HashMap<String, CourseDetailsBundle> getCourseSummariesForInstructors(List<InstructorAttributes> instructorList) {
+    public HashMap<String, CourseDetailsBundle> getCourseSummariesWithoutSectionsForInstructors(
+            List<InstructorAttributes> instructorList) {
 
         Assumption.assertNotNull(ERROR_NULL_PARAMETER, instructorList);
-        return coursesLogic.getCourseSummariesForInstructor(instructorList);
+        return coursesLogic.getCourseSummariesWithoutSectionsForInstructor(instructorList);
     }
 
     /**
@@ -789,6 +838,19 @@ public class Logic {
         return studentsLogic.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return A map of email to student. Emails with no matching student are not in the map.
+     */
+    public Map<String, StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, emails);
+
+        return studentsLogic.getStudentsForEmails(courseId, emails);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -932,6 +994,13 @@ public class Logic {
         studentsLogic.resetStudentGoogleId(originalEmail, courseId, true);
     }
 
+    public void resetStudentGoogleIdWithoutDocument(String originalEmail, String courseId)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, originalEmail);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        studentsLogic.resetStudentGoogleId(originalEmail, courseId, false);
+    }
+
     /**
      * All attributes except courseId be changed. Trying to change courseId will
      * be treated as trying to edit a student in a different course.<br>
@@ -976,6 +1045,19 @@ public class Logic {
 
     }
 
+    /**
+     * Same as {@link #joinCourseForStudent(String, String)}, but without updating the search document
+     * of the student, which is left to the caller.
+     */
+    public void joinCourseForStudentWithoutDocument(String key, String googleId)
+            throws JoinCourseException, InvalidParametersException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, googleId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, key);
+
+        accountsLogic.joinCourseForStudent(key, googleId, false);
+    }
+
     /**
      * Enrolls new students in the course or modifies existing students. But it
      * will not delete any students. It will not edit email address either. If
@@ -983,6 +1065,8 @@ public class Logic {
      * student will be treated as a new student.<br>
      * If there is an error in the enrollLines, there will be no changes to the
      * datastore <br>
+     * The search documents of the students enrolled and their feedback responses are not updated,
+     * as they are to be updated by background tasks. <br>
      * Preconditions: <br>
      * * All parameters are non-null.
      * @return StudentData objects in the return value contains the status of
@@ -990,7 +1074,7 @@ public class Logic {
      *         course that were not touched by the operation.
      */
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
-            throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
 
         Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
         Assumption.assertNotNull(ERROR_NULL_PARAMETER, enrollLines);
@@ -1017,6 +1101,29 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Adds the students and instructors of the course who have responded to {@code fsa} to its respondents,
+     * which are not read together with the session.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void loadFeedbackSessionRespondents(FeedbackSessionAttributes fsa) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, fsa);
+        feedbackSessionsLogic.loadRespondents(fsa);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the students and instructors of the course who have yet to submit responses to the session.
+     */
+    public FeedbackSessionCompletionStatus getFeedbackSessionCompletionStatus(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, fsa);
+        return feedbackSessionsLogic.getFeedbackSessionCompletionStatus(fsa);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1086,6 +1193,10 @@ public class Logic {
         studentsLogic.putDocument(student);
     }
 
+    public void putStudentDocuments(List<StudentAttributes> students) {
+        studentsLogic.putDocuments(students);
+    }
+
     /**
      * Generates students list of a course in CSV format. <br>
      * Preconditions: <br>
@@ -1309,6 +1420,29 @@ public class Logic {
                 filterText, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer},
+     * one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, String, String, boolean, boolean, Writer)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail,
+            String section, String questionId, String filterText, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section,
+                questionId, filterText, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Generates summary results (without comments) within a section in CSV format. <br>
      * Preconditions: <br>
@@ -1581,6 +1715,49 @@ public class Logic {
         return feedbackQuestionsLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
     }
 
+    /**
+     * Gets the stored statistics of the questions of a feedback session, keyed by question id,
+     * without loading their responses. Questions whose statistics are not kept or not yet rebuilt
+     * are not included.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public Map<String, FeedbackQuestionStatisticsAttributes> getFeedbackQuestionStatisticsForSession(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+
+        return feedbackQuestionStatisticsLogic.getFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Recounts the statistics of the questions of a feedback session from their responses.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void rebuildFeedbackQuestionStatisticsForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+
+        feedbackQuestionStatisticsLogic.rebuildFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets the questions of a feedback session whose stored statistics are missing
+     * or differ from the statistics counted from their responses.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsWithInconsistentStatistics(
+            String feedbackSessionName, String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+
+        return feedbackQuestionStatisticsLogic.getFeedbackQuestionsWithInconsistentStatistics(
+                feedbackSessionName, courseId);
+    }
+
     /**
      * Gets the response rate status for a session.
      *
@@ -1654,6 +1831,27 @@ public class Logic {
                                                                                                range, viewType);
     }
 
+    /**
+     * Gets a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session, with a page of at most {@code pageSize}
+     * responses starting from {@code cursor}. The cursor of the next page is kept in the bundle.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorPageFromView(
+            String feedbackSessionName, String courseId, String userEmail, String cursor, int pageSize,
+            String viewType)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, userEmail);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, viewType);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorPageFromView(
+                                        feedbackSessionName, courseId, userEmail, cursor, pageSize, viewType);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session in a section within the given range
@@ -1709,6 +1907,46 @@ public class Logic {
                                         feedbackSessionName, courseId, userEmail, section, range);
     }
 
+    /**
+     * Gets a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session from a section, with a page of at most
+     * {@code pageSize} responses starting from {@code cursor}. The cursor of the next page is kept in the bundle.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor,
+            int pageSize)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, userEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorFromSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, cursor, pageSize);
+    }
+
+    /**
+     * Gets a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session to a section, with a page of at most
+     * {@code pageSize} responses starting from {@code cursor}. The cursor of the next page is kept in the bundle.
+     * Preconditions: <br>
+     * * All parameters except {@code cursor} are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor,
+            int pageSize)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, userEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorToSectionPage(
+                                        feedbackSessionName, courseId, userEmail, section, cursor, pageSize);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session from a given question number
@@ -1728,6 +1966,27 @@ public class Logic {
                                                                                         userEmail, questionId);
     }
 
+    /**
+     * Gets a question+response bundle for questions with responses that
+     * is visible to the instructor for a feedback session from a given question number.
+     * If the question has more than {@code range} responses, only its statistics are loaded,
+     * and the bundle is not complete.
+     * This will not retrieve the list of comments for this question
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+            String feedbackSessionName, String courseId, String userEmail, String questionId, long range)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, userEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+                                        feedbackSessionName, courseId, userEmail, questionId, range);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session from a given question number
@@ -1767,6 +2026,26 @@ public class Logic {
         return feedbackSessionsLogic.getFeedbackSessionResultsForInstructor(feedbackSessionName, courseId, userEmail);
     }
 
+    /**
+     * Gets a question+response bundle of the responses given and received by a student
+     * that are visible to the instructor for a feedback session.
+     * Only the responses of the student are read, not those of the whole course.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsOfStudentForInstructor(
+            String feedbackSessionName, String courseId, String studentEmail, String instructorEmail)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, feedbackSessionName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, studentEmail);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, instructorEmail);
+
+        return feedbackSessionsLogic.getFeedbackSessionResultsOfStudentForInstructor(
+                feedbackSessionName, courseId, studentEmail, instructorEmail);
+    }
+
     /**
      * Gets a question+response bundle for questions with responses that
      * is visible to the instructor for a feedback session of a roster.
@@ -1910,6 +2189,22 @@ public class Logic {
         feedbackResponsesLogic.updateFeedbackResponse(feedbackResponse);
     }
 
+    /**
+     * Saves the responses of a single submission as a batch.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the errors of the responses that could not be saved, one per response
+     * @see FeedbackResponsesLogic#saveFeedbackResponses(List, List)
+     */
+    public List<TeammatesException> saveFeedbackResponses(List<FeedbackResponseAttributes> responsesToSave,
+                                                          List<FeedbackResponseAttributes> responsesToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, responsesToSave);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, responsesToDelete);
+        return feedbackResponsesLogic.saveFeedbackResponses(responsesToSave, responsesToDelete);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1919,6 +2214,16 @@ public class Logic {
         feedbackResponsesLogic.deleteFeedbackResponseAndCascade(feedbackResponse);
     }
 
+    /**
+     * Populates the sectionsInvolved attribute of the next batch of feedback responses.
+     *
+     * @param cursor null for the first batch, or the cursor returned for the previous batch otherwise
+     * @return the cursor of the next batch, or null if all responses have been processed
+     */
+    public String backfillSectionsInvolvedOfFeedbackResponses(String cursor) {
+        return feedbackResponsesLogic.backfillSectionsInvolvedOfFeedbackResponses(cursor);
+    }
+
     /**
      * Create a feedback response comment, and return the created comment
      * Preconditions: <br>
@@ -1980,6 +2285,15 @@ public class Logic {
         feedbackResponseCommentsLogic.putDocument(comment);
     }
 
+    /**
+     * Creates or updates documents for the given comments in as few calls as possible.
+     *
+     * @see FeedbackResponseCommentsLogic#putDocuments(List)
+     */
+    public void putFeedbackResponseCommentDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        feedbackResponseCommentsLogic.putDocuments(comments);
+    }
+
     /**
      * Removes document for the given comment.
      *
@@ -2071,6 +2385,15 @@ public class Logic {
         commentsLogic.putDocument(comment);
     }
 
+    /**
+     * Creates or updates documents for comments in as few calls as possible.
+     *
+     * @see CommentsLogic#putDocuments(List)
+     */
+    public void putCommentDocuments(List<CommentAttributes> comments) {
+        commentsLogic.putDocuments(comments);
+    }
+
     /**
      * Removes document for the given comment.
      *
@@ -2370,6 +2693,66 @@ public class Logic {
         GoogleCloudStorageHelper.deleteFile(key);
     }
 
+    /**
+     * Starts writing the log of an action carried out by the app, without waiting for it to be written.
+     *
+     * @return the key of the log written, available once it is written
+     * @see ActivityLogsLogic#putActivityLogAsync(ActivityLogEntry)
+     */
+    public Future<Key> putActivityLogAsync(ActivityLogEntry activityLogEntry) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, activityLogEntry);
+        return activityLogsLogic.putActivityLogAsync(activityLogEntry);
+    }
+
+    /**
+     * Returns the activity logs of the app versions {@code versions} from {@code startTime}
+     * to {@code endTime} inclusive, latest first.
+     */
+    public List<ActivityLogEntry> getActivityLogs(List<String> versions, long startTime, long endTime) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, versions);
+        return activityLogsLogic.getActivityLogs(versions, startTime, endTime);
+    }
+
+    /**
+     * Deletes the activity logs which are older than the retention period.
+     *
+     * @return the number of logs deleted
+     * @see ActivityLogsLogic#deleteExpiredActivityLogs()
+     */
+    public int deleteExpiredActivityLogs() {
+        return activityLogsLogic.deleteExpiredActivityLogs();
+    }
+
+    /**
+     * Marks the search documents in the index {@code indexName} of the entities {@code entityIds}
+     * of the course {@code courseId} as out of date, to be updated by a scheduled task. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SearchDocumentsLogic#markForUpdate(String, String, java.util.Collection)
+     */
+    public void markSearchDocumentsForUpdate(String indexName, String courseId, List<String> entityIds) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, indexName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, entityIds);
+        searchDocumentsLogic.markForUpdate(indexName, courseId, entityIds);
+    }
+
+    /**
+     * Updates the search documents marked as out of date in the index {@code indexName}
+     * for the course {@code courseId}, including those of the entities {@code entityIds}. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see SearchDocumentsLogic#updateMarkedDocuments(String, String, java.util.Collection)
+     */
+    public void updateMarkedSearchDocuments(String indexName, String courseId, List<String> entityIds) {
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, indexName);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, courseId);
+        Assumption.assertNotNull(ERROR_NULL_PARAMETER, entityIds);
+        searchDocumentsLogic.updateMarkedDocuments(indexName, courseId, entityIds);
+    }
+
     public List<String> getArchivedCourseIds(List<CourseAttributes> allCourses,
                                              Map<String, InstructorAttributes> instructorsForCourses) {
         Assumption.assertNotNull(allCourses);
@@ -2424,4 +2807,34 @@ public class Logic {
         return studentsLogic.getSectionForTeam(courseId, teamName);
     }
 
+    /**
+     * Starts remembering data read by the current request, e.g. course rosters, so that
+     * it is not read again from the datastore. To be called at the start of every request.
+     */
+    public void startRequestScopedCaches() {
+        RequestScopedCache.inst().start();
+    }
+
+    /**
+     * Returns the number of reads by the current request that were served from the request-scoped cache.
+     */
+    public int getRequestScopedCacheHitCount() {
+        return RequestScopedCache.inst().getHitCount();
+    }
+
+    /**
+     * Returns the number of reads by the current request that missed the request-scoped cache.
+     */
+    public int getRequestScopedCacheMissCount() {
+        return RequestScopedCache.inst().getMissCount();
+    }
+
+    /**
+     * Discards the data remembered for the current request, e.g. the entities it has read and written,
+     * and closes the persistence manager shared by the request. To be called at the end of every request.
+     */
+    public void clearRequestScopedCaches() {
+        RequestScopedCache.inst().end();
+    }
+
 }
@@ -1,6 +1,9 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -10,6 +13,7 @@ import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
+import teammates.common.util.SanitizationHelper;
 import teammates.common.util.TaskWrapper;
 import teammates.logic.core.TaskQueuesLogic;
 
@@ -20,6 +24,17 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_EMAILS_PER_TASK = 50;
+
+    /**
+     * Keeps the URL-encoded payload of a send email task, which includes the content of all its emails,
+     * well within the size limit of push tasks.
+     */
+    private static final int MAX_PAYLOAD_BYTES_PER_TASK = 50000;
+
+    /** The time in milliseconds search documents marked as out of date wait for more edits before an update. */
+    private static final long SEARCH_DOCUMENTS_UPDATE_DELAY = 5000;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -48,6 +63,10 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        return new TaskQueuesLogic().addTasks(tasks);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -89,53 +108,66 @@ public class TaskQueuer {
      * Schedules an admin email preparation in group mode, i.e. using the group receiver list
      * retrieved from the Google Cloud Storage (GCS).
      * <p>
-     * This group receiver list is in the form of {@code List<List<String>>} accessed by two indices,
-     * namely "email list index" for accessing the {@code List<String>} inside the {@code List<List<String>>}
-     * and "email index" for accessing the email {@code String} inside the {@code List<String>}.
+     * The email addresses in the group receiver list are read starting from the byte offset
+     * {@code fileOffset} in the file, which is 0 for a new preparation and the offset reached so far
+     * for a preparation being resumed.
      * </p>
      *
      * @param emailId the ID of admin email to be retrieved from the database
      * @param groupReceiverListFileKey the file key for the group receiver list in GCS
-     * @param emailListIndex see method description
-     * @param emailIndex see method description
+     * @param fileOffset see method description
      */
     public void scheduleAdminEmailPreparationInGroupMode(String emailId, String groupReceiverListFileKey,
-                                                         int emailListIndex, int emailIndex) {
+                                                         long fileOffset) {
         Map<String, String> paramMap = new HashMap<String, String>();
         paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
         paramMap.put(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX, Integer.toString(emailListIndex));
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX, Integer.toString(emailIndex));
+        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_FILE_OFFSET, Long.toString(fileOffset));
 
         addTask(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_QUEUE_NAME,
                 TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, paramMap);
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to each of the given receivers.
      *
      * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
+     * @param emailReceivers the email addresses of the email receivers
      * @param emailSubject the subject of the email
      * @param emailContent the content of the email
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<String, String>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
-
-        try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
-                log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-            }
+    public void scheduleAdminEmailsForSending(String emailId, List<String> emailReceivers, String emailSubject,
+                                              String emailContent) {
+        if (emailReceivers.isEmpty()) {
+            return;
+        }
+
+        List<TaskWrapper> tasks = new ArrayList<TaskWrapper>();
+        for (String emailReceiver : emailReceivers) {
+            Map<String, String[]> paramMap = new HashMap<String, String[]>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, new String[] { emailReceiver });
+            paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, new String[] { emailSubject });
+            paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, new String[] { emailContent });
+            tasks.add(new TaskWrapper(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME,
+                                      TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap));
+        }
+
+        List<TaskWrapper> failedTasks = addTasks(tasks);
+        if (failedTasks.isEmpty()) {
+            return;
+        }
+
+        log.info("Email task size exceeds max limit. Switching to large email task mode.");
+        // only the tasks which failed are added again, without the subject and content,
+        // so that the tasks added already are not duplicated
+        for (TaskWrapper task : failedTasks) {
+            task.getParamMap().remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
+            task.getParamMap().remove(ParamsNames.ADMIN_EMAIL_CONTENT);
+            task.getParamMap().put(ParamsNames.ADMIN_EMAIL_ID, new String[] { emailId });
+        }
+        for (TaskWrapper task : addTasks(failedTasks)) {
+            log.severe("Could not add admin email task for receiver "
+                       + task.getParamMap().get(ParamsNames.ADMIN_EMAIL_RECEIVER)[0] + " of email " + emailId);
         }
     }
 
@@ -153,6 +185,21 @@ public class TaskQueuer {
                 TaskQueue.PENDING_COMMENT_CLEARED_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the sectionsInvolved attribute of the next batch of feedback responses to be populated.
+     *
+     * @param cursor the cursor returned for the previous batch, or null for the first batch
+     */
+    public void scheduleFeedbackResponseSectionsBackfill(String cursor) {
+        Map<String, String> paramMap = new HashMap<String, String>();
+        if (cursor != null) {
+            paramMap.put(ParamsNames.BACKFILL_CURSOR, cursor);
+        }
+
+        addTask(TaskQueue.FEEDBACK_RESPONSE_SECTIONS_BACKFILL_QUEUE_NAME,
+                TaskQueue.FEEDBACK_RESPONSE_SECTIONS_BACKFILL_WORKER_URL, paramMap);
+    }
+
     /**
      * Schedules for feedback session reminders (i.e. student has not submitted responses yet)
      * for the specified feedback session.
@@ -254,6 +301,47 @@ public class TaskQueuer {
                 TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for course registration to be sent to each of the specified students.
+     *
+     * @param courseId the target course ID
+     * @param studentEmails the email addresses of the students
+     */
+    public void scheduleCourseRegistrationInvitesToStudents(String courseId, List<String> studentEmails,
+                                                            boolean isRejoining) {
+        List<TaskWrapper> tasks = new ArrayList<TaskWrapper>();
+        for (String studentEmail : studentEmails) {
+            Map<String, String[]> paramMap = new HashMap<String, String[]>();
+            paramMap.put(ParamsNames.COURSE_ID, new String[] { courseId });
+            paramMap.put(ParamsNames.STUDENT_EMAIL, new String[] { studentEmail });
+            paramMap.put(ParamsNames.IS_STUDENT_REJOINING, new String[] { String.valueOf(isRejoining) });
+            tasks.add(new TaskWrapper(TaskQueue.STUDENT_COURSE_JOIN_EMAIL_QUEUE_NAME,
+                                      TaskQueue.STUDENT_COURSE_JOIN_EMAIL_WORKER_URL, paramMap));
+        }
+        addTasks(tasks);
+    }
+
+    /**
+     * Schedules for the search documents of the specified entities to be updated,
+     * after they are marked as out of date. The update is delayed so that documents marked again
+     * in the meantime, e.g. by a burst of edits, are updated once.
+     *
+     * @param indexName the name of the index of the documents
+     * @param courseId the course ID of the entities
+     * @param entityIds the emails of students, or the IDs of comments or of response comments
+     * @see teammates.logic.api.Logic#markSearchDocumentsForUpdate(String, String, List)
+     */
+    public void scheduleSearchDocumentsUpdate(String indexName, String courseId, List<String> entityIds) {
+        Map<String, String[]> paramMap = new HashMap<String, String[]>();
+        paramMap.put(ParamsNames.SEARCH_INDEX_NAME, new String[] { indexName });
+        paramMap.put(ParamsNames.COURSE_ID, new String[] { courseId });
+        paramMap.put(ParamsNames.SEARCH_INDEX_ENTITY_ID, entityIds.toArray(new String[entityIds.size()]));
+
+        addTasks(Arrays.asList(new TaskWrapper(TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME,
+                                               TaskQueue.SEARCH_DOCUMENTS_UPDATE_WORKER_URL, paramMap,
+                                               SEARCH_DOCUMENTS_UPDATE_DELAY)));
+    }
+
     /**
      * Schedules adjustments to be done to responses of a feedback session in the database
      * after change is done to a course, typically after enrollment of new students
@@ -278,6 +366,8 @@ public class TaskQueuer {
 
     /**
      * Schedules for the given list of emails to be sent.
+     * The emails are grouped into tasks of up to {@value #MAX_EMAILS_PER_TASK} emails,
+     * each of which is sent by the worker with as few requests to the email sending service as it allows.
      *
      * @param emails the list of emails to be sent
      */
@@ -286,46 +376,102 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
+        List<List<EmailWrapper>> emailBatches = groupIntoEmailBatches(emails);
+
+        // Equally spread out the email batches to be sent over 1 hour
         // Sets interval to a maximum of 5 seconds if the interval is too large
         int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        int batchIntervalMillis = Math.min(5000, oneHourInMillis / emailBatches.size());
+
+        List<TaskWrapper> tasks = new ArrayList<TaskWrapper>();
+        Map<TaskWrapper, List<EmailWrapper>> emailBatchesByTask = new IdentityHashMap<TaskWrapper, List<EmailWrapper>>();
+        int numberOfBatchesSent = 0;
+        for (List<EmailWrapper> emailBatch : emailBatches) {
+            long batchDelayTimer = numberOfBatchesSent * batchIntervalMillis;
+            TaskWrapper task = createEmailBatchTask(emailBatch, batchDelayTimer);
+            tasks.add(task);
+            emailBatchesByTask.put(task, emailBatch);
+            numberOfBatchesSent++;
+        }
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        // the tasks which could not be added do not stop the others from being added
+        for (TaskWrapper failedTask : addTasks(tasks)) {
+            for (EmailWrapper email : emailBatchesByTask.get(failedTask)) {
+                log.severe("Could not add email to task queue. Email recipient: " + email.getRecipient()
+                           + ", email subject: " + email.getSubject());
+            }
         }
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
-        try {
-            Map<String, String> paramMap = new HashMap<String, String>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
-            if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+    private List<List<EmailWrapper>> groupIntoEmailBatches(List<EmailWrapper> emails) {
+        List<List<EmailWrapper>> emailBatches = new ArrayList<List<EmailWrapper>>();
+        List<EmailWrapper> emailBatch = new ArrayList<EmailWrapper>();
+        int payloadBytesOfBatch = 0;
+        for (EmailWrapper email : emails) {
+            int payloadBytesOfEmail = getPayloadBytes(email);
+            boolean isBatchFull = emailBatch.size() == MAX_EMAILS_PER_TASK
+                                  || payloadBytesOfBatch + payloadBytesOfEmail > MAX_PAYLOAD_BYTES_PER_TASK;
+            if (!emailBatch.isEmpty() && isBatchFull) {
+                emailBatches.add(emailBatch);
+                emailBatch = new ArrayList<EmailWrapper>();
+                payloadBytesOfBatch = 0;
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
-
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
-        } catch (Exception e) {
-            log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
-                       + "Email sender: " + emailSender + "\n"
-                       + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
-                       + "Email subject: " + emailSubject + "\n"
-                       + "Email reply-to address: " + emailReplyToAddress);
+            emailBatch.add(email);
+            payloadBytesOfBatch += payloadBytesOfEmail;
+        }
+        emailBatches.add(emailBatch);
+        return emailBatches;
+    }
+
+    /**
+     * Returns the number of bytes the parameters of {@code email} add to the payload of a send email task,
+     * in which they are URL-encoded so that each encoded character takes one byte.
+     */
+    private static int getPayloadBytes(EmailWrapper email) {
+        return getPayloadBytes(ParamsNames.EMAIL_SUBJECT, email.getSubject())
+               + getPayloadBytes(ParamsNames.EMAIL_CONTENT, email.getContent())
+               + getPayloadBytes(ParamsNames.EMAIL_SENDER, email.getSenderEmail())
+               + getPayloadBytes(ParamsNames.EMAIL_SENDERNAME, email.getSenderName())
+               + getPayloadBytes(ParamsNames.EMAIL_RECEIVER, email.getRecipient())
+               + getPayloadBytes(ParamsNames.EMAIL_REPLY_TO_ADDRESS, email.getReplyTo());
+    }
+
+    private static int getPayloadBytes(String paramName, String paramValue) {
+        String value = paramValue == null ? "" : paramValue;
+        // each parameter is encoded as name=value, separated from the next one by &
+        return SanitizationHelper.sanitizeForUri(paramName).length()
+               + SanitizationHelper.sanitizeForUri(value).length() + 2;
+    }
+
+    private TaskWrapper createEmailBatchTask(List<EmailWrapper> emails, long batchDelayTimer) {
+        int numberOfEmails = emails.size();
+        String[] emailSubjects = new String[numberOfEmails];
+        String[] emailContents = new String[numberOfEmails];
+        String[] emailSenders = new String[numberOfEmails];
+        String[] emailSenderNames = new String[numberOfEmails];
+        String[] emailReceivers = new String[numberOfEmails];
+        String[] emailReplyToAddresses = new String[numberOfEmails];
+        for (int i = 0; i < numberOfEmails; i++) {
+            EmailWrapper email = emails.get(i);
+            emailSubjects[i] = email.getSubject();
+            emailContents[i] = email.getContent();
+            emailSenders[i] = email.getSenderEmail();
+            // an empty sender name indicates that the email has no sender name
+            emailSenderNames[i] = email.getSenderName() == null ? "" : email.getSenderName();
+            emailReceivers[i] = email.getRecipient();
+            emailReplyToAddresses[i] = email.getReplyTo();
         }
+
+        Map<String, String[]> paramMap = new HashMap<String, String[]>();
+        paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubjects);
+        paramMap.put(ParamsNames.EMAIL_CONTENT, emailContents);
+        paramMap.put(ParamsNames.EMAIL_SENDER, emailSenders);
+        paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderNames);
+        paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceivers);
+        paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddresses);
+
+        return new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
+                               paramMap, batchDelayTimer);
     }
 
 }
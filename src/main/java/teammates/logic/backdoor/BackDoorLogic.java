@@ -30,7 +30,9 @@ import teammates.common.util.JsonUtils;
 import teammates.logic.api.Logic;
 import teammates.storage.api.AccountsDb;
 import teammates.storage.api.CommentsDb;
+import teammates.storage.api.CourseStatisticsDb;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
 import teammates.storage.api.FeedbackQuestionsDb;
 import teammates.storage.api.FeedbackResponseCommentsDb;
 import teammates.storage.api.FeedbackResponsesDb;
@@ -48,6 +50,8 @@ public class BackDoorLogic extends Logic {
     private static final InstructorsDb instructorsDb = new InstructorsDb();
     private static final FeedbackSessionsDb fbDb = new FeedbackSessionsDb();
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
+    private static final CourseStatisticsDb csDb = new CourseStatisticsDb();
+    private static final FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
     private static final FeedbackResponseCommentsDb fcDb = new FeedbackResponseCommentsDb();
 
@@ -116,6 +120,16 @@ public class BackDoorLogic extends Logic {
         accountsDb.createAccounts(studentAccounts, false);
         studentsDb.createStudentsWithoutSearchability(students.values());
 
+        // statistics of the courses are counted from their students when next read
+        Set<String> courseIdsWithStudents = new HashSet<String>();
+        for (CourseAttributes course : courses.values()) {
+            courseIdsWithStudents.add(course.getId());
+        }
+        for (StudentAttributes student : students.values()) {
+            courseIdsWithStudents.add(student.course);
+        }
+        csDb.deleteCourseStatisticsForCourses(courseIdsWithStudents);
+
         Map<String, FeedbackSessionAttributes> sessions = dataBundle.feedbackSessions;
         for (FeedbackSessionAttributes session : sessions.values()) {
             cleanSessionData(session);
@@ -216,30 +230,33 @@ public class BackDoorLogic extends Logic {
         // query the entity in db first to get the actual data and create document for actual entity
 
         Map<String, StudentAttributes> students = dataBundle.students;
+        List<StudentAttributes> studentsInDb = new ArrayList<StudentAttributes>();
         for (StudentAttributes student : students.values()) {
-            StudentAttributes studentInDb = studentsDb.getStudentForEmail(student.course, student.email);
-            studentsDb.putDocument(studentInDb);
+            studentsInDb.add(studentsDb.getStudentForEmail(student.course, student.email));
         }
+        studentsDb.putDocuments(studentsInDb);
 
         Map<String, InstructorAttributes> instructors = dataBundle.instructors;
+        List<InstructorAttributes> instructorsInDb = new ArrayList<InstructorAttributes>();
         for (InstructorAttributes instructor : instructors.values()) {
-            InstructorAttributes instructorInDb =
-                    instructorsDb.getInstructorForEmail(instructor.courseId, instructor.email);
-            instructorsDb.putDocument(instructorInDb);
+            instructorsInDb.add(instructorsDb.getInstructorForEmail(instructor.courseId, instructor.email));
         }
+        instructorsDb.putDocuments(instructorsInDb);
 
         Map<String, FeedbackResponseCommentAttributes> responseComments = dataBundle.feedbackResponseComments;
+        List<FeedbackResponseCommentAttributes> fcsInDb = new ArrayList<FeedbackResponseCommentAttributes>();
         for (FeedbackResponseCommentAttributes responseComment : responseComments.values()) {
-            FeedbackResponseCommentAttributes fcInDb = fcDb.getFeedbackResponseComment(
-                    responseComment.courseId, responseComment.createdAt, responseComment.giverEmail);
-            fcDb.putDocument(fcInDb);
+            fcsInDb.add(fcDb.getFeedbackResponseComment(
+                    responseComment.courseId, responseComment.createdAt, responseComment.giverEmail));
         }
+        fcDb.putDocuments(fcsInDb);
 
         Map<String, CommentAttributes> comments = dataBundle.comments;
+        List<CommentAttributes> commentsInDb = new ArrayList<CommentAttributes>();
         for (CommentAttributes comment : comments.values()) {
-            CommentAttributes commentInDb = commentsDb.getComment(comment);
-            commentsDb.putDocument(commentInDb);
+            commentsInDb.add(commentsDb.getComment(comment));
         }
+        commentsDb.putDocuments(commentsInDb);
 
         return Const.StatusCodes.BACKDOOR_STATUS_SUCCESS;
     }
@@ -441,6 +458,8 @@ public class BackDoorLogic extends Logic {
             commentsDb.deleteCommentsForCourses(courseIds);
             fbDb.deleteFeedbackSessionsForCourses(courseIds);
             fqDb.deleteFeedbackQuestionsForCourses(courseIds);
+            fqsDb.deleteFeedbackQuestionStatisticsForCourses(courseIds);
+            csDb.deleteCourseStatisticsForCourses(courseIds);
             frDb.deleteFeedbackResponsesForCourses(courseIds);
             fcDb.deleteFeedbackResponseCommentsForCourses(courseIds);
         }
@@ -112,6 +112,15 @@ public final class AccountsLogic {
 
     public void joinCourseForStudent(String registrationKey, String googleId)
             throws JoinCourseException, InvalidParametersException {
+        joinCourseForStudent(registrationKey, googleId, true);
+    }
+
+    /**
+     * Joins the student with {@code registrationKey} to the course, updating the search document
+     * of the student only if {@code hasDocument} is true.
+     */
+    public void joinCourseForStudent(String registrationKey, String googleId, boolean hasDocument)
+            throws JoinCourseException, InvalidParametersException {
 
         verifyStudentJoinCourseRequest(registrationKey, googleId);
 
@@ -120,7 +129,7 @@ public final class AccountsLogic {
         //register the student
         student.googleId = googleId;
         try {
-            studentsLogic.updateStudentCascade(student.email, student);
+            studentsLogic.updateStudentCascade(student.email, student, hasDocument);
         } catch (EntityDoesNotExistException e) {
             Assumption.fail("Student disappered while trying to register " + TeammatesException.toStringWithStackTrace(e));
         }
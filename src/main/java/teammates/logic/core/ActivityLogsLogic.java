@@ -0,0 +1,58 @@
+package teammates.logic.core;
+
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.common.util.GaeVersionApi;
+import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
+
+import com.google.appengine.api.datastore.Key;
+
+/**
+ * Handles the logic related to the activity logs shown to the admin.
+ */
+public final class ActivityLogsLogic {
+
+    private static ActivityLogsLogic instance = new ActivityLogsLogic();
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    private ActivityLogsLogic() {
+        // prevent initialization
+    }
+
+    public static ActivityLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Starts writing {@code activityLogEntry} as a log of the current app version, without waiting for it
+     * to be written.
+     *
+     * @return the key of the log written, available once it is written
+     */
+    public Future<Key> putActivityLogAsync(ActivityLogEntry activityLogEntry) {
+        String currentVersion = new GaeVersionApi().getCurrentVersion().toStringWithDashes();
+        return activityLogsDb.putActivityLogAsync(activityLogEntry, currentVersion);
+    }
+
+    public List<ActivityLogEntry> getActivityLogs(List<String> versions, long startTime, long endTime) {
+        return activityLogsDb.getActivityLogs(versions, startTime, endTime);
+    }
+
+    /**
+     * Deletes the logs older than {@value Const.ActivityLog#RETENTION_PERIOD_IN_DAYS} days.
+     *
+     * @return the number of logs deleted
+     */
+    public int deleteExpiredActivityLogs() {
+        Calendar expiryTime = TimeHelper.now(0);
+        expiryTime.add(Calendar.DATE, -Const.ActivityLog.RETENTION_PERIOD_IN_DAYS);
+        return activityLogsDb.deleteActivityLogsBefore(expiryTime.getTime());
+    }
+
+}
@@ -233,6 +233,13 @@ public final class CommentsLogic {
         commentsDb.putDocument(comment);
     }
 
+    /**
+     * Creates or updates documents for comments in as few calls as possible.
+     */
+    public void putDocuments(List<CommentAttributes> comments) {
+        commentsDb.putDocuments(comments);
+    }
+
     public CommentSearchResultBundle searchComment(String queryString, List<InstructorAttributes> instructors) {
         return commentsDb.search(queryString, instructors);
     }
@@ -542,9 +549,8 @@ public final class CommentsLogic {
      * @throws EntityDoesNotExistException when the course doesn't exist
      */
     public Set<String> getRecipientEmailsForSendingComments(String courseId) throws EntityDoesNotExistException {
-        List<StudentAttributes> allStudents = studentsLogic.getStudentsForCourse(courseId);
-
-        CourseRoster roster = new CourseRoster(allStudents, instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        List<StudentAttributes> allStudents = roster.getStudents();
 
         Map<String, List<StudentAttributes>> teamStudentTable = new HashMap<String, List<StudentAttributes>>();
         Map<String, List<StudentAttributes>> sectionStudentTable = new HashMap<String, List<StudentAttributes>>();
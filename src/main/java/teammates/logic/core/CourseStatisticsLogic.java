@@ -0,0 +1,245 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.storage.api.CourseStatisticsDb;
+
+/**
+ * Handles operations related to the statistics of courses, which are kept up to date
+ * as students are enrolled, edited, join and are deleted.
+ *
+ * <p>Statistics of courses created before statistics were kept do not exist until they are first read,
+ * when they are counted from the students of the course. As the statistics are not changed in the transaction
+ * of the students, they are marked to be counted again before the students are changed, and the mark is
+ * cleared when the change is added to them; statistics left marked, e.g. as the request is stopped in between,
+ * are counted again when next read. Statistics which could not be changed are deleted, so that they are counted
+ * again when next read. Statistics counted again are only stored if they were not changed while being counted,
+ * so that no change made in the meantime is lost.</p>
+ *
+ * @see CourseStatisticsAttributes
+ * @see CourseStatisticsDb
+ */
+public final class CourseStatisticsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static CourseStatisticsLogic instance = new CourseStatisticsLogic();
+
+    private static final CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private CourseStatisticsLogic() {
+        // prevent initialization
+    }
+
+    public static CourseStatisticsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Creates empty statistics for the newly created course.
+     */
+    public void createCourseStatistics(String courseId) throws InvalidParametersException {
+        List<CourseStatisticsAttributes> statistics = new ArrayList<CourseStatisticsAttributes>();
+        statistics.add(new CourseStatisticsAttributes(courseId));
+        courseStatisticsDb.putCourseStatistics(statistics);
+    }
+
+    public CourseStats getCourseStats(String courseId) {
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        return getCourseStatsForCourses(courseIds).get(courseId);
+    }
+
+    /**
+     * Returns the stats of the courses, keyed by course id, read from their statistics in one batch.
+     */
+    public Map<String, CourseStats> getCourseStatsForCourses(Collection<String> courseIds) {
+        Map<String, CourseStats> statsForCourses = new HashMap<String, CourseStats>();
+        for (CourseStatisticsAttributes statistics : getStatisticsForCourses(courseIds).values()) {
+            statsForCourses.put(statistics.courseId, statistics.toCourseStats());
+        }
+        return statsForCourses;
+    }
+
+    /**
+     * Returns the section names of the course other than the default section, sorted,
+     * read from the statistics of the course, or an empty list if the course does not exist.
+     */
+    public List<String> getSectionNames(String courseId) {
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        CourseStatisticsAttributes statistics = getStatisticsForCourses(courseIds).get(courseId);
+        if (statistics == null) {
+            return new ArrayList<String>();
+        }
+
+        List<String> sectionNames = new ArrayList<String>(statistics.studentsPerSection.keySet());
+        sectionNames.remove(Const.DEFAULT_SECTION);
+        Collections.sort(sectionNames);
+        return sectionNames;
+    }
+
+    /**
+     * Returns the statistics of the courses, keyed by course id, read in one batch.
+     * Statistics which do not exist yet, or are to be counted again, are counted from the students
+     * of the course and stored. Courses which do not exist are skipped.
+     */
+    private Map<String, CourseStatisticsAttributes> getStatisticsForCourses(Collection<String> courseIds) {
+        Map<String, CourseStatisticsAttributes> statisticsForCourses =
+                courseStatisticsDb.getCourseStatisticsForCourses(courseIds);
+        for (String courseId : courseIds) {
+            CourseStatisticsAttributes statistics = statisticsForCourses.get(courseId);
+            if (statistics == null && !coursesLogic.isCoursePresent(courseId)) {
+                continue;
+            }
+            if (statistics == null || statistics.isRecountNeeded) {
+                statisticsForCourses.put(courseId,
+                        recountStatistics(courseId, statistics == null ? null : statistics.updatedAt));
+            }
+        }
+        return statisticsForCourses;
+    }
+
+    /**
+     * Counts the statistics of the course from its students, and stores them
+     * if the stored statistics have not been changed since {@code lastUpdatedAt} in the meantime.
+     */
+    private CourseStatisticsAttributes recountStatistics(String courseId, Date lastUpdatedAt) {
+        CourseStatisticsAttributes statistics = getRecountedStatistics(courseId);
+        try {
+            if (!courseStatisticsDb.replaceCourseStatistics(statistics, lastUpdatedAt)) {
+                log.info("Statistics of course " + courseId + " were changed while being counted and are not stored");
+            }
+        } catch (InvalidParametersException e) {
+            Assumption.fail("Statistics of an existing course are invalid: " + e.getMessage());
+        }
+        return statistics;
+    }
+
+    private CourseStatisticsAttributes getRecountedStatistics(String courseId) {
+        CourseStatisticsAttributes statistics = new CourseStatisticsAttributes(courseId);
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(courseId)) {
+            statistics.addStudent(student);
+        }
+        return statistics;
+    }
+
+    /**
+     * Marks the statistics of the course to be counted again, before students of the course are changed.
+     *
+     * @return the times to give to {@link #updateCourseStatistics} once the students are changed
+     * @see CourseStatisticsDb#markCourseStatisticsForRecount(Collection)
+     */
+    public Map<String, Date> markCourseStatisticsForChange(String courseId) {
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        return markCourseStatisticsForChange(courseIds);
+    }
+
+    /**
+     * Marks the statistics of the courses to be counted again, before students of the courses are changed.
+     *
+     * @return the times to give to {@link #updateCourseStatistics} once the students are changed
+     * @see CourseStatisticsDb#markCourseStatisticsForRecount(Collection)
+     */
+    public Map<String, Date> markCourseStatisticsForChange(Collection<String> courseIds) {
+        return courseStatisticsDb.markCourseStatisticsForRecount(courseIds);
+    }
+
+    /**
+     * Updates the statistics of the courses of {@code removedStudents} and {@code addedStudents}
+     * for the students removed and added, as one change per course, and clears the marks made by
+     * {@link #markCourseStatisticsForChange} at the times {@code markedAt} before the students were changed.
+     * An updated student is to be given both as removed, with its old details, and as added.
+     */
+    public void updateCourseStatistics(List<StudentAttributes> removedStudents,
+                                       List<StudentAttributes> addedStudents, Map<String, Date> markedAt) {
+        Map<String, CourseStatisticsAttributes> changes = new LinkedHashMap<String, CourseStatisticsAttributes>();
+        for (StudentAttributes student : removedStudents) {
+            getChange(student.course, changes).removeStudent(student);
+        }
+        for (StudentAttributes student : addedStudents) {
+            getChange(student.course, changes).addStudent(student);
+        }
+        for (String courseId : markedAt.keySet()) {
+            // an empty change still clears the mark
+            getChange(courseId, changes);
+        }
+
+        List<CourseStatisticsAttributes> changesToAdd = new ArrayList<CourseStatisticsAttributes>();
+        for (CourseStatisticsAttributes change : changes.values()) {
+            if (!change.isEmpty() || markedAt.containsKey(change.courseId)) {
+                changesToAdd.add(change);
+            }
+        }
+        if (changesToAdd.isEmpty()) {
+            return;
+        }
+
+        List<String> outdatedCourseIds = new ArrayList<String>();
+        for (CourseStatisticsAttributes failedChange
+                : courseStatisticsDb.addToCourseStatistics(changesToAdd, markedAt)) {
+            log.severe("Statistics of course " + failedChange.courseId + " are out of date and are to be recounted");
+            outdatedCourseIds.add(failedChange.courseId);
+        }
+        courseStatisticsDb.deleteCourseStatisticsForCourses(outdatedCourseIds);
+    }
+
+    /**
+     * Updates the statistics of the course of {@code addedStudent} for the student added.
+     *
+     * @see #updateCourseStatistics(List, List, Map)
+     */
+    public void updateCourseStatisticsForAddedStudent(StudentAttributes addedStudent, Map<String, Date> markedAt) {
+        List<StudentAttributes> addedStudents = new ArrayList<StudentAttributes>();
+        addedStudents.add(addedStudent);
+        updateCourseStatistics(new ArrayList<StudentAttributes>(), addedStudents, markedAt);
+    }
+
+    /**
+     * Updates the statistics of the courses of {@code removedStudents} for the students removed.
+     *
+     * @see #updateCourseStatistics(List, List, Map)
+     */
+    public void updateCourseStatisticsForRemovedStudents(List<StudentAttributes> removedStudents,
+                                                         Map<String, Date> markedAt) {
+        updateCourseStatistics(removedStudents, new ArrayList<StudentAttributes>(), markedAt);
+    }
+
+    private CourseStatisticsAttributes getChange(String courseId, Map<String, CourseStatisticsAttributes> changes) {
+        CourseStatisticsAttributes change = changes.get(courseId);
+        if (change == null) {
+            change = new CourseStatisticsAttributes(courseId);
+            changes.put(courseId, change);
+        }
+        return change;
+    }
+
+    public void deleteCourseStatistics(String courseId) {
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        deleteCourseStatisticsForCourses(courseIds);
+    }
+
+    public void deleteCourseStatisticsForCourses(Collection<String> courseIds) {
+        courseStatisticsDb.deleteCourseStatisticsForCourses(courseIds);
+    }
+
+}
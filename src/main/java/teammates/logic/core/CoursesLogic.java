@@ -1,16 +1,15 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
@@ -29,6 +28,7 @@ import teammates.common.util.FieldValidator;
 import teammates.common.util.Logger;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StringHelper;
+import teammates.storage.api.CourseRosterCache;
 import teammates.storage.api.CoursesDb;
 
 /**
@@ -52,9 +52,11 @@ public final class CoursesLogic {
      */
 
     private static final CoursesDb coursesDb = new CoursesDb();
+    private static final CourseRosterCache courseRosterCache = new CourseRosterCache();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
     private static final CommentsLogic commentsLogic = CommentsLogic.inst();
+    private static final CourseStatisticsLogic courseStatisticsLogic = CourseStatisticsLogic.inst();
     private static final FeedbackSessionsLogic feedbackSessionsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -72,6 +74,7 @@ public final class CoursesLogic {
 
         CourseAttributes courseToAdd = new CourseAttributes(courseId, courseName, courseTimeZone);
         coursesDb.createEntity(courseToAdd);
+        courseStatisticsLogic.createCourseStatistics(courseId);
     }
 
     /**
@@ -122,6 +125,22 @@ public final class CoursesLogic {
         return coursesDb.getCourse(courseId);
     }
 
+    /**
+     * Gets the students and instructors of the course with the specified ID.
+     * The roster is shared across requests until a student or instructor of the course is modified,
+     * and is only shared once the modification is visible to queries.
+     */
+    public CourseRoster getCourseRoster(String courseId) {
+        long version = courseRosterCache.getVersion(courseId);
+        CourseRoster roster = courseRosterCache.getCourseRoster(courseId, version);
+        if (roster == null) {
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                                      instructorsLogic.getInstructorsForCourse(courseId));
+            courseRosterCache.putCourseRoster(courseId, version, roster);
+        }
+        return roster;
+    }
+
     /**
      * Returns true if the course with ID courseId is present.
      */
@@ -214,7 +233,8 @@ public final class CoursesLogic {
 
     /**
      * Returns a list of section names for a course with or without a need to
-     * check if the course is existent.
+     * check if the course is existent. The names are read from the statistics of the course,
+     * so that its students are not loaded.
      *
      * @param courseId Course ID of the course
      * @param isCourseVerified Determine whether it is necessary to check if the course exists
@@ -224,19 +244,7 @@ public final class CoursesLogic {
         if (!isCourseVerified) {
             verifyCourseIsPresent(courseId);
         }
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<String>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.section.equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.section);
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<String>(sectionNameSet);
-        Collections.sort(sectionNameList);
-
-        return sectionNameList;
+        return courseStatisticsLogic.getSectionNames(courseId);
     }
 
     /**
@@ -434,6 +442,22 @@ public final class CoursesLogic {
         return getCourseSummary(cd);
     }
 
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course with its stats read from the
+     * statistics of the course, without its sections and hence without reading its students.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(String courseId) throws EntityDoesNotExistException {
+        CourseAttributes cd = coursesDb.getCourse(courseId);
+
+        if (cd == null) {
+            throw new EntityDoesNotExistException("The course does not exist: " + courseId);
+        }
+
+        CourseDetailsBundle cdd = new CourseDetailsBundle(cd);
+        cdd.stats = courseStatisticsLogic.getCourseStats(courseId);
+        return cdd;
+    }
+
     /**
      * Returns the {@link CourseSummaryBundle course summary}, including its
      * feedback sessions using the given {@link InstructorAttributes}.
@@ -536,26 +560,27 @@ public final class CoursesLogic {
      *
      * @param googleId The Google ID of the instructor
      * @return HashMap with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as feedback sessions and sections.
      */
-    public HashMap<String, CourseDetailsBundle> getCourseSummariesForInstructor(String googleId, boolean omitArchived)
-            throws EntityDoesNotExistException {
+    public HashMap<String, CourseDetailsBundle> getCourseSummariesWithoutSectionsForInstructor(
+            String googleId, boolean omitArchived) throws EntityDoesNotExistException {
 
         instructorsLogic.verifyInstructorExists(googleId);
 
         List<InstructorAttributes> instructorAttributesList = instructorsLogic.getInstructorsForGoogleId(googleId,
                                                                                                          omitArchived);
 
-        return getCourseSummariesForInstructor(instructorAttributesList);
+        return getCourseSummariesWithoutSectionsForInstructor(instructorAttributesList);
     }
 
     /**
      * Returns course summaries for instructors.<br>
      *
      * @return HashMap with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as feedback sessions and sections.
+     *         The stats of all the courses are read from their statistics in one batch.
      */
-    public HashMap<String, CourseDetailsBundle> getCourseSummariesForInstructor(
+    public HashMap<String, CourseDetailsBundle> getCourseSummariesWithoutSectionsForInstructor(
             List<InstructorAttributes> instructorAttributesList) {
 
         HashMap<String, CourseDetailsBundle> courseSummaryList = new HashMap<String, CourseDetailsBundle>();
@@ -575,8 +600,16 @@ public final class CoursesLogic {
             log.severe("Course(s) was deleted but the instructor still exists: " + Const.EOL + courseIdList.toString());
         }
 
+        List<String> existingCourseIds = new ArrayList<String>();
         for (CourseAttributes ca : courseList) {
-            courseSummaryList.put(ca.getId(), getCourseSummary(ca));
+            existingCourseIds.add(ca.getId());
+        }
+        Map<String, CourseStats> statsForCourses = courseStatisticsLogic.getCourseStatsForCourses(existingCourseIds);
+
+        for (CourseAttributes ca : courseList) {
+            CourseDetailsBundle cdd = new CourseDetailsBundle(ca);
+            cdd.stats = statsForCourses.get(ca.getId());
+            courseSummaryList.put(ca.getId(), cdd);
         }
 
         return courseSummaryList;
@@ -657,9 +690,16 @@ public final class CoursesLogic {
      */
     public String getCourseStudentListAsCsv(String courseId, String googleId) throws EntityDoesNotExistException {
 
-        HashMap<String, CourseDetailsBundle> courses = getCourseSummariesForInstructor(googleId, false);
-        CourseDetailsBundle course = courses.get(courseId);
-        boolean hasSection = hasIndicatedSections(courseId);
+        instructorsLogic.verifyInstructorExists(googleId);
+
+        CourseDetailsBundle course = getCourseSummary(courseId);
+        boolean hasSection = false;
+        for (SectionDetailsBundle section : course.sections) {
+            if (!section.name.equals(Const.DEFAULT_SECTION)) {
+                hasSection = true;
+                break;
+            }
+        }
 
         StringBuilder export = new StringBuilder(100);
         String courseInfo = "Course ID," + SanitizationHelper.sanitizeForCsv(courseId) + Const.EOL
@@ -1,5 +1,12 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -32,8 +39,88 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the emails packaged as {@code wrappers}, using as few requests to the service as it allows.
+     * A request which fails does not stop the requests for the other emails from being made.
+     *
+     * @throws EmailSendingException if any request fails, with the emails of the failed requests as
+     *         {@link EmailSendingException#getUnsentEmails()}, so that only those are sent again
+     */
+    public void sendEmails(List<EmailWrapper> wrappers) throws EmailSendingException {
+        List<EmailWrapper> unsentEmails = new ArrayList<EmailWrapper>();
+        Exception lastFailure = null;
+        for (List<EmailWrapper> request : groupIntoRequests(wrappers)) {
+            try {
+                sendEmailsWithService(request);
+            } catch (Exception e) {
+                log.warning("Failed to send " + request.size() + " emails, starting with the email to "
+                            + request.get(0).getRecipient() + ": " + e.getMessage());
+                unsentEmails.addAll(request);
+                lastFailure = e;
+            }
+        }
+        if (lastFailure != null) {
+            throw new EmailSendingException(lastFailure, unsentEmails);
+        }
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Groups the emails into the emails to be sent in each request to the service.
+     * Each email is sent in a request of its own, unless the service can send many emails in one request.
+     */
+    protected List<List<EmailWrapper>> groupIntoRequests(List<EmailWrapper> wrappers) {
+        return groupIntoBatches(wrappers, 1);
+    }
+
+    /**
+     * Sends the emails of a request, as grouped by {@link #groupIntoRequests(List)}, in one request.
+     * Services which can send many emails in one request override this.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailsWithService(List<EmailWrapper> request) throws Exception {
+        for (EmailWrapper wrapper : request) {
+            sendEmailWithService(wrapper);
+        }
+    }
+
+    /**
+     * Groups the emails into batches which can each be sent as one multi-recipient email,
+     * with the subject and content personalized for each recipient.<br>
+     * The emails in a batch have the same sender and reply-to address and different recipients,
+     * and there are at most {@code maxBatchSize} of them. An email with a bcc address is put in a batch of its own.
+     */
+    protected static List<List<EmailWrapper>> groupIntoBatches(List<EmailWrapper> wrappers, int maxBatchSize) {
+        List<List<EmailWrapper>> batches = new ArrayList<List<EmailWrapper>>();
+        Map<String, List<EmailWrapper>> openBatches = new LinkedHashMap<String, List<EmailWrapper>>();
+        Map<String, Set<String>> recipientsOfOpenBatches = new LinkedHashMap<String, Set<String>>();
+
+        for (EmailWrapper wrapper : wrappers) {
+            if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+                List<EmailWrapper> batch = new ArrayList<EmailWrapper>();
+                batch.add(wrapper);
+                batches.add(batch);
+                continue;
+            }
+
+            String batchKey = wrapper.getSenderEmail() + "|" + wrapper.getSenderName() + "|" + wrapper.getReplyTo();
+            List<EmailWrapper> batch = openBatches.get(batchKey);
+            Set<String> recipients = recipientsOfOpenBatches.get(batchKey);
+            if (batch == null || batch.size() == maxBatchSize || recipients.contains(wrapper.getRecipient())) {
+                batch = new ArrayList<EmailWrapper>();
+                recipients = new HashSet<String>();
+                batches.add(batch);
+                openBatches.put(batchKey, batch);
+                recipientsOfOpenBatches.put(batchKey, recipients);
+            }
+            batch.add(wrapper);
+            recipients.add(wrapper.getRecipient());
+        }
+        return batches;
+    }
+
 }
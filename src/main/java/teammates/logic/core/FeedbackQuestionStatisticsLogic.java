@@ -0,0 +1,254 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Const.TaskQueue;
+import teammates.common.util.Logger;
+import teammates.common.util.TaskWrapper;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+
+/**
+ * Handles operations related to the statistics of feedback questions, which are kept up to date
+ * as responses are saved for question types whose statistics can be rendered from counts.
+ *
+ * <p>Statistics of questions created before statistics were kept do not exist until they are rebuilt.
+ * Changes to statistics which do not exist are ignored, and callers fall back to counting the responses.
+ * The statistics are not changed in the same transaction as the responses, so the statistics of a session
+ * are rebuilt by a task when a change to them cannot be applied.</p>
+ *
+ * @see FeedbackQuestionStatisticsAttributes
+ * @see FeedbackQuestionStatisticsDb
+ * @see FeedbackQuestionDetails#isStatisticsKept()
+ */
+public final class FeedbackQuestionStatisticsLogic {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_REBUILD_ATTEMPTS = 3;
+
+    /** The time in milliseconds a rebuild waits for, so that the responses saved before it can be queried. */
+    private static final long REBUILD_DELAY = 60000;
+
+    private static FeedbackQuestionStatisticsLogic instance = new FeedbackQuestionStatisticsLogic();
+
+    private static final FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
+
+    private static final TaskQueuesLogic taskQueuesLogic = new TaskQueuesLogic();
+
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    private FeedbackQuestionStatisticsLogic() {
+        // prevent initialization
+    }
+
+    public static FeedbackQuestionStatisticsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Creates empty statistics for the newly created {@code question} if its statistics are kept.
+     */
+    public void createFeedbackQuestionStatistics(FeedbackQuestionAttributes question)
+            throws InvalidParametersException {
+        if (!question.getQuestionDetails().isStatisticsKept()) {
+            return;
+        }
+
+        List<FeedbackQuestionStatisticsAttributes> statistics = new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        statistics.add(new FeedbackQuestionStatisticsAttributes(
+                question.getId(), question.feedbackSessionName, question.courseId));
+        fqsDb.putFeedbackQuestionStatistics(statistics);
+    }
+
+    /**
+     * Returns null if the statistics of the question are not kept or do not exist yet.
+     */
+    public FeedbackQuestionStatisticsAttributes getFeedbackQuestionStatistics(String feedbackQuestionId) {
+        return fqsDb.getFeedbackQuestionStatistics(feedbackQuestionId);
+    }
+
+    /**
+     * Returns the existing statistics of the questions of the session, keyed by question id.
+     */
+    public Map<String, FeedbackQuestionStatisticsAttributes> getFeedbackQuestionStatisticsForSession(
+            String feedbackSessionName, String courseId) {
+        return fqsDb.getFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Updates the statistics of the questions of {@code removedResponses} and {@code addedResponses}
+     * for the responses removed and added, as one change per question.
+     * An updated response is to be given both as removed, with its old answer, and as added.
+     */
+    public void updateFeedbackQuestionStatistics(List<FeedbackResponseAttributes> removedResponses,
+                                                 List<FeedbackResponseAttributes> addedResponses) {
+        Map<String, FeedbackQuestionStatisticsAttributes> changes =
+                new LinkedHashMap<String, FeedbackQuestionStatisticsAttributes>();
+        Map<String, FeedbackQuestionDetails> questionDetailsById = new LinkedHashMap<String, FeedbackQuestionDetails>();
+
+        for (FeedbackResponseAttributes response : removedResponses) {
+            FeedbackQuestionDetails questionDetails = getKeptQuestionDetails(response, questionDetailsById);
+            if (questionDetails != null) {
+                getChange(response, changes).removeResponse(questionDetails.getStatisticsCounts(response));
+            }
+        }
+        for (FeedbackResponseAttributes response : addedResponses) {
+            FeedbackQuestionDetails questionDetails = getKeptQuestionDetails(response, questionDetailsById);
+            if (questionDetails != null) {
+                getChange(response, changes).addResponse(questionDetails.getStatisticsCounts(response));
+            }
+        }
+
+        List<FeedbackQuestionStatisticsAttributes> changesToAdd = new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        for (FeedbackQuestionStatisticsAttributes change : changes.values()) {
+            if (!change.isEmpty()) {
+                changesToAdd.add(change);
+            }
+        }
+        if (changesToAdd.isEmpty()) {
+            return;
+        }
+
+        Set<List<String>> sessionsToRebuild = new HashSet<List<String>>();
+        for (FeedbackQuestionStatisticsAttributes failedChange : fqsDb.addToFeedbackQuestionStatistics(changesToAdd)) {
+            log.severe("Statistics of question " + failedChange.feedbackQuestionId + " in session "
+                       + failedChange.feedbackSessionName + " of course " + failedChange.courseId
+                       + " are out of date and are scheduled to be rebuilt");
+            if (sessionsToRebuild.add(Arrays.asList(failedChange.courseId, failedChange.feedbackSessionName))) {
+                scheduleFeedbackQuestionStatisticsRebuild(failedChange.feedbackSessionName, failedChange.courseId);
+            }
+        }
+    }
+
+    private void scheduleFeedbackQuestionStatisticsRebuild(String feedbackSessionName, String courseId) {
+        Map<String, String[]> paramMap = new HashMap<String, String[]>();
+        paramMap.put(ParamsNames.FEEDBACK_SESSION_NAME, new String[] { feedbackSessionName });
+        paramMap.put(ParamsNames.COURSE_ID, new String[] { courseId });
+
+        taskQueuesLogic.addDeferredTask(new TaskWrapper(TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_QUEUE_NAME,
+                                                        TaskQueue.FEEDBACK_QUESTION_STATISTICS_REBUILD_WORKER_URL,
+                                                        paramMap),
+                                        REBUILD_DELAY);
+    }
+
+    /**
+     * Updates the statistics of the question of {@code removedResponse} for the response removed.
+     */
+    public void updateFeedbackQuestionStatisticsForRemovedResponse(FeedbackResponseAttributes removedResponse) {
+        List<FeedbackResponseAttributes> removedResponses = new ArrayList<FeedbackResponseAttributes>();
+        removedResponses.add(removedResponse);
+        updateFeedbackQuestionStatistics(removedResponses, new ArrayList<FeedbackResponseAttributes>());
+    }
+
+    private FeedbackQuestionDetails getKeptQuestionDetails(FeedbackResponseAttributes response,
+                                                           Map<String, FeedbackQuestionDetails> questionDetailsById) {
+        if (!questionDetailsById.containsKey(response.feedbackQuestionId)) {
+            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+            boolean isStatisticsKept = question != null && question.getQuestionDetails().isStatisticsKept();
+            questionDetailsById.put(response.feedbackQuestionId,
+                                    isStatisticsKept ? question.getQuestionDetails() : null);
+        }
+        return questionDetailsById.get(response.feedbackQuestionId);
+    }
+
+    private FeedbackQuestionStatisticsAttributes getChange(FeedbackResponseAttributes response,
+                                                           Map<String, FeedbackQuestionStatisticsAttributes> changes) {
+        FeedbackQuestionStatisticsAttributes change = changes.get(response.feedbackQuestionId);
+        if (change == null) {
+            change = new FeedbackQuestionStatisticsAttributes(response.feedbackQuestionId,
+                                                              response.feedbackSessionName, response.courseId);
+            changes.put(response.feedbackQuestionId, change);
+        }
+        return change;
+    }
+
+    /**
+     * Recounts the statistics of all questions of the session whose statistics are kept from their responses,
+     * creating the statistics which do not exist yet.
+     * The statistics of a question are only replaced if they are not changed while its responses are counted,
+     * so that concurrent changes are not lost.
+     */
+    public void rebuildFeedbackQuestionStatisticsForSession(String feedbackSessionName, String courseId)
+            throws EntityDoesNotExistException {
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (question.getQuestionDetails().isStatisticsKept() && !rebuildFeedbackQuestionStatistics(question)) {
+                log.severe("Statistics of question " + question.getId() + " in session " + feedbackSessionName
+                           + " of course " + courseId + " could not be rebuilt due to concurrent changes");
+            }
+        }
+    }
+
+    private boolean rebuildFeedbackQuestionStatistics(FeedbackQuestionAttributes question) {
+        for (int attempt = 0; attempt < MAX_REBUILD_ATTEMPTS; attempt++) {
+            FeedbackQuestionStatisticsAttributes stored = getFeedbackQuestionStatistics(question.getId());
+            FeedbackQuestionStatisticsAttributes recounted = getRecountedStatistics(question);
+            try {
+                if (fqsDb.replaceFeedbackQuestionStatistics(recounted, stored == null ? null : stored.updatedAt)) {
+                    return true;
+                }
+            } catch (InvalidParametersException e) {
+                Assumption.fail("Statistics of a question in an existing session are invalid: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the questions of the session whose statistics are kept but do not exist,
+     * or differ from the statistics counted from their responses.
+     */
+    public List<FeedbackQuestionAttributes> getFeedbackQuestionsWithInconsistentStatistics(
+            String feedbackSessionName, String courseId) throws EntityDoesNotExistException {
+        Map<String, FeedbackQuestionStatisticsAttributes> storedStatistics =
+                getFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+
+        List<FeedbackQuestionAttributes> questions = new ArrayList<FeedbackQuestionAttributes>();
+        for (FeedbackQuestionAttributes question : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (!question.getQuestionDetails().isStatisticsKept()) {
+                continue;
+            }
+
+            FeedbackQuestionStatisticsAttributes stored = storedStatistics.get(question.getId());
+            FeedbackQuestionStatisticsAttributes recounted = getRecountedStatistics(question);
+            boolean isConsistent = stored != null
+                                   && stored.numberOfResponses == recounted.numberOfResponses
+                                   && stored.counts.equals(recounted.counts);
+            if (!isConsistent) {
+                questions.add(question);
+            }
+        }
+        return questions;
+    }
+
+    private FeedbackQuestionStatisticsAttributes getRecountedStatistics(FeedbackQuestionAttributes question) {
+        List<FeedbackResponseAttributes> responses = frLogic.getFeedbackResponsesForQuestion(question.getId());
+        return question.getQuestionDetails().getStatistics(question, responses);
+    }
+
+    public void deleteFeedbackQuestionStatistics(String feedbackQuestionId) {
+        fqsDb.deleteFeedbackQuestionStatistics(feedbackQuestionId);
+    }
+
+    public void deleteFeedbackQuestionStatisticsForCourse(String courseId) {
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        fqsDb.deleteFeedbackQuestionStatisticsForCourses(courseIds);
+    }
+
+}
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
@@ -17,7 +18,6 @@ import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -33,6 +33,8 @@ import teammates.storage.api.FeedbackQuestionsDb;
  */
 public final class FeedbackQuestionsLogic {
 
+    private static final String CACHE_KEY_QUESTIONS_PREFIX = "questions/";
+
     private static final Logger log = Logger.getLogger();
 
     private static FeedbackQuestionsLogic instance = new FeedbackQuestionsLogic();
@@ -40,10 +42,12 @@ public final class FeedbackQuestionsLogic {
     private static final FeedbackQuestionsDb fqDb = new FeedbackQuestionsDb();
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final RequestScopedCache requestCache = RequestScopedCache.inst();
 
     private FeedbackQuestionsLogic() {
         // prevent initialization
@@ -81,7 +85,9 @@ public final class FeedbackQuestionsLogic {
             FeedbackQuestionAttributes fqa, int questionNumber) throws InvalidParametersException {
         fqa.questionNumber = questionNumber;
         fqa.removeIrrelevantVisibilityOptions();
-        return fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        FeedbackQuestionAttributes createdQuestion = fqDb.createFeedbackQuestionWithoutExistenceCheck(fqa);
+        fqsLogic.createFeedbackQuestionStatistics(createdQuestion);
+        return createdQuestion;
     }
 
     public FeedbackQuestionAttributes copyFeedbackQuestion(
@@ -131,15 +137,23 @@ public final class FeedbackQuestionsLogic {
             throw new EntityDoesNotExistException(
                     "Trying to get questions for a feedback session that does not exist.");
         }
-        List<FeedbackQuestionAttributes> questions =
-                fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
-        Collections.sort(questions);
+        String cacheKey = CACHE_KEY_QUESTIONS_PREFIX + feedbackSessionName;
+        List<FeedbackQuestionAttributes> questions = requestCache.get(courseId, cacheKey);
+        if (questions == null) {
+            questions = fqDb.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
+            Collections.sort(questions);
 
-        if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
-            log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
+            if (questions.size() > 1 && !areQuestionNumbersConsistent(questions)) {
+                log.severe(courseId + ": " + feedbackSessionName + " has invalid question numbers");
+            }
+            requestCache.put(courseId, cacheKey, questions);
         }
 
-        return questions;
+        List<FeedbackQuestionAttributes> copies = new ArrayList<FeedbackQuestionAttributes>();
+        for (FeedbackQuestionAttributes question : questions) {
+            copies.add(question.getCopy());
+        }
+        return copies;
     }
 
     // TODO can be removed once we are sure that question numbers will be consistent
@@ -350,6 +364,51 @@ public final class FeedbackQuestionsLogic {
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
 
+        if (question.recipientType == FeedbackParticipantType.TEAMS && !coursesLogic.isCoursePresent(question.courseId)) {
+            throw new EntityDoesNotExistException("The course " + question.courseId + " does not exist");
+        }
+
+        // the roster is only read if the recipients are chosen from the students or instructors of the course
+        CourseRoster roster = isRecipientChosenFromRoster(question.recipientType)
+                            ? coursesLogic.getCourseRoster(question.courseId)
+                            : null;
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
+    }
+
+    /**
+     * Gets the recipients of {@code question} for {@code giver} from the {@code roster} of the course
+     * instead of reading the students and instructors of the course from the database.
+     * Returns the same recipients as {@link #getRecipientsForQuestion(FeedbackQuestionAttributes, String)}.
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver, CourseRoster roster) {
+        return getRecipientsForQuestion(question, giver, roster.getInstructorForEmail(giver),
+                                        roster.getStudentForEmail(giver), roster);
+    }
+
+    private static boolean isRecipientChosenFromRoster(FeedbackParticipantType recipientType) {
+        switch (recipientType) {
+        case STUDENTS:
+        case INSTRUCTORS:
+        case TEAMS:
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    /**
+     * Gets the recipients of {@code question} for {@code giver}.
+     *
+     * @param roster the roster of the course the recipients are chosen from,
+     *         which may be null if the recipients are not chosen from the students or instructors of the course
+     */
+    private Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
         Map<String, String> recipients = new HashMap<String, String>();
 
         FeedbackParticipantType recipientType = question.recipientType;
@@ -365,8 +424,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -374,8 +432,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -383,12 +440,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(student.team)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(student.team, student.team);
                 }
             }
             break;
@@ -396,18 +452,18 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giver)) {
+            for (StudentAttributes student : roster.getStudents()) {
+                if (student.team.equals(giverTeam) && !student.email.equals(giver)) {
                     recipients.put(student.email, student.name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // accepts self feedback too
-                recipients.put(student.email, student.name);
+                if (student.team.equals(giverTeam)) {
+                    recipients.put(student.email, student.name);
+                }
             }
             break;
         case NONE:
@@ -655,6 +711,7 @@ public final class FeedbackQuestionsLogic {
      */
     public void deleteFeedbackQuestionsForCourse(String courseId) {
         fqDb.deleteFeedbackQuestionsForCourse(courseId);
+        fqsLogic.deleteFeedbackQuestionStatisticsForCourse(courseId);
     }
 
     /**
@@ -684,6 +741,7 @@ public final class FeedbackQuestionsLogic {
         }
 
         fqDb.deleteEntity(questionToDelete);
+        fqsLogic.deleteFeedbackQuestionStatistics(questionToDelete.getId());
 
         if (questionToDelete.questionNumber < questionsToShiftQnNumber.size()) {
             shiftQuestionNumbersDown(questionToDelete.questionNumber, questionsToShiftQnNumber);
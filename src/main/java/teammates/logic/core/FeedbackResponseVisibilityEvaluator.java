@@ -0,0 +1,244 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Decides which responses of a feedback session a user can see, and whether the user can see
+ * the names of their givers and recipients.
+ *
+ * <p>The visibility options of each question are compiled once into bitmasks over
+ * {@link FeedbackParticipantType}, and whether the instructor can view a section is looked up
+ * once per section, so that filtering many responses does not repeat list and privilege lookups
+ * for every response. An evaluator is meant to be used for the results of a single session.</p>
+ *
+ * @see FeedbackResponsesLogic#isNameVisibleToUser
+ */
+public class FeedbackResponseVisibilityEvaluator {
+
+    private static final int NAME_VISIBILITY_TYPES =
+            getMask(FeedbackParticipantType.INSTRUCTORS, FeedbackParticipantType.OWN_TEAM_MEMBERS,
+                    FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF, FeedbackParticipantType.RECEIVER,
+                    FeedbackParticipantType.RECEIVER_TEAM_MEMBERS, FeedbackParticipantType.STUDENTS);
+
+    private final String feedbackSessionName;
+    private final String userEmail;
+    private final UserRole role;
+    private final StudentAttributes student;
+    private final Set<String> studentsEmailInTeam;
+    private final InstructorAttributes instructor;
+    private final CourseRoster roster;
+
+    private final boolean isInstructorInCourse;
+    private final boolean isStudentInCourse;
+    private final String userTeam;
+
+    private final Map<String, QuestionVisibility> questionVisibilities = new HashMap<String, QuestionVisibility>();
+    private final Map<String, Boolean> sectionViewabilities = new HashMap<String, Boolean>();
+
+    /**
+     * Creates an evaluator for the responses in the session with {@code feedbackSessionName}
+     * as seen by the user with {@code userEmail}.
+     *
+     * @param student the student viewing the responses, or null if the user is not a student
+     * @param studentsEmailInTeam the emails of the student's team members, or null if not applicable
+     * @param instructor the instructor viewing the responses, whose section privileges restrict
+     *         the visible responses, or null if the user is not an instructor
+     */
+    public FeedbackResponseVisibilityEvaluator(String feedbackSessionName, String userEmail, UserRole role,
+                                               StudentAttributes student, Set<String> studentsEmailInTeam,
+                                               InstructorAttributes instructor, CourseRoster roster) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.userEmail = userEmail;
+        this.role = role;
+        this.student = student;
+        this.studentsEmailInTeam = studentsEmailInTeam;
+        this.instructor = instructor;
+        this.roster = roster;
+
+        this.isInstructorInCourse = role == UserRole.INSTRUCTOR && roster.getInstructorForEmail(userEmail) != null;
+        this.isStudentInCourse = roster.isStudentInCourse(userEmail);
+        StudentAttributes studentInRoster = roster.getStudentForEmail(userEmail);
+        this.userTeam = studentInRoster == null ? null : studentInRoster.team;
+    }
+
+    /**
+     * Returns true if the user can see {@code response} to {@code question}.
+     */
+    public boolean isResponseVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question) {
+        QuestionVisibility visibility = getQuestionVisibility(question);
+
+        boolean isVisibleResponse = visibility.isResponseVisibleToRole
+                                    || visibility.isResponseVisibleToReceiver && response.recipient.equals(userEmail)
+                                    || response.giver.equals(userEmail);
+
+        if (!isVisibleResponse && studentsEmailInTeam != null && role == UserRole.STUDENT) {
+            isVisibleResponse = visibility.isResponseVisibleToReceivingTeam && response.recipient.equals(student.team)
+                                || visibility.isResponseVisibleToGiverTeam
+                                   && studentsEmailInTeam.contains(response.giver)
+                                || visibility.isResponseVisibleToReceiverTeamMembers
+                                   && studentsEmailInTeam.contains(response.recipient);
+        }
+
+        if (isVisibleResponse && instructor != null) {
+            // If instructors are not restricted to view the giver's section,
+            // they are allowed to view responses to GENERAL, subject to visibility options
+            isVisibleResponse = isSectionViewable(response.giverSection)
+                                && (visibility.isRecipientNone || isSectionViewable(response.recipientSection));
+        }
+        return isVisibleResponse;
+    }
+
+    /**
+     * Returns true if the user can see every response to {@code question},
+     * whichever sections their givers and recipients are in.
+     */
+    public boolean isEveryResponseVisible(FeedbackQuestionAttributes question) {
+        if (!getQuestionVisibility(question).isResponseVisibleToRole) {
+            return false;
+        }
+        if (instructor == null) {
+            return true;
+        }
+        if (!isSectionViewable(Const.DEFAULT_SECTION)) {
+            return false;
+        }
+        for (StudentAttributes studentInRoster : roster.getStudents()) {
+            if (!isSectionViewable(studentInRoster.section)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the user can see the name of the giver of {@code response} to {@code question}
+     * if {@code isGiverName} is true, or of its recipient otherwise.
+     */
+    public boolean isNameVisible(FeedbackResponseAttributes response, FeedbackQuestionAttributes question,
+                                 boolean isGiverName) {
+        QuestionVisibility visibility = getQuestionVisibility(question);
+
+        if (visibility.isGiverTeam ? isInUserTeam(response.giver) : response.giver.equals(userEmail)) {
+            return true;
+        }
+
+        int showNameTo = isGiverName ? visibility.showGiverNameTo : visibility.showRecipientNameTo;
+        if (isIncluded(showNameTo, FeedbackParticipantType.INSTRUCTORS) && isInstructorInCourse
+                || (isIncluded(showNameTo, FeedbackParticipantType.OWN_TEAM_MEMBERS)
+                    || isIncluded(showNameTo, FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF))
+                   && isInUserTeam(response.giver)
+                || isIncluded(showNameTo, FeedbackParticipantType.RECEIVER)
+                   && (visibility.isRecipientTeam ? response.recipient.equals(userTeam)
+                                                  : response.recipient.equals(userEmail))
+                || isIncluded(showNameTo, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
+                   && (visibility.isRecipientTeam ? response.recipient.equals(userTeam)
+                                                  : isInUserTeam(response.recipient))
+                || isIncluded(showNameTo, FeedbackParticipantType.STUDENTS) && isStudentInCourse) {
+            return true;
+        }
+
+        if ((showNameTo & ~NAME_VISIBILITY_TYPES) != 0) {
+            Assumption.fail("Invalid FeedbackParticipantType for showNameTo in "
+                            + "FeedbackResponseVisibilityEvaluator.isNameVisible()");
+        }
+        return false;
+    }
+
+    private boolean isInUserTeam(String email) {
+        if (userTeam == null) {
+            return false;
+        }
+        StudentAttributes studentInRoster = roster.getStudentForEmail(email);
+        return studentInRoster != null && userTeam.equals(studentInRoster.team);
+    }
+
+    private boolean isSectionViewable(String section) {
+        Boolean isViewable = sectionViewabilities.get(section);
+        if (isViewable == null) {
+            isViewable = instructor.isAllowedForPrivilege(section, feedbackSessionName,
+                                                          Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
+            sectionViewabilities.put(section, isViewable);
+        }
+        return isViewable;
+    }
+
+    private QuestionVisibility getQuestionVisibility(FeedbackQuestionAttributes question) {
+        QuestionVisibility visibility = questionVisibilities.get(question.getId());
+        if (visibility == null) {
+            visibility = new QuestionVisibility(question);
+            questionVisibilities.put(question.getId(), visibility);
+        }
+        return visibility;
+    }
+
+    private static int getMask(FeedbackParticipantType... types) {
+        int mask = 0;
+        for (FeedbackParticipantType type : types) {
+            mask |= 1 << type.ordinal();
+        }
+        return mask;
+    }
+
+    private static int getMask(List<FeedbackParticipantType> types) {
+        return getMask(types.toArray(new FeedbackParticipantType[types.size()]));
+    }
+
+    private static boolean isIncluded(int mask, FeedbackParticipantType type) {
+        return (mask & 1 << type.ordinal()) != 0;
+    }
+
+    /**
+     * The visibility options of a question, compiled for the user of the evaluator.
+     */
+    private final class QuestionVisibility {
+
+        private final int showGiverNameTo;
+        private final int showRecipientNameTo;
+
+        private final boolean isGiverTeam;
+        private final boolean isRecipientTeam;
+        private final boolean isRecipientNone;
+
+        private final boolean isResponseVisibleToRole;
+        private final boolean isResponseVisibleToReceiver;
+        private final boolean isResponseVisibleToReceivingTeam;
+        private final boolean isResponseVisibleToGiverTeam;
+        private final boolean isResponseVisibleToReceiverTeamMembers;
+
+        QuestionVisibility(FeedbackQuestionAttributes question) {
+            int showResponsesTo = getMask(question.showResponsesTo);
+            showGiverNameTo = getMask(question.showGiverNameTo);
+            showRecipientNameTo = getMask(question.showRecipientNameTo);
+
+            isGiverTeam = question.giverType == FeedbackParticipantType.TEAMS;
+            isRecipientTeam = question.recipientType.isTeam();
+            isRecipientNone = question.recipientType == FeedbackParticipantType.NONE;
+
+            isResponseVisibleToRole =
+                    role == UserRole.INSTRUCTOR && isIncluded(showResponsesTo, FeedbackParticipantType.INSTRUCTORS)
+                    || role == UserRole.STUDENT && isIncluded(showResponsesTo, FeedbackParticipantType.STUDENTS);
+            isResponseVisibleToReceiver = isIncluded(showResponsesTo, FeedbackParticipantType.RECEIVER);
+            isResponseVisibleToReceivingTeam =
+                    question.recipientType == FeedbackParticipantType.TEAMS && isResponseVisibleToReceiver;
+            isResponseVisibleToGiverTeam =
+                    isGiverTeam || isIncluded(showResponsesTo, FeedbackParticipantType.OWN_TEAM_MEMBERS);
+            isResponseVisibleToReceiverTeamMembers =
+                    isIncluded(showResponsesTo, FeedbackParticipantType.RECEIVER_TEAM_MEMBERS);
+        }
+
+    }
+
+}
@@ -11,12 +11,14 @@ import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Logger;
 import teammates.storage.api.FeedbackResponsesDb;
@@ -32,11 +34,14 @@ public final class FeedbackResponsesLogic {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int SECTIONS_BACKFILL_BATCH_SIZE = 500;
+
     private static FeedbackResponsesLogic instance = new FeedbackResponsesLogic();
 
     private static final FeedbackResponsesDb frDb = new FeedbackResponsesDb();
 
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
@@ -53,6 +58,7 @@ public final class FeedbackResponsesLogic {
             throws InvalidParametersException, EntityDoesNotExistException {
         try {
             frDb.createEntity(fra);
+            fqsLogic.updateFeedbackQuestionStatistics(new ArrayList<FeedbackResponseAttributes>(), asList(fra));
         } catch (EntityAlreadyExistsException eaee) {
             try {
                 updateFeedbackResponse(fra, (FeedbackResponse) eaee.existingEntity);
@@ -133,6 +139,38 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForSessionToSectionWithinRange(feedbackSessionName, courseId, section, range);
     }
 
+    public FeedbackResponsesPage getFeedbackResponsesForSessionPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+        return frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+    }
+
+    public FeedbackResponsesPage getFeedbackResponsesForSessionInSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        if (section == null) {
+            return getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+        }
+        return frDb.getFeedbackResponsesForSessionInSectionPage(feedbackSessionName, courseId, section,
+                                                                cursor, pageSize);
+    }
+
+    public FeedbackResponsesPage getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        if (section == null) {
+            return getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+        }
+        return frDb.getFeedbackResponsesForSessionFromSectionPage(feedbackSessionName, courseId, section,
+                                                                  cursor, pageSize);
+    }
+
+    public FeedbackResponsesPage getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+        if (section == null) {
+            return getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, cursor, pageSize);
+        }
+        return frDb.getFeedbackResponsesForSessionToSectionPage(feedbackSessionName, courseId, section,
+                                                                cursor, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestion(String feedbackQuestionId) {
         return frDb.getFeedbackResponsesForQuestion(feedbackQuestionId);
     }
@@ -142,6 +180,11 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponsesForQuestionWithinRange(feedbackQuestionId, range);
     }
 
+    public FeedbackResponsesPage getFeedbackResponsesForQuestionPage(
+            String feedbackQuestionId, String cursor, int pageSize) {
+        return frDb.getFeedbackResponsesForQuestionPage(feedbackQuestionId, cursor, pageSize);
+    }
+
     public List<FeedbackResponseAttributes> getFeedbackResponsesForQuestionInSection(
             String feedbackQuestionId, String section) {
         if (section == null) {
@@ -435,12 +478,162 @@ public final class FeedbackResponsesLogic {
             } catch (EntityDoesNotExistException e) {
                 Assumption.fail();
             }
+            fqsLogic.updateFeedbackQuestionStatistics(asList(oldResponse), asList(newResponse));
         } else {
             // Recreate response to prevent possible future id conflict.
             recreateResponse(newResponse, oldResponse);
         }
     }
 
+    /**
+     * Saves the responses of a single submission using batch operations instead of one
+     * read and one write per response.<br>
+     * All affected responses are read in one batch get. Responses in {@code responsesToDelete}
+     * are then deleted together with their comments, and responses in {@code responsesToSave}
+     * are created, or updated if they have an id or already exist, in one batch write.<br>
+     * Responses whose giver/recipient changed, and responses which share a response id with another
+     * response of the submission, are saved one by one afterwards, in submission order, as in
+     * {@link #updateFeedbackResponse(FeedbackResponseAttributes)} and
+     * {@link #createFeedbackResponse(FeedbackResponseAttributes)}.<br>
+     * As when saving responses one by one, a response which cannot be saved does not prevent
+     * the other responses from being saved.
+     * @param responsesToSave  responses with a non-empty answer and recipient
+     * @param responsesToDelete  existing responses to delete; responses that no longer exist are skipped
+     * @return the errors of the responses in {@code responsesToSave} that could not be saved, one per response,
+     *         i.e. an {@link InvalidParametersException} for an invalid response and an
+     *         {@link EntityAlreadyExistsException} if recreating a response would clash with an existing response.
+     * @throws EntityDoesNotExistException  if a response to save has an id which does not exist.
+     *                                      Nothing is written in that case.
+     */
+    public List<TeammatesException> saveFeedbackResponses(List<FeedbackResponseAttributes> responsesToSave,
+            List<FeedbackResponseAttributes> responsesToDelete)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        List<TeammatesException> errors = new ArrayList<TeammatesException>();
+
+        // Responses are identified by their position in the submission rather than by their lookup id,
+        // as a new response and an existing response whose recipient changed can have the same lookup id.
+        List<FeedbackResponseAttributes> validResponses = new ArrayList<FeedbackResponseAttributes>();
+        List<String> lookupIds = new ArrayList<String>();
+        for (FeedbackResponseAttributes response : responsesToSave) {
+            response.sanitizeForSaving();
+            if (!response.isValid()) {
+                errors.add(new InvalidParametersException(response.getInvalidityInfo()));
+                continue;
+            }
+            validResponses.add(response);
+            lookupIds.add(response.getId() == null
+                          ? FeedbackResponse.generateId(response.feedbackQuestionId, response.giver, response.recipient)
+                          : response.getId());
+        }
+
+        Set<String> idsToGet = new HashSet<String>(lookupIds);
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            idsToGet.add(response.getId());
+        }
+        Map<String, FeedbackResponse> existingEntities = frDb.getFeedbackResponseEntitiesForIds(idsToGet);
+
+        for (int i = 0; i < validResponses.size(); i++) {
+            boolean isUpdateOfMissingResponse = validResponses.get(i).getId() != null
+                                                && !existingEntities.containsKey(lookupIds.get(i));
+            if (isUpdateOfMissingResponse) {
+                throw new EntityDoesNotExistException(
+                        "Trying to update a feedback response that does not exist.");
+            }
+        }
+
+        Set<String> deletedIds = new HashSet<String>();
+        List<FeedbackResponseAttributes> removedResponses = new ArrayList<FeedbackResponseAttributes>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            if (existingEntities.containsKey(response.getId())) {
+                frcLogic.deleteFeedbackResponseCommentsForResponse(response.getId());
+                deletedIds.add(response.getId());
+                removedResponses.add(new FeedbackResponseAttributes(existingEntities.get(response.getId())));
+            }
+        }
+        frDb.deleteFeedbackResponses(responsesToDelete, existingEntities);
+
+        List<FeedbackResponseAttributes> newResponses = new ArrayList<FeedbackResponseAttributes>();
+        List<FeedbackResponseAttributes> oldResponses = new ArrayList<FeedbackResponseAttributes>();
+        Map<String, Integer> numberOfResponsesForId = new HashMap<String, Integer>();
+        for (int i = 0; i < validResponses.size(); i++) {
+            // Create a copy.
+            FeedbackResponseAttributes newResponse = new FeedbackResponseAttributes(validResponses.get(i));
+            FeedbackResponse oldResponseEntity =
+                    deletedIds.contains(lookupIds.get(i)) ? null : existingEntities.get(lookupIds.get(i));
+            FeedbackResponseAttributes oldResponse = null;
+
+            if (oldResponseEntity == null) {
+                newResponse.setId(null);
+            } else {
+                oldResponse = new FeedbackResponseAttributes(oldResponseEntity);
+                newResponse.setId(oldResponse.getId());
+                copyFixedValuesFromOldToNew(newResponse, oldResponse);
+            }
+            newResponses.add(newResponse);
+            oldResponses.add(oldResponse);
+
+            String savedId = FeedbackResponse.generateId(
+                    newResponse.feedbackQuestionId, newResponse.giver, newResponse.recipient);
+            countResponseForId(numberOfResponsesForId, lookupIds.get(i));
+            if (!savedId.equals(lookupIds.get(i))) {
+                countResponseForId(numberOfResponsesForId, savedId);
+            }
+        }
+
+        List<FeedbackResponseAttributes> responsesToCreate = new ArrayList<FeedbackResponseAttributes>();
+        List<FeedbackResponseAttributes> responsesToUpdate = new ArrayList<FeedbackResponseAttributes>();
+        List<FeedbackResponseAttributes> responsesToSaveOneByOne = new ArrayList<FeedbackResponseAttributes>();
+
+        for (int i = 0; i < validResponses.size(); i++) {
+            FeedbackResponseAttributes newResponse = newResponses.get(i);
+            FeedbackResponseAttributes oldResponse = oldResponses.get(i);
+            String savedId = FeedbackResponse.generateId(
+                    newResponse.feedbackQuestionId, newResponse.giver, newResponse.recipient);
+            boolean isRecreate = oldResponse != null
+                                 && !(newResponse.recipient.equals(oldResponse.recipient)
+                                      && newResponse.giver.equals(oldResponse.giver));
+            boolean isSharingId = numberOfResponsesForId.get(lookupIds.get(i)) > 1
+                                  || numberOfResponsesForId.get(savedId) > 1;
+
+            if (isRecreate || isSharingId) {
+                responsesToSaveOneByOne.add(validResponses.get(i));
+            } else if (oldResponse == null) {
+                responsesToCreate.add(newResponse);
+            } else {
+                responsesToUpdate.add(newResponse);
+                removedResponses.add(oldResponse);
+            }
+        }
+
+        frDb.saveFeedbackResponses(responsesToCreate, responsesToUpdate, existingEntities);
+
+        List<FeedbackResponseAttributes> addedResponses = new ArrayList<FeedbackResponseAttributes>(responsesToCreate);
+        addedResponses.addAll(responsesToUpdate);
+        fqsLogic.updateFeedbackQuestionStatistics(removedResponses, addedResponses);
+
+        for (FeedbackResponseAttributes response : responsesToSaveOneByOne) {
+            try {
+                if (response.getId() == null || deletedIds.contains(response.getId())) {
+                    FeedbackResponseAttributes responseToCreate = new FeedbackResponseAttributes(response);
+                    responseToCreate.setId(null);
+                    createFeedbackResponse(responseToCreate);
+                } else {
+                    updateFeedbackResponse(response);
+                }
+            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
+                errors.add(e);
+            }
+        }
+
+        return errors;
+    }
+
+    private void countResponseForId(Map<String, Integer> numberOfResponsesForId, String responseId) {
+        Integer numberOfResponses = numberOfResponsesForId.get(responseId);
+        numberOfResponsesForId.put(responseId, numberOfResponses == null ? 1 : numberOfResponses + 1);
+    }
+
     /**
      * Copies values that cannot be changed to defensively avoid invalid parameters.
      * @param newResponse  values are copied from oldResponse
@@ -480,6 +673,7 @@ public final class FeedbackResponsesLogic {
             frDb.deleteEntity(oldResponse);
             frcLogic.updateFeedbackResponseCommentsForChangingResponseId(
                     oldResponse.getId(), createdResponseEntity.getId());
+            fqsLogic.updateFeedbackQuestionStatistics(asList(oldResponse), asList(newResponse));
         } catch (EntityAlreadyExistsException e) {
             log.warning("Trying to update an existing response to one that already exists.");
             throw e;
@@ -493,49 +687,59 @@ public final class FeedbackResponsesLogic {
     public void updateFeedbackResponsesForChangingTeam(
             String courseId, String userEmail, String oldTeam, String newTeam) {
 
-        deleteResponsesFromUserToTeam(courseId, userEmail);
-        deleteResponsesFromTeamToUser(courseId, userEmail);
+        List<FeedbackResponseAttributes> deletedResponses = deleteResponsesFromUserToTeam(courseId, userEmail);
+        // a response the user gave to themselves is deleted only once
+        addNewResponses(deletedResponses, deleteResponsesFromTeamToUser(courseId, userEmail));
 
         boolean isOldTeamEmpty = studentsLogic.getStudentsForTeam(oldTeam, courseId).isEmpty();
         if (isOldTeamEmpty) {
-            deleteTeamResponses(courseId, oldTeam);
+            addNewResponses(deletedResponses, deleteTeamResponses(courseId, oldTeam));
         }
+
+        fqsLogic.updateFeedbackQuestionStatistics(deletedResponses, new ArrayList<FeedbackResponseAttributes>());
     }
 
-    private void deleteTeamResponses(String courseId, String oldTeam) {
+    private List<FeedbackResponseAttributes> deleteTeamResponses(String courseId, String oldTeam) {
         List<FeedbackResponseAttributes> responsesToOldTeam =
                 getFeedbackResponsesForReceiverForCourse(courseId, oldTeam);
         for (FeedbackResponseAttributes response : responsesToOldTeam) {
             frDb.deleteEntity(response);
         }
+        return responsesToOldTeam;
     }
 
-    private void deleteResponsesFromTeamToUser(String courseId, String userEmail) {
+    private List<FeedbackResponseAttributes> deleteResponsesFromTeamToUser(String courseId, String userEmail) {
         FeedbackQuestionAttributes question;
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+        List<FeedbackResponseAttributes> deletedResponses = new ArrayList<FeedbackResponseAttributes>();
 
         for (FeedbackResponseAttributes response : responsesToUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
                 frDb.deleteEntity(response);
+                deletedResponses.add(response);
             }
         }
+        return deletedResponses;
     }
 
-    private void deleteResponsesFromUserToTeam(String courseId, String userEmail) {
+    private List<FeedbackResponseAttributes> deleteResponsesFromUserToTeam(String courseId, String userEmail) {
         FeedbackQuestionAttributes question;
 
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+        List<FeedbackResponseAttributes> deletedResponses = new ArrayList<FeedbackResponseAttributes>();
 
         for (FeedbackResponseAttributes response : responsesFromUser) {
             question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
                 frDb.deleteEntity(response);
+                deletedResponses.add(response);
             }
         }
+        return deletedResponses;
     }
 
     /**
@@ -594,6 +798,7 @@ public final class FeedbackResponsesLogic {
 
         if (shouldDeleteResponse) {
             frDb.deleteEntity(response);
+            fqsLogic.updateFeedbackQuestionStatisticsForRemovedResponse(response);
             updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
                     response.feedbackSessionName, enrollment.course);
         }
@@ -638,6 +843,15 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Populates the sectionsInvolved attribute of a batch of responses stored before the attribute was added.
+     *
+     * @return the cursor of the next batch, or null if all responses have been processed
+     */
+    public String backfillSectionsInvolvedOfFeedbackResponses(String cursor) {
+        return frDb.backfillSectionsInvolvedOfFeedbackResponses(cursor, SECTIONS_BACKFILL_BATCH_SIZE);
+    }
+
     /**
      * Updates responses for a student when his email changes.
      */
@@ -676,6 +890,14 @@ public final class FeedbackResponsesLogic {
     }
 
     public void deleteFeedbackResponseAndCascade(FeedbackResponseAttributes responseToDelete) {
+        deleteFeedbackResponseAndComments(responseToDelete);
+        fqsLogic.updateFeedbackQuestionStatisticsForRemovedResponse(responseToDelete);
+    }
+
+    /**
+     * Deletes the response and its comments without updating the statistics of its question.
+     */
+    private void deleteFeedbackResponseAndComments(FeedbackResponseAttributes responseToDelete) {
         frcLogic.deleteFeedbackResponseCommentsForResponse(responseToDelete.getId());
         frDb.deleteEntity(responseToDelete);
     }
@@ -688,17 +910,19 @@ public final class FeedbackResponsesLogic {
         Set<String> emails = new HashSet<String>();
 
         for (FeedbackResponseAttributes response : responsesForQuestion) {
-            this.deleteFeedbackResponseAndCascade(response);
+            deleteFeedbackResponseAndComments(response);
             emails.add(response.giver);
         }
 
+        fqsLogic.updateFeedbackQuestionStatistics(responsesForQuestion, new ArrayList<FeedbackResponseAttributes>());
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(feedbackQuestionId);
+
         if (!hasResponseRateUpdate) {
             return;
         }
 
         try {
-            FeedbackQuestionAttributes question = fqLogic
-                    .getFeedbackQuestion(feedbackQuestionId);
             boolean isInstructor = question.giverType == FeedbackParticipantType.SELF
                                    || question.giverType == FeedbackParticipantType.INSTRUCTORS;
             for (String email : emails) {
@@ -732,17 +956,18 @@ public final class FeedbackResponsesLogic {
 
         List<FeedbackResponseAttributes> responses =
                 getFeedbackResponsesFromGiverForCourse(courseId, studentEmail);
-        responses
-                .addAll(
+        // responses the student gave to themselves are only deleted and removed from the statistics once
+        addNewResponses(responses,
                 getFeedbackResponsesForReceiverForCourse(courseId, studentEmail));
         // Delete responses to team as well if student is last person in team.
         if (studentsLogic.getStudentsForTeam(studentTeam, courseId).size() <= 1) {
-            responses.addAll(getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
+            addNewResponses(responses, getFeedbackResponsesForReceiverForCourse(courseId, studentTeam));
         }
 
         for (FeedbackResponseAttributes response : responses) {
-            this.deleteFeedbackResponseAndCascade(response);
+            deleteFeedbackResponseAndComments(response);
         }
+        fqsLogic.updateFeedbackQuestionStatistics(responses, new ArrayList<FeedbackResponseAttributes>());
     }
 
     /**
@@ -754,6 +979,12 @@ public final class FeedbackResponsesLogic {
         frDb.deleteFeedbackResponsesForCourse(courseId);
     }
 
+    private static List<FeedbackResponseAttributes> asList(FeedbackResponseAttributes response) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        responses.add(response);
+        return responses;
+    }
+
     /**
      * Adds {@link FeedbackResponseAttributes} in {@code newResponses} that are
      * not already in to {@code existingResponses} to {@code existingResponses}.
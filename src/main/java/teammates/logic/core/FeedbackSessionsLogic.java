@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collections;
@@ -8,6 +10,7 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -16,13 +19,16 @@ import java.util.Set;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.FeedbackSessionCompletionStatus;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResponseStatus;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.FeedbackSessionType;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -55,6 +61,7 @@ public final class FeedbackSessionsLogic {
     private static final int EMAIL_LASTNAME_PAIR = 1;
     private static final int EMAIL_TEAMNAME_PAIR = 2;
 
+    private static final String PARAM_CURSOR = "cursor";
     private static final String PARAM_FROM_SECTION = "fromSection";
     private static final String PARAM_IN_SECTION = "inSection";
     private static final String PARAM_IS_INCLUDE_RESPONSE_STATUS = "isIncludeResponseStatus";
@@ -83,6 +90,9 @@ public final class FeedbackSessionsLogic {
     private static final String ERROR_FS_PRIVATE_UNPUBLISH = "Error unpublishing feedback session: "
                                                              + "Session is private and can't be unpublished.";
 
+    private static final String CACHE_KEY_SESSIONS = "sessions";
+    private static final String CACHE_KEY_SESSION_PREFIX = "session/";
+
     private static final Logger log = Logger.getLogger();
 
     private static FeedbackSessionsLogic instance = new FeedbackSessionsLogic();
@@ -91,10 +101,12 @@ public final class FeedbackSessionsLogic {
 
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
     private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final RequestScopedCache requestCache = RequestScopedCache.inst();
 
     private FeedbackSessionsLogic() {
         // prevent initialization
@@ -121,12 +133,31 @@ public final class FeedbackSessionsLogic {
      * This method returns a single feedback session. Returns null if not found.
      */
     public FeedbackSessionAttributes getFeedbackSession(String feedbackSessionName, String courseId) {
-        return fsDb.getFeedbackSession(courseId, feedbackSessionName);
+        String cacheKey = CACHE_KEY_SESSION_PREFIX + feedbackSessionName;
+        FeedbackSessionAttributes session = requestCache.get(courseId, cacheKey);
+        if (session == null) {
+            session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+            if (session == null) {
+                return null;
+            }
+            requestCache.put(courseId, cacheKey, session);
+        }
+        return session.getCopy();
     }
 
     public List<FeedbackSessionAttributes> getFeedbackSessionsForCourse(
             String courseId) {
-        return fsDb.getFeedbackSessionsForCourse(courseId);
+        List<FeedbackSessionAttributes> sessions = requestCache.get(courseId, CACHE_KEY_SESSIONS);
+        if (sessions == null) {
+            sessions = fsDb.getFeedbackSessionsForCourse(courseId);
+            requestCache.put(courseId, CACHE_KEY_SESSIONS, sessions);
+        }
+
+        List<FeedbackSessionAttributes> copies = new ArrayList<FeedbackSessionAttributes>();
+        for (FeedbackSessionAttributes session : sessions) {
+            copies.add(session.getCopy());
+        }
+        return copies;
     }
 
     public FeedbackSessionAttributes copyFeedbackSession(String newFeedbackSessionName,
@@ -359,10 +390,12 @@ public final class FeedbackSessionsLogic {
                 fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
+            Map<String, StudentAttributes> recipientStudents =
+                    studentsLogic.getStudentsForEmails(courseId, recipients.keySet());
             Iterator<Map.Entry<String, String>> iter = recipients.entrySet().iterator();
             while (iter.hasNext()) {
                 Map.Entry<String, String> studentEntry = iter.next();
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = recipientStudents.get(studentEntry.getKey());
                 if (!instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS)) {
                     iter.remove();
@@ -573,8 +606,7 @@ public final class FeedbackSessionsLogic {
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
                         courseId);
 
-        CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
-                                               instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -586,18 +618,33 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String questionId)
                     throws EntityDoesNotExistException {
 
+        return getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+                feedbackSessionName, courseId, userEmail, questionId, -1);
+    }
+
+    /**
+     * Gets results of a feedback session to show to an instructor from an indicated question.
+     * If the kept statistics of the question count more than {@code range} responses,
+     * only the statistics are loaded, and the bundle is marked as incomplete.
+     * This will not retrieve the list of comments for this question.
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+            String feedbackSessionName, String courseId, String userEmail, String questionId, long range)
+                    throws EntityDoesNotExistException {
+
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
         params.put(PARAM_FROM_SECTION, "false");
         params.put(PARAM_TO_SECTION, "false");
         params.put(PARAM_QUESTION_ID, questionId);
+        if (range > 0) {
+            params.put(PARAM_RANGE, String.valueOf(range));
+        }
 
         return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
                                                           UserRole.INSTRUCTOR, roster, params);
@@ -613,9 +660,7 @@ public final class FeedbackSessionsLogic {
                                                 String questionId, String selectedSection)
                                         throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -639,6 +684,31 @@ public final class FeedbackSessionsLogic {
                 feedbackSessionName, courseId, userEmail, null, range, viewType);
     }
 
+    /**
+     * Gets results of a feedback session to show to an instructor, with a page of at most {@code pageSize}
+     * responses starting from {@code cursor}. The cursor of the next page is kept in the results.
+     *
+     * @param cursor null for the first page, or the cursor of the next page kept in the results of a page
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorPageFromView(
+            String feedbackSessionName, String courseId, String userEmail, String cursor, int pageSize,
+            String viewType)
+            throws EntityDoesNotExistException {
+
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        Map<String, String> params = new HashMap<String, String>();
+        params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
+        params.put(PARAM_IN_SECTION, "true");
+        params.put(PARAM_FROM_SECTION, "false");
+        params.put(PARAM_TO_SECTION, "false");
+        params.put(PARAM_RANGE, String.valueOf(pageSize));
+        params.put(PARAM_CURSOR, cursor);
+        params.put(PARAM_VIEW_TYPE, viewType);
+
+        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
+                                                          UserRole.INSTRUCTOR, roster, params);
+    }
+
     /**
      * Gets results of a feedback session to show to an instructor in a section in an indicated range.
      */
@@ -646,9 +716,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, long range, String viewType)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -671,9 +739,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, long range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -694,9 +760,7 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, String section, long range)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -710,6 +774,56 @@ public final class FeedbackSessionsLogic {
                                                           UserRole.INSTRUCTOR, roster, params);
     }
 
+    /**
+     * Gets results of a feedback session to show to an instructor from a section, with a page of
+     * at most {@code pageSize} responses starting from {@code cursor}.
+     * The cursor of the next page is kept in the results.
+     *
+     * @param cursor null for the first page, or the cursor of the next page kept in the results of a page
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorFromSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor,
+            int pageSize)
+            throws EntityDoesNotExistException {
+
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        Map<String, String> params = new HashMap<String, String>();
+        params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
+        params.put(PARAM_IN_SECTION, "false");
+        params.put(PARAM_FROM_SECTION, "true");
+        params.put(PARAM_TO_SECTION, "false");
+        params.put(PARAM_SECTION, section);
+        params.put(PARAM_RANGE, String.valueOf(pageSize));
+        params.put(PARAM_CURSOR, cursor);
+        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
+                                                          UserRole.INSTRUCTOR, roster, params);
+    }
+
+    /**
+     * Gets results of a feedback session to show to an instructor to a section, with a page of
+     * at most {@code pageSize} responses starting from {@code cursor}.
+     * The cursor of the next page is kept in the results.
+     *
+     * @param cursor null for the first page, or the cursor of the next page kept in the results of a page
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsForInstructorToSectionPage(
+            String feedbackSessionName, String courseId, String userEmail, String section, String cursor,
+            int pageSize)
+            throws EntityDoesNotExistException {
+
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        Map<String, String> params = new HashMap<String, String>();
+        params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
+        params.put(PARAM_IN_SECTION, "false");
+        params.put(PARAM_FROM_SECTION, "false");
+        params.put(PARAM_TO_SECTION, "true");
+        params.put(PARAM_SECTION, section);
+        params.put(PARAM_RANGE, String.valueOf(pageSize));
+        params.put(PARAM_CURSOR, cursor);
+        return getFeedbackSessionResultsForUserWithParams(feedbackSessionName, courseId, userEmail,
+                                                          UserRole.INSTRUCTOR, roster, params);
+    }
+
     /**
      * Gets results of a feedback session to show to an instructor.
      */
@@ -728,9 +842,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "true");
@@ -749,9 +861,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "false");
         params.put(PARAM_IN_SECTION, "false");
@@ -770,9 +880,7 @@ public final class FeedbackSessionsLogic {
             String section)
             throws EntityDoesNotExistException {
 
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
         Map<String, String> params = new HashMap<String, String>();
         params.put(PARAM_IS_INCLUDE_RESPONSE_STATUS, "true");
         params.put(PARAM_IN_SECTION, "false");
@@ -801,6 +909,110 @@ public final class FeedbackSessionsLogic {
                 UserRole.INSTRUCTOR, roster, params);
     }
 
+    /**
+     * Gets the responses of a feedback session given and received by a student, to show to an instructor
+     * in the records of the student.
+     *
+     * <p>Only the responses of the student are read, through the giver and recipient queries of the course,
+     * together with the comments on them, so the cost grows with the responses of the student rather than
+     * with the course. The roster of the bundle only has the students named in the responses and
+     * the instructors of the course, and the bundle has no response status or question statistics.</p>
+     */
+    public FeedbackSessionResultsBundle getFeedbackSessionResultsOfStudentForInstructor(
+            String feedbackSessionName, String courseId, String studentEmail, String instructorEmail)
+            throws EntityDoesNotExistException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        Map<String, FeedbackQuestionAttributes> relevantQuestions = new HashMap<>();
+        putQuestionsIntoMap(fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId), relevantQuestions);
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+
+        boolean isPrivateSessionNotCreatedByThisUser =
+                session.isPrivateSession() && !session.isCreator(instructorEmail);
+        if (isPrivateSessionNotCreatedByThisUser) {
+            // return empty result set
+            return new FeedbackSessionResultsBundle(
+                    session, relevantQuestions, new CourseRoster(new ArrayList<StudentAttributes>(), instructors));
+        }
+
+        // responses of the student to themselves are returned by both queries
+        Map<String, FeedbackResponseAttributes> responsesOfStudent = new LinkedHashMap<>();
+        addResponsesInSession(responsesOfStudent, feedbackSessionName,
+                              frLogic.getFeedbackResponsesFromGiverForCourse(courseId, studentEmail));
+        addResponsesInSession(responsesOfStudent, feedbackSessionName,
+                              frLogic.getFeedbackResponsesForReceiverForCourse(courseId, studentEmail));
+
+        Set<String> participantEmails = new HashSet<>();
+        participantEmails.add(studentEmail);
+        for (FeedbackResponseAttributes response : responsesOfStudent.values()) {
+            participantEmails.add(response.giver);
+            participantEmails.add(response.recipient);
+        }
+        CourseRoster roster = new CourseRoster(
+                new ArrayList<StudentAttributes>(
+                        studentsLogic.getStudentsForEmails(courseId, participantEmails).values()),
+                instructors);
+
+        List<FeedbackResponseAttributes> responses = new ArrayList<>();
+        Map<String, String> emailNameTable = new HashMap<>();
+        Map<String, String> emailLastNameTable = new HashMap<>();
+        Map<String, String> emailTeamNameTable = new HashMap<>();
+        Map<String, boolean[]> visibilityTable = new HashMap<>();
+        Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
+
+        FeedbackResponseVisibilityEvaluator visibilityEvaluator = new FeedbackResponseVisibilityEvaluator(
+                feedbackSessionName, instructorEmail, UserRole.INSTRUCTOR, null, null,
+                roster.getInstructorForEmail(instructorEmail), roster);
+        Set<String> studentsEmailInTeam = new HashSet<>();
+
+        for (FeedbackResponseAttributes response : responsesOfStudent.values()) {
+            FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(response.feedbackQuestionId);
+            if (relatedQuestion == null || !visibilityEvaluator.isResponseVisible(response, relatedQuestion)) {
+                continue;
+            }
+            responses.add(response);
+            addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
+            addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
+            addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
+            addVisibilityToTable(visibilityTable, relatedQuestion, response, visibilityEvaluator);
+
+            List<FeedbackResponseCommentAttributes> frcList = new ArrayList<>();
+            for (FeedbackResponseCommentAttributes frc : frcLogic.getFeedbackResponseCommentForResponse(response.getId())) {
+                boolean isVisibleResponseComment = frcLogic.isResponseCommentVisibleForUser(
+                        instructorEmail, UserRole.INSTRUCTOR, null, studentsEmailInTeam, response, relatedQuestion, frc);
+                if (isVisibleResponseComment) {
+                    if (!frcLogic.isNameVisibleToUser(frc, response, instructorEmail, roster)) {
+                        frc.giverEmail = "Anonymous";
+                    }
+                    frcList.add(frc);
+                }
+            }
+            if (!frcList.isEmpty()) {
+                sortByCreatedDate(frcList);
+                responseComments.put(response.getId(), frcList);
+            }
+        }
+
+        return new FeedbackSessionResultsBundle(
+                session, responses, relevantQuestions, emailNameTable,
+                emailLastNameTable, emailTeamNameTable, new HashMap<String, Set<String>>(),
+                visibilityTable, null, roster, responseComments, true);
+    }
+
+    private void addResponsesInSession(Map<String, FeedbackResponseAttributes> responsesById,
+            String feedbackSessionName, List<FeedbackResponseAttributes> responses) {
+        for (FeedbackResponseAttributes response : responses) {
+            if (response.feedbackSessionName.equals(feedbackSessionName)) {
+                responsesById.put(response.getId(), response);
+            }
+        }
+    }
+
     /**
      * Gets results of a feedback session to show to a student.
      */
@@ -860,13 +1072,78 @@ public final class FeedbackSessionsLogic {
         Collections.sort(results.responses,
                 results.compareByGiverRecipientQuestion);
 
+        StringBuilder exportBuilder = getCsvHeader(results.feedbackSession, section);
+
+        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
+                results.getQuestionResponseMap().entrySet();
+
+        if (filterText != null && !filterText.isEmpty()) {
+            entrySet = filterQuestions(entrySet, filterText.toLowerCase());
+        }
+
+        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
+            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                    results, entry, isMissingResponsesShown, isStatsShown));
+        }
+        return exportBuilder.toString();
+    }
+
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, the results are loaded and written
+     * one question at a time, so only the responses to one question are held in memory at any time
+     * and there is no limit on the number of responses in the session.
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail,
+            String section, String questionId, String filterText, boolean isMissingResponsesShown, boolean isStatsShown,
+            Writer writer)
+            throws EntityDoesNotExistException, IOException {
+
+        FeedbackSessionAttributes session = getFeedbackSession(feedbackSessionName, courseId);
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        writer.append(getCsvHeader(session, section));
+
+        List<FeedbackQuestionAttributes> questions =
+                new ArrayList<FeedbackQuestionAttributes>(fqLogic.getFeedbackQuestionsForSession(
+                        feedbackSessionName, courseId));
+        Collections.sort(questions);
+
+        for (FeedbackQuestionAttributes question : questions) {
+            boolean isQuestionToExport = (questionId == null || questionId.equals(question.getId()))
+                                         && isQuestionMatchingFilter(question, filterText);
+            if (!isQuestionToExport) {
+                continue;
+            }
+
+            FeedbackSessionResultsBundle results = section == null
+                    ? getFeedbackSessionResultsForInstructorFromQuestion(
+                              feedbackSessionName, courseId, userEmail, question.getId())
+                    : getFeedbackSessionResultsForInstructorFromQuestionInSection(
+                              feedbackSessionName, courseId, userEmail, question.getId(), section);
+            Collections.sort(results.responses, results.compareByGiverRecipientQuestion);
+
+            for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry
+                    : results.getQuestionResponseMap().entrySet()) {
+                writer.append(getFeedbackSessionResultsForQuestionInCsvFormat(
+                        results, entry, isMissingResponsesShown, isStatsShown));
+            }
+            writer.flush();
+        }
+    }
+
+    private StringBuilder getCsvHeader(FeedbackSessionAttributes session, String section) {
         StringBuilder exportBuilder = new StringBuilder(100);
 
         exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
+                             SanitizationHelper.sanitizeForCsv(session.getCourseId())))
                      .append(Const.EOL)
                      .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
+                             SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
                      .append(Const.EOL);
 
         if (section != null) {
@@ -875,19 +1152,12 @@ public final class FeedbackSessionsLogic {
         }
 
         exportBuilder.append(Const.EOL).append(Const.EOL);
+        return exportBuilder;
+    }
 
-        Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
-                results.getQuestionResponseMap().entrySet();
-
-        if (filterText != null && !filterText.isEmpty()) {
-            entrySet = filterQuestions(entrySet, filterText.toLowerCase());
-        }
-
-        for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown));
-        }
-        return exportBuilder.toString();
+    private boolean isQuestionMatchingFilter(FeedbackQuestionAttributes question, String filterText) {
+        return filterText == null || filterText.isEmpty()
+               || question.getQuestionMetaData().getValue().toLowerCase().contains(filterText.toLowerCase());
     }
 
     private Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> filterQuestions(
@@ -920,8 +1190,10 @@ public final class FeedbackSessionsLogic {
                 + SanitizationHelper.sanitizeForCsv(questionDetails.getQuestionText())
                 + Const.EOL + Const.EOL);
 
-        String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
-                                    question, fsrBundle);
+        FeedbackQuestionStatisticsAttributes storedStatistics = fsrBundle.getQuestionStatistics(question, allResponses);
+        String statistics = storedStatistics == null
+                          ? questionDetails.getQuestionResultStatisticsCsv(allResponses, question, fsrBundle)
+                          : questionDetails.getQuestionResultStatisticsCsv(storedStatistics);
         if (!statistics.isEmpty() && isStatsShown) {
             exportBuilder.append("Summary Statistics,").append(Const.EOL);
             exportBuilder.append(statistics).append(Const.EOL);
@@ -1126,7 +1398,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (fsDb.isStudentRespondent(fsa, userEmail)) {
             return true;
         }
 
@@ -1140,7 +1412,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (fsDb.isInstructorRespondent(fsa, userEmail)) {
             return true;
         }
 
@@ -1152,6 +1424,95 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Gets the students and instructors of the course who have not completed {@code fsa}
+     * in the sense of {@link #isFeedbackSessionCompletedByStudent} and
+     * {@link #isFeedbackSessionCompletedByInstructor}.<br>
+     * The questions of the session and the roster of the course are read once for all users.
+     */
+    public FeedbackSessionCompletionStatus getFeedbackSessionCompletionStatus(FeedbackSessionAttributes fsa)
+            throws EntityDoesNotExistException {
+        List<FeedbackQuestionAttributes> allQuestions =
+                fqLogic.getFeedbackQuestionsForSession(fsa.getFeedbackSessionName(), fsa.getCourseId());
+        boolean hasQuestionsForStudents = !fqLogic.getFeedbackQuestionsForStudents(allQuestions).isEmpty();
+        boolean hasQuestionsForInstructors =
+                !fqLogic.getFeedbackQuestionsForInstructor(allQuestions, false).isEmpty();
+        boolean hasQuestionsForCreator = !fqLogic.getFeedbackQuestionsForInstructor(allQuestions, true).isEmpty();
+
+        FeedbackSessionCompletionStatus status =
+                new FeedbackSessionCompletionStatus(coursesLogic.getCourseRoster(fsa.getCourseId()));
+        loadRespondents(fsa, status.getRoster());
+
+        if (hasQuestionsForStudents) {
+            for (StudentAttributes student : status.getRoster().getStudents()) {
+                if (!fsa.getRespondingStudentList().contains(student.email)) {
+                    status.addStudentYetToComplete(student);
+                }
+            }
+        }
+
+        for (InstructorAttributes instructor : status.getRoster().getInstructors()) {
+            boolean hasQuestions = fsa.isCreator(instructor.email) ? hasQuestionsForCreator : hasQuestionsForInstructors;
+            if (hasQuestions && !fsa.getRespondingInstructorList().contains(instructor.email)) {
+                status.addInstructorYetToComplete(instructor);
+            }
+        }
+        return status;
+    }
+
+    /**
+     * Gets the students of the course who have not fully completed {@code fsa}
+     * in the sense of {@link #isFeedbackSessionFullyCompletedByStudent}.<br>
+     * The questions and responses of the session and the roster of the course are read once for all students,
+     * and the responses are counted per question and giver.
+     */
+    public FeedbackSessionCompletionStatus getFeedbackSessionFullCompletionStatusForStudents(
+            FeedbackSessionAttributes fsa) throws EntityDoesNotExistException {
+        String feedbackSessionName = fsa.getFeedbackSessionName();
+        String courseId = fsa.getCourseId();
+
+        List<FeedbackQuestionAttributes> studentQuestions =
+                fqLogic.getFeedbackQuestionsForStudents(fqLogic.getFeedbackQuestionsForSession(feedbackSessionName,
+                                                                                               courseId));
+        FeedbackSessionCompletionStatus status = new FeedbackSessionCompletionStatus(coursesLogic.getCourseRoster(courseId));
+        if (studentQuestions.isEmpty()) {
+            return status;
+        }
+
+        // number of responses given by each giver to each question
+        Map<String, Map<String, Integer>> responseCounts = new HashMap<String, Map<String, Integer>>();
+        List<FeedbackResponseAttributes> responses =
+                frLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        for (FeedbackResponseAttributes response : responses) {
+            Map<String, Integer> responseCountsForQuestion = responseCounts.get(response.feedbackQuestionId);
+            if (responseCountsForQuestion == null) {
+                responseCountsForQuestion = new HashMap<String, Integer>();
+                responseCounts.put(response.feedbackQuestionId, responseCountsForQuestion);
+            }
+            Integer count = responseCountsForQuestion.get(response.giver);
+            responseCountsForQuestion.put(response.giver, count == null ? 1 : count + 1);
+        }
+
+        for (StudentAttributes student : status.getRoster().getStudents()) {
+            for (FeedbackQuestionAttributes question : studentQuestions) {
+                Map<String, Integer> responseCountsForQuestion = responseCounts.get(question.getId());
+                Integer count = responseCountsForQuestion == null ? null : responseCountsForQuestion.get(student.email);
+                int numberOfResponsesGiven = count == null ? 0 : count;
+                int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+                if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+                    numberOfResponsesNeeded =
+                            fqLogic.getRecipientsForQuestion(question, student.email, status.getRoster()).size();
+                }
+
+                if (numberOfResponsesGiven < numberOfResponsesNeeded) {
+                    status.addStudentYetToComplete(student);
+                    break;
+                }
+            }
+        }
+        return status;
+    }
+
     public void updateFeedbackSession(FeedbackSessionAttributes newSession)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1195,6 +1556,26 @@ public final class FeedbackSessionsLogic {
         fsDb.updateFeedbackSession(newSession);
     }
 
+    /**
+     * Adds the students and instructors of the course who have responded to {@code session}
+     * to the respondents of {@code session}, as they are not read together with the session.
+     */
+    public void loadRespondents(FeedbackSessionAttributes session) {
+        loadRespondents(session, coursesLogic.getCourseRoster(session.getCourseId()));
+    }
+
+    private void loadRespondents(FeedbackSessionAttributes session, CourseRoster roster) {
+        List<String> studentEmails = new ArrayList<String>();
+        for (StudentAttributes student : roster.getStudents()) {
+            studentEmails.add(student.email);
+        }
+        List<String> instructorEmails = new ArrayList<String>();
+        for (InstructorAttributes instructor : roster.getInstructors()) {
+            instructorEmails.add(instructor.email);
+        }
+        fsDb.loadRespondents(session, studentEmails, instructorEmails);
+    }
+
     public void updateRespondentsForInstructor(String oldEmail, String newEmail, String courseId)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1547,6 +1928,16 @@ public final class FeedbackSessionsLogic {
                 details.stats.expectedTotal += students.size();
             }
 
+            List<String> studentEmails = new ArrayList<String>();
+            for (StudentAttributes student : students) {
+                studentEmails.add(student.email);
+            }
+            List<String> instructorEmails = new ArrayList<String>();
+            for (InstructorAttributes instructor : instructors) {
+                instructorEmails.add(instructor.email);
+            }
+            fsDb.loadRespondents(fsa, studentEmails, instructorEmails);
+
             for (InstructorAttributes instructor : instructors) {
                 List<FeedbackQuestionAttributes> instructorQns =
                         fqLogic.getFeedbackQuestionsForInstructor(questions, fsa.isCreator(instructor.email));
@@ -1592,9 +1983,7 @@ public final class FeedbackSessionsLogic {
         // Load details of students and instructors once and pass it to callee
         // methods
         // (rather than loading them many times).
-        CourseRoster roster = new CourseRoster(
-                studentsLogic.getStudentsForCourse(courseId),
-                instructorsLogic.getInstructorsForCourse(courseId));
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
 
         return getFeedbackSessionResultsForUserInSectionByQuestions(
                 feedbackSessionName, courseId, userEmail, role, section, roster);
@@ -1645,6 +2034,8 @@ public final class FeedbackSessionsLogic {
 
         List<FeedbackQuestionAttributes> allQuestions = fqLogic.getFeedbackQuestionsForSession(
                                                                     feedbackSessionName, courseId);
+        FeedbackResponseVisibilityEvaluator visibilityEvaluator = new FeedbackResponseVisibilityEvaluator(
+                feedbackSessionName, userEmail, role, null, null, null, roster);
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<String, FeedbackResponseAttributes>();
         for (FeedbackQuestionAttributes question : allQuestions) {
 
@@ -1673,8 +2064,7 @@ public final class FeedbackSessionsLogic {
                             question, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response,
                             question, roster);
-                    addVisibilityToTable(visibilityTable, question, response,
-                            userEmail, role, roster);
+                    addVisibilityToTable(visibilityTable, question, response, visibilityEvaluator);
                 }
             }
         }
@@ -1753,17 +2143,19 @@ public final class FeedbackSessionsLogic {
         String questionId = params.get(PARAM_QUESTION_ID);
 
         if (questionId != null) {
+            long range = params.get(PARAM_RANGE) == null ? -1 : Long.parseLong(params.get(PARAM_RANGE));
             return getFeedbackSessionResultsForQuestionId(feedbackSessionName, courseId, userEmail, role, roster, session,
-                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, questionId);
+                    allQuestions, relevantQuestions, isIncludeResponseStatus, section, questionId, range);
         }
 
         Map<String, FeedbackQuestionAttributes> allQuestionsMap = new HashMap<String, FeedbackQuestionAttributes>();
         putQuestionsIntoMap(allQuestions, allQuestionsMap);
 
-        List<FeedbackResponseAttributes> allResponses = getAllResponses(feedbackSessionName, courseId, params, section);
+        FeedbackResponsesPage responsesPage = getAllResponses(feedbackSessionName, courseId, params, section);
+        List<FeedbackResponseAttributes> allResponses = responsesPage.responses;
 
-        String rangeString = params.get(PARAM_RANGE);
-        boolean isComplete = rangeString == null || allResponses.size() <= Long.parseLong(rangeString);
+        // a page after the first one leaves out the responses of the earlier pages
+        boolean isComplete = params.get(PARAM_CURSOR) == null && !responsesPage.hasNextPage();
 
         if (!isComplete) {
             putQuestionsIntoMap(allQuestions, relevantQuestions);
@@ -1784,13 +2176,14 @@ public final class FeedbackSessionsLogic {
         Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
 
         InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        FeedbackResponseVisibilityEvaluator visibilityEvaluator = new FeedbackResponseVisibilityEvaluator(
+                feedbackSessionName, userEmail, role, student, studentsEmailInTeam, instructor, roster);
 
         Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<String, FeedbackResponseAttributes>();
         for (FeedbackResponseAttributes response : allResponses) {
             FeedbackQuestionAttributes relatedQuestion = allQuestionsMap.get(response.feedbackQuestionId);
             if (relatedQuestion != null) {
-                boolean isVisibleResponse = isResponseVisibleForUser(
-                        userEmail, role, student, studentsEmailInTeam, response, relatedQuestion, instructor);
+                boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(response, relatedQuestion);
                 if (isVisibleResponse) {
                     responses.add(response);
                     relevantResponse.put(response.getId(), response);
@@ -1798,7 +2191,7 @@ public final class FeedbackSessionsLogic {
                     addEmailNamePairsToTable(emailNameTable, response, relatedQuestion, roster);
                     addEmailLastNamePairsToTable(emailLastNameTable, response, relatedQuestion, roster);
                     addEmailTeamNamePairsToTable(emailTeamNameTable, response, relatedQuestion, roster);
-                    addVisibilityToTable(visibilityTable, relatedQuestion, response, userEmail, role, roster);
+                    addVisibilityToTable(visibilityTable, relatedQuestion, response, visibilityEvaluator);
                 }
             }
         }
@@ -1812,10 +2205,15 @@ public final class FeedbackSessionsLogic {
 
         addSectionTeamNamesToTable(sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
                 visibilityTable, responseStatus, roster, responseComments, isComplete);
+        results.nextPageCursor = responsesPage.nextPageCursor;
+        if (isInstructor(role) && section == null && isComplete) {
+            results.questionStatistics = fqsLogic.getFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+        }
+        return results;
     }
 
     private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
@@ -1895,7 +2293,7 @@ public final class FeedbackSessionsLogic {
     private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestionId(String feedbackSessionName,
                 String courseId, String userEmail, UserRole role, CourseRoster roster, FeedbackSessionAttributes session,
                 List<FeedbackQuestionAttributes> allQuestions, Map<String, FeedbackQuestionAttributes> relevantQuestions,
-                boolean isIncludeResponseStatus, String section, String questionId) {
+                boolean isIncludeResponseStatus, String section, String questionId, long range) {
 
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, String> emailNameTable = new HashMap<>();
@@ -1907,6 +2305,9 @@ public final class FeedbackSessionsLogic {
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
 
+        FeedbackQuestionStatisticsAttributes statistics = null;
+        boolean isStatisticsOnly = false;
+
         if (isQueryingResponseRateStatus) {
             responseStatus = section == null && isIncludeResponseStatus
                            ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
@@ -1916,29 +2317,37 @@ public final class FeedbackSessionsLogic {
             if (question != null) {
                 relevantQuestions.put(question.getId(), question);
 
-                List<FeedbackResponseAttributes> responsesForThisQn;
-
                 boolean isPrivateSessionCreatedByThisUser = session.isCreator(userEmail) && session.isPrivateSession();
-                if (isPrivateSessionCreatedByThisUser) {
+                InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+                FeedbackResponseVisibilityEvaluator visibilityEvaluator = new FeedbackResponseVisibilityEvaluator(
+                        feedbackSessionName, userEmail, role, null, null, instructor, roster);
+
+                // the kept statistics count every response, so they are only used if the user can see all of them
+                boolean isEveryResponseVisible = isPrivateSessionCreatedByThisUser
+                                                 || visibilityEvaluator.isEveryResponseVisible(question);
+                if (section == null && isInstructor(role) && isEveryResponseVisible) {
+                    statistics = fqsLogic.getFeedbackQuestionStatistics(questionId);
+                }
+                isStatisticsOnly = statistics != null && range > 0 && statistics.numberOfResponses > range;
+
+                List<FeedbackResponseAttributes> responsesForThisQn;
+                if (isStatisticsOnly) {
+                    responsesForThisQn = new ArrayList<FeedbackResponseAttributes>();
+                } else if (isPrivateSessionCreatedByThisUser) {
                     responsesForThisQn = frLogic.getFeedbackResponsesForQuestion(question.getId());
                 } else {
                     responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
                                                     question, userEmail, UserRole.INSTRUCTOR, section);
                 }
 
-                boolean thisQuestionHasResponses = !responsesForThisQn.isEmpty();
-                if (thisQuestionHasResponses) {
-                    for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
-                        if (isVisibleResponse) {
-                            responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
-                        }
+                for (FeedbackResponseAttributes response : responsesForThisQn) {
+                    boolean isVisibleResponse = visibilityEvaluator.isResponseVisible(response, question);
+                    if (isVisibleResponse) {
+                        responses.add(response);
+                        addEmailNamePairsToTable(emailNameTable, response, question, roster);
+                        addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
+                        addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
+                        addVisibilityToTable(visibilityTable, question, response, visibilityEvaluator);
                     }
                 }
             }
@@ -1947,10 +2356,14 @@ public final class FeedbackSessionsLogic {
         addSectionTeamNamesToTable(
                 sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
 
-        return new FeedbackSessionResultsBundle(
+        FeedbackSessionResultsBundle results = new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
-                visibilityTable, responseStatus, roster, responseComments, true);
+                visibilityTable, responseStatus, roster, responseComments, !isStatisticsOnly);
+        if (statistics != null) {
+            results.questionStatistics.put(questionId, statistics);
+        }
+        return results;
     }
 
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
@@ -1971,38 +2384,45 @@ public final class FeedbackSessionsLogic {
         return role == UserRole.INSTRUCTOR;
     }
 
-    private List<FeedbackResponseAttributes> getAllResponses(String feedbackSessionName, String courseId,
+    /**
+     * Gets the responses to include in the results. If a range is given, only the page of at most
+     * that many responses starting from the given cursor is loaded, and the page indicates whether there are more.
+     */
+    private FeedbackResponsesPage getAllResponses(String feedbackSessionName, String courseId,
             Map<String, String> params, String section) {
         boolean isInSection = Boolean.parseBoolean(params.get(PARAM_IN_SECTION));
         boolean isToSection = Boolean.parseBoolean(params.get(PARAM_TO_SECTION));
         boolean isFromSection = Boolean.parseBoolean(params.get(PARAM_FROM_SECTION));
 
         if (params.get(PARAM_RANGE) == null) {
+            List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
             if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
+                responses = frLogic.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, section);
             } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, section);
+                responses = frLogic.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, section);
             } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, section);
+                responses = frLogic.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, section);
             } else {
                 Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
             }
+            return new FeedbackResponsesPage(responses, null);
+        }
+
+        int range = Integer.parseInt(params.get(PARAM_RANGE));
+        String cursor = params.get(PARAM_CURSOR);
+        if (isInSection) {
+            return frLogic.getFeedbackResponsesForSessionInSectionPage(
+                    feedbackSessionName, courseId, section, cursor, range);
+        } else if (isFromSection) {
+            return frLogic.getFeedbackResponsesForSessionFromSectionPage(
+                    feedbackSessionName, courseId, section, cursor, range);
+        } else if (isToSection) {
+            return frLogic.getFeedbackResponsesForSessionToSectionPage(
+                    feedbackSessionName, courseId, section, cursor, range);
         } else {
-            long range = Long.parseLong(params.get(PARAM_RANGE));
-            if (isInSection) {
-                return frLogic.getFeedbackResponsesForSessionInSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else if (isFromSection) {
-                return frLogic.getFeedbackResponsesForSessionFromSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else if (isToSection) {
-                return frLogic.getFeedbackResponsesForSessionToSectionWithinRange(
-                        feedbackSessionName, courseId, section, range);
-            } else {
-                Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
-            }
+            Assumption.fail(ASSUMPTION_FAIL_RESPONSE_ORIGIN);
         }
-        return new ArrayList<FeedbackResponseAttributes>();
+        return new FeedbackResponsesPage(new ArrayList<FeedbackResponseAttributes>(), null);
     }
 
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
@@ -2033,56 +2453,6 @@ public final class FeedbackSessionsLogic {
         }
     }
 
-    private boolean isResponseVisibleForUser(String userEmail,
-            UserRole role, StudentAttributes student,
-            Set<String> studentsEmailInTeam,
-            FeedbackResponseAttributes response,
-            FeedbackQuestionAttributes relatedQuestion, InstructorAttributes instructor) {
-
-        boolean isVisibleResponse = false;
-        if (isInstructor(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.INSTRUCTORS)
-                || response.recipient.equals(userEmail)
-                        && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                || response.giver.equals(userEmail)
-                || isStudent(role) && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.STUDENTS)) {
-            isVisibleResponse = true;
-        } else if (studentsEmailInTeam != null && isStudent(role)) {
-            if (relatedQuestion.recipientType == FeedbackParticipantType.TEAMS
-                    && relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER)
-                    && response.recipient.equals(student.team)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.OWN_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.giver)) {
-                isVisibleResponse = true;
-            } else if (relatedQuestion.isResponseVisibleTo(FeedbackParticipantType.RECEIVER_TEAM_MEMBERS)
-                       && studentsEmailInTeam.contains(response.recipient)) {
-                isVisibleResponse = true;
-            }
-        }
-        if (isVisibleResponse && instructor != null) {
-            boolean isGiverSectionRestricted =
-                    !instructor.isAllowedForPrivilege(response.giverSection,
-                                                      response.feedbackSessionName,
-                                                      Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-            // If instructors are not restricted to view the giver's section,
-            // they are allowed to view responses to GENERAL, subject to visibility options
-            boolean isRecipientSectionRestricted =
-                    relatedQuestion.recipientType != FeedbackParticipantType.NONE
-                    && !instructor.isAllowedForPrivilege(response.recipientSection,
-                                                         response.feedbackSessionName,
-                                                         Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
-
-            boolean isNotAllowedForInstructor = isGiverSectionRestricted || isRecipientSectionRestricted;
-            if (isNotAllowedForInstructor) {
-                isVisibleResponse = false;
-            }
-        }
-        return isVisibleResponse;
-    }
-
     private void sortByCreatedDate(List<FeedbackResponseCommentAttributes> responseCommentList) {
         Collections.sort(responseCommentList, new Comparator<FeedbackResponseCommentAttributes>() {
             @Override
@@ -2093,18 +2463,13 @@ public final class FeedbackSessionsLogic {
         });
     }
 
-    @SuppressWarnings("PMD.UnusedPrivateMethod") // false positive by PMD
     private void addVisibilityToTable(Map<String, boolean[]> visibilityTable,
             FeedbackQuestionAttributes question,
             FeedbackResponseAttributes response,
-            String userEmail,
-            UserRole role,
-            CourseRoster roster) {
+            FeedbackResponseVisibilityEvaluator visibilityEvaluator) {
         boolean[] visibility = new boolean[2];
-        visibility[Const.VISIBILITY_TABLE_GIVER] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, true, roster);
-        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = frLogic.isNameVisibleToUser(
-                question, response, userEmail, role, false, roster);
+        visibility[Const.VISIBILITY_TABLE_GIVER] = visibilityEvaluator.isNameVisible(response, question, true);
+        visibility[Const.VISIBILITY_TABLE_RECIPIENT] = visibilityEvaluator.isNameVisible(response, question, false);
         visibilityTable.put(response.getId(), visibility);
     }
 
@@ -2211,6 +2576,8 @@ public final class FeedbackSessionsLogic {
             FeedbackSessionAttributes fsa, CourseRoster roster,
             List<FeedbackQuestionAttributes> questions) {
 
+        loadRespondents(fsa, roster);
+
         FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
         List<StudentAttributes> students = roster.getStudents();
         List<InstructorAttributes> instructors = roster.getInstructors();
@@ -26,6 +26,8 @@ public final class InstructorsLogic {
 
     private static InstructorsLogic instance = new InstructorsLogic();
 
+    private static final String CACHE_KEY_INSTRUCTORS = "instructors";
+
     private static final InstructorsDb instructorsDb = new InstructorsDb();
 
     private static final AccountsLogic accountsLogic = AccountsLogic.inst();
@@ -33,6 +35,7 @@ public final class InstructorsLogic {
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final RequestScopedCache requestCache = RequestScopedCache.inst();
 
     private InstructorsLogic() {
         // prevent initialization
@@ -55,6 +58,13 @@ public final class InstructorsLogic {
         instructorsDb.putDocument(instructor);
     }
 
+    /**
+     * Creates or updates documents for the given instructors in as few calls as possible.
+     */
+    public void putDocuments(List<InstructorAttributes> instructors) {
+        instructorsDb.putDocuments(instructors);
+    }
+
     /**
      * Removes document for the given Instructor.
      * @param instructor to be removed from documents
@@ -111,8 +121,17 @@ public final class InstructorsLogic {
     }
 
     public List<InstructorAttributes> getInstructorsForCourse(String courseId) {
+        List<InstructorAttributes> instructors = requestCache.get(courseId, CACHE_KEY_INSTRUCTORS);
+        if (instructors == null) {
+            instructors = instructorsDb.getInstructorsForCourse(courseId);
+            requestCache.put(courseId, CACHE_KEY_INSTRUCTORS, instructors);
+        }
 
-        return instructorsDb.getInstructorsForCourse(courseId);
+        List<InstructorAttributes> copies = new ArrayList<InstructorAttributes>();
+        for (InstructorAttributes instructor : instructors) {
+            copies.add(instructor.getCopy());
+        }
+        return copies;
     }
 
     public List<InstructorAttributes> getInstructorsForGoogleId(String googleId) {
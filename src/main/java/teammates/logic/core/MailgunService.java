@@ -1,7 +1,11 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 
@@ -19,6 +23,9 @@ import com.sun.jersey.multipart.FormDataMultiPart;
  */
 public class MailgunService extends EmailSenderService {
 
+    /** The maximum number of recipients of one batch sending request. */
+    private static final int MAX_BATCH_SIZE = 1000;
+
     /**
      * {@inheritDoc}
      */
@@ -44,9 +51,52 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses a batch of emails with the same sender and reply-to address and no bcc address
+     * (as grouped by {@link #groupIntoBatches}) to one Mailgun batch sending request.
+     * The subject and content of each recipient are given as recipient variables,
+     * so that Mailgun sends a separate email to each recipient.
+     */
+    public FormDataMultiPart parseToEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper first = wrappers.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        String sender = first.getSenderName() == null || first.getSenderName().isEmpty()
+                        ? first.getSenderEmail()
+                        : first.getSenderName() + " <" + first.getSenderEmail() + ">";
+        formData.field("from", sender);
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : wrappers) {
+            formData.field("to", wrapper.getRecipient());
+            recipientVariables.put(wrapper.getRecipient(), new JSONObject().put("subject", wrapper.getSubject())
+                                                                           .put("html", wrapper.getContent()));
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        formData.field("h:Reply-To", first.getReplyTo());
+        formData.field("subject", "%recipient.subject%");
+        formData.field("html", "%recipient.html%");
+
+        return formData;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
-        FormDataMultiPart email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected List<List<EmailWrapper>> groupIntoRequests(List<EmailWrapper> wrappers) {
+        return groupIntoBatches(wrappers, MAX_BATCH_SIZE);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> request) {
+        send(request.size() == 1 ? parseToEmail(request.get(0)) : parseToEmail(request));
+    }
+
+    private void send(FormDataMultiPart email) {
         Client client = Client.create();
         client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
         WebResource webResource =
@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.jsoup.Jsoup;
@@ -24,6 +27,9 @@ import com.mailjet.client.resource.Email;
  */
 public class MailjetService extends EmailSenderService {
 
+    /** The maximum number of messages in one send request. */
+    private static final int MAX_BATCH_SIZE = 50;
+
     /**
      * {@inheritDoc}
      */
@@ -47,9 +53,38 @@ public class MailjetService extends EmailSenderService {
         return request;
     }
 
+    /**
+     * Parses the emails to one Mailjet send request containing a message for each email.
+     */
+    public MailjetRequest parseToEmail(List<EmailWrapper> wrappers) {
+        JSONArray messages = new JSONArray();
+        for (EmailWrapper wrapper : wrappers) {
+            messages.put(new JSONObject(parseToEmail(wrapper).getBody()));
+        }
+        return new MailjetRequest(Email.resource).property(Email.MESSAGES, messages);
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected List<List<EmailWrapper>> groupIntoRequests(List<EmailWrapper> wrappers) {
+        List<List<EmailWrapper>> requests = new ArrayList<List<EmailWrapper>>();
+        for (int i = 0; i < wrappers.size(); i += MAX_BATCH_SIZE) {
+            requests.add(wrappers.subList(i, Math.min(i + MAX_BATCH_SIZE, wrappers.size())));
+        }
+        return requests;
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> request)
+            throws MailjetException, MailjetSocketTimeoutException {
+        send(parseToEmail(request));
+    }
+
+    private void send(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
         MailjetResponse response = mailjet.post(email);
         if (response.getStatus() != SUCCESS_CODE) {
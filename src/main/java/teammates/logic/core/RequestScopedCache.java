@@ -0,0 +1,123 @@
+package teammates.logic.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import teammates.storage.api.EntitiesDb;
+
+/**
+ * Memoizes data of a course that is read many times while serving a single request,
+ * e.g. the course roster, feedback sessions and feedback questions.<br>
+ * Values are only cached between {@link #start()} and {@link #clear()}, which bracket a request.
+ * An entry is discarded as soon as the current request writes to the same course.
+ */
+public final class RequestScopedCache {
+
+    private static RequestScopedCache instance = new RequestScopedCache();
+
+    private static final ThreadLocal<Map<String, CacheEntry>> PER_THREAD_ENTRIES =
+            new ThreadLocal<Map<String, CacheEntry>>();
+    private static final ThreadLocal<int[]> PER_THREAD_HITS_AND_MISSES = new ThreadLocal<int[]>();
+
+    private RequestScopedCache() {
+        // prevent initialization
+    }
+
+    public static RequestScopedCache inst() {
+        return instance;
+    }
+
+    /**
+     * Starts caching values for the current request. Until this is called, nothing is cached.
+     */
+    public void start() {
+        clear();
+        PER_THREAD_ENTRIES.set(new HashMap<String, CacheEntry>());
+    }
+
+    /**
+     * Returns the value cached under {@code key} for the course with {@code courseId},
+     * or null if there is none or the course has been written to since the value was cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String courseId, String key) {
+        Map<String, CacheEntry> entries = PER_THREAD_ENTRIES.get();
+        if (entries == null) {
+            return null;
+        }
+        CacheEntry entry = entries.get(getEntryKey(courseId, key));
+        if (entry == null || entry.writeCount != EntitiesDb.getWriteCountForCourse(courseId)) {
+            getHitsAndMisses()[1]++;
+            return null;
+        }
+        getHitsAndMisses()[0]++;
+        return (T) entry.value;
+    }
+
+    /**
+     * Caches {@code value} under {@code key} for the course with {@code courseId} until
+     * the course is next written to. The caller must not modify {@code value} afterwards.
+     * Does nothing if caching has not been started for the current request.
+     */
+    public void put(String courseId, String key, Object value) {
+        Map<String, CacheEntry> entries = PER_THREAD_ENTRIES.get();
+        if (entries == null) {
+            return;
+        }
+        entries.put(getEntryKey(courseId, key),
+                    new CacheEntry(value, EntitiesDb.getWriteCountForCourse(courseId)));
+    }
+
+    public int getHitCount() {
+        return getHitsAndMisses()[0];
+    }
+
+    public int getMissCount() {
+        return getHitsAndMisses()[1];
+    }
+
+    /**
+     * Discards all cached values, resets the hit/miss counters and stops caching
+     * until {@link #start()} is called again.
+     */
+    public void clear() {
+        PER_THREAD_ENTRIES.remove();
+        PER_THREAD_HITS_AND_MISSES.remove();
+        EntitiesDb.clearWriteCountsForCourses();
+    }
+
+    /**
+     * Discards all cached values like {@link #clear()}, and also the data remembered by the storage layer
+     * for the current request, e.g. the entities it has written, closing the persistence manager of the request.
+     * To be called at the end of every request.
+     */
+    public void end() {
+        clear();
+        EntitiesDb.closePmForRequest();
+    }
+
+    private static String getEntryKey(String courseId, String key) {
+        return courseId + "|" + key;
+    }
+
+    private static int[] getHitsAndMisses() {
+        int[] hitsAndMisses = PER_THREAD_HITS_AND_MISSES.get();
+        if (hitsAndMisses == null) {
+            hitsAndMisses = new int[2];
+            PER_THREAD_HITS_AND_MISSES.set(hitsAndMisses);
+        }
+        return hitsAndMisses;
+    }
+
+    private static class CacheEntry {
+
+        final Object value;
+        final int writeCount;
+
+        CacheEntry(Object value, int writeCount) {
+            this.value = value;
+            this.writeCount = writeCount;
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.datatransfer.attributes.CommentAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.api.SearchDocumentMarkersDb;
+
+/**
+ * Handles the logic of updating search documents outside of the requests which change the data they are built from.
+ *
+ * <p>A request marks the documents it makes out of date and schedules their update; the update then claims
+ * the markers of the course, so that a document marked many times before it is updated is updated once,
+ * and the documents of a course are built and put together.</p>
+ *
+ * @see SearchDocumentMarkersDb
+ */
+public final class SearchDocumentsLogic {
+
+    /**
+     * The maximum number of documents updated together besides those the update was scheduled for.
+     */
+    private static final int MAX_OTHER_DOCUMENTS_PER_UPDATE = 200;
+
+    private static SearchDocumentsLogic instance = new SearchDocumentsLogic();
+
+    private static final SearchDocumentMarkersDb markersDb = new SearchDocumentMarkersDb();
+
+    private static final CommentsLogic commentsLogic = CommentsLogic.inst();
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private SearchDocumentsLogic() {
+        // prevent initialization
+    }
+
+    public static SearchDocumentsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Marks the documents in the index {@code indexName} of the entities {@code entityIds} of the course
+     * {@code courseId} as out of date.
+     *
+     * @param entityIds the emails of students, or the IDs of comments or of response comments
+     */
+    public void markForUpdate(String indexName, String courseId, Collection<String> entityIds) {
+        markersDb.markForUpdate(indexName, courseId, entityIds);
+    }
+
+    /**
+     * Updates the documents in the index {@code indexName} of the entities {@code entityIds} of the course
+     * {@code courseId}, if they are still marked as out of date, together with other documents of the course
+     * marked as out of date in the same index.
+     *
+     * <p>Documents of entities which no longer exist are skipped, as their documents are deleted with them.
+     * If the update fails, the documents are marked again so that the update can be retried.</p>
+     */
+    public void updateMarkedDocuments(String indexName, String courseId, Collection<String> entityIds) {
+        Set<String> claimedEntityIds =
+                markersDb.claimMarkers(indexName, courseId, entityIds, MAX_OTHER_DOCUMENTS_PER_UPDATE);
+        if (claimedEntityIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            updateDocuments(indexName, courseId, claimedEntityIds);
+        } catch (RuntimeException e) {
+            markersDb.markForUpdate(indexName, courseId, claimedEntityIds);
+            throw e;
+        }
+    }
+
+    private void updateDocuments(String indexName, String courseId, Set<String> entityIds) {
+        if (Const.SearchIndex.STUDENT.equals(indexName)) {
+            studentsLogic.putDocuments(
+                    new ArrayList<StudentAttributes>(studentsLogic.getStudentsForEmails(courseId, entityIds).values()));
+        } else if (Const.SearchIndex.COMMENT.equals(indexName)) {
+            List<CommentAttributes> comments = new ArrayList<CommentAttributes>();
+            for (String commentId : entityIds) {
+                CommentAttributes comment = commentsLogic.getComment(Long.valueOf(commentId));
+                if (comment != null) {
+                    comments.add(comment);
+                }
+            }
+            commentsLogic.putDocuments(comments);
+        } else if (Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT.equals(indexName)) {
+            List<FeedbackResponseCommentAttributes> comments = new ArrayList<FeedbackResponseCommentAttributes>();
+            for (String commentId : entityIds) {
+                FeedbackResponseCommentAttributes comment =
+                        frcLogic.getFeedbackResponseComment(Long.valueOf(commentId));
+                if (comment != null) {
+                    comments.add(comment);
+                }
+            }
+            frcLogic.putDocuments(comments);
+        } else {
+            Assumption.fail("Search documents of index " + indexName + " are not updated through markers");
+        }
+    }
+
+}
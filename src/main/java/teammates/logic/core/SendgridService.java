@@ -1,5 +1,7 @@
 package teammates.logic.core;
 
+import java.util.List;
+
 import org.jsoup.Jsoup;
 
 import teammates.common.util.Config;
@@ -18,6 +20,13 @@ import com.sendgrid.SendGridException;
  */
 public class SendgridService extends EmailSenderService {
 
+    /** The maximum number of recipients in the SMTP API header of one email. */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private static final String SUBJECT_TAG = "-teammatesSubject-";
+    private static final String HTML_TAG = "-teammatesHtml-";
+    private static final String TEXT_TAG = "-teammatesText-";
+
     /**
      * {@inheritDoc}
      */
@@ -39,9 +48,58 @@ public class SendgridService extends EmailSenderService {
         return email;
     }
 
+    /**
+     * Parses a batch of emails with the same sender and reply-to address and no bcc address
+     * (as grouped by {@link #groupIntoBatches}) to one SendGrid email.
+     * The recipients are given in the SMTP API header, with the subject and content of each recipient
+     * given as substitutions, so that SendGrid sends a separate email to each recipient.
+     */
+    public Email parseToEmail(List<EmailWrapper> wrappers) {
+        EmailWrapper first = wrappers.get(0);
+        Email email = new Email();
+        email.setFrom(first.getSenderEmail());
+        if (first.getSenderName() != null && !first.getSenderName().isEmpty()) {
+            email.setFromName(first.getSenderName());
+        }
+        email.setReplyTo(first.getReplyTo());
+
+        String[] recipients = new String[wrappers.size()];
+        String[] subjects = new String[wrappers.size()];
+        String[] htmls = new String[wrappers.size()];
+        String[] texts = new String[wrappers.size()];
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            recipients[i] = wrapper.getRecipient();
+            subjects[i] = wrapper.getSubject();
+            htmls[i] = wrapper.getContent();
+            texts[i] = Jsoup.parse(wrapper.getContent()).text();
+        }
+        email.addSmtpApiTo(recipients);
+        email.setSubject(SUBJECT_TAG);
+        email.addSubstitution(SUBJECT_TAG, subjects);
+        email.setHtml(HTML_TAG);
+        email.addSubstitution(HTML_TAG, htmls);
+        email.setText(TEXT_TAG);
+        email.addSubstitution(TEXT_TAG, texts);
+        return email;
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws SendGridException {
-        Email email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected List<List<EmailWrapper>> groupIntoRequests(List<EmailWrapper> wrappers) {
+        return groupIntoBatches(wrappers, MAX_BATCH_SIZE);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> request) throws SendGridException {
+        send(request.size() == 1 ? parseToEmail(request.get(0)) : parseToEmail(request));
+    }
+
+    private void send(Email email) throws SendGridException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Response response = sendgrid.send(email);
         if (response.getCode() != SUCCESS_CODE) {
@@ -1,7 +1,13 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -36,13 +42,17 @@ public final class StudentsLogic {
 
     private static StudentsLogic instance = new StudentsLogic();
 
+    private static final String CACHE_KEY_STUDENTS = "students";
+
     private static final StudentsDb studentsDb = new StudentsDb();
 
     private static final CommentsLogic commentsLogic = CommentsLogic.inst();
+    private static final CourseStatisticsLogic courseStatisticsLogic = CourseStatisticsLogic.inst();
     private static final CoursesLogic coursesLogic = CoursesLogic.inst();
     private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    private static final RequestScopedCache requestCache = RequestScopedCache.inst();
 
     private StudentsLogic() {
         // prevent initialization
@@ -66,12 +76,14 @@ public final class StudentsLogic {
 
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
+        Map<String, Date> statisticsMarkedAt = courseStatisticsLogic.markCourseStatisticsForChange(studentData.course);
         studentsDb.createStudent(studentData, hasDocument);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
                     "Course does not exist [" + studentData.course + "]");
         }
+        courseStatisticsLogic.updateCourseStatisticsForAddedStudent(studentData, statisticsMarkedAt);
 
     }
 
@@ -87,6 +99,14 @@ public final class StudentsLogic {
         return studentsDb.getStudentForEmail(courseId, email);
     }
 
+    /**
+     * Returns the students of the course with the given emails, keyed by email.
+     * Emails without a student in the course are not in the map.
+     */
+    public Map<String, StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        return studentsDb.getStudentsForEmails(courseId, emails);
+    }
+
     public StudentAttributes getStudentForCourseIdAndGoogleId(String courseId, String googleId) {
         return studentsDb.getStudentForGoogleId(courseId, googleId);
     }
@@ -100,7 +120,17 @@ public final class StudentsLogic {
     }
 
     public List<StudentAttributes> getStudentsForCourse(String courseId) {
-        return studentsDb.getStudentsForCourse(courseId);
+        List<StudentAttributes> students = requestCache.get(courseId, CACHE_KEY_STUDENTS);
+        if (students == null) {
+            students = studentsDb.getStudentsForCourse(courseId);
+            requestCache.put(courseId, CACHE_KEY_STUDENTS, students);
+        }
+
+        List<StudentAttributes> copies = new ArrayList<StudentAttributes>();
+        for (StudentAttributes student : students) {
+            copies.add(student.getCopy());
+        }
+        return copies;
     }
 
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
@@ -251,8 +281,10 @@ public final class StudentsLogic {
             throw new InvalidParametersException(student.getInvalidityInfo());
         }
 
+        Map<String, Date> statisticsMarkedAt = courseStatisticsLogic.markCourseStatisticsForChange(student.course);
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        updateCourseStatisticsForUpdatedStudent(originalStudent, student, statisticsMarkedAt);
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -270,28 +302,29 @@ public final class StudentsLogic {
 
         studentsDb.verifyStudentExists(courseId, originalEmail);
         StudentAttributes originalStudent = getStudentForEmail(courseId, originalEmail);
+        StudentAttributes registeredStudent = originalStudent.getCopy();
         originalStudent.googleId = null;
 
         if (!originalStudent.isValid()) {
             throw new InvalidParametersException(originalStudent.getInvalidityInfo());
         }
+        Map<String, Date> statisticsMarkedAt = courseStatisticsLogic.markCourseStatisticsForChange(courseId);
         studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
                                  originalStudent.team, originalStudent.section, originalStudent.email,
                                  originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        updateCourseStatisticsForUpdatedStudent(registeredStudent, originalStudent, statisticsMarkedAt);
     }
 
+    /**
+     * Enrolls the students in {@code enrollLines} into the course.
+     *
+     * <p>The existing students are read in a single batch get and compared with the enroll lines in memory;
+     * the new students are then created in a single batch put and the modified students updated together.
+     * The search documents of the students and their feedback responses are not updated; this is left to
+     * background tasks scheduled for the students in the {@link CourseEnrollmentResult#enrollmentList}.</p>
+     */
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
-            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
-        return enrollStudents(enrollLines, courseId, true);
-    }
-
-    public CourseEnrollmentResult enrollStudentsWithoutDocument(String enrollLines, String courseId)
-            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
-        return enrollStudents(enrollLines, courseId, false);
-    }
-
-    private CourseEnrollmentResult enrollStudents(String enrollLines, String courseId, boolean hasDocument)
-            throws EntityDoesNotExistException, EnrollException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EntityDoesNotExistException, EnrollException, InvalidParametersException {
 
         if (!coursesLogic.isCoursePresent(courseId)) {
             throw new EntityDoesNotExistException("Course does not exist :"
@@ -309,22 +342,49 @@ public final class StudentsLogic {
         verifyIsWithinSizeLimitPerEnrollment(studentList);
         validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
+        Set<String> emailsInEnrollList = getLowerCaseEmails(studentList);
+        List<String> emails = new ArrayList<String>();
         for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+            emails.add(student.email);
+        }
+        Map<String, StudentAttributes> existingStudents = getStudentsForEmails(courseId, emails);
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+        List<StudentAttributes> newStudents = new ArrayList<StudentAttributes>();
+        List<StudentAttributes> modifiedStudents = new ArrayList<StudentAttributes>();
+        List<StudentAttributes> removedFromStatistics = new ArrayList<StudentAttributes>();
+        List<StudentAttributes> addedToStatistics = new ArrayList<StudentAttributes>();
+        for (StudentAttributes student : studentList) {
+            StudentAttributes originalStudent = existingStudents.get(student.email);
+            StudentEnrollDetails enrollmentDetails = getEnrollmentDetails(student, originalStudent);
+            if (enrollmentDetails.updateStatus == StudentUpdateStatus.NEW) {
+                newStudents.add(student);
+                addedToStatistics.add(student);
+            } else if (enrollmentDetails.updateStatus == StudentUpdateStatus.MODIFIED) {
+                modifiedStudents.add(student);
+                // the stored google id is kept by the update, whatever the enroll line gives
+                StudentAttributes movedStudent = originalStudent.getCopy();
+                movedStudent.team = student.team;
+                movedStudent.section = student.section;
+                removedFromStatistics.add(originalStudent);
+                addedToStatistics.add(movedStudent);
+            }
             student.updateStatus = enrollmentDetails.updateStatus;
 
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
 
-        // add to return list students not included in the enroll list.
+        // read before writing, as the students not in the enroll list are not changed by the enrollment
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
+
+        Map<String, Date> statisticsMarkedAt = courseStatisticsLogic.markCourseStatisticsForChange(courseId);
+        studentsDb.createNewStudentsWithoutSearchability(newStudents);
+        studentsDb.updateStudentsWithoutSearchability(courseId, modifiedStudents);
+        courseStatisticsLogic.updateCourseStatistics(removedFromStatistics, addedToStatistics, statisticsMarkedAt);
+
+        // add to return list students not included in the enroll list.
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!emailsInEnrollList.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -379,15 +439,12 @@ public final class StudentsLogic {
 
     private List<StudentAttributes> getMergedList(List<StudentAttributes> studentList, String courseId) {
 
-        List<StudentAttributes> mergedList = new ArrayList<StudentAttributes>();
+        List<StudentAttributes> mergedList = new ArrayList<StudentAttributes>(studentList);
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
-
-        for (StudentAttributes student : studentList) {
-            mergedList.add(student);
-        }
+        Set<String> emailsInEnrollList = getLowerCaseEmails(studentList);
 
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, mergedList)) {
+            if (!emailsInEnrollList.contains(student.email.toLowerCase())) {
                 mergedList.add(student);
             }
         }
@@ -474,8 +531,17 @@ public final class StudentsLogic {
         // delete responses before deleting the student as we need to know the student's team.
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
         commentsLogic.deleteCommentsForStudent(courseId, studentEmail);
-        fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
+        StudentAttributes student = getStudentForEmail(courseId, studentEmail);
+        fsLogic.deleteStudentFromRespondentsList(student);
+        Map<String, Date> statisticsMarkedAt = student == null
+                                               ? new HashMap<String, Date>()
+                                               : courseStatisticsLogic.markCourseStatisticsForChange(courseId);
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        if (student != null) {
+            List<StudentAttributes> removedStudents = new ArrayList<StudentAttributes>();
+            removedStudents.add(student);
+            courseStatisticsLogic.updateCourseStatisticsForRemovedStudents(removedStudents, statisticsMarkedAt);
+        }
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -483,7 +549,10 @@ public final class StudentsLogic {
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
+        Map<String, Date> statisticsMarkedAt =
+                courseStatisticsLogic.markCourseStatisticsForChange(getCourseIds(students));
         studentsDb.deleteStudentsForGoogleId(googleId);
+        courseStatisticsLogic.updateCourseStatisticsForRemovedStudents(students, statisticsMarkedAt);
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -491,7 +560,10 @@ public final class StudentsLogic {
         for (StudentAttributes student : students) {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
+        Map<String, Date> statisticsMarkedAt =
+                courseStatisticsLogic.markCourseStatisticsForChange(getCourseIds(students));
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        courseStatisticsLogic.updateCourseStatisticsForRemovedStudents(students, statisticsMarkedAt);
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -505,10 +577,30 @@ public final class StudentsLogic {
 
     public void deleteStudentsForCourse(String courseId) {
         studentsDb.deleteStudentsForCourse(courseId);
+        courseStatisticsLogic.deleteCourseStatistics(courseId);
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+        courseStatisticsLogic.deleteCourseStatistics(courseId);
+    }
+
+    private void updateCourseStatisticsForUpdatedStudent(StudentAttributes originalStudent,
+                                                         StudentAttributes updatedStudent,
+                                                         Map<String, Date> statisticsMarkedAt) {
+        List<StudentAttributes> removedStudents = new ArrayList<StudentAttributes>();
+        removedStudents.add(originalStudent);
+        List<StudentAttributes> addedStudents = new ArrayList<StudentAttributes>();
+        addedStudents.add(updatedStudent);
+        courseStatisticsLogic.updateCourseStatistics(removedStudents, addedStudents, statisticsMarkedAt);
+    }
+
+    private Set<String> getCourseIds(List<StudentAttributes> students) {
+        Set<String> courseIds = new HashSet<String>();
+        for (StudentAttributes student : students) {
+            courseIds.add(student.course);
+        }
+        return courseIds;
     }
 
     public void adjustFeedbackResponseForEnrollments(
@@ -534,34 +626,39 @@ public final class StudentsLogic {
         studentsDb.putDocument(student);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
+    public void putDocuments(List<StudentAttributes> students) {
+        studentsDb.putDocuments(students);
+    }
 
+    /**
+     * Compares {@code student} in the enroll list with {@code originalStudent}, the existing student with
+     * the same email or null if none. A modified student is updated with the fields not given in the enroll list.
+     */
+    private StudentEnrollDetails getEnrollmentDetails(StudentAttributes student, StudentAttributes originalStudent)
+            throws InvalidParametersException {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
-        enrollmentDetails.course = validStudentAttributes.course;
-        enrollmentDetails.email = validStudentAttributes.email;
-        enrollmentDetails.newTeam = validStudentAttributes.team;
-        enrollmentDetails.newSection = validStudentAttributes.section;
+        enrollmentDetails.course = student.course;
+        enrollmentDetails.email = student.email;
+        enrollmentDetails.newTeam = student.team;
+        enrollmentDetails.newSection = student.section;
 
-        boolean isModifyingExistingStudent = originalStudentAttributes != null;
-        if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
+        if (student.isEnrollInfoSameAs(originalStudent)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
-        } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
+        } else if (originalStudent == null) {
+            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
+        } else {
+            student.updateWithExistingRecord(originalStudent);
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
-            if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
-                enrollmentDetails.oldTeam = originalStudentAttributes.team;
+            if (!originalStudent.team.equals(student.team)) {
+                enrollmentDetails.oldTeam = originalStudent.team;
             }
-            if (!originalStudentAttributes.section.equals(validStudentAttributes.section)) {
-                enrollmentDetails.oldSection = originalStudentAttributes.section;
+            if (!originalStudent.section.equals(student.section)) {
+                enrollmentDetails.oldSection = originalStudent.section;
             }
-        } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
-            enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
         return enrollmentDetails;
@@ -633,14 +730,12 @@ public final class StudentsLogic {
         return studentEmailList.contains(email);
     }
 
-    private boolean isInEnrollList(StudentAttributes student,
-            List<StudentAttributes> studentInfoList) {
-        for (StudentAttributes studentInfo : studentInfoList) {
-            if (studentInfo.email.equalsIgnoreCase(student.email)) {
-                return true;
-            }
+    private Set<String> getLowerCaseEmails(List<StudentAttributes> students) {
+        Set<String> emails = new HashSet<String>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email.toLowerCase());
         }
-        return false;
+        return emails;
     }
 
     private boolean isTeamChanged(String originalTeam, String newTeam) {
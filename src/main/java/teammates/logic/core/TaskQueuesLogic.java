@@ -1,18 +1,33 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+import teammates.common.util.Logger;
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
 import teammates.common.util.TaskWrapper;
+import teammates.common.util.ThreadHelper;
 
 import com.google.appengine.api.taskqueue.Queue;
+import com.google.appengine.api.taskqueue.QueueConstants;
 import com.google.appengine.api.taskqueue.QueueFactory;
+import com.google.appengine.api.taskqueue.TaskAlreadyExistsException;
 import com.google.appengine.api.taskqueue.TaskOptions;
+import com.google.appengine.api.taskqueue.TransientFailureException;
 
 /**
  * Handles operations related to task queues.
  */
 public class TaskQueuesLogic {
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_ATTEMPTS_PER_ADD = 3;
+
     /**
      * Adds the given task to the specified queue.
      *
@@ -30,6 +45,101 @@ public class TaskQueuesLogic {
      */
     public void addDeferredTask(TaskWrapper task, long countdownTime) {
         Queue requiredQueue = QueueFactory.getQueue(task.getQueueName());
+        RequestOperationCounter.record(Operation.TASK_QUEUE_CALL);
+        requiredQueue.add(toTaskOptions(task, countdownTime));
+    }
+
+    /**
+     * Adds the given tasks to their queues, each to be run after its countdown time,
+     * in as few requests to the task queue service as it allows.
+     *
+     * <p>Each task is given a unique name, so that a request which fails part way can be retried
+     * without adding any task twice. A request which fails does not stop the requests for the other tasks.
+     *
+     * @param tasks the task objects containing the details of tasks to be added
+     * @return the tasks which could not be added, e.g. because they are too large
+     */
+    public List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        Map<String, List<TaskWrapper>> tasksByQueueName = new LinkedHashMap<String, List<TaskWrapper>>();
+        Map<String, List<TaskOptions>> taskOptionsByQueueName = new LinkedHashMap<String, List<TaskOptions>>();
+        for (TaskWrapper task : tasks) {
+            List<TaskWrapper> tasksForQueue = tasksByQueueName.get(task.getQueueName());
+            if (tasksForQueue == null) {
+                tasksForQueue = new ArrayList<TaskWrapper>();
+                tasksByQueueName.put(task.getQueueName(), tasksForQueue);
+                taskOptionsByQueueName.put(task.getQueueName(), new ArrayList<TaskOptions>());
+            }
+            tasksForQueue.add(task);
+            // the names are given once, so that the tasks keep them if they are added again one by one
+            taskOptionsByQueueName.get(task.getQueueName())
+                    .add(toTaskOptions(task, task.getCountdownTime()).taskName(UUID.randomUUID().toString()));
+        }
+
+        List<TaskWrapper> failedTasks = new ArrayList<TaskWrapper>();
+        int maxTasksPerAdd = QueueConstants.maxTasksPerAdd();
+        for (Map.Entry<String, List<TaskWrapper>> entry : tasksByQueueName.entrySet()) {
+            Queue requiredQueue = QueueFactory.getQueue(entry.getKey());
+            List<TaskWrapper> tasksForQueue = entry.getValue();
+            List<TaskOptions> taskOptionsForQueue = taskOptionsByQueueName.get(entry.getKey());
+            for (int i = 0; i < tasksForQueue.size(); i += maxTasksPerAdd) {
+                int end = Math.min(i + maxTasksPerAdd, tasksForQueue.size());
+                failedTasks.addAll(addTaskChunk(requiredQueue, tasksForQueue.subList(i, end),
+                                                taskOptionsForQueue.subList(i, end)));
+            }
+        }
+        return failedTasks;
+    }
+
+    /**
+     * Adds a chunk of tasks in one request, or one by one if the request is rejected for its size,
+     * reusing the task names so that tasks added by an earlier request are not added again.
+     *
+     * @return the tasks in the chunk which could not be added
+     */
+    private List<TaskWrapper> addTaskChunk(Queue queue, List<TaskWrapper> tasks, List<TaskOptions> taskOptions) {
+        try {
+            addTaskBatch(queue, taskOptions);
+            return new ArrayList<TaskWrapper>();
+        } catch (IllegalArgumentException e) {
+            if (tasks.size() == 1) {
+                log.severe("Could not add task to queue " + queue.getQueueName() + ": " + e.getMessage());
+                return new ArrayList<TaskWrapper>(tasks);
+            }
+            log.warning("Adding " + tasks.size() + " tasks to queue " + queue.getQueueName()
+                        + " one by one after the request was rejected: " + e.getMessage());
+            List<TaskWrapper> failedTasks = new ArrayList<TaskWrapper>();
+            for (int i = 0; i < tasks.size(); i++) {
+                failedTasks.addAll(addTaskChunk(queue, tasks.subList(i, i + 1), taskOptions.subList(i, i + 1)));
+            }
+            return failedTasks;
+        } catch (TransientFailureException e) {
+            log.severe("Could not add " + tasks.size() + " tasks to queue " + queue.getQueueName()
+                       + " after " + MAX_ATTEMPTS_PER_ADD + " attempts: " + e.getMessage());
+            return new ArrayList<TaskWrapper>(tasks);
+        }
+    }
+
+    private void addTaskBatch(Queue queue, List<TaskOptions> taskBatch) {
+        for (int attempt = 1;; attempt++) {
+            try {
+                RequestOperationCounter.record(Operation.TASK_QUEUE_CALL);
+                queue.add(taskBatch);
+                return;
+            } catch (TaskAlreadyExistsException e) {
+                // the named tasks were added by an earlier attempt; the other tasks in the batch are added
+                return;
+            } catch (TransientFailureException e) {
+                if (attempt == MAX_ATTEMPTS_PER_ADD) {
+                    throw e;
+                }
+                log.warning("Retrying adding " + taskBatch.size() + " tasks to queue " + queue.getQueueName()
+                            + " after transient failure: " + e.getMessage());
+                ThreadHelper.waitBriefly();
+            }
+        }
+    }
+
+    private TaskOptions toTaskOptions(TaskWrapper task, long countdownTime) {
         TaskOptions taskToBeAdded = TaskOptions.Builder.withUrl(task.getWorkerUrl());
         if (countdownTime > 0) {
             taskToBeAdded.countdownMillis(countdownTime);
@@ -43,8 +153,7 @@ public class TaskQueuesLogic {
                 taskToBeAdded = taskToBeAdded.param(name, value);
             }
         }
-
-        requiredQueue.add(taskToBeAdded);
+        return taskToBeAdded;
     }
 
 }
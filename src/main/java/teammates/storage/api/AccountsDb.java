@@ -5,7 +5,6 @@ import java.util.Collection;
 import java.util.List;
 
 import javax.jdo.JDOHelper;
-import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.Query;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -21,8 +20,6 @@ import teammates.storage.entity.Account;
 import teammates.storage.entity.StudentProfile;
 
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.datastore.Key;
-import com.google.appengine.api.datastore.KeyFactory;
 
 /**
  * Handles CRUD operations for accounts.
@@ -93,7 +90,7 @@ public class AccountsDb extends EntitiesDb {
         if (a == null) {
             return null;
         }
-        closePm();
+        flushPm();
 
         return new AccountAttributes(a);
     }
@@ -160,7 +157,7 @@ public class AccountsDb extends EntitiesDb {
             }
         }
         log.info(a.getBackupIdentifier());
-        closePm();
+        flushPm();
     }
 
     public void updateAccount(AccountAttributes a)
@@ -191,7 +188,7 @@ public class AccountsDb extends EntitiesDb {
             deletePicture(new BlobKey(accountToDelete.studentProfile.pictureKey));
         }
         deleteEntity(accountToDelete);
-        closePm();
+        flushPm();
     }
 
     public void deleteAccounts(Collection<AccountAttributes> accounts) {
@@ -202,29 +199,22 @@ public class AccountsDb extends EntitiesDb {
             }
         }
         deleteEntities(accounts);
-        closePm();
+        flushPm();
     }
 
     private Account getAccountEntity(String googleId, boolean retrieveStudentProfile) {
 
-        try {
-            Key key = KeyFactory.createKey(Account.class.getSimpleName(), googleId);
-            Account account = getPm().getObjectById(Account.class, key);
-
-            if (JDOHelper.isDeleted(account)) {
-                return null;
-            } else if (retrieveStudentProfile && account.getStudentProfile() == null) {
-                // This situation cannot be reproduced and hence not tested
-                // This only happens when existing data in the store do not have a profile
-                account.setStudentProfile(new StudentProfile(account.getGoogleId()));
-            }
+        Account account = getEntityById(Account.class, googleId);
 
-            return account;
-        } catch (IllegalArgumentException iae) {
-            return null;
-        } catch (JDOObjectNotFoundException je) {
+        if (account == null) {
             return null;
+        } else if (retrieveStudentProfile && account.getStudentProfile() == null) {
+            // This situation cannot be reproduced and hence not tested
+            // This only happens when existing data in the store do not have a profile
+            account.setStudentProfile(new StudentProfile(account.getGoogleId()));
         }
+
+        return account;
     }
 
     private Account getAccountEntity(String googleId) {
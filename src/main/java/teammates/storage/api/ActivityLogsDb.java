@@ -0,0 +1,157 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Future;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
+import teammates.storage.entity.ActivityLog;
+
+import com.google.appengine.api.datastore.AsyncDatastoreService;
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.FetchOptions;
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.Query.FilterOperator;
+import com.google.appengine.api.datastore.Query.FilterPredicate;
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Handles operations related to the activity logs shown to the admin.
+ *
+ * <p>Activity logs are written once per request and never updated, so they are put asynchronously through
+ * the low-level datastore API instead of JDO, letting the request continue while the log is written.
+ * The entity written is the one JDO maps {@link ActivityLog} to, so that logs are read back through JDO.
+ * Old logs are deleted in the same way, by key, without being loaded.</p>
+ *
+ * @see ActivityLog
+ * @see ActivityLogEntry
+ */
+public class ActivityLogsDb extends EntitiesDb {
+
+    private static final AsyncDatastoreService ASYNC_DATASTORE = DatastoreServiceFactory.getAsyncDatastoreService();
+
+    private static final DatastoreService DATASTORE = DatastoreServiceFactory.getDatastoreService();
+
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    /**
+     * Starts writing {@code activityLogEntry} of the app version {@code version} to the datastore,
+     * without waiting for it to be written.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the key of the log written, available once it is written
+     */
+    public Future<Key> putActivityLogAsync(ActivityLogEntry activityLogEntry, String version) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, activityLogEntry);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, version);
+
+        Entity activityLog = new Entity(ActivityLog.class.getSimpleName());
+        activityLog.setProperty("time", new Date(activityLogEntry.getTime()));
+        activityLog.setProperty("version", version);
+        activityLog.setUnindexedProperty("servletName", activityLogEntry.getServletName());
+        activityLog.setUnindexedProperty("action", activityLogEntry.getAction());
+        activityLog.setUnindexedProperty("role", activityLogEntry.getRole());
+        activityLog.setUnindexedProperty("name", activityLogEntry.getName());
+        activityLog.setUnindexedProperty("googleId", activityLogEntry.getGoogleId());
+        activityLog.setUnindexedProperty("email", activityLogEntry.getEmail());
+        activityLog.setUnindexedProperty("toShow", activityLogEntry.isToShow());
+        activityLog.setUnindexedProperty("message", new Text(activityLogEntry.getMessage()));
+        activityLog.setUnindexedProperty("url", activityLogEntry.getUrl());
+        activityLog.setUnindexedProperty("logId", activityLogEntry.getId());
+        activityLog.setUnindexedProperty("timeTaken", activityLogEntry.getTimeTaken());
+
+        RequestOperationCounter.record(Operation.DATASTORE_PUT);
+        return ASYNC_DATASTORE.put(activityLog);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the logs of the app versions {@code versions} from {@code startTime} to {@code endTime} inclusive,
+     *         latest first
+     */
+    @SuppressWarnings("unchecked")
+    public List<ActivityLogEntry> getActivityLogs(List<String> versions, long startTime, long endTime) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, versions);
+
+        List<ActivityLogEntry> activityLogs = new ArrayList<ActivityLogEntry>();
+        if (versions.isEmpty()) {
+            return activityLogs;
+        }
+
+        PersistenceManager pm = getNewPm();
+        try {
+            Query q = pm.newQuery(ActivityLog.class);
+            q.declareParameters("java.util.Collection versionsParam, java.util.Date startTimeParam, "
+                                + "java.util.Date endTimeParam");
+            q.setFilter("versionsParam.contains(version) && time >= startTimeParam && time <= endTimeParam");
+            q.setOrdering("time desc");
+
+            for (ActivityLog activityLog
+                    : (List<ActivityLog>) q.execute(versions, new Date(startTime), new Date(endTime))) {
+                activityLogs.add(toActivityLogEntry(activityLog));
+            }
+            return activityLogs;
+        } finally {
+            pm.close();
+        }
+    }
+
+    private ActivityLogEntry toActivityLogEntry(ActivityLog activityLog) {
+        String message = activityLog.getMessage() == null ? "" : activityLog.getMessage().getValue();
+        return new ActivityLogEntry(activityLog.getTime().getTime(), activityLog.getServletName(),
+                                    activityLog.getAction(), activityLog.getRole(), activityLog.getName(),
+                                    activityLog.getGoogleId(), activityLog.getEmail(), activityLog.isToShow(),
+                                    message, activityLog.getUrl(), activityLog.getLogId(), activityLog.getTimeTaken());
+    }
+
+    /**
+     * Deletes the logs written before {@code time}, in batches of {@value #DELETE_BATCH_SIZE}.
+     *
+     * @return the number of logs deleted
+     */
+    public int deleteActivityLogsBefore(Date time) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, time);
+
+        com.google.appengine.api.datastore.Query q =
+                new com.google.appengine.api.datastore.Query(ActivityLog.class.getSimpleName())
+                        .setFilter(new FilterPredicate("time", FilterOperator.LESS_THAN, time))
+                        .setKeysOnly();
+        int numberOfLogsDeleted = 0;
+        while (true) {
+            RequestOperationCounter.record(Operation.DATASTORE_QUERY);
+            List<Key> keys = new ArrayList<Key>();
+            for (Entity activityLog
+                    : DATASTORE.prepare(q).asIterable(FetchOptions.Builder.withLimit(DELETE_BATCH_SIZE))) {
+                keys.add(activityLog.getKey());
+            }
+            if (keys.isEmpty()) {
+                return numberOfLogsDeleted;
+            }
+            RequestOperationCounter.record(Operation.DATASTORE_DELETE);
+            DATASTORE.delete(keys);
+            numberOfLogsDeleted += keys.size();
+        }
+    }
+
+    @Override
+    protected Object getEntity(EntityAttributes attributes) {
+        Assumption.fail("Activity logs are not written as entity attributes");
+        return null;
+    }
+
+}
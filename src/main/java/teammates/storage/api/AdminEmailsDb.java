@@ -69,7 +69,7 @@ public class AdminEmailsDb extends EntitiesDb {
         adminEmailToUpdate.setSendDate(ae.sendDate);
 
         log.info(ae.getBackupIdentifier());
-        closePm();
+        flushPm();
 
     }
 
@@ -123,7 +123,7 @@ public class AdminEmailsDb extends EntitiesDb {
         adminEmailToUpdate.setSendDate(newAdminEmail.sendDate);
 
         log.info(newAdminEmail.getBackupIdentifier());
-        closePm();
+        flushPm();
 
     }
 
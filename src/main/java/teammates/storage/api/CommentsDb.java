@@ -25,6 +25,7 @@ import teammates.common.util.SanitizationHelper;
 import teammates.storage.entity.Comment;
 import teammates.storage.search.CommentSearchDocument;
 import teammates.storage.search.CommentSearchQuery;
+import teammates.storage.search.SearchDocument;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -255,7 +256,7 @@ public class CommentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /**
@@ -271,7 +272,7 @@ public class CommentsDb extends EntitiesDb {
         if (!newAttributes.isValid()) {
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
-        Comment comment = (Comment) getEntity(newAttributes);
+        Comment comment = (Comment) getEntityReadingOwnWrites(newAttributes);
 
         if (comment == null) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + newAttributes.toString());
@@ -302,7 +303,7 @@ public class CommentsDb extends EntitiesDb {
         comment.setLastEditorEmail(newAttributes.giverEmail);
         comment.setLastEditedAt(newAttributes.createdAt);
 
-        getPm().close();
+        flushPm();
 
         CommentAttributes updatedComment = new CommentAttributes(comment);
         log.info(updatedComment.getBackupIdentifier());
@@ -333,7 +334,7 @@ public class CommentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -348,7 +349,7 @@ public class CommentsDb extends EntitiesDb {
         }
         log.info("updating last editor email from: " + oldInstrEmail + " to: " + updatedInstrEmail
                  + " for student comments in the course: " + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -375,7 +376,7 @@ public class CommentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -475,6 +476,17 @@ public class CommentsDb extends EntitiesDb {
         putDocument(Const.SearchIndex.COMMENT, new CommentSearchDocument(comment));
     }
 
+    /*
+     * Create or update search documents for the given comments in as few calls as possible
+     */
+    public void putDocuments(List<CommentAttributes> comments) {
+        List<SearchDocument> documents = new ArrayList<SearchDocument>();
+        for (CommentAttributes comment : comments) {
+            documents.add(new CommentSearchDocument(comment));
+        }
+        putDocuments(Const.SearchIndex.COMMENT, documents);
+    }
+
     /**
      * Searches for comments.
      * @return {@link CommentSearchResultBundle}
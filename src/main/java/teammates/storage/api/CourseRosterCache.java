@@ -0,0 +1,121 @@
+package teammates.storage.api;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.Logger;
+
+import com.google.appengine.api.memcache.Expiration;
+import com.google.appengine.api.memcache.MemcacheService;
+import com.google.appengine.api.memcache.MemcacheService.SetPolicy;
+import com.google.appengine.api.memcache.MemcacheServiceFactory;
+
+/**
+ * Caches the roster of each course in memcache so that it can be shared across requests.
+ *
+ * <p>Each course has a version number which is bumped whenever a student or instructor
+ * of the course is written to the datastore (see {@link CourseWriteListener}).
+ * A roster is cached under the version that was current before it was read from the datastore,
+ * so a roster that was read concurrently with a write is never served after that write.</p>
+ *
+ * <p>Rosters are read with queries, which may not reflect a write until some time after it.
+ * Hence a roster is not cached if the course was written to within {@link #CONSISTENCY_WINDOW_SECONDS},
+ * and cached rosters expire after a short time in case a write was not visible for longer than that.</p>
+ *
+ * @see CourseRoster
+ */
+public class CourseRosterCache {
+
+    private static final String MEMCACHE_NAMESPACE = "CourseRoster";
+    private static final String VERSION_KEY_PREFIX = "version|";
+    private static final String LAST_WRITE_KEY_PREFIX = "lastWrite|";
+
+    /**
+     * Time after a write to a course during which queries for its roster may not reflect that write.
+     */
+    private static final int CONSISTENCY_WINDOW_SECONDS = 30;
+
+    /**
+     * Cached rosters also expire after this time, in case a roster was read before an earlier
+     * write to the course became visible to datastore queries.
+     */
+    private static final int EXPIRATION_SECONDS = 5 * 60;
+
+    private static final Logger log = Logger.getLogger();
+
+    /**
+     * Returns the current version of the roster of the course with {@code courseId}.
+     * To be read before reading the roster from the datastore.
+     */
+    public long getVersion(String courseId) {
+        MemcacheService memcache = getMemcacheService();
+        String versionKey = getVersionKey(courseId);
+        Object version = memcache.get(versionKey);
+        if (version == null) {
+            // starting from the current time avoids reusing the versions of an evicted counter
+            memcache.put(versionKey, System.currentTimeMillis(), null, SetPolicy.ADD_ONLY_IF_NOT_PRESENT);
+            version = memcache.get(versionKey);
+        }
+        return version == null ? 0 : (Long) version;
+    }
+
+    /**
+     * Returns the roster of the course with {@code courseId} cached under {@code version},
+     * or null if there is none.
+     */
+    public CourseRoster getCourseRoster(String courseId, long version) {
+        Object json = getMemcacheService().get(getRosterKey(courseId, version));
+        if (json == null) {
+            return null;
+        }
+        return JsonUtils.fromJson((String) json, CourseRoster.class);
+    }
+
+    /**
+     * Caches {@code roster} for the course with {@code courseId} under {@code version},
+     * which must have been read using {@link #getVersion(String)} before {@code roster} was read.
+     * The roster is not cached if the course was written to too recently for {@code roster} to reflect the write.
+     */
+    public void putCourseRoster(String courseId, long version, CourseRoster roster) {
+        MemcacheService memcache = getMemcacheService();
+        if (memcache.contains(getLastWriteKey(courseId))) {
+            // the roster may have been read before the last write became visible to queries
+            return;
+        }
+        try {
+            memcache.put(getRosterKey(courseId, version), JsonUtils.toJson(roster),
+                                     Expiration.byDeltaSeconds(EXPIRATION_SECONDS));
+        } catch (IllegalArgumentException e) {
+            // the roster is larger than the maximum size of a memcache value
+            log.warning("Roster of " + courseId + " is too large to be cached: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Bumps the version of the roster of the course with {@code courseId},
+     * so that rosters cached under earlier versions are no longer used,
+     * and stops rosters of the course from being cached until the write is visible to queries.
+     */
+    static void invalidateCourseRoster(String courseId) {
+        MemcacheService memcache = getMemcacheService();
+        memcache.put(getLastWriteKey(courseId), System.currentTimeMillis(),
+                     Expiration.byDeltaSeconds(CONSISTENCY_WINDOW_SECONDS));
+        memcache.increment(getVersionKey(courseId), 1L, System.currentTimeMillis());
+    }
+
+    private static MemcacheService getMemcacheService() {
+        return MemcacheServiceFactory.getMemcacheService(MEMCACHE_NAMESPACE);
+    }
+
+    private static String getVersionKey(String courseId) {
+        return VERSION_KEY_PREFIX + courseId;
+    }
+
+    private static String getLastWriteKey(String courseId) {
+        return LAST_WRITE_KEY_PREFIX + courseId;
+    }
+
+    private static String getRosterKey(String courseId, long version) {
+        return courseId + "|" + version;
+    }
+
+}
@@ -0,0 +1,352 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.JDOCanRetryException;
+import javax.jdo.JDOObjectNotFoundException;
+import javax.jdo.PersistenceManager;
+import javax.jdo.Transaction;
+
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
+import teammates.storage.entity.CourseStatistics;
+
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.KeyFactory;
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Handles CRUD operations for the statistics of courses.
+ *
+ * <p>Changes to the statistics of a course are applied in a transaction, as students of the same course
+ * may be changed concurrently. Statistics are only read and deleted by key, so that the statistics read
+ * are never older than the ones last written by a transaction. As JDO gets objects one at a time,
+ * statistics are read and deleted through the low-level datastore API, each in one batch request.</p>
+ *
+ * @see CourseStatistics
+ * @see CourseStatisticsAttributes
+ */
+public class CourseStatisticsDb extends EntitiesDb {
+
+    private static final int MAX_TRANSACTION_RETRIES = 5;
+
+    private static final DatastoreService DATASTORE = DatastoreServiceFactory.getDatastoreService();
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the statistics of the courses which are kept, keyed by course id, read by key in one batch,
+     *         including the statistics which are to be counted again.
+     */
+    public Map<String, CourseStatisticsAttributes> getCourseStatisticsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        Map<String, CourseStatisticsAttributes> statisticsForCourses =
+                new HashMap<String, CourseStatisticsAttributes>();
+        if (courseIds.isEmpty()) {
+            return statisticsForCourses;
+        }
+
+        RequestOperationCounter.record(Operation.DATASTORE_GET);
+        for (Entity entity : DATASTORE.get(getKeys(courseIds)).values()) {
+            CourseStatistics statistics = toCourseStatistics(entity);
+            statisticsForCourses.put(statistics.getCourseId(), new CourseStatisticsAttributes(statistics));
+        }
+        return statisticsForCourses;
+    }
+
+    /**
+     * Stores each of {@code statisticsToPut}, replacing the statistics of the course if they exist.
+     * This is not done in a transaction, so it is only meant for the statistics of new courses.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void putCourseStatistics(Collection<CourseStatisticsAttributes> statisticsToPut)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statisticsToPut);
+
+        List<CourseStatistics> entities = new ArrayList<CourseStatistics>();
+        for (CourseStatisticsAttributes statistics : statisticsToPut) {
+            statistics.sanitizeForSaving();
+            if (!statistics.isValid()) {
+                throw new InvalidParametersException(statistics.getInvalidityInfo());
+            }
+            entities.add(statistics.toEntity());
+            log.info(statistics.getBackupIdentifier());
+        }
+
+        PersistenceManager pm = getNewPm();
+        try {
+            pm.makePersistentAll(entities);
+        } finally {
+            pm.close();
+        }
+    }
+
+    /**
+     * Replaces the stored statistics of the course of {@code statistics} in a transaction,
+     * if they have not been changed since {@code lastUpdatedAt}.
+     * Preconditions: <br>
+     * * {@code statistics} is non-null.
+     *
+     * @param lastUpdatedAt the time the statistics were last changed when read, or null if they were not stored
+     * @return true if the statistics are replaced, or false if they have been changed in the meantime
+     */
+    public boolean replaceCourseStatistics(CourseStatisticsAttributes statistics, Date lastUpdatedAt)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statistics);
+
+        statistics.sanitizeForSaving();
+        if (!statistics.isValid()) {
+            throw new InvalidParametersException(statistics.getInvalidityInfo());
+        }
+
+        for (int attempt = 0; attempt < MAX_TRANSACTION_RETRIES; attempt++) {
+            PersistenceManager pm = getNewPm();
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                CourseStatistics entity = getStatisticsEntity(pm, statistics.courseId);
+
+                boolean isUnchanged = entity == null
+                                      ? lastUpdatedAt == null
+                                      : lastUpdatedAt != null && lastUpdatedAt.equals(entity.getUpdatedAt());
+                if (!isUnchanged) {
+                    return false;
+                }
+
+                if (entity == null) {
+                    pm.makePersistent(statistics.toEntity());
+                } else {
+                    setCounts(entity, statistics);
+                    entity.setRecountNeeded(false);
+                    entity.setUpdatedAt(getNextUpdatedAt(entity));
+                }
+
+                tx.commit();
+                log.info(statistics.getBackupIdentifier());
+                return true;
+            } catch (JDOCanRetryException e) {
+                log.info("Retrying to replace the statistics of course " + statistics.courseId);
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                pm.close();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Marks the stored statistics of each of the courses {@code courseIds} to be counted again,
+     * in a transaction per course. This is to be done before students of the course are changed, so that
+     * the statistics are counted again if the students are changed but the change is never added to the
+     * statistics, e.g. as the request is stopped in between. Statistics which are not stored are not marked,
+     * as they are counted when first read.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the times the statistics were last changed by marking them, keyed by course id, for the courses
+     *         whose statistics were up to date before. Only changes to those can be added afterwards.
+     */
+    public Map<String, Date> markCourseStatisticsForRecount(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        Map<String, Date> markedAt = new HashMap<String, Date>();
+        for (String courseId : courseIds) {
+            Date courseMarkedAt = markCourseStatisticsForRecount(courseId);
+            if (courseMarkedAt != null) {
+                markedAt.put(courseId, courseMarkedAt);
+            }
+        }
+        return markedAt;
+    }
+
+    private Date markCourseStatisticsForRecount(String courseId) {
+        for (int attempt = 0; attempt < MAX_TRANSACTION_RETRIES; attempt++) {
+            PersistenceManager pm = getNewPm();
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                CourseStatistics entity = getStatisticsEntity(pm, courseId);
+                if (entity == null) {
+                    return null;
+                }
+
+                // statistics marked already are changed as well, so that a change added for an earlier mark
+                // does not clear the mark
+                boolean wasUpToDate = !entity.isRecountNeeded();
+                Date markedAt = getNextUpdatedAt(entity);
+                entity.setRecountNeeded(true);
+                entity.setUpdatedAt(markedAt);
+
+                tx.commit();
+                return wasUpToDate ? markedAt : null;
+            } catch (JDOCanRetryException e) {
+                log.info("Retrying to mark the statistics of course " + courseId + " to be counted again");
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                pm.close();
+            }
+        }
+        log.warning("Failed to mark the statistics of course " + courseId + " to be counted again"
+                    + " due to concurrent changes");
+        return null;
+    }
+
+    /**
+     * Adds each of {@code changes} to the stored statistics of its course in a transaction,
+     * retrying if the statistics are changed concurrently. The statistics of the course must have been
+     * marked by {@link #markCourseStatisticsForRecount} before the students were changed.
+     * A change is only added, and the mark cleared, if the statistics have not been changed since they were
+     * marked at the time given in {@code markedAt}; otherwise the statistics are left marked to be counted
+     * again, or are created marked if they are not stored, so that statistics counted while the change was
+     * made are not stored.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @param markedAt the times returned by {@link #markCourseStatisticsForRecount}, keyed by course id
+     * @return the changes which could not be added as the statistics kept being changed concurrently.
+     */
+    public List<CourseStatisticsAttributes> addToCourseStatistics(Collection<CourseStatisticsAttributes> changes,
+                                                                  Map<String, Date> markedAt) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, changes);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, markedAt);
+
+        List<CourseStatisticsAttributes> failedChanges = new ArrayList<CourseStatisticsAttributes>();
+        for (CourseStatisticsAttributes change : changes) {
+            if (!addToCourseStatistics(change, markedAt.get(change.courseId))) {
+                log.warning("Failed to add to the statistics of course " + change.courseId
+                            + " due to concurrent changes: " + change);
+                failedChanges.add(change);
+            }
+        }
+        return failedChanges;
+    }
+
+    private boolean addToCourseStatistics(CourseStatisticsAttributes change, Date markedAt) {
+        for (int attempt = 0; attempt < MAX_TRANSACTION_RETRIES; attempt++) {
+            PersistenceManager pm = getNewPm();
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                CourseStatistics entity = getStatisticsEntity(pm, change.courseId);
+
+                if (entity == null) {
+                    entity = new CourseStatisticsAttributes(change.courseId).toEntity();
+                    entity.setRecountNeeded(true);
+                    pm.makePersistent(entity);
+                } else if (markedAt != null && markedAt.equals(entity.getUpdatedAt())) {
+                    CourseStatisticsAttributes statistics = new CourseStatisticsAttributes(entity);
+                    statistics.add(change);
+                    setCounts(entity, statistics);
+                    entity.setRecountNeeded(false);
+                    entity.setUpdatedAt(getNextUpdatedAt(entity));
+                } else {
+                    entity.setRecountNeeded(true);
+                    entity.setUpdatedAt(getNextUpdatedAt(entity));
+                }
+
+                tx.commit();
+                return true;
+            } catch (JDOCanRetryException e) {
+                log.info("Retrying to add to the statistics of course " + change.courseId);
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                pm.close();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the statistics of the courses. Courses without statistics are skipped.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteCourseStatisticsForCourses(Collection<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+        if (courseIds.isEmpty()) {
+            return;
+        }
+
+        RequestOperationCounter.record(Operation.DATASTORE_DELETE);
+        DATASTORE.delete(getKeys(courseIds));
+    }
+
+    private static void setCounts(CourseStatistics entity, CourseStatisticsAttributes statistics) {
+        entity.setStudentsTotal(statistics.studentsTotal);
+        entity.setUnregisteredTotal(statistics.unregisteredTotal);
+        entity.setStudentsPerTeam(new Text(JsonUtils.toJson(statistics.studentsPerTeam)));
+        entity.setStudentsPerSection(new Text(JsonUtils.toJson(statistics.studentsPerSection)));
+    }
+
+    /**
+     * Returns a time later than the time the statistics were last changed, so that every change
+     * can be told apart by its time even if changes are made within the same millisecond.
+     */
+    private static Date getNextUpdatedAt(CourseStatistics entity) {
+        long now = System.currentTimeMillis();
+        Date lastUpdatedAt = entity.getUpdatedAt();
+        return lastUpdatedAt == null || lastUpdatedAt.getTime() < now ? new Date(now)
+                                                                      : new Date(lastUpdatedAt.getTime() + 1);
+    }
+
+    private CourseStatistics getStatisticsEntity(PersistenceManager pm, String courseId) {
+        try {
+            return pm.getObjectById(CourseStatistics.class, courseId);
+        } catch (JDOObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the keys of the entities JDO stores the statistics of the courses as.
+     */
+    private static List<Key> getKeys(Collection<String> courseIds) {
+        List<Key> keys = new ArrayList<Key>();
+        for (String courseId : courseIds) {
+            keys.add(KeyFactory.createKey(CourseStatistics.class.getSimpleName(), courseId));
+        }
+        return keys;
+    }
+
+    private static CourseStatistics toCourseStatistics(Entity entity) {
+        CourseStatistics statistics = new CourseStatistics(entity.getKey().getName(),
+                                                           ((Long) entity.getProperty("studentsTotal")).intValue(),
+                                                           ((Long) entity.getProperty("unregisteredTotal")).intValue(),
+                                                           (Text) entity.getProperty("studentsPerTeam"),
+                                                           (Text) entity.getProperty("studentsPerSection"));
+        statistics.setUpdatedAt((Date) entity.getProperty("updatedAt"));
+        statistics.setRecountNeeded(Boolean.TRUE.equals(entity.getProperty("isRecountNeeded")));
+        return statistics;
+    }
+
+    @Override
+    protected Object getEntity(EntityAttributes attributes) {
+        CourseStatisticsAttributes statistics = (CourseStatisticsAttributes) attributes;
+        try {
+            return getPm().getObjectById(CourseStatistics.class, statistics.courseId);
+        } catch (JDOObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+}
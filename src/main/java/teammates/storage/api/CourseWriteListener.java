@@ -0,0 +1,94 @@
+package teammates.storage.api;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.jdo.listener.DeleteLifecycleListener;
+import javax.jdo.listener.InstanceLifecycleEvent;
+import javax.jdo.listener.StoreLifecycleListener;
+
+import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStudent;
+import teammates.storage.entity.FeedbackQuestion;
+import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.Instructor;
+
+/**
+ * Counts the writes made by the current thread to the course-level entities of each course,
+ * so that data cached for a course can be checked against later writes to the same course.
+ * Writes to the students and instructors of a course also invalidate its cached roster.
+ *
+ * @see EntitiesDb#getWriteCountForCourse(String)
+ * @see CourseRosterCache
+ */
+class CourseWriteListener implements StoreLifecycleListener, DeleteLifecycleListener {
+
+    private static final ThreadLocal<Map<Object, String>> PER_THREAD_COURSE_IDS_OF_DELETED_ENTITIES =
+            new ThreadLocal<Map<Object, String>>() {
+                @Override
+                protected Map<Object, String> initialValue() {
+                    return new IdentityHashMap<Object, String>();
+                }
+            };
+
+    @Override
+    public void preStore(InstanceLifecycleEvent event) {
+        // reading the fields of an entity that is being flushed can discard its pending changes
+    }
+
+    @Override
+    public void postStore(InstanceLifecycleEvent event) {
+        recordWrite(event.getSource());
+    }
+
+    @Override
+    public void preDelete(InstanceLifecycleEvent event) {
+        // the fields of the entity can no longer be read after it is deleted
+        String courseId = getCourseId(event.getSource());
+        if (courseId != null) {
+            PER_THREAD_COURSE_IDS_OF_DELETED_ENTITIES.get().put(event.getSource(), courseId);
+        }
+    }
+
+    @Override
+    public void postDelete(InstanceLifecycleEvent event) {
+        String courseId = PER_THREAD_COURSE_IDS_OF_DELETED_ENTITIES.get().remove(event.getSource());
+        if (courseId != null) {
+            recordWrite(event.getSource(), courseId);
+        }
+    }
+
+    private void recordWrite(Object entity) {
+        String courseId = getCourseId(entity);
+        if (courseId != null) {
+            recordWrite(entity, courseId);
+        }
+    }
+
+    /**
+     * Records a write after it has happened, so that the roster of the course cannot be
+     * read and cached again before the write is visible.
+     */
+    private void recordWrite(Object entity, String courseId) {
+        EntitiesDb.recordWriteForCourse(courseId);
+        if (entity instanceof CourseStudent || entity instanceof Instructor) {
+            CourseRosterCache.invalidateCourseRoster(courseId);
+        }
+    }
+
+    private String getCourseId(Object entity) {
+        if (entity instanceof CourseStudent) {
+            return ((CourseStudent) entity).getCourseId();
+        } else if (entity instanceof Instructor) {
+            return ((Instructor) entity).getCourseId();
+        } else if (entity instanceof FeedbackSession) {
+            return ((FeedbackSession) entity).getCourseId();
+        } else if (entity instanceof FeedbackQuestion) {
+            return ((FeedbackQuestion) entity).getCourseId();
+        } else if (entity instanceof Course) {
+            return ((Course) entity).getUniqueId();
+        }
+        return null;
+    }
+
+}
@@ -2,7 +2,9 @@ package teammates.storage.api;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.jdo.JDOHelper;
 import javax.jdo.Query;
@@ -127,7 +129,7 @@ public class CoursesDb extends EntitiesDb {
         courseEntityToUpdate.setTimeZone(courseToUpdate.getTimeZone());
 
         log.info(courseToUpdate.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     /**
@@ -152,18 +154,7 @@ public class CoursesDb extends EntitiesDb {
     }
 
     private Course getCourseEntity(String courseId) {
-        Query q = getPm().newQuery(Course.class);
-        q.declareParameters("String courseIdParam");
-        q.setFilter("ID == courseIdParam");
-
-        @SuppressWarnings("unchecked")
-        List<Course> courseList = (List<Course>) q.execute(courseId);
-
-        if (courseList.isEmpty() || JDOHelper.isDeleted(courseList.get(0))) {
-            return null;
-        }
-
-        return courseList.get(0);
+        return getEntityById(Course.class, courseId);
     }
 
     private List<Course> getCourseEntities(List<String> courseIds) {
@@ -177,6 +168,12 @@ public class CoursesDb extends EntitiesDb {
         @SuppressWarnings("unchecked")
         List<Course> courses = (List<Course>) q.execute(courseIds);
 
-        return courses;
+        final Set<String> courseIdsToGet = new HashSet<String>(courseIds);
+        return readOwnWrites(Course.class, courses, new OwnWriteFilter<Course>() {
+            @Override
+            public boolean matches(Course course) {
+                return courseIdsToGet.contains(course.getUniqueId());
+            }
+        });
     }
 }
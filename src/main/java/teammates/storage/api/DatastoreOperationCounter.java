@@ -0,0 +1,72 @@
+package teammates.storage.api;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.listener.DeleteLifecycleListener;
+import javax.jdo.listener.InstanceLifecycleEvent;
+import javax.jdo.listener.StoreLifecycleListener;
+
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
+
+/**
+ * Counts the datastore operations made by the current request through JDO.
+ *
+ * <p>Entities written or deleted are counted as they are flushed, including changes to loaded entities.
+ * Queries and gets are not seen by lifecycle listeners, so they are counted by wrapping the
+ * {@link PersistenceManager} the operations are made through.</p>
+ *
+ * @see RequestOperationCounter
+ */
+class DatastoreOperationCounter implements StoreLifecycleListener, DeleteLifecycleListener {
+
+    /**
+     * Returns a {@link PersistenceManager} which makes its calls through {@code pm},
+     * counting the queries created and the entities got by id.
+     */
+    static PersistenceManager countQueriesAndGets(final PersistenceManager pm) {
+        return (PersistenceManager) Proxy.newProxyInstance(PersistenceManager.class.getClassLoader(),
+                new Class<?>[] { PersistenceManager.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                        String methodName = method.getName();
+                        if ("newQuery".equals(methodName)) {
+                            RequestOperationCounter.record(Operation.DATASTORE_QUERY);
+                        } else if ("getObjectById".equals(methodName) || "getObjectsById".equals(methodName)) {
+                            RequestOperationCounter.record(Operation.DATASTORE_GET);
+                        }
+
+                        try {
+                            return method.invoke(pm, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getCause();
+                        }
+                    }
+                });
+    }
+
+    @Override
+    public void preStore(InstanceLifecycleEvent event) {
+        // counted once stored
+    }
+
+    @Override
+    public void postStore(InstanceLifecycleEvent event) {
+        RequestOperationCounter.record(Operation.DATASTORE_PUT);
+    }
+
+    @Override
+    public void preDelete(InstanceLifecycleEvent event) {
+        // counted once deleted
+    }
+
+    @Override
+    public void postDelete(InstanceLifecycleEvent event) {
+        RequestOperationCounter.record(Operation.DATASTORE_DELETE);
+    }
+
+}
@@ -2,9 +2,14 @@ package teammates.storage.api;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.jdo.JDOHelper;
+import javax.jdo.JDOObjectNotFoundException;
 import javax.jdo.PersistenceManager;
 import javax.jdo.PersistenceManagerFactory;
 
@@ -12,11 +17,9 @@ import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
-import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.Logger;
-import teammates.common.util.ThreadHelper;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.SearchManager;
 import teammates.storage.search.SearchQuery;
@@ -51,6 +54,30 @@ public abstract class EntitiesDb {
     private static final PersistenceManagerFactory PMF = JDOHelper.getPersistenceManagerFactory("transactions-optional");
     private static final ThreadLocal<PersistenceManager> PER_THREAD_PM = new ThreadLocal<PersistenceManager>();
 
+    /**
+     * Identity map of the entities stored or deleted through the current {@link PersistenceManager},
+     * keyed by their JDO object id. A null value marks a deleted entity. Kept by {@link OwnWritesListener},
+     * so that it includes the writes of every path, and used to answer key and query reads
+     * with the writes of the current request.
+     */
+    private static final ThreadLocal<Map<Object, Object>> PER_THREAD_ENTITIES_BY_ID =
+            new ThreadLocal<Map<Object, Object>>();
+    private static final ThreadLocal<PersistenceManager> PER_THREAD_ENTITIES_BY_ID_PM =
+            new ThreadLocal<PersistenceManager>();
+
+    private static final ThreadLocal<Map<String, Integer>> PER_THREAD_COURSE_WRITE_COUNTS =
+            new ThreadLocal<Map<String, Integer>>();
+    private static final CourseWriteListener COURSE_WRITE_LISTENER = new CourseWriteListener();
+    private static final DatastoreOperationCounter DATASTORE_OPERATION_COUNTER = new DatastoreOperationCounter();
+    private static final OwnWritesListener OWN_WRITES_LISTENER = new OwnWritesListener();
+
+    /**
+     * Decides whether an entity written in the current request matches the filter of a query.
+     */
+    protected interface OwnWriteFilter<E> {
+        boolean matches(E entity);
+    }
+
     /**
      * Preconditions:
      * <br> * {@code entityToAdd} is not null and has valid data.
@@ -69,7 +96,7 @@ public abstract class EntitiesDb {
 
         // TODO: Do we really need special identifiers? Can just use ToString()?
         // Answer: Yes. We can use toString.
-        Object existingEntity = getEntity(entityToAdd);
+        Object existingEntity = getEntityReadingOwnWrites(entityToAdd);
         if (existingEntity != null) {
             String error = String.format(ERROR_CREATE_ENTITY_ALREADY_EXISTS, entityToAdd.getEntityTypeAsString())
                     + entityToAdd.getIdentificationString();
@@ -81,26 +108,6 @@ public abstract class EntitiesDb {
         getPm().makePersistent(entity);
         getPm().flush();
 
-        // Wait for the operation to persist
-        int elapsedTime = 0;
-        if (Config.PERSISTENCE_CHECK_DURATION > 0) {
-            Object createdEntity = getEntity(entityToAdd);
-            while (createdEntity == null
-                   && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                ThreadHelper.waitBriefly();
-                createdEntity = getEntity(entityToAdd);
-                //check before incrementing to avoid boundary case problem
-                if (createdEntity == null) {
-                    elapsedTime += ThreadHelper.WAIT_DURATION;
-                }
-            }
-            if (elapsedTime >= Config.PERSISTENCE_CHECK_DURATION) {
-                log.info("Operation did not persist in time: create"
-                        + entityToAdd.getEntityTypeAsString() + "->"
-                        + entityToAdd.getIdentificationString());
-            }
-        }
-
         log.info(entityToAdd.getBackupIdentifier());
 
         return entity;
@@ -122,8 +129,9 @@ public abstract class EntitiesDb {
                 throw new InvalidParametersException(entityToAdd.getInvalidityInfo());
             }
 
-            if (getEntity(entityToAdd) == null) {
-                entities.add(entityToAdd.toEntity());
+            if (getEntityReadingOwnWrites(entityToAdd) == null) {
+                Object entity = entityToAdd.toEntity();
+                entities.add(entity);
             } else {
                 entitiesToUpdate.add(entityToAdd);
             }
@@ -159,30 +167,43 @@ public abstract class EntitiesDb {
         getPm().makePersistent(entity);
         getPm().flush();
 
-        // Wait for the operation to persist
-        if (Config.PERSISTENCE_CHECK_DURATION > 0) {
-            int elapsedTime = 0;
-            Object entityCheck = getEntity(entityToAdd);
-            while (entityCheck == null
-                   && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                ThreadHelper.waitBriefly();
-                entityCheck = getEntity(entityToAdd);
-                //check before incrementing to avoid boundary case problem
-                if (entityCheck == null) {
-                    elapsedTime += ThreadHelper.WAIT_DURATION;
-                }
-            }
-            if (elapsedTime >= Config.PERSISTENCE_CHECK_DURATION) {
-                log.info("Operation did not persist in time: create"
-                         + entityToAdd.getEntityTypeAsString() + "->"
-                         + entityToAdd.getIdentificationString());
-            }
-        }
         log.info(entityToAdd.getBackupIdentifier());
 
         return entity;
     }
 
+    /**
+     * Creates {@code entitiesToAdd} in a single batch put.<br>
+     * Warning: Do not use this method unless none of the entities can exist, e.g. they have been
+     * looked up already with a batch get; existing entities would be overwritten.
+     * Preconditions:
+     * <br> * {@code entitiesToAdd} is not null and all its entities have valid data.
+     */
+    public void createEntitiesWithoutExistenceCheck(Collection<? extends EntityAttributes> entitiesToAdd)
+            throws InvalidParametersException {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToAdd);
+
+        for (EntityAttributes entityToAdd : entitiesToAdd) {
+            entityToAdd.sanitizeForSaving();
+
+            if (!entityToAdd.isValid()) {
+                throw new InvalidParametersException(entityToAdd.getInvalidityInfo());
+            }
+        }
+
+        List<Object> entities = new ArrayList<Object>();
+        for (EntityAttributes entityToAdd : entitiesToAdd) {
+            Object entity = entityToAdd.toEntity();
+            entities.add(entity);
+
+            log.info(entityToAdd.getBackupIdentifier());
+        }
+
+        getPm().makePersistentAll(entities);
+        getPm().flush();
+    }
+
     // TODO: use this method for subclasses.
     /**
      * Note: This is a non-cascade delete.<br>
@@ -193,7 +214,7 @@ public abstract class EntitiesDb {
     public void deleteEntity(EntityAttributes entityToDelete) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityToDelete);
 
-        Object entity = getEntity(entityToDelete);
+        Object entity = getEntityReadingOwnWrites(entityToDelete);
 
         if (entity == null) {
             return;
@@ -202,28 +223,6 @@ public abstract class EntitiesDb {
         getPm().deletePersistent(entity);
         getPm().flush();
 
-        // wait for the operation to persist
-        if (Config.PERSISTENCE_CHECK_DURATION > 0) {
-            int elapsedTime = 0;
-            Object entityCheck = getEntity(entityToDelete);
-            boolean isEntityDeleted = entityCheck == null || JDOHelper.isDeleted(entityCheck);
-            while (!isEntityDeleted
-                    && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                ThreadHelper.waitBriefly();
-                entityCheck = getEntity(entityToDelete);
-
-                isEntityDeleted = entityCheck == null || JDOHelper.isDeleted(entityCheck);
-                //check before incrementing to avoid boundary case problem
-                if (!isEntityDeleted) {
-                    elapsedTime += ThreadHelper.WAIT_DURATION;
-                }
-            }
-            if (elapsedTime >= Config.PERSISTENCE_CHECK_DURATION) {
-                log.info("Operation did not persist in time: delete"
-                        + entityToDelete.getEntityTypeAsString() + "->"
-                        + entityToDelete.getIdentificationString());
-            }
-        }
         log.info(entityToDelete.getBackupIdentifier());
     }
 
@@ -232,7 +231,7 @@ public abstract class EntitiesDb {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entitiesToDelete);
         List<Object> entities = new ArrayList<Object>();
         for (EntityAttributes entityToDelete : entitiesToDelete) {
-            Object entity = getEntity(entityToDelete);
+            Object entity = getEntityReadingOwnWrites(entityToDelete);
             if (entity != null) {
                 entities.add(entity);
                 log.info(entityToDelete.getBackupIdentifier());
@@ -244,13 +243,16 @@ public abstract class EntitiesDb {
     }
 
     public void commitOutstandingChanges() {
-        closePm();
+        flushPm();
     }
 
-    protected void closePm() {
-        if (!getPm().isClosed()) {
-            getPm().close();
-        }
+    /**
+     * Writes the outstanding changes made through the current {@link PersistenceManager} to the Datastore.
+     * The manager is kept open, together with the entities read and written through it,
+     * until the end of the request.
+     */
+    protected void flushPm() {
+        getPm().flush();
     }
 
     public void deletePicture(BlobKey key) {
@@ -266,7 +268,163 @@ public abstract class EntitiesDb {
      */
     protected abstract Object getEntity(EntityAttributes attributes);
 
+    /**
+     * Returns the entity matching {@code attributes} as seen after the writes of this request.
+     * {@link #getEntity} reads the writes of the request through {@link #getEntityById}
+     * or {@link #readOwnWrites}; entities deleted through other paths are filtered out here.
+     * @return null if the entity was deleted in this request or does not exist in the Datastore.
+     */
+    protected Object getEntityReadingOwnWrites(EntityAttributes attributes) {
+        Object entity = getEntity(attributes);
+        if (entity != null && JDOHelper.isPersistent(entity) && JDOHelper.isDeleted(entity)) {
+            return null;
+        }
+        return entity;
+    }
+
+    /**
+     * Returns the entity of {@code entityClass} with primary key {@code key}, answering from the entities
+     * written or deleted in this request before getting it from the Datastore.
+     * @return null if the entity was deleted in this request or does not exist in the Datastore.
+     */
+    protected <E> E getEntityById(Class<E> entityClass, Object key) {
+        Map<Object, Object> entitiesById = getEntitiesById();
+        Object id = getPm().newObjectIdInstance(entityClass, key);
+        if (entitiesById.containsKey(id)) {
+            return entityClass.cast(entitiesById.get(id));
+        }
+
+        try {
+            E entity = getPm().getObjectById(entityClass, key);
+            return JDOHelper.isDeleted(entity) ? null : entity;
+        } catch (IllegalArgumentException iae) {
+            return null;
+        } catch (JDOObjectNotFoundException je) {
+            return null;
+        }
+    }
+
+    /**
+     * Brings {@code queryResults}, the result of a query for entities of {@code entityClass}, up to date
+     * with the writes of this request, which queries may not see yet: entities deleted in this request
+     * are dropped, and entities written in this request are kept or added according to {@code filter},
+     * which must match the entities matched by the query.
+     */
+    protected <E> List<E> readOwnWrites(Class<E> entityClass, Collection<E> queryResults, OwnWriteFilter<E> filter) {
+        Map<Object, Object> entitiesById = getEntitiesById();
+        Set<Object> idsInResults = new HashSet<Object>();
+        List<E> entities = new ArrayList<E>();
+
+        for (E entity : queryResults) {
+            Object id = JDOHelper.getObjectId(entity);
+            idsInResults.add(id);
+            if (JDOHelper.isDeleted(entity) || !isStillMatching(entitiesById, id, entity, filter)) {
+                continue;
+            }
+            entities.add(entity);
+        }
+
+        for (Map.Entry<Object, Object> writtenEntity : entitiesById.entrySet()) {
+            Object entity = writtenEntity.getValue();
+            if (entityClass.isInstance(entity) && !idsInResults.contains(writtenEntity.getKey())
+                    && filter.matches(entityClass.cast(entity))) {
+                entities.add(entityClass.cast(entity));
+            }
+        }
+
+        return entities;
+    }
+
+    private <E> boolean isStillMatching(Map<Object, Object> entitiesById, Object id, E entity,
+                                        OwnWriteFilter<E> filter) {
+        if (!entitiesById.containsKey(id)) {
+            return true;
+        }
+        return entitiesById.get(id) != null && filter.matches(entity);
+    }
+
+    /**
+     * Forgets all entities written or deleted by the current thread.
+     * Threads are reused across requests, so this is done at the end of every request by {@link #closePmForRequest()}.
+     */
+    public static void clearIdentityMap() {
+        PER_THREAD_ENTITIES_BY_ID.remove();
+        PER_THREAD_ENTITIES_BY_ID_PM.remove();
+    }
+
+    /**
+     * Writes the outstanding changes of the current thread and closes its {@link PersistenceManager},
+     * discarding the entities read and written through it. To be called at the end of every request;
+     * within a request the manager is shared, so that every read sees the writes made before it.
+     */
+    public static void closePmForRequest() {
+        PersistenceManager pm = PER_THREAD_PM.get();
+        try {
+            if (pm != null && !pm.isClosed()) {
+                pm.close();
+            }
+        } finally {
+            PER_THREAD_PM.remove();
+            clearIdentityMap();
+        }
+    }
+
+    static void recordStoredEntity(Object entity) {
+        Object id = JDOHelper.getObjectId(entity);
+        if (id != null) {
+            getEntitiesById().put(id, entity);
+        }
+    }
+
+    static void recordDeletedEntity(Object id) {
+        getEntitiesById().put(id, null);
+    }
+
+    /**
+     * Returns the number of times the current thread has written to the students, instructors,
+     * feedback sessions, feedback questions or the course itself of the course with {@code courseId}.
+     * Data read for a course is out of date if this number has changed since it was read.
+     */
+    public static int getWriteCountForCourse(String courseId) {
+        Map<String, Integer> writeCounts = PER_THREAD_COURSE_WRITE_COUNTS.get();
+        if (writeCounts == null || !writeCounts.containsKey(courseId)) {
+            return 0;
+        }
+        return writeCounts.get(courseId);
+    }
+
+    /**
+     * Forgets the write counts of all courses. To be called at the end of every request,
+     * together with discarding any data that was checked against them.
+     */
+    public static void clearWriteCountsForCourses() {
+        PER_THREAD_COURSE_WRITE_COUNTS.remove();
+    }
+
+    static void recordWriteForCourse(String courseId) {
+        Map<String, Integer> writeCounts = PER_THREAD_COURSE_WRITE_COUNTS.get();
+        if (writeCounts == null) {
+            writeCounts = new HashMap<String, Integer>();
+            PER_THREAD_COURSE_WRITE_COUNTS.set(writeCounts);
+        }
+        writeCounts.put(courseId, getWriteCountForCourse(courseId) + 1);
+    }
+
+    private static Map<Object, Object> getEntitiesById() {
+        // entities held in the map are only usable with the PersistenceManager they were written with
+        PersistenceManager pm = getThreadPm();
+        if (PER_THREAD_ENTITIES_BY_ID.get() == null || PER_THREAD_ENTITIES_BY_ID_PM.get() != pm) {
+            PER_THREAD_ENTITIES_BY_ID.set(new HashMap<Object, Object>());
+            PER_THREAD_ENTITIES_BY_ID_PM.set(pm);
+        }
+        return PER_THREAD_ENTITIES_BY_ID.get();
+    }
+
     protected PersistenceManager getPm() {
+        return getThreadPm();
+    }
+
+    private static PersistenceManager getThreadPm() {
         PersistenceManager pm = PER_THREAD_PM.get();
         if (pm != null && !pm.isClosed()) {
             return pm;
@@ -275,11 +433,28 @@ public abstract class EntitiesDb {
         if (pm != null && pm.isClosed()) {
             PER_THREAD_PM.remove();
         }
-        pm = PMF.getPersistenceManager();
+        pm = createPm();
+        pm.addInstanceLifecycleListener(COURSE_WRITE_LISTENER, (Class[]) null);
+        pm.addInstanceLifecycleListener(OWN_WRITES_LISTENER, (Class[]) null);
         PER_THREAD_PM.set(pm);
         return pm;
     }
 
+    /**
+     * Returns a new {@link PersistenceManager}, separate from the one of the current thread,
+     * which is to be closed by the caller. Transactions are run on such a manager so that
+     * they neither include the outstanding changes of the thread nor read its cached entities.
+     */
+    protected PersistenceManager getNewPm() {
+        return createPm();
+    }
+
+    private static PersistenceManager createPm() {
+        PersistenceManager pm = PMF.getPersistenceManager();
+        pm.addInstanceLifecycleListener(DATASTORE_OPERATION_COUNTER, (Class[]) null);
+        return DatastoreOperationCounter.countQueriesAndGets(pm);
+    }
+
     //the followings APIs are used by Teammates' search engine
     protected void putDocument(String indexName, SearchDocument document) {
         try {
@@ -289,6 +464,10 @@ public abstract class EntitiesDb {
         }
     }
 
+    protected void putDocuments(String indexName, List<SearchDocument> documents) {
+        SearchManager.putDocuments(indexName, SearchDocument.buildAll(documents));
+    }
+
     protected Results<ScoredDocument> searchDocuments(String indexName, SearchQuery query) {
         try {
             if (query.getFilterSize() > 0) {
@@ -0,0 +1,307 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.jdo.JDOCanRetryException;
+import javax.jdo.JDOObjectNotFoundException;
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+import javax.jdo.Transaction;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.storage.entity.FeedbackQuestionStatistics;
+
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.KeyFactory;
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Handles CRUD operations for the statistics of feedback questions.
+ *
+ * <p>Changes to the statistics of a question are applied in a transaction, as concurrent submissions
+ * may change the same statistics. All operations use their own {@link PersistenceManager} so that
+ * the statistics read are never older than the ones last written by a transaction.</p>
+ *
+ * @see FeedbackQuestionStatistics
+ * @see FeedbackQuestionStatisticsAttributes
+ */
+public class FeedbackQuestionStatisticsDb extends EntitiesDb {
+
+    private static final int MAX_TRANSACTION_RETRIES = 5;
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return Null if not found.
+     */
+    public FeedbackQuestionStatisticsAttributes getFeedbackQuestionStatistics(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        PersistenceManager pm = getNewPm();
+        try {
+            FeedbackQuestionStatistics statistics = pm.getObjectById(FeedbackQuestionStatistics.class,
+                                                                     getKey(feedbackQuestionId));
+            return new FeedbackQuestionStatisticsAttributes(statistics);
+        } catch (JDOObjectNotFoundException e) {
+            return null;
+        } finally {
+            pm.close();
+        }
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the statistics of the questions of the session which are kept, keyed by question id.
+     */
+    public Map<String, FeedbackQuestionStatisticsAttributes> getFeedbackQuestionStatisticsForSession(
+            String feedbackSessionName, String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Map<String, FeedbackQuestionStatisticsAttributes> statisticsForSession =
+                new HashMap<String, FeedbackQuestionStatisticsAttributes>();
+        PersistenceManager pm = getNewPm();
+        try {
+            for (FeedbackQuestionStatistics statistics
+                    : getFeedbackQuestionStatisticsEntitiesForSession(pm, feedbackSessionName, courseId)) {
+                statisticsForSession.put(statistics.getFeedbackQuestionId(),
+                                         new FeedbackQuestionStatisticsAttributes(statistics));
+            }
+        } finally {
+            pm.close();
+        }
+        return statisticsForSession;
+    }
+
+    /**
+     * Stores each of {@code statisticsToPut}, replacing the statistics of the question if they exist.
+     * The statistics are not stored in a transaction, so this is only meant for statistics which
+     * cannot be changed concurrently, such as those of newly created questions.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void putFeedbackQuestionStatistics(Collection<FeedbackQuestionStatisticsAttributes> statisticsToPut)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statisticsToPut);
+
+        List<FeedbackQuestionStatistics> entities = new ArrayList<FeedbackQuestionStatistics>();
+        for (FeedbackQuestionStatisticsAttributes statistics : statisticsToPut) {
+            statistics.sanitizeForSaving();
+            if (!statistics.isValid()) {
+                throw new InvalidParametersException(statistics.getInvalidityInfo());
+            }
+            entities.add(statistics.toEntity());
+            log.info(statistics.getBackupIdentifier());
+        }
+
+        PersistenceManager pm = getNewPm();
+        try {
+            pm.makePersistentAll(entities);
+        } finally {
+            pm.close();
+        }
+    }
+
+    /**
+     * Replaces the stored statistics of the question of {@code statistics} in a transaction,
+     * or creates them if they do not exist, unless they were changed since they were read.
+     * Preconditions: <br>
+     * * {@code statistics} is non-null.
+     * @param lastUpdatedAt the time the stored statistics were last changed when they were read,
+     *         or null if they did not exist then
+     * @return false if the statistics were changed in the meantime, in which case they are not replaced.
+     */
+    public boolean replaceFeedbackQuestionStatistics(FeedbackQuestionStatisticsAttributes statistics,
+                                                     Date lastUpdatedAt)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, statistics);
+
+        statistics.sanitizeForSaving();
+        if (!statistics.isValid()) {
+            throw new InvalidParametersException(statistics.getInvalidityInfo());
+        }
+
+        for (int attempt = 0; attempt < MAX_TRANSACTION_RETRIES; attempt++) {
+            PersistenceManager pm = getNewPm();
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                FeedbackQuestionStatistics entity = getStatisticsEntity(pm, statistics.feedbackQuestionId);
+
+                boolean isUnchanged = entity == null
+                                      ? lastUpdatedAt == null
+                                      : lastUpdatedAt != null && lastUpdatedAt.equals(entity.getUpdatedAt());
+                if (!isUnchanged) {
+                    return false;
+                }
+
+                if (entity == null) {
+                    pm.makePersistent(statistics.toEntity());
+                } else {
+                    entity.setNumberOfResponses(statistics.numberOfResponses);
+                    entity.setCounts(new Text(JsonUtils.toJson(statistics.counts)));
+                    entity.setUpdatedAt(getNextUpdatedAt(entity));
+                }
+
+                tx.commit();
+                log.info(statistics.getBackupIdentifier());
+                return true;
+            } catch (JDOCanRetryException e) {
+                log.info("Retrying to replace the statistics of question " + statistics.feedbackQuestionId);
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                pm.close();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a time later than the time the statistics were last changed, so that every change
+     * can be told apart by its time even if changes are made within the same millisecond.
+     */
+    private static Date getNextUpdatedAt(FeedbackQuestionStatistics entity) {
+        long now = System.currentTimeMillis();
+        Date lastUpdatedAt = entity.getUpdatedAt();
+        return lastUpdatedAt == null || lastUpdatedAt.getTime() < now ? new Date(now)
+                                                                      : new Date(lastUpdatedAt.getTime() + 1);
+    }
+
+    private FeedbackQuestionStatistics getStatisticsEntity(PersistenceManager pm, String feedbackQuestionId) {
+        try {
+            return pm.getObjectById(FeedbackQuestionStatistics.class, getKey(feedbackQuestionId));
+        } catch (JDOObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Adds each of {@code changes} to the stored statistics of its question in a transaction,
+     * retrying if the statistics are changed concurrently.
+     * Changes to questions whose statistics are not stored are skipped.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the changes which could not be added as the statistics kept being changed concurrently.
+     */
+    public List<FeedbackQuestionStatisticsAttributes> addToFeedbackQuestionStatistics(
+            Collection<FeedbackQuestionStatisticsAttributes> changes) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, changes);
+
+        List<FeedbackQuestionStatisticsAttributes> failedChanges =
+                new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        for (FeedbackQuestionStatisticsAttributes change : changes) {
+            if (!addToFeedbackQuestionStatistics(change)) {
+                log.warning("Failed to add to the statistics of question " + change.feedbackQuestionId
+                            + " due to concurrent changes: " + change);
+                failedChanges.add(change);
+            }
+        }
+        return failedChanges;
+    }
+
+    private boolean addToFeedbackQuestionStatistics(FeedbackQuestionStatisticsAttributes change) {
+        for (int attempt = 0; attempt < MAX_TRANSACTION_RETRIES; attempt++) {
+            PersistenceManager pm = getNewPm();
+            Transaction tx = pm.currentTransaction();
+            try {
+                tx.begin();
+                FeedbackQuestionStatistics entity =
+                        pm.getObjectById(FeedbackQuestionStatistics.class, getKey(change.feedbackQuestionId));
+
+                FeedbackQuestionStatisticsAttributes statistics = new FeedbackQuestionStatisticsAttributes(entity);
+                statistics.add(change);
+                entity.setNumberOfResponses(statistics.numberOfResponses);
+                entity.setCounts(new Text(JsonUtils.toJson(statistics.counts)));
+                entity.setUpdatedAt(getNextUpdatedAt(entity));
+
+                tx.commit();
+                return true;
+            } catch (JDOObjectNotFoundException e) {
+                return true;
+            } catch (JDOCanRetryException e) {
+                log.info("Retrying to add to the statistics of question " + change.feedbackQuestionId);
+            } finally {
+                if (tx.isActive()) {
+                    tx.rollback();
+                }
+                pm.close();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Deletes the statistics of the question with {@code feedbackQuestionId}.
+     * Fails silently if there are no such statistics.
+     */
+    public void deleteFeedbackQuestionStatistics(String feedbackQuestionId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        PersistenceManager pm = getNewPm();
+        try {
+            pm.deletePersistent(pm.getObjectById(FeedbackQuestionStatistics.class, getKey(feedbackQuestionId)));
+        } catch (JDOObjectNotFoundException e) {
+            log.info("Trying to delete non-existent statistics of question: " + feedbackQuestionId);
+        } finally {
+            pm.close();
+        }
+    }
+
+    public void deleteFeedbackQuestionStatisticsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        PersistenceManager pm = getNewPm();
+        try {
+            Query q = pm.newQuery(FeedbackQuestionStatistics.class);
+            q.setFilter(":p.contains(courseId)");
+
+            @SuppressWarnings("unchecked")
+            List<FeedbackQuestionStatistics> statistics = (List<FeedbackQuestionStatistics>) q.execute(courseIds);
+            pm.deletePersistentAll(statistics);
+        } finally {
+            pm.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeedbackQuestionStatistics> getFeedbackQuestionStatisticsEntitiesForSession(
+            PersistenceManager pm, String feedbackSessionName, String courseId) {
+        Query q = pm.newQuery(FeedbackQuestionStatistics.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
+
+        return (List<FeedbackQuestionStatistics>) q.execute(feedbackSessionName, courseId);
+    }
+
+    /**
+     * Returns the key of the statistics of the question with {@code feedbackQuestionId}.
+     * As question ids are encoded keys, they would otherwise be taken as the keys of the questions.
+     */
+    private static Key getKey(String feedbackQuestionId) {
+        return KeyFactory.createKey(FeedbackQuestionStatistics.class.getSimpleName(), feedbackQuestionId);
+    }
+
+    @Override
+    protected Object getEntity(EntityAttributes attributes) {
+        FeedbackQuestionStatisticsAttributes statistics = (FeedbackQuestionStatisticsAttributes) attributes;
+        try {
+            return getPm().getObjectById(FeedbackQuestionStatistics.class, getKey(statistics.feedbackQuestionId));
+        } catch (JDOObjectNotFoundException e) {
+            return null;
+        }
+    }
+
+}
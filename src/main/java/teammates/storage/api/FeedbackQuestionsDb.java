@@ -180,7 +180,7 @@ public class FeedbackQuestionsDb extends EntitiesDb {
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
 
-        FeedbackQuestion fq = (FeedbackQuestion) getEntity(newAttributes);
+        FeedbackQuestion fq = (FeedbackQuestion) getEntityReadingOwnWrites(newAttributes);
 
         if (fq == null) {
             throw new EntityDoesNotExistException(
@@ -202,7 +202,7 @@ public class FeedbackQuestionsDb extends EntitiesDb {
         fq.keepUpdateTimestamp = keepUpdateTimestamp;
 
         log.info(newAttributes.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void deleteFeedbackQuestionsForCourse(String courseId) {
@@ -253,7 +253,7 @@ public class FeedbackQuestionsDb extends EntitiesDb {
 
     // Gets a feedbackQuestion based on feedbackSessionName and questionNumber.
     private FeedbackQuestion getFeedbackQuestionEntity(
-            String feedbackSessionName, String courseId, int questionNumber) {
+            final String feedbackSessionName, final String courseId, final int questionNumber) {
 
         Query q = getPm().newQuery(FeedbackQuestion.class);
         q.declareParameters("String feedbackSessionNameParam, String courseIdParam, int questionNumberParam");
@@ -262,10 +262,18 @@ public class FeedbackQuestionsDb extends EntitiesDb {
                     + "questionNumber == questionNumberParam");
 
         @SuppressWarnings("unchecked")
-        List<FeedbackQuestion> feedbackQuestionList =
-                (List<FeedbackQuestion>) q.execute(feedbackSessionName, courseId, questionNumber);
-
-        if (feedbackQuestionList.isEmpty() || JDOHelper.isDeleted(feedbackQuestionList.get(0))) {
+        List<FeedbackQuestion> feedbackQuestionList = readOwnWrites(FeedbackQuestion.class,
+                (List<FeedbackQuestion>) q.execute(feedbackSessionName, courseId, questionNumber),
+                new OwnWriteFilter<FeedbackQuestion>() {
+                    @Override
+                    public boolean matches(FeedbackQuestion question) {
+                        return feedbackSessionName.equals(question.getFeedbackSessionName())
+                                && courseId.equals(question.getCourseId())
+                                && questionNumber == question.getQuestionNumber();
+                    }
+                });
+
+        if (feedbackQuestionList.isEmpty()) {
             return null;
         }
 
@@ -273,7 +281,7 @@ public class FeedbackQuestionsDb extends EntitiesDb {
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForSession(
-            String feedbackSessionName, String courseId) {
+            final String feedbackSessionName, final String courseId) {
         Query q = getPm().newQuery(FeedbackQuestion.class);
         q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
         q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
@@ -282,7 +290,13 @@ public class FeedbackQuestionsDb extends EntitiesDb {
         List<FeedbackQuestion> feedbackQuestionList =
                 (List<FeedbackQuestion>) q.execute(feedbackSessionName, courseId);
 
-        return feedbackQuestionList;
+        return readOwnWrites(FeedbackQuestion.class, feedbackQuestionList, new OwnWriteFilter<FeedbackQuestion>() {
+            @Override
+            public boolean matches(FeedbackQuestion question) {
+                return feedbackSessionName.equals(question.getFeedbackSessionName())
+                        && courseId.equals(question.getCourseId());
+            }
+        });
     }
 
     private List<FeedbackQuestion> getFeedbackQuestionEntitiesForCourse(String courseId) {
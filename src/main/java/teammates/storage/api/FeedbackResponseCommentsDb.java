@@ -23,6 +23,7 @@ import teammates.common.util.Const;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
+import teammates.storage.search.SearchDocument;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -70,7 +71,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
      */
     public void deleteDocument(FeedbackResponseCommentAttributes commentToDelete) {
         if (commentToDelete.getId() == null) {
-            FeedbackResponseComment commentEntity = (FeedbackResponseComment) getEntity(commentToDelete);
+            FeedbackResponseComment commentEntity = (FeedbackResponseComment) getEntityReadingOwnWrites(commentToDelete);
             FeedbackResponseCommentAttributes comment = new FeedbackResponseCommentAttributes(commentEntity);
             deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, comment.getId().toString());
         } else {
@@ -304,7 +305,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
         if (!newAttributes.isValid()) {
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
-        FeedbackResponseComment frc = (FeedbackResponseComment) getEntity(newAttributes);
+        FeedbackResponseComment frc = (FeedbackResponseComment) getEntityReadingOwnWrites(newAttributes);
 
         if (frc == null || JDOHelper.isDeleted(frc)) {
             throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + newAttributes.toString());
@@ -325,7 +326,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
         }
 
         log.info(newAttributes.getBackupIdentifier());
-        getPm().close();
+        flushPm();
 
         return new FeedbackResponseCommentAttributes(frc);
     }
@@ -350,7 +351,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -374,7 +375,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
 
         log.info("updating last editor email from: " + oldEmail + " to: " + updatedEmail
                  + " for feedback response comments in the course: " + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -413,7 +414,7 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     /*
@@ -423,6 +424,17 @@ public class FeedbackResponseCommentsDb extends EntitiesDb {
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, new FeedbackResponseCommentSearchDocument(comment));
     }
 
+    /*
+     * Create or update search documents for the given comments in as few calls as possible
+     */
+    public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        List<SearchDocument> documents = new ArrayList<SearchDocument>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            documents.add(new FeedbackResponseCommentSearchDocument(comment));
+        }
+        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, documents);
+    }
+
     /**
      * Searches for response comments.
      * @return {@link FeedbackResponseCommentSearchResultBundle}
@@ -9,14 +9,20 @@ import java.util.Map;
 import javax.jdo.JDOHelper;
 import javax.jdo.Query;
 
+import org.datanucleus.store.appengine.query.JDOCursorHelper;
+
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.attributes.EntityAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
+import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.storage.entity.FeedbackResponse;
 
+import com.google.appengine.api.datastore.Cursor;
+
 /**
  * Handles CRUD operations for feedback responses.
  *
@@ -25,6 +31,15 @@ import teammates.storage.entity.FeedbackResponse;
  */
 public class FeedbackResponsesDb extends EntitiesDb {
 
+    private static final String FROM_SECTION_CURSOR_PREFIX = "from:";
+    private static final String TO_SECTION_CURSOR_PREFIX = "to:";
+
+    /**
+     * Separates a query cursor from the id of the response which starts the next page.
+     * It does not occur in web-safe cursors.
+     */
+    private static final String FIRST_RESPONSE_ID_SEPARATOR = " ";
+
     public void createFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToAdd)
             throws InvalidParametersException {
         List<EntityAttributes> responsesToUpdate = createEntities(responsesToAdd);
@@ -118,7 +133,7 @@ public class FeedbackResponsesDb extends EntitiesDb {
      * @return Null if not found.
      */
     public FeedbackResponse getFeedbackResponseEntityOptimized(FeedbackResponseAttributes response) {
-        return (FeedbackResponse) getEntity(response);
+        return (FeedbackResponse) getEntityReadingOwnWrites(response);
     }
 
     /**
@@ -391,6 +406,171 @@ public class FeedbackResponsesDb extends EntitiesDb {
         return fraList;
     }
 
+    /**
+     * Gets a page of at most {@code pageSize} responses for a question.<br>
+     * Preconditions: <br>
+     * * {@code feedbackQuestionId} is non-null. <br>
+     * * {@code cursor} is null for the first page, or the cursor of the previous page otherwise.
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForQuestionPage(
+            String feedbackQuestionId, String cursor, int pageSize) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionId);
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackQuestionIdParam");
+        q.setFilter("feedbackQuestionId == feedbackQuestionIdParam");
+
+        return getFeedbackResponsesPage(q, cursor, pageSize, feedbackQuestionId);
+    }
+
+    /**
+     * Gets a page of at most {@code pageSize} responses for a session.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSessionName} and {@code courseId} are non-null. <br>
+     * * {@code cursor} is null for the first page, or the cursor of the previous page otherwise.
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionPage(
+            String feedbackSessionName, String courseId, String cursor, int pageSize) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
+
+        return getFeedbackResponsesPage(q, cursor, pageSize, feedbackSessionName, courseId);
+    }
+
+    /**
+     * Gets a page of at most {@code pageSize} responses for a session given by givers in {@code section}
+     * or received by recipients in {@code section}.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSessionName}, {@code courseId} and {@code section} are non-null. <br>
+     * * {@code cursor} is null for the first page, or the cursor of the previous page otherwise.
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionInSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponsesForSessionInSectionPageByParticipantSections(
+                    feedbackSessionName, courseId, section, cursor, pageSize);
+        }
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam, String sectionParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam "
+                    + "&& courseId == courseIdParam "
+                    + "&& sectionsInvolved == sectionParam");
+
+        return getFeedbackResponsesPage(q, cursor, pageSize, feedbackSessionName, courseId, section);
+    }
+
+    private FeedbackResponsesPage getFeedbackResponsesForSessionInSectionPageByParticipantSections(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+
+        // pages through the responses given by givers in the section first, then through the responses
+        // received by recipients in the section that have not been returned already
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        String toSectionCursor = null;
+        if (cursor == null || cursor.startsWith(FROM_SECTION_CURSOR_PREFIX)) {
+            String fromSectionCursor = cursor == null ? null : cursor.substring(FROM_SECTION_CURSOR_PREFIX.length());
+            FeedbackResponsesPage fromSectionPage = getFeedbackResponsesForSessionFromSectionPage(
+                    feedbackSessionName, courseId, section, fromSectionCursor, pageSize);
+            if (fromSectionPage.hasNextPage()) {
+                return new FeedbackResponsesPage(fromSectionPage.responses,
+                                                 FROM_SECTION_CURSOR_PREFIX + fromSectionPage.nextPageCursor);
+            }
+            responses.addAll(fromSectionPage.responses);
+            if (responses.size() == pageSize) {
+                return new FeedbackResponsesPage(responses, getToSectionCursorAfterFullPage(
+                        feedbackSessionName, courseId, section, pageSize));
+            }
+        } else {
+            Assumption.assertTrue(cursor.startsWith(TO_SECTION_CURSOR_PREFIX));
+            toSectionCursor = cursor.length() == TO_SECTION_CURSOR_PREFIX.length()
+                              ? null
+                              : cursor.substring(TO_SECTION_CURSOR_PREFIX.length());
+        }
+
+        FeedbackResponsesPage toSectionPage = getFeedbackResponsesForSessionToSectionPage(
+                feedbackSessionName, courseId, section, toSectionCursor, pageSize - responses.size());
+        for (FeedbackResponseAttributes response : toSectionPage.responses) {
+            if (!section.equals(response.giverSection)) {
+                responses.add(response);
+            }
+        }
+        return new FeedbackResponsesPage(responses, toSectionPage.hasNextPage()
+                                                    ? TO_SECTION_CURSOR_PREFIX + toSectionPage.nextPageCursor
+                                                    : null);
+    }
+
+    /**
+     * Returns the cursor of the page following a page filled by the responses given by givers in {@code section},
+     * or null if no response received by recipients in {@code section} is left for it.
+     * Received responses checked here which are given in the section are skipped by the next page.
+     */
+    private String getToSectionCursorAfterFullPage(String feedbackSessionName, String courseId, String section,
+                                                   int pageSize) {
+        FeedbackResponsesPage toSectionPage = getFeedbackResponsesForSessionToSectionPage(
+                feedbackSessionName, courseId, section, null, pageSize);
+        for (FeedbackResponseAttributes response : toSectionPage.responses) {
+            if (!section.equals(response.giverSection)) {
+                return TO_SECTION_CURSOR_PREFIX;
+            }
+        }
+        return toSectionPage.hasNextPage() ? TO_SECTION_CURSOR_PREFIX + toSectionPage.nextPageCursor : null;
+    }
+
+    /**
+     * Gets a page of at most {@code pageSize} responses for a session given by givers in {@code section}.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSessionName}, {@code courseId} and {@code section} are non-null. <br>
+     * * {@code cursor} is null for the first page, or the cursor of the previous page otherwise.
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionFromSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam, String sectionParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam "
+                    + "&& courseId == courseIdParam "
+                    + "&& giverSection == sectionParam");
+
+        return getFeedbackResponsesPage(q, cursor, pageSize, feedbackSessionName, courseId, section);
+    }
+
+    /**
+     * Gets a page of at most {@code pageSize} responses for a session received by recipients in {@code section}.<br>
+     * Preconditions: <br>
+     * * {@code feedbackSessionName}, {@code courseId} and {@code section} are non-null. <br>
+     * * {@code cursor} is null for the first page, or the cursor of the previous page otherwise.
+     */
+    public FeedbackResponsesPage getFeedbackResponsesForSessionToSectionPage(
+            String feedbackSessionName, String courseId, String section, String cursor, int pageSize) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, section);
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam, String sectionParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam "
+                    + "&& courseId == courseIdParam "
+                    + "&& receiverSection == sectionParam");
+
+        return getFeedbackResponsesPage(q, cursor, pageSize, feedbackSessionName, courseId, section);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -574,6 +754,8 @@ public class FeedbackResponsesDb extends EntitiesDb {
      *   changes the {@code updatedAt} timestamp to be the time of update.
      * For the remaining parameters, the existing value is preserved
      *   if the parameter is null (due to 'keep existing' policy).<br>
+     * The id is not changed even if the recipient is, so such a response can only be
+     *   retrieved by its id afterwards; recreate the response to keep them in sync.<br>
      * Preconditions: <br>
      * * {@code newAttributes.getId()} is non-null and correspond to an existing feedback response.
      */
@@ -602,7 +784,7 @@ public class FeedbackResponsesDb extends EntitiesDb {
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
 
-        FeedbackResponse fr = (FeedbackResponse) getEntity(newAttributes);
+        FeedbackResponse fr = (FeedbackResponse) getEntityReadingOwnWrites(newAttributes);
 
         updateFeedbackResponseOptimized(newAttributes, fr, keepUpdateTimestamp);
     }
@@ -642,7 +824,7 @@ public class FeedbackResponsesDb extends EntitiesDb {
         fr.setRecipientSection(newAttributes.recipientSection);
 
         log.info(newAttributes.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void updateFeedbackResponseOptimized(FeedbackResponseAttributes newAttributes, FeedbackResponse fr)
@@ -650,6 +832,116 @@ public class FeedbackResponsesDb extends EntitiesDb {
         updateFeedbackResponseOptimized(newAttributes, fr, false);
     }
 
+    /**
+     * Gets the feedback responses with the given ids using a single batch get.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return A map of response id to response entity. Ids that do not exist are not in the map.
+     */
+    public Map<String, FeedbackResponse> getFeedbackResponseEntitiesForIds(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponse> feedbackResponses = new HashMap<String, FeedbackResponse>();
+        if (feedbackResponseIds.isEmpty()) {
+            return feedbackResponses;
+        }
+
+        // a contains filter on the primary key alone is executed as a batch get
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.setFilter(":p.contains(feedbackResponseId)");
+
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q,
+                new ResponseField[] {ResponseField.FEEDBACK_RESPONSE_ID}, feedbackResponseIds);
+
+        for (FeedbackResponse response : queryResponses) {
+            feedbackResponses.put(response.getId(), response);
+        }
+        return feedbackResponses;
+    }
+
+    /**
+     * Creates the responses in {@code responsesToCreate} and updates the responses in {@code responsesToUpdate}
+     * as one batch. The entities of the responses to update are taken from {@code existingEntities}, which is
+     * keyed by response id, so that no further reads are needed.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * * All responses to create do not exist yet.
+     */
+    public void saveFeedbackResponses(List<FeedbackResponseAttributes> responsesToCreate,
+            List<FeedbackResponseAttributes> responsesToUpdate, Map<String, FeedbackResponse> existingEntities)
+            throws InvalidParametersException, EntityDoesNotExistException {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToCreate);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToUpdate);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, existingEntities);
+
+        for (FeedbackResponseAttributes response : responsesToCreate) {
+            response.sanitizeForSaving();
+            if (!response.isValid()) {
+                throw new InvalidParametersException(response.getInvalidityInfo());
+            }
+        }
+
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            if (!response.isValid()) {
+                throw new InvalidParametersException(response.getInvalidityInfo());
+            }
+            FeedbackResponse fr = existingEntities.get(response.getId());
+            if (fr == null || JDOHelper.isDeleted(fr)) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + response.toString());
+            }
+        }
+
+        List<FeedbackResponse> entitiesToCreate = new ArrayList<FeedbackResponse>();
+        for (FeedbackResponseAttributes response : responsesToCreate) {
+            entitiesToCreate.add(response.toEntity());
+            log.info(response.getBackupIdentifier());
+        }
+
+        for (FeedbackResponseAttributes response : responsesToUpdate) {
+            FeedbackResponse fr = existingEntities.get(response.getId());
+            fr.keepUpdateTimestamp = false;
+            fr.setAnswer(response.responseMetaData);
+            fr.setRecipientEmail(response.recipient);
+            fr.setGiverSection(response.giverSection);
+            fr.setRecipientSection(response.recipientSection);
+            log.info(response.getBackupIdentifier());
+        }
+
+        getPm().makePersistentAll(entitiesToCreate);
+        // flushing writes the updated entities together with the created ones
+        flushPm();
+    }
+
+    /**
+     * Deletes the given responses as one batch. The entities are taken from {@code existingEntities},
+     * which is keyed by response id; responses without an entity are skipped.<br>
+     * This is a non-cascade delete.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponses(Collection<FeedbackResponseAttributes> responsesToDelete,
+            Map<String, FeedbackResponse> existingEntities) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responsesToDelete);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, existingEntities);
+
+        List<FeedbackResponse> entitiesToDelete = new ArrayList<FeedbackResponse>();
+        for (FeedbackResponseAttributes response : responsesToDelete) {
+            FeedbackResponse fr = existingEntities.get(response.getId());
+            if (fr != null && !JDOHelper.isDeleted(fr)) {
+                entitiesToDelete.add(fr);
+                log.info(response.getBackupIdentifier());
+            }
+        }
+
+        if (entitiesToDelete.isEmpty()) {
+            return;
+        }
+        getPm().deletePersistentAll(entitiesToDelete);
+        getPm().flush();
+    }
+
     public void deleteFeedbackResponsesForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -668,12 +960,11 @@ public class FeedbackResponsesDb extends EntitiesDb {
         getPm().flush();
     }
 
-    @SuppressWarnings("unchecked")
     public List<FeedbackResponse> getFeedbackResponseEntitiesForCourses(List<String> courseIds) {
         Query q = getPm().newQuery(FeedbackResponse.class);
         q.setFilter(":p.contains(courseId)");
 
-        return (List<FeedbackResponse>) q.execute(courseIds);
+        return executeReadingOwnWrites(q, new ResponseField[] {ResponseField.COURSE_ID}, courseIds);
     }
 
     public List<FeedbackResponseAttributes> getFeedbackResponsesForCourse(String courseId) {
@@ -689,13 +980,12 @@ public class FeedbackResponsesDb extends EntitiesDb {
         return fraList;
     }
 
-    @SuppressWarnings("unchecked")
     private List<FeedbackResponse> getFeedbackResponseEntitiesForCourse(String courseId) {
         Query q = getPm().newQuery(FeedbackResponse.class);
         q.declareParameters("String courseIdParam");
         q.setFilter("courseId == courseIdParam");
 
-        return (List<FeedbackResponse>) q.execute(courseId);
+        return executeReadingOwnWrites(q, new ResponseField[] {ResponseField.COURSE_ID}, courseId);
     }
 
     /**
@@ -706,53 +996,58 @@ public class FeedbackResponsesDb extends EntitiesDb {
         return !getFeedbackResponseEntitiesForCourseWithinRange(courseId, 1).isEmpty();
     }
 
-    @SuppressWarnings("unchecked")
     private List<FeedbackResponse> getFeedbackResponseEntitiesForCourseWithinRange(String courseId, long range) {
         Query q = getPm().newQuery(FeedbackResponse.class);
         q.declareParameters("String courseIdParam");
         q.setFilter("courseId == courseIdParam");
         q.setRange(0, range);
 
-        return (List<FeedbackResponse>) q.execute(courseId);
+        return executeReadingOwnWrites(q, new ResponseField[] {ResponseField.COURSE_ID}, courseId);
     }
 
     private FeedbackResponse getFeedbackResponseEntity(String feedbackResponseId) {
-        Query q = getPm().newQuery(FeedbackResponse.class);
-        q.declareParameters("String feedbackResponseIdParam");
-        q.setFilter("feedbackResponseId == feedbackResponseIdParam");
-
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses = (List<FeedbackResponse>) q.execute(feedbackResponseId);
-
-        if (feedbackResponses.isEmpty() || JDOHelper.isDeleted(feedbackResponses.get(0))) {
-            return null;
-        }
-
-        return feedbackResponses.get(0);
+        return getEntityById(FeedbackResponse.class, feedbackResponseId);
     }
 
     private FeedbackResponse getFeedbackResponseEntity(
             String feedbackQuestionId, String giverEmail, String receiver) {
+        // the id of a response is derived from its question, giver and receiver
+        return getFeedbackResponseEntity(FeedbackResponse.generateId(feedbackQuestionId, giverEmail, receiver));
+    }
+
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+                String feedbackQuestionId, String section) {
+
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponseEntitiesForQuestionInSectionByParticipantSections(
+                    feedbackQuestionId, section);
+        }
 
         Query q = getPm().newQuery(FeedbackResponse.class);
-        q.declareParameters("String feedbackQuestionIdParam, "
-                            + "String giverEmailParam, String receiverParam");
-        q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && "
-                    + "giverEmail == giverEmailParam && "
-                    + "receiver == receiverParam");
+        q.declareParameters("String feedbackQuestionIdParam, String sectionParam");
+        q.setFilter("feedbackQuestionId == feedbackQuestionIdParam "
+                    + "&& sectionsInvolved == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, giverEmail, receiver);
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.SECTIONS_INVOLVED},
+                feedbackQuestionId, section);
 
-        if (feedbackResponses.isEmpty() || JDOHelper.isDeleted(feedbackResponses.get(0))) {
-            return null;
+        // responses between the section and another section are excluded
+        List<FeedbackResponse> feedbackResponses = new ArrayList<FeedbackResponse>();
+        for (FeedbackResponse response : queryResponses) {
+            if (isInSectionOrNone(response.getGiverSection(), section)
+                    && isInSectionOrNone(response.getRecipientSection(), section)) {
+                feedbackResponses.add(response);
+            }
         }
+        return feedbackResponses;
+    }
 
-        return feedbackResponses.get(0);
+    private boolean isInSectionOrNone(String participantSection, String section) {
+        return section.equals(participantSection) || Const.DEFAULT_SECTION.equals(participantSection);
     }
 
-    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSection(
+    private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionInSectionByParticipantSections(
                 String feedbackQuestionId, String section) {
 
         List<FeedbackResponse> feedbackResponses = new ArrayList<FeedbackResponse>();
@@ -763,35 +1058,41 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& giverSection == giverSectionParam "
                     + "&& receiverSection == receiverSectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> firstQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, section, section);
+        List<FeedbackResponse> firstQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_SECTION, ResponseField.RECEIVER_SECTION},
+                feedbackQuestionId, section, section);
         feedbackResponses.addAll(firstQueryResponses);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> secondQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, section, "None");
+        List<FeedbackResponse> secondQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_SECTION, ResponseField.RECEIVER_SECTION},
+                feedbackQuestionId, section, Const.DEFAULT_SECTION);
         feedbackResponses.addAll(secondQueryResponses);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> thirdQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, "None", section);
+        List<FeedbackResponse> thirdQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_SECTION, ResponseField.RECEIVER_SECTION},
+                feedbackQuestionId, Const.DEFAULT_SECTION, section);
         feedbackResponses.addAll(thirdQueryResponses);
 
         return feedbackResponses;
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestion(
-                String feedbackQuestionId) {
+                final String feedbackQuestionId) {
 
         Query q = getPm().newQuery(FeedbackResponse.class);
         q.declareParameters("String feedbackQuestionIdParam");
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam ");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses = (List<FeedbackResponse>) q.execute(feedbackQuestionId);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID},
+                feedbackQuestionId);
 
-        return feedbackResponses;
+        return readOwnWrites(FeedbackResponse.class, feedbackResponses, new OwnWriteFilter<FeedbackResponse>() {
+            @Override
+            public boolean matches(FeedbackResponse response) {
+                return feedbackQuestionId.equals(response.getFeedbackQuestionId());
+            }
+        });
     }
 
     private List<FeedbackResponse> getFeedbackResponseEntitiesForQuestionWithinRange(
@@ -802,8 +1103,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam ");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses = (List<FeedbackResponse>) q.execute(feedbackQuestionId);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID},
+                feedbackQuestionId);
 
         return feedbackResponses;
     }
@@ -815,13 +1117,118 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
         q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID},
+                feedbackSessionName, courseId);
 
         return feedbackResponses;
     }
 
+    /**
+     * Populates the sectionsInvolved attribute of the responses in a batch of at most {@code batchSize} responses,
+     * for responses stored before the attribute was added. The update timestamps of the responses are preserved.
+     *
+     * @param cursor null for the first batch, or the cursor returned for the previous batch otherwise
+     * @return the cursor of the next batch, or null if there are no more responses
+     */
+    public String backfillSectionsInvolvedOfFeedbackResponses(String cursor, int batchSize) {
+        Assumption.assertTrue(batchSize > 0);
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        List<FeedbackResponse> feedbackResponses = executeFromCursor(q, cursor, batchSize);
+
+        for (FeedbackResponse fr : feedbackResponses) {
+            if (fr.isSectionsInvolvedOutdated()) {
+                fr.keepUpdateTimestamp = true;
+                fr.updateSectionsInvolved();
+            }
+        }
+        flushPm();
+
+        if (feedbackResponses.size() < batchSize) {
+            return null;
+        }
+        return JDOCursorHelper.getCursor(feedbackResponses).toWebSafeString();
+    }
+
+    /**
+     * Executes {@code q} from {@code cursor} for at most {@code pageSize} responses.
+     *
+     * <p>One response more than the page is fetched to tell whether there is a next page.
+     * That response starts the next page, so its id is kept in the cursor of the next page.
+     */
+    private FeedbackResponsesPage getFeedbackResponsesPage(Query q, String cursor, int pageSize,
+                                                           Object... parameters) {
+        Assumption.assertTrue(pageSize > 0);
+
+        List<FeedbackResponseAttributes> fraList = new ArrayList<FeedbackResponseAttributes>();
+        String queryCursor = cursor;
+        if (cursor != null && cursor.contains(FIRST_RESPONSE_ID_SEPARATOR)) {
+            int separatorIndex = cursor.indexOf(FIRST_RESPONSE_ID_SEPARATOR);
+            queryCursor = cursor.substring(0, separatorIndex);
+            FeedbackResponse firstResponse = getFeedbackResponseEntity(
+                    cursor.substring(separatorIndex + FIRST_RESPONSE_ID_SEPARATOR.length()));
+            if (firstResponse != null) {
+                fraList.add(new FeedbackResponseAttributes(firstResponse));
+            }
+        }
+
+        int limit = pageSize - fraList.size() + 1;
+        List<FeedbackResponse> feedbackResponses = executeFromCursor(q, queryCursor, limit, parameters);
+
+        String nextPageCursor = null;
+        if (feedbackResponses.size() == limit) {
+            FeedbackResponse nextPageFirstResponse = feedbackResponses.get(limit - 1);
+            nextPageCursor = JDOCursorHelper.getCursor(feedbackResponses).toWebSafeString()
+                             + FIRST_RESPONSE_ID_SEPARATOR + nextPageFirstResponse.getId();
+            feedbackResponses = feedbackResponses.subList(0, limit - 1);
+        }
+
+        for (FeedbackResponse fr : feedbackResponses) {
+            if (!JDOHelper.isDeleted(fr)) {
+                fraList.add(new FeedbackResponseAttributes(fr));
+            }
+        }
+        return new FeedbackResponsesPage(fraList, nextPageCursor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<FeedbackResponse> executeFromCursor(Query q, String cursor, int limit, Object... parameters) {
+        if (cursor != null) {
+            Map<String, Object> extensions = new HashMap<String, Object>();
+            extensions.put(JDOCursorHelper.CURSOR_EXTENSION, Cursor.fromWebSafeString(cursor));
+            q.setExtensions(extensions);
+        }
+        q.setRange(0, limit);
+
+        return (List<FeedbackResponse>) q.executeWithArray(parameters);
+    }
+
+    /**
+     * Executes {@code q} with {@code parameters} and brings the result up to date with the responses written
+     * or deleted in this request, see {@link #readOwnWrites}.
+     *
+     * @param fields the fields which {@code q} compares with {@code parameters}, in the same order.
+     *         A field is matched by any value in a collection parameter, e.g. for a {@code :p.contains} filter.
+     */
+    private List<FeedbackResponse> executeReadingOwnWrites(Query q, final ResponseField[] fields,
+                                                           final Object... parameters) {
+        @SuppressWarnings("unchecked")
+        List<FeedbackResponse> queryResponses = (List<FeedbackResponse>) q.executeWithArray(parameters);
+
+        return readOwnWrites(FeedbackResponse.class, queryResponses, new OwnWriteFilter<FeedbackResponse>() {
+            @Override
+            public boolean matches(FeedbackResponse response) {
+                for (int i = 0; i < fields.length; i++) {
+                    if (!fields[i].matches(response, parameters[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        });
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForSessionWithinRange(
             String feedbackSessionName, String courseId, long range) {
 
@@ -830,9 +1237,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID},
+                feedbackSessionName, courseId);
 
         return feedbackResponses;
     }
@@ -840,6 +1247,27 @@ public class FeedbackResponsesDb extends EntitiesDb {
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSection(
             String feedbackSessionName, String courseId, String section) {
 
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponseEntitiesForSessionInSectionByParticipantSections(
+                    feedbackSessionName, courseId, section);
+        }
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam, String sectionParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam "
+                    + "&& courseId == courseIdParam "
+                    + "&& sectionsInvolved == sectionParam");
+
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.SECTIONS_INVOLVED},
+                feedbackSessionName, courseId, section);
+
+        return queryResponses;
+    }
+
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionByParticipantSections(
+            String feedbackSessionName, String courseId, String section) {
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<String, FeedbackResponse>();
 
         Query q = getPm().newQuery(FeedbackResponse.class);
@@ -848,9 +1276,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& courseId == courseIdParam "
                     + "&& giverSection == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> firstQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> firstQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.GIVER_SECTION},
+                feedbackSessionName, courseId, section);
         for (FeedbackResponse response : firstQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -860,9 +1288,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackSessionName == feedbackSessionNameParam "
                     + "&& courseId == courseIdParam "
                     + "&& receiverSection == sectionParam");
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> secondQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> secondQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.RECEIVER_SECTION},
+                feedbackSessionName, courseId, section);
         for (FeedbackResponse response : secondQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -881,9 +1309,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& courseId == courseIdParam "
                     + "&& giverSection == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> queryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.GIVER_SECTION},
+                feedbackSessionName, courseId, section);
 
         return queryResponses;
     }
@@ -897,9 +1325,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& courseId == courseIdParam "
                     + "&& receiverSection == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> queryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.RECEIVER_SECTION},
+                feedbackSessionName, courseId, section);
 
         return queryResponses;
     }
@@ -907,6 +1335,28 @@ public class FeedbackResponsesDb extends EntitiesDb {
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRange(
             String feedbackSessionName, String courseId, String section, long range) {
 
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponseEntitiesForSessionInSectionWithinRangeByParticipantSections(
+                    feedbackSessionName, courseId, section, range);
+        }
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam, String sectionParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam "
+                    + "&& courseId == courseIdParam "
+                    + "&& sectionsInvolved == sectionParam");
+        q.setRange(0, range + 1);
+
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.SECTIONS_INVOLVED},
+                feedbackSessionName, courseId, section);
+
+        return queryResponses;
+    }
+
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionInSectionWithinRangeByParticipantSections(
+            String feedbackSessionName, String courseId, String section, long range) {
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<String, FeedbackResponse>();
 
         Query q = getPm().newQuery(FeedbackResponse.class);
@@ -916,9 +1366,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& giverSection == sectionParam");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> firstQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> firstQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.GIVER_SECTION},
+                feedbackSessionName, courseId, section);
         for (FeedbackResponse response : firstQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -928,10 +1378,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackSessionName == feedbackSessionNameParam "
                     + "&& courseId == courseIdParam "
                     + "&& receiverSection == sectionParam");
-        q.setRange(0, range + 1);
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> secondQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> secondQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.RECEIVER_SECTION},
+                feedbackSessionName, courseId, section);
         for (FeedbackResponse response : secondQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -951,9 +1400,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& giverSection == sectionParam");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> queryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.GIVER_SECTION},
+                feedbackSessionName, courseId, section);
 
         return queryResponses;
     }
@@ -968,9 +1417,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& receiverSection == sectionParam");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> queryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackSessionName, courseId, section);
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID, ResponseField.RECEIVER_SECTION},
+                feedbackSessionName, courseId, section);
 
         return queryResponses;
     }
@@ -982,9 +1431,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.declareParameters("String feedbackQuestionIdParam, String receiverParam");
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && receiver == receiverParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, receiver);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.RECEIVER},
+                feedbackQuestionId, receiver);
 
         return feedbackResponses;
     }
@@ -992,6 +1441,26 @@ public class FeedbackResponsesDb extends EntitiesDb {
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSection(
             String feedbackQuestionId, String receiver, String section) {
 
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponseEntitiesForReceiverForQuestionInSectionByParticipantSections(
+                    feedbackQuestionId, receiver, section);
+        }
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackQuestionIdParam, String receiverParam, String sectionParam");
+        q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && receiver == receiverParam "
+                    + "&& sectionsInvolved == sectionParam");
+
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.RECEIVER, ResponseField.SECTIONS_INVOLVED},
+                feedbackQuestionId, receiver, section);
+
+        return queryResponses;
+    }
+
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForQuestionInSectionByParticipantSections(
+            String feedbackQuestionId, String receiver, String section) {
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<String, FeedbackResponse>();
 
         Query q = getPm().newQuery(FeedbackResponse.class);
@@ -999,9 +1468,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && receiver == receiverParam "
                     + "&& giverSection == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> firstQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, receiver, section);
+        List<FeedbackResponse> firstQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.RECEIVER, ResponseField.GIVER_SECTION},
+                feedbackQuestionId, receiver, section);
         for (FeedbackResponse response : firstQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -1009,10 +1478,10 @@ public class FeedbackResponsesDb extends EntitiesDb {
         }
 
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && receiver == receiverParam "
-                + "&& receiverSection == sectionParam");
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> secondQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, receiver, section);
+                    + "&& receiverSection == sectionParam");
+        List<FeedbackResponse> secondQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.RECEIVER, ResponseField.RECEIVER_SECTION},
+                feedbackQuestionId, receiver, section);
         for (FeedbackResponse response : secondQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -1029,9 +1498,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.declareParameters("String feedbackQuestionIdParam, String giverEmailParam");
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && giverEmail == giverEmailParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, giverEmail);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_EMAIL},
+                feedbackQuestionId, giverEmail);
 
         return feedbackResponses;
     }
@@ -1039,6 +1508,26 @@ public class FeedbackResponsesDb extends EntitiesDb {
     private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSection(
             String feedbackQuestionId, String giverEmail, String section) {
 
+        if (!Config.IS_SECTIONS_INVOLVED_BACKFILLED) {
+            return getFeedbackResponseEntitiesFromGiverForQuestionInSectionByParticipantSections(
+                    feedbackQuestionId, giverEmail, section);
+        }
+
+        Query q = getPm().newQuery(FeedbackResponse.class);
+        q.declareParameters("String feedbackQuestionIdParam, String giverEmailParam, String sectionParam");
+        q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && giverEmail == giverEmailParam "
+                    + "&& sectionsInvolved == sectionParam");
+
+        List<FeedbackResponse> queryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_EMAIL, ResponseField.SECTIONS_INVOLVED},
+                feedbackQuestionId, giverEmail, section);
+
+        return queryResponses;
+    }
+
+    private Collection<FeedbackResponse> getFeedbackResponseEntitiesFromGiverForQuestionInSectionByParticipantSections(
+            String feedbackQuestionId, String giverEmail, String section) {
+
         Map<String, FeedbackResponse> feedbackResponses = new HashMap<String, FeedbackResponse>();
 
         Query q = getPm().newQuery(FeedbackResponse.class);
@@ -1046,9 +1535,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && giverEmail == giverEmailParam "
                     + "&& giverSection == sectionParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> firstQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, giverEmail, section);
+        List<FeedbackResponse> firstQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_EMAIL, ResponseField.GIVER_SECTION},
+                feedbackQuestionId, giverEmail, section);
         for (FeedbackResponse response : firstQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -1056,10 +1545,10 @@ public class FeedbackResponsesDb extends EntitiesDb {
         }
 
         q.setFilter("feedbackQuestionId == feedbackQuestionIdParam && giverEmail == giverEmailParam "
-                + "&& receiverSection == sectionParam");
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> secondQueryResponses =
-                (List<FeedbackResponse>) q.execute(feedbackQuestionId, giverEmail, section);
+                    + "&& receiverSection == sectionParam");
+        List<FeedbackResponse> secondQueryResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.FEEDBACK_QUESTION_ID, ResponseField.GIVER_EMAIL, ResponseField.RECEIVER_SECTION},
+                feedbackQuestionId, giverEmail, section);
         for (FeedbackResponse response : secondQueryResponses) {
             if (!JDOHelper.isDeleted(response)) {
                 feedbackResponses.put(response.getId(), response);
@@ -1079,9 +1568,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
                     + "&& courseId == courseIdParam");
         q.setRange(0, range + 1);
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses =
-                (List<FeedbackResponse>) q.execute(giverEmail, feedbackSessionName, courseId);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.GIVER_EMAIL, ResponseField.FEEDBACK_SESSION_NAME, ResponseField.COURSE_ID},
+                giverEmail, feedbackSessionName, courseId);
 
         return feedbackResponses;
     }
@@ -1093,8 +1582,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.declareParameters("String courseIdParam, String receiverParam");
         q.setFilter("courseId == courseIdParam && receiver == receiverParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses = (List<FeedbackResponse>) q.execute(courseId, receiver);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.COURSE_ID, ResponseField.RECEIVER},
+                courseId, receiver);
 
         return feedbackResponses;
     }
@@ -1106,8 +1596,9 @@ public class FeedbackResponsesDb extends EntitiesDb {
         q.declareParameters("String courseIdParam, String giverEmailParam");
         q.setFilter("courseId == courseIdParam && giverEmail == giverEmailParam");
 
-        @SuppressWarnings("unchecked")
-        List<FeedbackResponse> feedbackResponses = (List<FeedbackResponse>) q.execute(courseId, giverEmail);
+        List<FeedbackResponse> feedbackResponses = executeReadingOwnWrites(q, new ResponseField[] {
+                ResponseField.COURSE_ID, ResponseField.GIVER_EMAIL},
+                courseId, giverEmail);
 
         return feedbackResponses;
     }
@@ -1127,4 +1618,52 @@ public class FeedbackResponsesDb extends EntitiesDb {
             feedbackResponseToGet.giver,
             feedbackResponseToGet.recipient);
     }
+
+    /**
+     * The fields of {@link FeedbackResponse} which the queries in this class filter on.
+     */
+    private enum ResponseField {
+        FEEDBACK_RESPONSE_ID, FEEDBACK_SESSION_NAME, COURSE_ID, FEEDBACK_QUESTION_ID, GIVER_EMAIL, RECEIVER,
+        GIVER_SECTION, RECEIVER_SECTION, SECTIONS_INVOLVED;
+
+        /**
+         * Returns true if the field of {@code response} is matched by {@code value} in a query filter.
+         */
+        boolean matches(FeedbackResponse response, Object value) {
+            Object fieldValue = getValue(response);
+            if (value instanceof Collection) {
+                return ((Collection<?>) value).contains(fieldValue);
+            }
+            if (fieldValue instanceof Collection) {
+                return ((Collection<?>) fieldValue).contains(value);
+            }
+            return value.equals(fieldValue);
+        }
+
+        private Object getValue(FeedbackResponse response) {
+            switch (this) {
+            case FEEDBACK_RESPONSE_ID:
+                return response.getId();
+            case FEEDBACK_SESSION_NAME:
+                return response.getFeedbackSessionName();
+            case COURSE_ID:
+                return response.getCourseId();
+            case FEEDBACK_QUESTION_ID:
+                return response.getFeedbackQuestionId();
+            case GIVER_EMAIL:
+                return response.getGiverEmail();
+            case RECEIVER:
+                return response.getRecipientEmail();
+            case GIVER_SECTION:
+                return response.getGiverSection();
+            case RECEIVER_SECTION:
+                return response.getRecipientSection();
+            case SECTIONS_INVOLVED:
+                return response.getSectionsInvolved();
+            default:
+                Assumption.fail("Unknown response field " + this);
+                return null;
+            }
+        }
+    }
 }
@@ -4,9 +4,12 @@ import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 
 import javax.jdo.JDOHelper;
 import javax.jdo.Query;
@@ -20,11 +23,18 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 
 /**
  * Handles CRUD operations for feedback sessions.
  *
+ * <p>The respondents of a session are stored as separate {@link FeedbackSessionRespondent} entities
+ * rather than in the session entity, so that concurrent submissions do not all write to the same entity.
+ * Sessions returned by this class only include the respondents recorded in the session entity by earlier versions
+ * of the application; the other respondents are read by key with {@link #loadRespondents} when they are needed.</p>
+ *
  * @see FeedbackSession
+ * @see FeedbackSessionRespondent
  * @see FeedbackSessionAttributes
  */
 public class FeedbackSessionsDb extends EntitiesDb {
@@ -132,6 +142,7 @@ public class FeedbackSessionsDb extends EntitiesDb {
             log.info("Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
             return null;
         }
+
         return new FeedbackSessionAttributes(fs);
 
     }
@@ -259,7 +270,7 @@ public class FeedbackSessionsDb extends EntitiesDb {
             throw new InvalidParametersException(newAttributes.getInvalidityInfo());
         }
 
-        FeedbackSession fs = (FeedbackSession) getEntity(newAttributes);
+        FeedbackSession fs = (FeedbackSession) getEntityReadingOwnWrites(newAttributes);
 
         if (fs == null) {
             throw new EntityDoesNotExistException(
@@ -282,94 +293,110 @@ public class FeedbackSessionsDb extends EntitiesDb {
         fs.setSendPublishedEmail(newAttributes.isPublishedEmailEnabled());
 
         log.info(newAttributes.getBackupIdentifier());
-        getPm().close();
+        flushPm();
+    }
+
+    /**
+     * Adds those of {@code studentEmails} and {@code instructorEmails} who have responded to {@code session}
+     * to the respondents of {@code session}. The respondents are read by key rather than queried,
+     * so respondents added by earlier requests are never missed.
+     */
+    public void loadRespondents(FeedbackSessionAttributes session, Collection<String> studentEmails,
+                                Collection<String> instructorEmails) {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, session);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, studentEmails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, instructorEmails);
+
+        List<String> ids = new ArrayList<String>();
+        for (String email : studentEmails) {
+            ids.add(FeedbackSessionRespondent.generateId(session.getFeedbackSessionName(), session.getCourseId(),
+                                                         email, false));
+        }
+        for (String email : instructorEmails) {
+            ids.add(FeedbackSessionRespondent.generateId(session.getFeedbackSessionName(), session.getCourseId(),
+                                                         email, true));
+        }
+
+        // the sets read from the session entity must not be modified
+        Set<String> respondingStudents = new HashSet<String>(session.getRespondingStudentList());
+        Set<String> respondingInstructors = new HashSet<String>(session.getRespondingInstructorList());
+        for (FeedbackSessionRespondent respondent : getRespondentEntities(ids)) {
+            if (respondent.isInstructor()) {
+                respondingInstructors.add(respondent.getEmail());
+            } else {
+                respondingStudents.add(respondent.getEmail());
+            }
+        }
+        session.setRespondingStudentList(respondingStudents);
+        session.setRespondingInstructorList(respondingInstructors);
+    }
+
+    public boolean isStudentRespondent(FeedbackSessionAttributes session, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, session);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return session.getRespondingStudentList().contains(email)
+                || getRespondentEntity(session.getFeedbackSessionName(), session.getCourseId(), email, false) != null;
+    }
+
+    public boolean isInstructorRespondent(FeedbackSessionAttributes session, String email) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, session);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        return session.getRespondingInstructorList().contains(email)
+                || getRespondentEntity(session.getFeedbackSessionName(), session.getCourseId(), email, true) != null;
     }
 
     public void addInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         List<String> emails = new ArrayList<String>();
         emails.add(email);
         addInstructorRespondents(emails, feedbackSession);
     }
 
+    /**
+     * Records {@code emails} as instructor respondents of {@code feedbackSession}.
+     * Only the respondent entities are written; the session entity is neither read nor written.
+     */
     public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
 
-        fs.getRespondingInstructorList().addAll(emails);
+        validateForRespondentUpdate(feedbackSession);
+        addRespondents(emails, feedbackSession, true);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
 
-        if (fs.getRespondingInstructorList().contains(oldEmail)) {
-            fs.getRespondingInstructorList().remove(oldEmail);
-            fs.getRespondingInstructorList().add(newEmail);
-        }
+        validateForRespondentUpdate(feedbackSession);
+        updateRespondent(oldEmail, newEmail, feedbackSession, true);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
+            throws InvalidParametersException {
 
-        fs.getRespondingInstructorList().clear();
+        validateForRespondentUpdate(feedbackSession);
+        clearRespondents(feedbackSession, true);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
+            throws InvalidParametersException {
 
         List<String> emails = new ArrayList<String>();
         emails.add(email);
@@ -377,83 +404,101 @@ public class FeedbackSessionsDb extends EntitiesDb {
     }
 
     public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
 
-        fs.getRespondingInstructorList().remove(email);
+        validateForRespondentUpdate(feedbackSession);
+        deleteRespondent(email, feedbackSession, true);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
+    /**
+     * Records {@code emails} as student respondents of {@code feedbackSession}.
+     * Only the respondent entities are written; the session entity is neither read nor written.
+     */
     public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
 
-        fs.getRespondingStudentList().addAll(emails);
+        validateForRespondentUpdate(feedbackSession);
+        addRespondents(emails, feedbackSession, false);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        validateForRespondentUpdate(feedbackSession);
+        updateRespondent(oldEmail, newEmail, feedbackSession, false);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        log.info(feedbackSession.getBackupIdentifier());
+        flushPm();
+    }
 
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
+    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException {
 
-        if (fs.getRespondingStudentList().contains(oldEmail)) {
-            fs.getRespondingStudentList().remove(oldEmail);
-            fs.getRespondingStudentList().add(newEmail);
-        }
+        validateForRespondentUpdate(feedbackSession);
+        clearRespondents(feedbackSession, false);
 
         log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException {
+
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
+
+        validateForRespondentUpdate(feedbackSession);
+        deleteRespondent(email, feedbackSession, false);
+
+        log.info(feedbackSession.getBackupIdentifier());
+        flushPm();
+    }
+
+    /**
+     * Deletes the feedback session and its respondents. This is a non-cascade delete.
+     */
+    @Override
+    public void deleteEntity(EntityAttributes entityToDelete) {
+        super.deleteEntity(entityToDelete);
+
+        FeedbackSessionAttributes sessionToDelete = (FeedbackSessionAttributes) entityToDelete;
+        getPm().deletePersistentAll(getRespondentEntitiesForSession(sessionToDelete.getFeedbackSessionName(),
+                                                                    sessionToDelete.getCourseId()));
+        getPm().flush();
+    }
+
+    public void deleteFeedbackSessionsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add(courseId);
+        deleteFeedbackSessionsForCourses(courseIds);
+    }
+
+    public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+
+        List<FeedbackSession> feedbackSessionList = getFeedbackSessionEntitiesForCourses(courseIds);
+
+        getPm().deletePersistentAll(feedbackSessionList);
+        getPm().deletePersistentAll(getRespondentEntitiesForCourses(courseIds));
+        getPm().flush();
+    }
+
+    private void validateForRespondentUpdate(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException {
 
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
@@ -462,58 +507,142 @@ public class FeedbackSessionsDb extends EntitiesDb {
         if (!feedbackSession.isValid()) {
             throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
         }
+    }
 
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+    private void addRespondents(List<String> emails, FeedbackSessionAttributes session, boolean isInstructor) {
+        List<FeedbackSessionRespondent> respondents = new ArrayList<FeedbackSessionRespondent>();
+        for (String email : new LinkedHashSet<String>(emails)) {
+            respondents.add(new FeedbackSessionRespondent(session.getFeedbackSessionName(), session.getCourseId(),
+                                                          email, isInstructor));
         }
+        getPm().makePersistentAll(respondents);
+    }
 
-        fs.getRespondingStudentList().clear();
-
-        log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+    private void updateRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes session,
+                                  boolean isInstructor) {
+        if (deleteRespondent(oldEmail, session, isInstructor)) {
+            List<String> emails = new ArrayList<String>();
+            emails.add(newEmail);
+            addRespondents(emails, session, isInstructor);
+        }
     }
 
-    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
+    /**
+     * Removes {@code email} from the respondents of the session, including the respondents
+     * recorded in the session entity itself by earlier versions of the application.
+     *
+     * @return true if {@code email} was a respondent of the session.
+     */
+    private boolean deleteRespondent(String email, FeedbackSessionAttributes session, boolean isInstructor) {
+        boolean isRespondent = false;
+
+        FeedbackSessionRespondent respondent =
+                getRespondentEntity(session.getFeedbackSessionName(), session.getCourseId(), email, isInstructor);
+        if (respondent != null) {
+            getPm().deletePersistent(respondent);
+            isRespondent = true;
+        }
 
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        Set<String> legacyRespondents = getLegacyRespondents(session, isInstructor);
+        if (legacyRespondents != null && legacyRespondents.contains(email)) {
+            legacyRespondents.remove(email);
+            isRespondent = true;
+        }
 
-        feedbackSession.sanitizeForSaving();
+        return isRespondent;
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+    private void clearRespondents(FeedbackSessionAttributes session, boolean isInstructor) {
+        List<FeedbackSessionRespondent> respondents = new ArrayList<FeedbackSessionRespondent>();
+        for (FeedbackSessionRespondent respondent
+                : getRespondentEntitiesForSession(session.getFeedbackSessionName(), session.getCourseId())) {
+            if (respondent.isInstructor() == isInstructor) {
+                respondents.add(respondent);
+            }
+        }
+        getPm().deletePersistentAll(respondents);
+
+        Set<String> legacyRespondents = getLegacyRespondents(session, isInstructor);
+        if (legacyRespondents != null) {
+            legacyRespondents.clear();
+        }
+    }
+
+    /**
+     * Returns the respondents recorded in the session entity by earlier versions of the application,
+     * or null if there are none. The session entity is only read if {@code session} has respondents,
+     * and is only written by callers that change the returned set.
+     */
+    private Set<String> getLegacyRespondents(FeedbackSessionAttributes session, boolean isInstructor) {
+        Set<String> respondents = isInstructor ? session.getRespondingInstructorList()
+                                               : session.getRespondingStudentList();
+        if (respondents == null || respondents.isEmpty()) {
+            return null;
         }
 
-        FeedbackSession fs = (FeedbackSession) getEntity(feedbackSession);
+        FeedbackSession fs = (FeedbackSession) getEntityReadingOwnWrites(session);
         if (fs == null) {
-            throw new EntityDoesNotExistException(
-                    ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+            return null;
         }
 
-        fs.getRespondingStudentList().remove(email);
+        Set<String> legacyRespondents = isInstructor ? fs.getRespondingInstructorList()
+                                                     : fs.getRespondingStudentList();
+        return legacyRespondents == null || legacyRespondents.isEmpty() ? null : legacyRespondents;
+    }
 
-        log.info(feedbackSession.getBackupIdentifier());
-        getPm().close();
+    private FeedbackSessionRespondent getRespondentEntity(String feedbackSessionName, String courseId,
+                                                          String email, boolean isInstructor) {
+        return getEntityById(FeedbackSessionRespondent.class,
+                FeedbackSessionRespondent.generateId(feedbackSessionName, courseId, email, isInstructor));
     }
 
-    public void deleteFeedbackSessionsForCourse(String courseId) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+    private List<FeedbackSessionRespondent> getRespondentEntities(List<String> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<FeedbackSessionRespondent>();
+        }
 
-        List<String> courseIds = new ArrayList<String>();
-        courseIds.add(courseId);
-        deleteFeedbackSessionsForCourses(courseIds);
+        // a contains filter on the primary key alone is executed as a batch get
+        Query q = getPm().newQuery(FeedbackSessionRespondent.class);
+        q.setFilter(":p.contains(id)");
+
+        @SuppressWarnings("unchecked")
+        List<FeedbackSessionRespondent> respondents = (List<FeedbackSessionRespondent>) q.execute(ids);
+
+        final Set<String> idsToGet = new HashSet<String>(ids);
+        return readOwnWrites(FeedbackSessionRespondent.class, respondents,
+                             new OwnWriteFilter<FeedbackSessionRespondent>() {
+                                 @Override
+                                 public boolean matches(FeedbackSessionRespondent respondent) {
+                                     return idsToGet.contains(respondent.getId());
+                                 }
+                             });
     }
 
-    public void deleteFeedbackSessionsForCourses(List<String> courseIds) {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
+    private List<FeedbackSessionRespondent> getRespondentEntitiesForSession(final String feedbackSessionName,
+                                                                            final String courseId) {
+        Query q = getPm().newQuery(FeedbackSessionRespondent.class);
+        q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
+        q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
 
-        List<FeedbackSession> feedbackSessionList = getFeedbackSessionEntitiesForCourses(courseIds);
+        @SuppressWarnings("unchecked")
+        List<FeedbackSessionRespondent> respondents =
+                (List<FeedbackSessionRespondent>) q.execute(feedbackSessionName, courseId);
+        return readOwnWrites(FeedbackSessionRespondent.class, respondents,
+                             new OwnWriteFilter<FeedbackSessionRespondent>() {
+                                 @Override
+                                 public boolean matches(FeedbackSessionRespondent respondent) {
+                                     return feedbackSessionName.equals(respondent.getFeedbackSessionName())
+                                             && courseId.equals(respondent.getCourseId());
+                                 }
+                             });
+    }
 
-        getPm().deletePersistentAll(feedbackSessionList);
-        getPm().flush();
+    @SuppressWarnings("unchecked")
+    private List<FeedbackSessionRespondent> getRespondentEntitiesForCourses(List<String> courseIds) {
+        Query q = getPm().newQuery(FeedbackSessionRespondent.class);
+        q.setFilter(":p.contains(courseId)");
+
+        return (List<FeedbackSessionRespondent>) q.execute(courseIds);
     }
 
     @SuppressWarnings("unchecked")
@@ -532,12 +661,18 @@ public class FeedbackSessionsDb extends EntitiesDb {
     }
 
     @SuppressWarnings("unchecked")
-    private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
+    private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(final String courseId) {
         Query q = getPm().newQuery(FeedbackSession.class);
         q.declareParameters("String courseIdParam");
         q.setFilter("courseId == courseIdParam");
 
-        return (List<FeedbackSession>) q.execute(courseId);
+        List<FeedbackSession> feedbackSessions = (List<FeedbackSession>) q.execute(courseId);
+        return readOwnWrites(FeedbackSession.class, feedbackSessions, new OwnWriteFilter<FeedbackSession>() {
+            @Override
+            public boolean matches(FeedbackSession feedbackSession) {
+                return courseId.equals(feedbackSession.getCourseId());
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -586,17 +721,23 @@ public class FeedbackSessionsDb extends EntitiesDb {
         return (List<FeedbackSession>) q.execute(false, true, FeedbackSessionType.PRIVATE);
     }
 
-    private FeedbackSession getFeedbackSessionEntity(String feedbackSessionName, String courseId) {
+    private FeedbackSession getFeedbackSessionEntity(final String feedbackSessionName, final String courseId) {
 
         Query q = getPm().newQuery(FeedbackSession.class);
         q.declareParameters("String feedbackSessionNameParam, String courseIdParam");
         q.setFilter("feedbackSessionName == feedbackSessionNameParam && courseId == courseIdParam");
 
         @SuppressWarnings("unchecked")
-        List<FeedbackSession> feedbackSessionList =
-                (List<FeedbackSession>) q.execute(feedbackSessionName, courseId);
-
-        if (feedbackSessionList.isEmpty() || JDOHelper.isDeleted(feedbackSessionList.get(0))) {
+        List<FeedbackSession> feedbackSessionList = readOwnWrites(FeedbackSession.class,
+                (List<FeedbackSession>) q.execute(feedbackSessionName, courseId), new OwnWriteFilter<FeedbackSession>() {
+                    @Override
+                    public boolean matches(FeedbackSession feedbackSession) {
+                        return feedbackSessionName.equals(feedbackSession.getFeedbackSessionName())
+                               && courseId.equals(feedbackSession.getCourseId());
+                    }
+                });
+
+        if (feedbackSessionList.isEmpty()) {
             return null;
         }
 
@@ -16,13 +16,13 @@ import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
-import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
 import teammates.common.util.ThreadHelper;
 import teammates.storage.entity.Instructor;
 import teammates.storage.search.InstructorSearchDocument;
 import teammates.storage.search.InstructorSearchQuery;
+import teammates.storage.search.SearchDocument;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -51,6 +51,24 @@ public class InstructorsDb extends EntitiesDb {
         }
     }
 
+    /**
+     * Creates or updates the search documents of {@code instructors} in as few calls as possible.
+     */
+    public void putDocuments(List<InstructorAttributes> instructors) {
+        List<SearchDocument> documents = new ArrayList<SearchDocument>();
+        for (InstructorAttributes instructorParam : instructors) {
+            InstructorAttributes instructor = instructorParam;
+            if (instructor.key == null) {
+                instructor = this.getInstructorForEmail(instructor.courseId, instructor.email);
+            }
+            // defensive coding for legacy data
+            if (instructor.key != null) {
+                documents.add(new InstructorSearchDocument(instructor));
+            }
+        }
+        putDocuments(Const.SearchIndex.INSTRUCTOR, documents);
+    }
+
     public void deleteDocument(InstructorAttributes instructorToDelete) {
         if (instructorToDelete.key == null) {
             InstructorAttributes instructor =
@@ -312,7 +330,7 @@ public class InstructorsDb extends EntitiesDb {
 
         putDocument(new InstructorAttributes(instructorToUpdate));
         log.info(instructorAttributesToUpdate.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     /**
@@ -347,7 +365,7 @@ public class InstructorsDb extends EntitiesDb {
         //TODO: make courseId+email the non-modifiable values
         putDocument(new InstructorAttributes(instructorToUpdate));
         log.info(instructorAttributesToUpdate.getBackupIdentifier());
-        getPm().close();
+        flushPm();
     }
 
     /**
@@ -364,28 +382,12 @@ public class InstructorsDb extends EntitiesDb {
             return;
         }
 
-        deleteDocument(new InstructorAttributes(instructorToDelete));
+        InstructorAttributes instructorAttributesToDelete = new InstructorAttributes(instructorToDelete);
+        deleteDocument(instructorAttributesToDelete);
 
         getPm().deletePersistent(instructorToDelete);
         getPm().flush();
 
-        // Check delete operation persisted
-        if (Config.PERSISTENCE_CHECK_DURATION > 0) {
-            int elapsedTime = 0;
-            Instructor instructorCheck = getInstructorEntityForEmail(courseId, email);
-            while (instructorCheck != null
-                   && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                ThreadHelper.waitBriefly();
-                instructorCheck = getInstructorEntityForEmail(courseId, email);
-                elapsedTime += ThreadHelper.WAIT_DURATION;
-            }
-            if (elapsedTime == Config.PERSISTENCE_CHECK_DURATION) {
-                log.info("Operation did not persist in time: deleteInstructor->"
-                        + email);
-
-            }
-        }
-
         Instructor instructorCheck = getInstructorEntityForEmail(courseId, email);
         if (instructorCheck != null) {
             putDocument(new InstructorAttributes(instructorCheck));
@@ -443,34 +445,44 @@ public class InstructorsDb extends EntitiesDb {
 
     }
 
-    private Instructor getInstructorEntityForGoogleId(String courseId, String googleId) {
+    private Instructor getInstructorEntityForGoogleId(final String courseId, final String googleId) {
 
         Query q = getPm().newQuery(Instructor.class);
         q.declareParameters("String googleIdParam, String courseIdParam");
         q.setFilter("googleId == googleIdParam && courseId == courseIdParam");
 
         @SuppressWarnings("unchecked")
-        List<Instructor> instructorList = (List<Instructor>) q.execute(googleId, courseId);
-
-        if (instructorList.isEmpty()
-                || JDOHelper.isDeleted(instructorList.get(0))) {
+        List<Instructor> instructorList = readOwnWrites(Instructor.class,
+                (List<Instructor>) q.execute(googleId, courseId), new OwnWriteFilter<Instructor>() {
+                    @Override
+                    public boolean matches(Instructor instructor) {
+                        return googleId.equals(instructor.getGoogleId()) && courseId.equals(instructor.getCourseId());
+                    }
+                });
+
+        if (instructorList.isEmpty()) {
             return null;
         }
 
         return instructorList.get(0);
     }
 
-    private Instructor getInstructorEntityForEmail(String courseId, String email) {
+    private Instructor getInstructorEntityForEmail(final String courseId, final String email) {
 
         Query q = getPm().newQuery(Instructor.class);
         q.declareParameters("String courseIdParam, String emailParam");
         q.setFilter("courseId == courseIdParam && email == emailParam");
 
         @SuppressWarnings("unchecked")
-        List<Instructor> instructorList = (List<Instructor>) q.execute(courseId, email);
-
-        if (instructorList.isEmpty()
-                || JDOHelper.isDeleted(instructorList.get(0))) {
+        List<Instructor> instructorList = readOwnWrites(Instructor.class,
+                (List<Instructor>) q.execute(courseId, email), new OwnWriteFilter<Instructor>() {
+                    @Override
+                    public boolean matches(Instructor instructor) {
+                        return courseId.equals(instructor.getCourseId()) && email.equals(instructor.getEmail());
+                    }
+                });
+
+        if (instructorList.isEmpty()) {
             return null;
         }
 
@@ -546,7 +558,7 @@ public class InstructorsDb extends EntitiesDb {
         return instructorList;
     }
 
-    private List<Instructor> getInstructorEntitiesForCourse(String courseId) {
+    private List<Instructor> getInstructorEntitiesForCourse(final String courseId) {
 
         Query q = getPm().newQuery(Instructor.class);
         q.declareParameters("String courseIdParam");
@@ -555,7 +567,12 @@ public class InstructorsDb extends EntitiesDb {
         @SuppressWarnings("unchecked")
         List<Instructor> instructorList = (List<Instructor>) q.execute(courseId);
 
-        return instructorList;
+        return readOwnWrites(Instructor.class, instructorList, new OwnWriteFilter<Instructor>() {
+            @Override
+            public boolean matches(Instructor instructor) {
+                return courseId.equals(instructor.getCourseId());
+            }
+        });
     }
 
     private List<Instructor> getInstructorEntities() {
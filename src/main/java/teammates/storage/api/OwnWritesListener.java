@@ -0,0 +1,54 @@
+package teammates.storage.api;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.jdo.JDOHelper;
+import javax.jdo.listener.DeleteLifecycleListener;
+import javax.jdo.listener.InstanceLifecycleEvent;
+import javax.jdo.listener.StoreLifecycleListener;
+
+/**
+ * Records the entities stored and deleted through the {@link javax.jdo.PersistenceManager} of the current thread,
+ * so that the reads of a request can be answered with its own writes.
+ *
+ * @see EntitiesDb#getEntityById(Class, Object)
+ * @see EntitiesDb#readOwnWrites(Class, java.util.Collection, EntitiesDb.OwnWriteFilter)
+ */
+class OwnWritesListener implements StoreLifecycleListener, DeleteLifecycleListener {
+
+    private static final ThreadLocal<Map<Object, Object>> PER_THREAD_IDS_OF_DELETED_ENTITIES =
+            new ThreadLocal<Map<Object, Object>>() {
+                @Override
+                protected Map<Object, Object> initialValue() {
+                    return new IdentityHashMap<Object, Object>();
+                }
+            };
+
+    @Override
+    public void preStore(InstanceLifecycleEvent event) {
+        // the id of a new entity may only be assigned when it is stored
+    }
+
+    @Override
+    public void postStore(InstanceLifecycleEvent event) {
+        EntitiesDb.recordStoredEntity(event.getSource());
+    }
+
+    @Override
+    public void preDelete(InstanceLifecycleEvent event) {
+        Object id = JDOHelper.getObjectId(event.getSource());
+        if (id != null) {
+            PER_THREAD_IDS_OF_DELETED_ENTITIES.get().put(event.getSource(), id);
+        }
+    }
+
+    @Override
+    public void postDelete(InstanceLifecycleEvent event) {
+        Object id = PER_THREAD_IDS_OF_DELETED_ENTITIES.get().remove(event.getSource());
+        if (id != null) {
+            EntitiesDb.recordDeletedEntity(id);
+        }
+    }
+
+}
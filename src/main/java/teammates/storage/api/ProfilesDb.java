@@ -59,7 +59,7 @@ public class ProfilesDb extends EntitiesDb {
         }
 
         updateProfileWithNewValues(newSpa, profileToUpdate);
-        closePm();
+        flushPm();
     }
 
     private void validateNewProfile(StudentProfileAttributes newSpa)
@@ -117,7 +117,7 @@ public class ProfilesDb extends EntitiesDb {
             profileToUpdate.setModifiedDate(new Date());
         }
 
-        closePm();
+        flushPm();
     }
 
     private void validateParametersForUpdatePicture(String googleId,
@@ -142,7 +142,7 @@ public class ProfilesDb extends EntitiesDb {
             sp.setModifiedDate(new Date());
         }
 
-        closePm();
+        flushPm();
     }
 
     //-------------------------------------------------------------------------------------------------------
@@ -0,0 +1,127 @@
+package teammates.storage.api;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+
+import teammates.common.datatransfer.attributes.EntityAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.entity.SearchDocumentMarker;
+
+/**
+ * Handles operations related to the markers of search documents waiting to be updated.
+ *
+ * <p>Markers are written and claimed through their own {@link PersistenceManager}, apart from the entities
+ * the current request reads and writes.</p>
+ *
+ * @see SearchDocumentMarker
+ */
+public class SearchDocumentMarkersDb extends EntitiesDb {
+
+    /**
+     * Marks the search documents in the index {@code indexName} of the entities {@code entityIds}
+     * of the course {@code courseId} as out of date, in a single batch put.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void markForUpdate(String indexName, String courseId, Collection<String> entityIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, indexName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityIds);
+
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        List<SearchDocumentMarker> markers = new ArrayList<SearchDocumentMarker>();
+        for (String entityId : entityIds) {
+            markers.add(new SearchDocumentMarker(indexName, courseId, entityId));
+        }
+
+        PersistenceManager pm = getNewPm();
+        try {
+            // a marker put again overwrites the existing one
+            pm.makePersistentAll(markers);
+        } finally {
+            pm.close();
+        }
+    }
+
+    /**
+     * Removes the markers in the index {@code indexName} of the entities {@code entityIds} of the course
+     * {@code courseId}, together with the markers of up to {@code maxOtherMarkers} other entities of the course.
+     *
+     * <p>The markers of {@code entityIds} are read by key and are always found if they exist.
+     * The other markers are found by a query, which may miss markers put very recently;
+     * those are claimed by the update scheduled with them.</p>
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the IDs of the entities whose markers were removed, i.e. whose documents are to be updated
+     */
+    @SuppressWarnings("unchecked")
+    public Set<String> claimMarkers(String indexName, String courseId, Collection<String> entityIds,
+                                    int maxOtherMarkers) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, indexName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entityIds);
+
+        PersistenceManager pm = getNewPm();
+        try {
+            Map<String, SearchDocumentMarker> markers = new LinkedHashMap<String, SearchDocumentMarker>();
+
+            if (!entityIds.isEmpty()) {
+                List<String> markerIds = new ArrayList<String>();
+                for (String entityId : entityIds) {
+                    markerIds.add(SearchDocumentMarker.generateId(indexName, courseId, entityId));
+                }
+
+                // a contains filter on the primary key alone is executed as a batch get
+                Query q = pm.newQuery(SearchDocumentMarker.class);
+                q.setFilter(":p.contains(markerId)");
+                addMarkers(markers, (List<SearchDocumentMarker>) q.execute(markerIds));
+            }
+
+            if (maxOtherMarkers > 0) {
+                Query q = pm.newQuery(SearchDocumentMarker.class);
+                q.declareParameters("String indexNameParam, String courseIdParam");
+                q.setFilter("indexName == indexNameParam && courseId == courseIdParam");
+                q.setRange(0, maxOtherMarkers);
+                addMarkers(markers, (List<SearchDocumentMarker>) q.execute(indexName, courseId));
+            }
+
+            Set<String> claimedEntityIds = new LinkedHashSet<String>();
+            for (SearchDocumentMarker marker : markers.values()) {
+                claimedEntityIds.add(marker.getEntityId());
+            }
+            pm.deletePersistentAll(markers.values());
+            return claimedEntityIds;
+        } finally {
+            pm.close();
+        }
+    }
+
+    private static void addMarkers(Map<String, SearchDocumentMarker> markers, List<SearchDocumentMarker> toAdd) {
+        for (SearchDocumentMarker marker : toAdd) {
+            markers.put(SearchDocumentMarker.generateId(marker.getIndexName(), marker.getCourseId(),
+                                                        marker.getEntityId()), marker);
+        }
+    }
+
+    @Override
+    protected Object getEntity(EntityAttributes attributes) {
+        Assumption.fail("Search document markers are not written as entity attributes");
+        return null;
+    }
+
+}
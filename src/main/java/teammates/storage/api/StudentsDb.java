@@ -2,10 +2,13 @@ package teammates.storage.api;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.jdo.JDOHelper;
 import javax.jdo.Query;
@@ -19,11 +22,10 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
-import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.common.util.StringHelper;
-import teammates.common.util.ThreadHelper;
 import teammates.storage.entity.CourseStudent;
+import teammates.storage.search.SearchDocument;
 import teammates.storage.search.StudentSearchDocument;
 import teammates.storage.search.StudentSearchQuery;
 
@@ -44,6 +46,17 @@ public class StudentsDb extends EntitiesDb {
         putDocument(Const.SearchIndex.STUDENT, new StudentSearchDocument(student));
     }
 
+    /**
+     * Creates or updates the search documents of {@code students} in as few calls as possible.
+     */
+    public void putDocuments(List<StudentAttributes> students) {
+        List<SearchDocument> documents = new ArrayList<SearchDocument>();
+        for (StudentAttributes student : students) {
+            documents.add(new StudentSearchDocument(student));
+        }
+        putDocuments(Const.SearchIndex.STUDENT, documents);
+    }
+
     /**
      * Searches for students.
      * @return {@link StudentSearchResultBundle}
@@ -108,6 +121,16 @@ public class StudentsDb extends EntitiesDb {
         }
     }
 
+    /**
+     * Creates the new students {@code studentsToAdd} in a single batch put, without searchability.<br>
+     * Preconditions: <br>
+     * * None of the students exists, e.g. as checked with {@link #getStudentsForEmails}.
+     */
+    public void createNewStudentsWithoutSearchability(Collection<StudentAttributes> studentsToAdd)
+            throws InvalidParametersException {
+        createEntitiesWithoutExistenceCheck(studentsToAdd);
+    }
+
     public void createStudent(StudentAttributes student)
             throws InvalidParametersException, EntityAlreadyExistsException {
 
@@ -217,6 +240,27 @@ public class StudentsDb extends EntitiesDb {
         return studentDataList;
     }
 
+    /**
+     * Gets the students of the course with the given emails using a single batch get.<br>
+     * Preconditions: <br>
+     *  * All parameters are non-null.
+     * @return a map of email to student. Emails without a student in the course are not in the map.
+     */
+    public Map<String, StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        Map<String, StudentAttributes> students = new HashMap<String, StudentAttributes>();
+        if (emails.isEmpty()) {
+            return students;
+        }
+
+        for (CourseStudent courseStudent : getCourseStudentEntitiesForEmails(courseId, emails)) {
+            students.put(courseStudent.getEmail(), new StudentAttributes(courseStudent));
+        }
+        return students;
+    }
+
     /**
      * Preconditions: <br>
      *  * All parameters are non-null.
@@ -412,7 +456,7 @@ public class StudentsDb extends EntitiesDb {
         }
 
         log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
-        getPm().close();
+        flushPm();
     }
 
     @SuppressWarnings("PMD.PreserveStackTrace")
@@ -429,7 +473,7 @@ public class StudentsDb extends EntitiesDb {
         try {
             createStudent(new StudentAttributes(newCourseStudent), hasDocument);
         } catch (EntityAlreadyExistsException e) {
-            StudentAttributes existingStudent = (StudentAttributes) e.existingEntity;
+            StudentAttributes existingStudent = new StudentAttributes((CourseStudent) e.existingEntity);
             String error = ERROR_UPDATE_EMAIL_ALREADY_USED
                            + existingStudent.getName() + "/" + existingStudent.getEmail();
             throw new InvalidParametersException(error);
@@ -456,6 +500,46 @@ public class StudentsDb extends EntitiesDb {
         courseStudent.keepUpdateTimestamp = keepUpdateTimestamp;
     }
 
+    /**
+     * Updates the name, team, section and comments of the existing students {@code students} of the course
+     * {@code courseId} together, without searchability. Their emails and Google IDs are kept.
+     * The students are read in a single batch get and written together when the changes are committed.<br>
+     * Preconditions: <br>
+     * * All parameters are non-null and all students are valid.
+     */
+    public void updateStudentsWithoutSearchability(String courseId, Collection<StudentAttributes> students)
+            throws EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        if (students.isEmpty()) {
+            return;
+        }
+
+        List<String> emails = new ArrayList<String>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email);
+        }
+
+        Map<String, CourseStudent> courseStudents = new HashMap<String, CourseStudent>();
+        for (CourseStudent courseStudent : getCourseStudentEntitiesForEmails(courseId, emails)) {
+            courseStudents.put(courseStudent.getEmail(), courseStudent);
+        }
+
+        for (StudentAttributes student : students) {
+            CourseStudent courseStudent = courseStudents.get(student.email);
+            if (courseStudent == null) {
+                throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT_STUDENT + courseId + "/" + student.email);
+            }
+            updateStudentDetails(student.name, student.team, student.section, courseStudent.getGoogleId(),
+                                 student.comments, false, false, courseStudent, StringHelper.splitName(student.name)[1]);
+            log.info(student.getBackupIdentifier());
+        }
+
+        log.info(Const.SystemParams.COURSE_BACKUP_LOG_MSG + courseId);
+        flushPm();
+    }
+
     //TODO: add an updateStudent(StudentAttributes) version and make the above private
 
     /**
@@ -490,21 +574,6 @@ public class StudentsDb extends EntitiesDb {
             getPm().flush();
         }
 
-        // Check delete operation persisted
-        if (Config.PERSISTENCE_CHECK_DURATION > 0) {
-            int elapsedTime = 0;
-            CourseStudent studentCheck = getCourseStudentEntityForEmail(courseId, email);
-            while (studentCheck != null
-                    && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                ThreadHelper.waitBriefly();
-                studentCheck = getCourseStudentEntityForEmail(courseId, email);
-                elapsedTime += ThreadHelper.WAIT_DURATION;
-            }
-            if (elapsedTime == Config.PERSISTENCE_CHECK_DURATION) {
-                log.info("Operation did not persist in time: deleteStudent->"
-                        + courseId + "/" + email);
-            }
-        }
         //TODO: use the method in the parent class instead.
     }
 
@@ -595,19 +664,29 @@ public class StudentsDb extends EntitiesDb {
     // Functions for the new CourseStudent class to replace Student class
 
     private CourseStudent getCourseStudentEntityForEmail(String courseId, String email) {
+        return getEntityById(CourseStudent.class, CourseStudent.generateId(email, courseId));
+    }
 
+    private List<CourseStudent> getCourseStudentEntitiesForEmails(String courseId, Collection<String> emails) {
+        List<String> ids = new ArrayList<String>();
+        for (String email : emails) {
+            ids.add(CourseStudent.generateId(email, courseId));
+        }
+
+        // a contains filter on the primary key alone is executed as a batch get
         Query q = getPm().newQuery(CourseStudent.class);
-        q.declareParameters("String courseIdParam, String emailParam");
-        q.setFilter("courseId == courseIdParam && email == emailParam");
+        q.setFilter(":p.contains(id)");
 
         @SuppressWarnings("unchecked")
-        List<CourseStudent> studentList = (List<CourseStudent>) q.execute(courseId, email);
+        List<CourseStudent> courseStudents = (List<CourseStudent>) q.execute(ids);
 
-        if (studentList.isEmpty() || JDOHelper.isDeleted(studentList.get(0))) {
-            return null;
-        }
-
-        return studentList.get(0);
+        final Set<String> idsToGet = new HashSet<String>(ids);
+        return readOwnWrites(CourseStudent.class, courseStudents, new OwnWriteFilter<CourseStudent>() {
+            @Override
+            public boolean matches(CourseStudent courseStudent) {
+                return idsToGet.contains(courseStudent.getUniqueId());
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -642,12 +721,18 @@ public class StudentsDb extends EntitiesDb {
     }
 
     @SuppressWarnings("unchecked")
-    public List<CourseStudent> getCourseStudentEntitiesForCourse(String courseId) {
+    public List<CourseStudent> getCourseStudentEntitiesForCourse(final String courseId) {
         Query q = getPm().newQuery(CourseStudent.class);
         q.declareParameters("String courseIdParam");
         q.setFilter("courseId == courseIdParam");
 
-        return (List<CourseStudent>) q.execute(courseId);
+        List<CourseStudent> courseStudents = (List<CourseStudent>) q.execute(courseId);
+        return readOwnWrites(CourseStudent.class, courseStudents, new OwnWriteFilter<CourseStudent>() {
+            @Override
+            public boolean matches(CourseStudent courseStudent) {
+                return courseId.equals(courseStudent.getCourseId());
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
@@ -659,30 +744,49 @@ public class StudentsDb extends EntitiesDb {
     }
 
     @SuppressWarnings("unchecked")
-    private List<CourseStudent> getCourseStudentEntitiesForGoogleId(String googleId) {
+    private List<CourseStudent> getCourseStudentEntitiesForGoogleId(final String googleId) {
         Query q = getPm().newQuery(CourseStudent.class);
         q.declareParameters("String googleIdParam");
         q.setFilter("googleId == googleIdParam");
 
-        return (List<CourseStudent>) q.execute(googleId);
+        List<CourseStudent> courseStudents = (List<CourseStudent>) q.execute(googleId);
+        return readOwnWrites(CourseStudent.class, courseStudents, new OwnWriteFilter<CourseStudent>() {
+            @Override
+            public boolean matches(CourseStudent courseStudent) {
+                return googleId.equals(courseStudent.getGoogleId());
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
-    private List<CourseStudent> getCourseStudentEntitiesForTeam(String teamName, String courseId) {
+    private List<CourseStudent> getCourseStudentEntitiesForTeam(final String teamName, final String courseId) {
         Query q = getPm().newQuery(CourseStudent.class);
         q.declareParameters("String teamNameParam, String courseIDParam");
         q.setFilter("teamName == teamNameParam && courseId == courseIDParam");
 
-        return (List<CourseStudent>) q.execute(teamName, courseId);
+        List<CourseStudent> courseStudents = (List<CourseStudent>) q.execute(teamName, courseId);
+        return readOwnWrites(CourseStudent.class, courseStudents, new OwnWriteFilter<CourseStudent>() {
+            @Override
+            public boolean matches(CourseStudent courseStudent) {
+                return teamName.equals(courseStudent.getTeamName()) && courseId.equals(courseStudent.getCourseId());
+            }
+        });
     }
 
     @SuppressWarnings("unchecked")
-    private List<CourseStudent> getCourseStudentEntitiesForSection(String sectionName, String courseId) {
+    private List<CourseStudent> getCourseStudentEntitiesForSection(final String sectionName, final String courseId) {
         Query q = getPm().newQuery(CourseStudent.class);
         q.declareParameters("String sectionNameParam, String courseIDParam");
         q.setFilter("sectionName == sectionNameParam && courseId == courseIDParam");
 
-        return (List<CourseStudent>) q.execute(sectionName, courseId);
+        List<CourseStudent> courseStudents = (List<CourseStudent>) q.execute(sectionName, courseId);
+        return readOwnWrites(CourseStudent.class, courseStudents, new OwnWriteFilter<CourseStudent>() {
+            @Override
+            public boolean matches(CourseStudent courseStudent) {
+                return sectionName.equals(courseStudent.getSectionName())
+                        && courseId.equals(courseStudent.getCourseId());
+            }
+        });
     }
 
     @Deprecated
@@ -700,7 +804,7 @@ public class StudentsDb extends EntitiesDb {
     @Override
     protected Object getEntity(EntityAttributes entity) {
         StudentAttributes studentToGet = (StudentAttributes) entity;
-        return getStudentForEmail(studentToGet.course, studentToGet.email);
+        return getCourseStudentEntityForEmail(studentToGet.course, studentToGet.email);
     }
 
 }
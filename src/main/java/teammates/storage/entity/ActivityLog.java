@@ -0,0 +1,149 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+
+import javax.jdo.annotations.Extension;
+import javax.jdo.annotations.IdGeneratorStrategy;
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Represents an action carried out by the app, as shown in the admin activity log.
+ *
+ * <p>Only the time and version, which the logs are queried by, are indexed. The other properties are
+ * filtered on after the logs are read, as the filters are substring or case-insensitive matches.</p>
+ */
+@PersistenceCapable
+public class ActivityLog {
+
+    @PrimaryKey
+    @Persistent(valueStrategy = IdGeneratorStrategy.IDENTITY)
+    private transient Long activityLogId;
+
+    /** The time the action was carried out, in milliseconds since the epoch. */
+    @Persistent
+    private Date time;
+
+    /** The major version of the app that carried out the action, with dashes e.g. "5-59". */
+    @Persistent
+    private String version;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String servletName;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String action;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String role;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String name;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String googleId;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String email;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private boolean toShow;
+
+    @Persistent
+    private Text message;
+
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String url;
+
+    /** The id of the log as shown in the admin activity log e.g. "bamboo3250%20151103170618465". */
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private String logId;
+
+    /** The time taken to carry out the action, in milliseconds. */
+    @Persistent
+    @Extension(vendorName = "datanucleus", key = "gae.unindexed", value = "true")
+    private long timeTaken;
+
+    public ActivityLog(Date time, String version, String servletName, String action, String role, String name,
+                       String googleId, String email, boolean toShow, Text message, String url, String logId,
+                       long timeTaken) {
+        this.time = time;
+        this.version = version;
+        this.servletName = servletName;
+        this.action = action;
+        this.role = role;
+        this.name = name;
+        this.googleId = googleId;
+        this.email = email;
+        this.toShow = toShow;
+        this.message = message;
+        this.url = url;
+        this.logId = logId;
+        this.timeTaken = timeTaken;
+    }
+
+    public Date getTime() {
+        return time;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getServletName() {
+        return servletName;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getGoogleId() {
+        return googleId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isToShow() {
+        return toShow;
+    }
+
+    public Text getMessage() {
+        return message;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getLogId() {
+        return logId;
+    }
+
+    public long getTimeTaken() {
+        return timeTaken;
+    }
+
+}
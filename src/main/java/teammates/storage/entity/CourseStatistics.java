@@ -0,0 +1,120 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Counts of the students of a course that its statistics are shown from,
+ * kept up to date as students are enrolled, edited, join and are deleted
+ * so that they need not be counted from the full list of students of the course.
+ *
+ * <p>The students of each team and of each section are counted, so that the number of teams and sections
+ * stays correct when the last student leaves a team or a section.</p>
+ */
+@PersistenceCapable
+public class CourseStatistics {
+
+    /**
+     * The primary key, which is the id of the course.
+     */
+    @PrimaryKey
+    @Persistent
+    private String courseId;
+
+    @Persistent
+    private int studentsTotal;
+
+    @Persistent
+    private int unregisteredTotal;
+
+    /**
+     * The number of students in each team of the course, keyed by team name, in JSON format.
+     */
+    @Persistent
+    private Text studentsPerTeam;
+
+    /**
+     * The number of students in each section of the course, keyed by section name, in JSON format.
+     */
+    @Persistent
+    private Text studentsPerSection;
+
+    @Persistent
+    private Date updatedAt;
+
+    /**
+     * Whether the counts are unknown and are to be counted again from the students of the course,
+     * e.g. as a student was changed before the statistics of the course were first counted.
+     * Null for statistics stored before this was kept, which are up to date.
+     */
+    @Persistent
+    private Boolean isRecountNeeded;
+
+    public CourseStatistics(String courseId, int studentsTotal, int unregisteredTotal,
+                            Text studentsPerTeam, Text studentsPerSection) {
+        this.courseId = courseId;
+        this.studentsTotal = studentsTotal;
+        this.unregisteredTotal = unregisteredTotal;
+        this.studentsPerTeam = studentsPerTeam;
+        this.studentsPerSection = studentsPerSection;
+        this.updatedAt = new Date();
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getStudentsTotal() {
+        return studentsTotal;
+    }
+
+    public void setStudentsTotal(int studentsTotal) {
+        this.studentsTotal = studentsTotal;
+    }
+
+    public int getUnregisteredTotal() {
+        return unregisteredTotal;
+    }
+
+    public void setUnregisteredTotal(int unregisteredTotal) {
+        this.unregisteredTotal = unregisteredTotal;
+    }
+
+    public Text getStudentsPerTeam() {
+        return studentsPerTeam;
+    }
+
+    public void setStudentsPerTeam(Text studentsPerTeam) {
+        this.studentsPerTeam = studentsPerTeam;
+    }
+
+    public Text getStudentsPerSection() {
+        return studentsPerSection;
+    }
+
+    public void setStudentsPerSection(Text studentsPerSection) {
+        this.studentsPerSection = studentsPerSection;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public boolean isRecountNeeded() {
+        return isRecountNeeded != null && isRecountNeeded;
+    }
+
+    public void setRecountNeeded(boolean isRecountNeeded) {
+        this.isRecountNeeded = isRecountNeeded;
+    }
+
+}
@@ -32,7 +32,7 @@ public class CourseStudent implements StoreCallback {
     /**
      * ID of the student.
      *
-     * @see #makeId()
+     * @see #generateId(String, String)
      */
     @PrimaryKey
     @Persistent
@@ -100,12 +100,15 @@ public class CourseStudent implements StoreCallback {
 
         setCreatedAt(new Date());
 
-        this.id = makeId();
+        this.id = generateId(getEmail(), getCourseId());
         registrationKey = generateRegistrationKey();
     }
 
-    private String makeId() {
-        return getEmail() + '%' + getCourseId();
+    /**
+     * Generates the id of the student with {@code email} in the course with {@code courseId}.
+     */
+    public static String generateId(String email, String courseId) {
+        return email + '%' + courseId;
     }
 
     public Date getCreatedAt() {
@@ -0,0 +1,93 @@
+package teammates.storage.entity;
+
+import java.util.Date;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * Aggregates of the responses to a feedback question that its statistics are rendered from,
+ * kept up to date as the responses are saved so that they need not be counted from every response.
+ *
+ * <p>Each question has its own root entity so that submissions to different questions
+ * do not contend for the same entity group.</p>
+ */
+@PersistenceCapable
+public class FeedbackQuestionStatistics {
+
+    /**
+     * The primary key, which is the id of the feedback question.
+     */
+    @PrimaryKey
+    @Persistent
+    private String feedbackQuestionId;
+
+    @Persistent
+    private String feedbackSessionName;
+
+    @Persistent
+    private String courseId;
+
+    @Persistent
+    private int numberOfResponses;
+
+    /**
+     * The counts of the question, in JSON format.
+     * What is counted depends on the type of the question.
+     */
+    @Persistent
+    private Text counts;
+
+    @Persistent
+    private Date updatedAt;
+
+    public FeedbackQuestionStatistics(String feedbackQuestionId, String feedbackSessionName, String courseId,
+                                      int numberOfResponses, Text counts) {
+        this.feedbackQuestionId = feedbackQuestionId;
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.numberOfResponses = numberOfResponses;
+        this.counts = counts;
+        this.updatedAt = new Date();
+    }
+
+    public String getFeedbackQuestionId() {
+        return feedbackQuestionId;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public int getNumberOfResponses() {
+        return numberOfResponses;
+    }
+
+    public void setNumberOfResponses(int numberOfResponses) {
+        this.numberOfResponses = numberOfResponses;
+    }
+
+    public Text getCounts() {
+        return counts;
+    }
+
+    public void setCounts(Text counts) {
+        this.counts = counts;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+}
@@ -1,6 +1,8 @@
 package teammates.storage.entity;
 
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 
 import javax.jdo.annotations.NotPersistent;
 import javax.jdo.annotations.PersistenceCapable;
@@ -55,6 +57,14 @@ public class FeedbackResponse implements StoreCallback {
     @Persistent
     private String receiverSection;
 
+    /**
+     * The giver section and the receiver section of the response, so that the responses involving
+     * a section can be found by a single query.
+     * Kept up to date by the setters of the sections; may be null for responses stored before it was added.
+     */
+    @Persistent
+    private Set<String> sectionsInvolved;
+
     @Persistent
     private Text answer; //TODO: rename to responseMetaData, will require database conversion
 
@@ -76,12 +86,21 @@ public class FeedbackResponse implements StoreCallback {
         this.receiver = recipient;
         this.receiverSection = recipientSection;
         this.answer = answer;
+        updateSectionsInvolved();
 
-        this.feedbackResponseId = feedbackQuestionId + "%" + giverEmail + "%" + receiver;
+        this.feedbackResponseId = generateId(feedbackQuestionId, giverEmail, receiver);
 
         this.setCreatedAt(new Date());
     }
 
+    /**
+     * Generates the id of the response given by {@code giverEmail} to {@code receiver}
+     * for the question with {@code feedbackQuestionId}.
+     */
+    public static String generateId(String feedbackQuestionId, String giverEmail, String receiver) {
+        return feedbackQuestionId + "%" + giverEmail + "%" + receiver;
+    }
+
     public String getId() {
         return feedbackResponseId;
     }
@@ -137,6 +156,7 @@ public class FeedbackResponse implements StoreCallback {
 
     public void setGiverSection(String giverSection) {
         this.giverSection = giverSection;
+        updateSectionsInvolved();
     }
 
     public String getRecipientEmail() {
@@ -153,6 +173,37 @@ public class FeedbackResponse implements StoreCallback {
 
     public void setRecipientSection(String recipientSection) {
         this.receiverSection = recipientSection;
+        updateSectionsInvolved();
+    }
+
+    public Set<String> getSectionsInvolved() {
+        return sectionsInvolved;
+    }
+
+    /**
+     * Recomputes {@link #sectionsInvolved} from the giver section and the receiver section.
+     */
+    public void updateSectionsInvolved() {
+        this.sectionsInvolved = computeSectionsInvolved();
+    }
+
+    /**
+     * Returns true if {@link #sectionsInvolved} does not match the giver section and the receiver section,
+     * e.g. for responses stored before the attribute was added.
+     */
+    public boolean isSectionsInvolvedOutdated() {
+        return !computeSectionsInvolved().equals(sectionsInvolved);
+    }
+
+    private Set<String> computeSectionsInvolved() {
+        Set<String> sections = new HashSet<String>();
+        if (giverSection != null) {
+            sections.add(giverSection);
+        }
+        if (receiverSection != null) {
+            sections.add(receiverSection);
+        }
+        return sections;
     }
 
     public Text getResponseMetaData() {
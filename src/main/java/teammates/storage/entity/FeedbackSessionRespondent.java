@@ -0,0 +1,71 @@
+package teammates.storage.entity;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+/**
+ * Records that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent is a separate root entity so that concurrent submissions to the same
+ * session do not contend for the {@link FeedbackSession} entity group.</p>
+ */
+@PersistenceCapable
+public class FeedbackSessionRespondent {
+
+    /**
+     * The primary key. Format: feedbackSessionName%courseId%email%(instructor|student)
+     *
+     * @see #generateId(String, String, String, boolean)
+     */
+    @PrimaryKey
+    @Persistent
+    private String id;
+
+    @Persistent
+    private String feedbackSessionName;
+
+    @Persistent
+    private String courseId;
+
+    @Persistent
+    private String email;
+
+    @Persistent
+    private boolean isInstructor;
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email,
+                                     boolean isInstructor) {
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.id = generateId(feedbackSessionName, courseId, email, isInstructor);
+    }
+
+    public static String generateId(String feedbackSessionName, String courseId, String email,
+                                    boolean isInstructor) {
+        return feedbackSessionName + '%' + courseId + '%' + email + '%' + (isInstructor ? "instructor" : "student");
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+}
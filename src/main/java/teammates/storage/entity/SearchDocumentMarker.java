@@ -0,0 +1,56 @@
+package teammates.storage.entity;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.Persistent;
+import javax.jdo.annotations.PrimaryKey;
+
+/**
+ * Marks the search document of an entity as out of date, to be updated by a task queue worker.
+ *
+ * <p>The marker of a document is identified by the index and the entity the document is built from,
+ * so marking a document again before it is updated leaves a single marker.</p>
+ */
+@PersistenceCapable
+public class SearchDocumentMarker {
+
+    /** The index name, the course ID and the entity ID, separated by {@code "|"}. */
+    @PrimaryKey
+    @Persistent
+    private String markerId;
+
+    @Persistent
+    private String indexName;
+
+    @Persistent
+    private String courseId;
+
+    /**
+     * The ID of the entity within the course, e.g. the email of a student or the ID of a comment.
+     */
+    @Persistent
+    private String entityId;
+
+    public SearchDocumentMarker(String indexName, String courseId, String entityId) {
+        this.markerId = generateId(indexName, courseId, entityId);
+        this.indexName = indexName;
+        this.courseId = courseId;
+        this.entityId = entityId;
+    }
+
+    public static String generateId(String indexName, String courseId, String entityId) {
+        return indexName + "|" + courseId + "|" + entityId;
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+}
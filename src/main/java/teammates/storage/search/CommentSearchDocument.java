@@ -39,8 +39,8 @@ public class CommentSearchDocument extends SearchDocument {
         if (comment == null) {
             return;
         }
-        course = coursesDb.getCourse(comment.courseId);
-        giverAsInstructor = instructorsDb.getInstructorForEmail(comment.courseId, comment.giverEmail);
+        course = lookups.getCourse(comment.courseId);
+        giverAsInstructor = lookups.getInstructorForEmail(comment.courseId, comment.giverEmail);
         relatedStudents = new ArrayList<StudentAttributes>();
         commentRecipientName = buildCommentRecipientName();
     }
@@ -51,7 +51,7 @@ public class CommentSearchDocument extends SearchDocument {
         switch (comment.recipientType) {
         case PERSON:
             for (String email : comment.recipients) {
-                StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, email);
+                StudentAttributes student = lookups.getStudentForEmail(comment.courseId, email);
                 if (student == null) {
                     commentRecipientNameBuilder.append(delim).append(email);
                 } else {
@@ -66,7 +66,7 @@ public class CommentSearchDocument extends SearchDocument {
         case TEAM:
             for (String team : comment.recipients) {
                 List<StudentAttributes> students =
-                        studentsDb.getStudentsForTeam(SanitizationHelper.desanitizeFromHtml(team), comment.courseId);
+                        lookups.getStudentsForTeam(SanitizationHelper.desanitizeFromHtml(team), comment.courseId);
                 relatedStudents.addAll(students);
                 commentRecipientNameBuilder.append(delim).append(team);
                 delim = ", ";
@@ -74,7 +74,7 @@ public class CommentSearchDocument extends SearchDocument {
             break;
         case SECTION:
             for (String section : comment.recipients) {
-                List<StudentAttributes> students = studentsDb.getStudentsForSection(section, comment.courseId);
+                List<StudentAttributes> students = lookups.getStudentsForSection(section, comment.courseId);
                 relatedStudents.addAll(students);
                 commentRecipientNameBuilder.append(delim).append(section);
                 delim = ", ";
@@ -0,0 +1,103 @@
+package teammates.storage.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.CourseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Reads the data search documents are built from, remembering what was read so that
+ * documents built together read the data they share, e.g. their course and its instructors, only once.
+ *
+ * <p>Not meant to be kept beyond building a list of documents, as the data read is not refreshed.</p>
+ */
+final class CourseDataLookups {
+
+    private final Map<String, CourseAttributes> courses = new HashMap<String, CourseAttributes>();
+    private final Map<String, Map<String, InstructorAttributes>> instructorsByCourse =
+            new HashMap<String, Map<String, InstructorAttributes>>();
+    private final Map<String, StudentAttributes> students = new HashMap<String, StudentAttributes>();
+    private final Map<String, List<StudentAttributes>> teams = new HashMap<String, List<StudentAttributes>>();
+    private final Map<String, List<StudentAttributes>> sections = new HashMap<String, List<StudentAttributes>>();
+    private final Map<String, FeedbackSessionAttributes> sessions = new HashMap<String, FeedbackSessionAttributes>();
+    private final Map<String, FeedbackQuestionAttributes> questions =
+            new HashMap<String, FeedbackQuestionAttributes>();
+    private final Map<String, FeedbackResponseAttributes> responses =
+            new HashMap<String, FeedbackResponseAttributes>();
+
+    CourseAttributes getCourse(String courseId) {
+        if (!courses.containsKey(courseId)) {
+            courses.put(courseId, SearchDocument.coursesDb.getCourse(courseId));
+        }
+        return courses.get(courseId);
+    }
+
+    /**
+     * Returns the instructor of the course with the email, reading all the instructors of the course
+     * the first time an instructor of the course is looked up.
+     */
+    InstructorAttributes getInstructorForEmail(String courseId, String email) {
+        Map<String, InstructorAttributes> instructors = instructorsByCourse.get(courseId);
+        if (instructors == null) {
+            instructors = new HashMap<String, InstructorAttributes>();
+            for (InstructorAttributes instructor : SearchDocument.instructorsDb.getInstructorsForCourse(courseId)) {
+                instructors.put(instructor.email, instructor);
+            }
+            instructorsByCourse.put(courseId, instructors);
+        }
+        return instructors.get(email);
+    }
+
+    StudentAttributes getStudentForEmail(String courseId, String email) {
+        String key = courseId + "|" + email;
+        if (!students.containsKey(key)) {
+            students.put(key, SearchDocument.studentsDb.getStudentForEmail(courseId, email));
+        }
+        return students.get(key);
+    }
+
+    List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
+        String key = courseId + "|" + teamName;
+        if (!teams.containsKey(key)) {
+            teams.put(key, SearchDocument.studentsDb.getStudentsForTeam(teamName, courseId));
+        }
+        return teams.get(key);
+    }
+
+    List<StudentAttributes> getStudentsForSection(String sectionName, String courseId) {
+        String key = courseId + "|" + sectionName;
+        if (!sections.containsKey(key)) {
+            sections.put(key, SearchDocument.studentsDb.getStudentsForSection(sectionName, courseId));
+        }
+        return sections.get(key);
+    }
+
+    FeedbackSessionAttributes getFeedbackSession(String courseId, String feedbackSessionName) {
+        String key = courseId + "|" + feedbackSessionName;
+        if (!sessions.containsKey(key)) {
+            sessions.put(key, SearchDocument.fsDb.getFeedbackSession(courseId, feedbackSessionName));
+        }
+        return sessions.get(key);
+    }
+
+    FeedbackQuestionAttributes getFeedbackQuestion(String feedbackQuestionId) {
+        if (!questions.containsKey(feedbackQuestionId)) {
+            questions.put(feedbackQuestionId, SearchDocument.fqDb.getFeedbackQuestion(feedbackQuestionId));
+        }
+        return questions.get(feedbackQuestionId);
+    }
+
+    FeedbackResponseAttributes getFeedbackResponse(String feedbackResponseId) {
+        if (!responses.containsKey(feedbackResponseId)) {
+            responses.put(feedbackResponseId, SearchDocument.frDb.getFeedbackResponse(feedbackResponseId));
+        }
+        return responses.get(feedbackResponseId);
+    }
+
+}
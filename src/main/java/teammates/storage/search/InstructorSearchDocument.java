@@ -34,7 +34,7 @@ public class InstructorSearchDocument extends SearchDocument {
             return;
         }
 
-        course = coursesDb.getCourse(instructor.courseId);
+        course = lookups.getCourse(instructor.courseId);
     }
 
     @Override
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.Logger;
 import teammates.storage.api.CommentsDb;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.FeedbackQuestionsDb;
@@ -34,9 +35,40 @@ public abstract class SearchDocument {
     protected static final InstructorsDb instructorsDb = new InstructorsDb();
     protected static final StudentsDb studentsDb = new StudentsDb();
 
+    private static final Logger log = Logger.getLogger();
+
+    /** The data the document is built from is read through this, as set when it is built. */
+    protected CourseDataLookups lookups;
+
     public Document build() {
-        prepareData();
-        return toDocument();
+        return build(new CourseDataLookups());
+    }
+
+    /**
+     * Builds {@code documents}, reading the data they share only once.
+     * Documents which fail to be built are logged and left out.
+     */
+    public static List<Document> buildAll(List<? extends SearchDocument> documents) {
+        CourseDataLookups lookups = new CourseDataLookups();
+        List<Document> builtDocuments = new ArrayList<Document>();
+        for (SearchDocument document : documents) {
+            try {
+                builtDocuments.add(document.build(lookups));
+            } catch (Exception e) {
+                log.info("Failed to build searchable document for " + document.toString());
+            }
+        }
+        return builtDocuments;
+    }
+
+    private Document build(CourseDataLookups dataLookups) {
+        this.lookups = dataLookups;
+        try {
+            prepareData();
+            return toDocument();
+        } finally {
+            this.lookups = null;
+        }
     }
 
     protected abstract void prepareData();
@@ -1,18 +1,21 @@
 package teammates.storage.search;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
-import teammates.common.exception.TeammatesException;
-import teammates.common.util.Config;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
 import teammates.common.util.ThreadHelper;
 
 import com.google.appengine.api.search.Document;
 import com.google.appengine.api.search.Index;
 import com.google.appengine.api.search.IndexSpec;
+import com.google.appengine.api.search.OperationResult;
 import com.google.appengine.api.search.PutException;
-import com.google.appengine.api.search.PutResponse;
 import com.google.appengine.api.search.Query;
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
@@ -28,12 +31,17 @@ public final class SearchManager {
 
     private static final String ERROR_NON_TRANSIENT_BACKEND_ISSUE =
             "Failed to put document %s into search index %s due to non-transient backend issue: ";
-    private static final String ERROR_EXCEED_DURATION =
-            "Operation did not succeed in time: putting document %s into search index %s.";
+    private static final String ERROR_EXCEED_RETRIES =
+            "Operation did not succeed after retries: putting document %s into search index %s.";
     private static final Logger log = Logger.getLogger();
     private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<Map<String, Index>>();
     private static final int MAX_RETRIES = 3;
 
+    /**
+     * The maximum number of documents the Search API accepts in a single put.
+     */
+    private static final int MAX_DOCUMENTS_PER_PUT = 200;
+
     private SearchManager() {
         // utility class
     }
@@ -42,45 +50,90 @@ public final class SearchManager {
      * Creates or updates the search document for the given document and index.
      */
     public static void putDocument(String indexName, Document document) {
+        putDocuments(indexName, Arrays.asList(document));
+    }
+
+    /**
+     * Creates or updates the search documents for the given documents and index,
+     * putting up to {@link #MAX_DOCUMENTS_PER_PUT} documents per call.
+     *
+     * <p>Only the documents which failed due to a transient error are retried.</p>
+     *
+     * @return the result of putting each document, in the order of {@code documents}
+     */
+    public static List<OperationResult> putDocuments(String indexName, List<Document> documents) {
+        List<OperationResult> results = new ArrayList<OperationResult>(documents.size());
+        for (int start = 0; start < documents.size(); start += MAX_DOCUMENTS_PER_PUT) {
+            int end = Math.min(start + MAX_DOCUMENTS_PER_PUT, documents.size());
+            results.addAll(putDocumentsInSingleCall(indexName, documents.subList(start, end)));
+        }
+        return results;
+    }
+
+    private static List<OperationResult> putDocumentsInSingleCall(String indexName, List<Document> documents) {
         Index index = getIndex(indexName);
+        OperationResult[] results = new OperationResult[documents.size()];
+
+        List<Integer> positionsToPut = new ArrayList<Integer>();
+        for (int i = 0; i < documents.size(); i++) {
+            positionsToPut.add(i);
+        }
 
         int delay = 2;
-        for (int attempts = 0; attempts < MAX_RETRIES; attempts++) {
-            try {
-                PutResponse result = index.put(document);
+        for (int attempts = 0; attempts < MAX_RETRIES && !positionsToPut.isEmpty(); attempts++) {
+            if (attempts > 0) {
+                ThreadHelper.waitFor(delay * 1000);
+                delay *= 2; // use exponential backoff
+            }
 
-                if (Config.PERSISTENCE_CHECK_DURATION == 0) {
-                    continue;
+            List<Document> documentsToPut = new ArrayList<Document>();
+            for (int position : positionsToPut) {
+                documentsToPut.add(documents.get(position));
+            }
+            List<OperationResult> putResults = put(index, documentsToPut);
+
+            List<Integer> positionsToRetry = new ArrayList<Integer>();
+            for (int i = 0; i < positionsToPut.size(); i++) {
+                int position = positionsToPut.get(i);
+                results[position] = putResults.get(i);
+                // a successful put is visible to later searches; no need to poll for it
+                if (StatusCode.TRANSIENT_ERROR.equals(results[position].getCode())) {
+                    // if it's a transient error in the server, it can be retried
+                    positionsToRetry.add(position);
                 }
+            }
+            positionsToPut = positionsToRetry;
+        }
 
-                int elapsedTime = 0;
-                boolean isSuccessful = result.getResults().get(0).getCode() == StatusCode.OK;
-                while (!isSuccessful && elapsedTime < Config.PERSISTENCE_CHECK_DURATION) {
-                    ThreadHelper.waitBriefly();
-                    // retry putting the document
-                    result = index.put(document);
-                    isSuccessful = result.getResults().get(0).getCode() == StatusCode.OK;
-                    // check before incrementing to avoid boundary case problem
-                    if (!isSuccessful) {
-                        elapsedTime += ThreadHelper.WAIT_DURATION;
-                    }
-                }
-                if (elapsedTime >= Config.PERSISTENCE_CHECK_DURATION) {
-                    log.info(String.format(ERROR_EXCEED_DURATION, document, indexName));
-                }
+        for (int i = 0; i < documents.size(); i++) {
+            StatusCode code = results[i].getCode();
+            if (StatusCode.TRANSIENT_ERROR.equals(code)) {
+                log.info(String.format(ERROR_EXCEED_RETRIES, documents.get(i), indexName));
+            } else if (!StatusCode.OK.equals(code)) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents.get(i), indexName)
+                        + results[i]);
+            }
+        }
+        return Arrays.asList(results);
+    }
 
-            } catch (PutException e) {
-                if (StatusCode.TRANSIENT_ERROR.equals(e.getOperationResult().getCode())) {
-                    // if it's a transient error in the server, it can be retried
-                    ThreadHelper.waitFor(delay * 1000);
-                    delay *= 2; // use exponential backoff
-                    continue;
-                } else {
-                    log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, document, indexName)
-                            + TeammatesException.toStringWithStackTrace(e));
-                    break;
-                }
+    /**
+     * Returns the result of putting each of {@code documents}, in the order of {@code documents}.
+     */
+    private static List<OperationResult> put(Index index, List<Document> documents) {
+        try {
+            RequestOperationCounter.record(Operation.SEARCH_API_CALL);
+            return index.put(documents).getResults();
+        } catch (PutException e) {
+            if (e.getResults() != null && e.getResults().size() == documents.size()) {
+                return e.getResults();
+            }
+            // the whole call failed; every document shares its result
+            List<OperationResult> results = new ArrayList<OperationResult>();
+            for (int i = 0; i < documents.size(); i++) {
+                results.add(e.getOperationResult());
             }
+            return results;
         }
     }
 
@@ -88,6 +141,7 @@ public final class SearchManager {
      * Searches document by the given query.
      */
     public static Results<ScoredDocument> searchDocuments(String indexName, Query query) {
+        RequestOperationCounter.record(Operation.SEARCH_API_CALL);
         return getIndex(indexName).search(query);
     }
 
@@ -95,6 +149,7 @@ public final class SearchManager {
      * Deletes document by documentId.
      */
     public static void deleteDocument(String indexName, String documentId) {
+        RequestOperationCounter.record(Operation.SEARCH_API_CALL);
         getIndex(indexName).deleteAsync(documentId);
     }
 
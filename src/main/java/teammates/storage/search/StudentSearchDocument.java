@@ -35,7 +35,7 @@ public class StudentSearchDocument extends SearchDocument {
             return;
         }
 
-        course = coursesDb.getCourse(student.course);
+        course = lookups.getCourse(student.course);
     }
 
     @Override
@@ -0,0 +1,24 @@
+package teammates.ui.automated;
+
+/**
+ * Cron job: deletes the activity logs which are older than the retention period.
+ */
+public class ActivityLogsCleanupAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return "delete expired activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Deleting expired activity logs";
+    }
+
+    @Override
+    public void execute() {
+        int numberOfLogsDeleted = logic.deleteExpiredActivityLogs();
+        log.info("Deleted " + numberOfLogsDeleted + " expired activity logs");
+    }
+
+}
@@ -44,10 +44,8 @@ public class AdminPrepareEmailAddressModeWorkerAction extends AutomatedAction {
             addressList.add(addressReceiverListString);
         }
 
-        for (String emailAddress : addressList) {
-            taskQueuer.scheduleAdminEmailForSending(emailId, emailAddress, adminEmail.getSubject(),
-                                                    adminEmail.getContent().getValue());
-        }
+        taskQueuer.scheduleAdminEmailsForSending(emailId, addressList, adminEmail.getSubject(),
+                                                 adminEmail.getContent().getValue());
     }
 
 }
@@ -1,6 +1,7 @@
 package teammates.ui.automated;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.AdminEmailAttributes;
@@ -8,6 +9,7 @@ import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.apphosting.api.ApiProxy;
@@ -18,6 +20,9 @@ import com.google.apphosting.api.ApiProxy;
  */
 public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
+    /** Number of receivers whose email tasks are added together, between checks of the time left. */
+    private static final int NUM_OF_RECEIVERS_PER_BATCH = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -38,65 +43,67 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         String groupReceiverListFileKey = getRequestParamValue(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY);
         Assumption.assertNotNull(groupReceiverListFileKey);
 
-        String indexOfEmailListToResumeAsString =
-                getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX);
-        String indexOfEmailToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX);
-
-        int indexOfEmailListToResume = indexOfEmailListToResumeAsString == null
-                                       ? 0
-                                       : Integer.parseInt(indexOfEmailListToResumeAsString);
-        int indexOfEmailToResume = indexOfEmailToResumeAsString == null
-                                   ? 0
-                                   : Integer.parseInt(indexOfEmailToResumeAsString);
+        String fileOffsetToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_FILE_OFFSET);
+        long fileOffsetToResume = fileOffsetToResumeAsString == null
+                                  ? 0
+                                  : Long.parseLong(fileOffsetToResumeAsString);
 
         try {
-            List<List<String>> processedReceiverEmails =
-                    GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
-            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, processedReceiverEmails,
-                                     indexOfEmailListToResume, indexOfEmailToResume);
+            GroupReceiverListReader groupReceiverListReader = GoogleCloudStorageHelper.getGroupReceiverListReader(
+                    new BlobKey(groupReceiverListFileKey), fileOffsetToResume);
+            try {
+                addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, groupReceiverListReader);
+            } finally {
+                groupReceiverListReader.close();
+            }
         } catch (IOException e) {
             log.severe("Unexpected error while adding admin email tasks: "
                        + TeammatesException.toStringWithStackTrace(e));
         }
     }
 
+    private List<String> readNextReceiverEmails(GroupReceiverListReader groupReceiverListReader)
+            throws IOException {
+        List<String> receiverEmails = new ArrayList<String>();
+        while (receiverEmails.size() < NUM_OF_RECEIVERS_PER_BATCH) {
+            String receiverEmail = groupReceiverListReader.readNextAddress();
+            if (receiverEmail == null) {
+                break;
+            }
+            receiverEmails.add(receiverEmail);
+        }
+        return receiverEmails;
+    }
+
     private boolean isNearDeadline() {
         long timeLeftInMillis = ApiProxy.getCurrentEnvironment().getRemainingMillis();
         return timeLeftInMillis / 1000 < 100;
     }
 
     private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
-            List<List<String>> processedReceiverEmails,
-            int indexOfEmailListToResume, int indexOfEmailToResume) {
+            GroupReceiverListReader groupReceiverListReader) throws IOException {
         AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
         Assumption.assertNotNull(adminEmail);
 
-        log.info("Resume adding group mail tasks for mail with id " + emailId + " from list index: "
-                 + indexOfEmailListToResume + " and email index: " + indexOfEmailToResume);
-
-        int indexOfLastEmailList = 0;
-        int indexOfLastEmail = 0;
-
-        for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
-            List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContent().getValue());
-                if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
-                    log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
-                    return;
-                }
-                indexOfLastEmail = j;
+        log.info("Resume adding group mail tasks for mail with id " + emailId + " from file offset: "
+                 + groupReceiverListReader.getOffset());
+
+        List<String> receiverEmails = readNextReceiverEmails(groupReceiverListReader);
+        while (!receiverEmails.isEmpty()) {
+            taskQueuer.scheduleAdminEmailsForSending(emailId, receiverEmails, adminEmail.getSubject(),
+                                                     adminEmail.getContent().getValue());
+            if (isNearDeadline()) {
+                long fileOffset = groupReceiverListReader.getOffset();
+                taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, fileOffset);
+                log.info("Adding group mail tasks for mail with id " + emailId
+                         + " have been paused with file offset: " + fileOffset);
+                return;
             }
-            indexOfLastEmailList = i;
+            receiverEmails = readNextReceiverEmails(groupReceiverListReader);
         }
 
         log.info("Adding group mail tasks for mail with id " + emailId
-                 + "was complete with last reached list index: " + indexOfLastEmailList
-                 + " and last reached email index: " + indexOfLastEmail);
+                 + " was complete with last reached file offset: " + groupReceiverListReader.getOffset());
     }
 
 }
@@ -6,10 +6,17 @@ import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.exception.TeammatesException;
 import teammates.common.datatransfer.UserType;
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.ActionMetrics.Outcome;
 import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestOperationCounter;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.Logic;
+
+import com.google.appengine.api.datastore.DatastoreTimeoutException;
+import com.google.apphosting.api.DeadlineExceededException;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -26,8 +33,16 @@ public class AutomatedServlet extends HttpServlet {
 
     @Override
     public void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        Logic logic = new Logic();
+        logic.startRequestScopedCaches();
+        RequestOperationCounter.reset();
+
+        long startTime = System.currentTimeMillis();
+        String actionName = ActionMetrics.UNKNOWN_ACTION;
+        Outcome outcome = Outcome.ERROR;
         try {
             AutomatedAction action = new AutomatedActionFactory().getAction(req, resp);
+            actionName = action.getClass().getSimpleName();
             UserType userType = new GateKeeper().getCurrentUser();
 
             String url = HttpRequestHelper.getRequestedUrl(req);
@@ -39,12 +54,27 @@ public class AutomatedServlet extends HttpServlet {
             }
 
             action.execute();
+            outcome = Outcome.SUCCESS;
+        } catch (DeadlineExceededException | DatastoreTimeoutException e) {
+            outcome = Outcome.TIMEOUT;
+            logException(req, e);
         } catch (Exception e) {
-            String requestUrl = req.getRequestURL().toString();
-            String requestParams = HttpRequestHelper.printRequestParameters(req);
-            log.severe("Exception occured while performing " + requestUrl + "|||"
-                       + requestParams + "|||" + TeammatesException.toStringWithStackTrace(e));
+            logException(req, e);
+        } finally {
+            ActionMetrics.inst().record(actionName, outcome, System.currentTimeMillis() - startTime,
+                                        RequestOperationCounter.getCounts());
+            log.fine("Request-scoped cache : " + logic.getRequestScopedCacheHitCount() + " hits, "
+                     + logic.getRequestScopedCacheMissCount() + " misses");
+            logic.clearRequestScopedCaches();
+            RequestOperationCounter.reset();
         }
     }
 
+    private void logException(HttpServletRequest req, Exception e) {
+        String requestUrl = req.getRequestURL().toString();
+        String requestParams = HttpRequestHelper.printRequestParameters(req);
+        log.severe("Exception occured while performing " + requestUrl + "|||"
+                   + requestParams + "|||" + TeammatesException.toStringWithStackTrace(e));
+    }
+
 }
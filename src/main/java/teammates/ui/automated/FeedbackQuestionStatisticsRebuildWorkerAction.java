@@ -0,0 +1,43 @@
+package teammates.ui.automated;
+
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: recounts the statistics of the questions of a feedback session
+ * from their responses, after a change to the statistics of one of its questions could not be applied.
+ */
+public class FeedbackQuestionStatisticsRebuildWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertNotNull(courseId);
+
+        String feedbackSessionName = getRequestParamValue(ParamsNames.FEEDBACK_SESSION_NAME);
+        Assumption.assertNotNull(feedbackSessionName);
+
+        log.info("Rebuilding question statistics of feedback session: " + feedbackSessionName
+                 + " in course: " + courseId);
+
+        try {
+            logic.rebuildFeedbackQuestionStatisticsForSession(feedbackSessionName, courseId);
+        } catch (EntityDoesNotExistException e) {
+            // the session was deleted after the task was scheduled; there is nothing to rebuild
+            log.warning("Feedback session " + feedbackSessionName + " in course " + courseId
+                        + " no longer exists: " + e.getMessage());
+        }
+    }
+
+}
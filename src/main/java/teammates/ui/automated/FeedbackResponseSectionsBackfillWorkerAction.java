@@ -0,0 +1,36 @@
+package teammates.ui.automated;
+
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: populates the sectionsInvolved attribute of a batch of feedback responses
+ * stored before the attribute was added, then schedules the next batch.
+ *
+ * <p>The backfill is started by opening the worker URL once as an admin. When it is done,
+ * section-filtered response queries can be switched to the attribute in build.properties.
+ */
+public class FeedbackResponseSectionsBackfillWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String cursor = getRequestParamValue(ParamsNames.BACKFILL_CURSOR);
+
+        String nextCursor = logic.backfillSectionsInvolvedOfFeedbackResponses(cursor);
+        if (nextCursor == null) {
+            log.info("Backfilled the sections involved of all feedback responses");
+            return;
+        }
+        taskQueuer.scheduleFeedbackResponseSectionsBackfill(nextCursor);
+    }
+
+}
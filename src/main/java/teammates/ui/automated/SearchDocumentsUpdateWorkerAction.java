@@ -0,0 +1,37 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const.ParamsNames;
+
+/**
+ * Task queue worker action: updates the search documents of a course which are marked as out of date,
+ * including those of the entities the task is scheduled for.
+ */
+public class SearchDocumentsUpdateWorkerAction extends AutomatedAction {
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String indexName = getRequestParamValue(ParamsNames.SEARCH_INDEX_NAME);
+        Assumption.assertNotNull(indexName);
+        String courseId = getRequestParamValue(ParamsNames.COURSE_ID);
+        Assumption.assertNotNull(courseId);
+        String[] entityIds = getRequestParamValues(ParamsNames.SEARCH_INDEX_ENTITY_ID);
+        Assumption.assertNotNull(entityIds);
+
+        // documents already updated by an earlier task, e.g. one scheduled by an earlier edit, are skipped
+        logic.updateMarkedSearchDocuments(indexName, courseId, Arrays.asList(entityIds));
+    }
+
+}
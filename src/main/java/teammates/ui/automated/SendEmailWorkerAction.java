@@ -1,12 +1,16 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
-import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends a queued batch of emails.
+ * If only some of the emails cannot be sent, only those are queued to be sent again.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
@@ -22,38 +26,41 @@ public class SendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        String emailSubject = getRequestParamValue(ParamsNames.EMAIL_SUBJECT);
-        Assumption.assertNotNull(emailSubject);
-
-        String emailContent = getRequestParamValue(ParamsNames.EMAIL_CONTENT);
-        Assumption.assertNotNull(emailContent);
-
-        String emailSenderEmail = getRequestParamValue(ParamsNames.EMAIL_SENDER);
-        Assumption.assertNotNull(emailSenderEmail);
-
-        String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
-
-        String emailReceiver = getRequestParamValue(ParamsNames.EMAIL_RECEIVER);
-        Assumption.assertNotNull(emailReceiver);
-
-        String emailReply = getRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
-        Assumption.assertNotNull(emailReply);
+        String[] emailSubjects = getNonNullRequestParamValues(ParamsNames.EMAIL_SUBJECT);
+        String[] emailContents = getNonNullRequestParamValues(ParamsNames.EMAIL_CONTENT);
+        String[] emailSenderEmails = getNonNullRequestParamValues(ParamsNames.EMAIL_SENDER);
+        String[] emailSenderNames = getRequestParamValues(ParamsNames.EMAIL_SENDERNAME);
+        String[] emailReceivers = getNonNullRequestParamValues(ParamsNames.EMAIL_RECEIVER);
+        String[] emailReplies = getNonNullRequestParamValues(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
 
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+        List<EmailWrapper> messages = new ArrayList<EmailWrapper>();
+        for (int i = 0; i < emailReceivers.length; i++) {
+            EmailWrapper message = new EmailWrapper();
+            message.setRecipient(emailReceivers[i]);
+            message.setSenderEmail(emailSenderEmails[i]);
+            // an empty sender name indicates that the email has no sender name
+            if (emailSenderNames != null && !emailSenderNames[i].isEmpty()) {
+                message.setSenderName(emailSenderNames[i]);
+            }
+            message.setContent(emailContents[i]);
+            message.setSubject(emailSubjects[i]);
+            message.setReplyTo(emailReplies[i]);
+            messages.add(message);
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
 
         try {
-            emailSender.sendEmail(message);
-        } catch (Exception e) {
+            emailSender.sendEmails(messages);
+        } catch (EmailSendingException e) {
             log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
-            setForRetry();
+            List<EmailWrapper> unsentMessages = e.getUnsentEmails();
+            if (unsentMessages.isEmpty() || unsentMessages.size() == messages.size()) {
+                // none of the emails is known to be sent, so the task can be retried without sending any email twice
+                setForRetry();
+            } else {
+                // the emails which were sent are not to be sent again
+                log.info("Rescheduling " + unsentMessages.size() + " of " + messages.size() + " emails for sending");
+                taskQueuer.scheduleEmailsForSending(unsentMessages);
+            }
         }
     }
 
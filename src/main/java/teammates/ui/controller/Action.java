@@ -429,16 +429,21 @@ public abstract class Action {
      * Returns The log message in the special format used for generating the 'activity log' for the Admin.
      */
     public String getLogMessage() {
-        UserType currentUser = gateKeeper.getCurrentUser();
+        return getActivityLogEntry().generateLogMessage();
+    }
 
-        ActivityLogEntry activityLogEntry = new ActivityLogEntry(account,
-                                                                 isInMasqueradeMode(),
-                                                                 statusToAdmin,
-                                                                 requestUrl,
-                                                                 student,
-                                                                 currentUser);
+    /**
+     * Returns the entry describing the action in the 'activity log' for the Admin.
+     */
+    public ActivityLogEntry getActivityLogEntry() {
+        UserType currentUser = gateKeeper.getCurrentUser();
 
-        return activityLogEntry.generateLogMessage();
+        return new ActivityLogEntry(account,
+                                    isInMasqueradeMode(),
+                                    statusToAdmin,
+                                    requestUrl,
+                                    student,
+                                    currentUser);
     }
 
     /**
@@ -601,4 +606,14 @@ public abstract class Action {
     protected void excludeStudentDetailsFromResponseParams() {
         regkey = null;
     }
+
+    /**
+     * Marks the search documents in the index {@code indexName} of the entities {@code entityIds}
+     * of the course {@code courseId} as out of date and schedules their update,
+     * so that the documents are not built while serving the request.
+     */
+    protected void scheduleSearchDocumentsUpdate(String indexName, String courseId, List<String> entityIds) {
+        logic.markSearchDocumentsForUpdate(indexName, courseId, entityIds);
+        taskQueuer.scheduleSearchDocumentsUpdate(indexName, courseId, entityIds);
+    }
 }
@@ -22,8 +22,8 @@ public class AdminAccountDetailsPageAction extends Action {
 
         List<CourseDetailsBundle> instructorCourseList;
         try {
-            instructorCourseList =
-                    new ArrayList<CourseDetailsBundle>(logic.getCourseSummariesForInstructor(googleId).values());
+            instructorCourseList = new ArrayList<CourseDetailsBundle>(
+                    logic.getCourseSummariesWithoutSectionsForInstructor(googleId).values());
         } catch (EntityDoesNotExistException e) {
             //Not an instructor of any course
             instructorCourseList = null;
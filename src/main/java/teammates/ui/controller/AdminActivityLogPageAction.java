@@ -9,9 +9,7 @@ import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.ActivityLogEntry;
-import teammates.common.util.AdminLogQuery;
 import teammates.common.util.Const;
-import teammates.common.util.GaeLogApi;
 import teammates.common.util.GaeVersionApi;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
@@ -19,8 +17,6 @@ import teammates.common.util.TimeHelper;
 import teammates.common.util.Version;
 import teammates.ui.pagedata.AdminActivityLogPageData;
 
-import com.google.appengine.api.log.AppLogLine;
-
 public class AdminActivityLogPageAction extends Action {
     private static final int RELEVANT_LOGS_PER_PAGE = 50;
     /**
@@ -37,6 +33,9 @@ public class AdminActivityLogPageAction extends Action {
      */
     private static final int MAX_VERSIONS_TO_QUERY = 1 + 5; //the current version and its 5 preceding versions
 
+    private static final String ADMIN_ACTIVITY_LOG_PAGE =
+            ActivityLogEntry.getActionName(Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE);
+
     private int totalLogsSearched;
     private Long nextEndTimeToSearch;
 
@@ -93,13 +92,12 @@ public class AdminActivityLogPageAction extends Action {
         }
 
         List<String> versionToQuery = getVersionsForQuery(data.getVersions());
-        AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
 
         List<ActivityLogEntry> logs = null;
         if (data.isFromDateSpecifiedInQuery()) {
-            logs = searchLogsWithExactTimePeriod(query, data);
+            logs = searchLogsWithExactTimePeriod(versionToQuery, data);
         } else {
-            logs = searchLogsWithTimeIncrement(query, data);
+            logs = searchLogsWithTimeIncrement(versionToQuery, data);
         }
 
         String courseIdFromSearchPage = getRequestParamValue("courseId");
@@ -207,36 +205,37 @@ public class AdminActivityLogPageAction extends Action {
     /**
      * Retrieves enough logs within MAX_SEARCH_PERIOD hours.
      */
-    private List<ActivityLogEntry> searchLogsWithTimeIncrement(AdminLogQuery query, AdminActivityLogPageData data) {
+    private List<ActivityLogEntry> searchLogsWithTimeIncrement(List<String> versions, AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<ActivityLogEntry>();
 
         totalLogsSearched = 0;
-        GaeLogApi logApi = new GaeLogApi();
 
-        long startTime = query.getEndTime() - SEARCH_TIME_INCREMENT;
-        query.setTimePeriod(startTime, query.getEndTime());
+        long endTime = data.getToDate();
+        long startTime = endTime - SEARCH_TIME_INCREMENT;
 
         for (int i = 0; i < MAX_SEARCH_TIMES; i++) {
             if (appLogs.size() >= RELEVANT_LOGS_PER_PAGE) {
                 break;
             }
-            List<AppLogLine> searchResult = logApi.fetchLogs(query);
+            List<ActivityLogEntry> searchResult = logic.getActivityLogs(versions, startTime, endTime);
             List<ActivityLogEntry> filteredLogs = filterLogsForActivityLogPage(searchResult, data);
             appLogs.addAll(filteredLogs);
             totalLogsSearched += searchResult.size();
-            query.moveTimePeriodBackward(SEARCH_TIME_INCREMENT);
+
+            endTime = startTime - 1;
+            startTime = endTime - SEARCH_TIME_INCREMENT;
         }
-        data.setFromDate(query.getStartTime() + SEARCH_TIME_INCREMENT);
-        nextEndTimeToSearch = query.getEndTime();
+        data.setFromDate(startTime + SEARCH_TIME_INCREMENT);
+        nextEndTimeToSearch = endTime;
         return appLogs;
     }
 
     /**
      * Retrieves all logs in the time period specified in the query.
      */
-    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(AdminLogQuery query, AdminActivityLogPageData data) {
-        GaeLogApi logApi = new GaeLogApi();
-        List<AppLogLine> searchResult = logApi.fetchLogs(query);
+    private List<ActivityLogEntry> searchLogsWithExactTimePeriod(List<String> versions,
+                                                                 AdminActivityLogPageData data) {
+        List<ActivityLogEntry> searchResult = logic.getActivityLogs(versions, data.getFromDate(), data.getToDate());
 
         nextEndTimeToSearch = data.getFromDate() - 1;
         totalLogsSearched = searchResult.size();
@@ -246,18 +245,15 @@ public class AdminActivityLogPageAction extends Action {
     /**
      * Filters logs that should be shown on Admin Activity Log Page.
      */
-    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<AppLogLine> appLogLines,
+    private List<ActivityLogEntry> filterLogsForActivityLogPage(List<ActivityLogEntry> activityLogs,
                                                                 AdminActivityLogPageData data) {
         List<ActivityLogEntry> appLogs = new LinkedList<ActivityLogEntry>();
-        for (AppLogLine appLog : appLogLines) {
-            String logMsg = appLog.getLogMessage();
-            boolean isNotTeammatesLog = !logMsg.contains("TEAMMATESLOG");
-            boolean isLogFromAdminActivityLogPage = logMsg.contains("adminActivityLogPage");
-            if (isNotTeammatesLog || isLogFromAdminActivityLogPage) {
+        for (ActivityLogEntry activityLogEntry : activityLogs) {
+            boolean isLogFromAdminActivityLogPage = ADMIN_ACTIVITY_LOG_PAGE.equals(activityLogEntry.getServletName());
+            if (isLogFromAdminActivityLogPage) {
                 continue;
             }
 
-            ActivityLogEntry activityLogEntry = new ActivityLogEntry(appLog);
             boolean isToShow = data.filterLog(activityLogEntry)
                     && (!activityLogEntry.isTestingData() || data.getIfShowTestData());
 
@@ -10,6 +10,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.ui.pagedata.AdminEmailComposePageData;
@@ -50,7 +51,11 @@ public class AdminEmailComposeSendAction extends Action {
         if (groupModeOn) {
             try {
                 groupReceiver.add(groupReceiverListFileKey);
-                GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
+                // only checks that the list can be read, the addresses are read when preparing the emails
+                GroupReceiverListReader groupReceiverListReader =
+                        GoogleCloudStorageHelper.getGroupReceiverListReader(new BlobKey(groupReceiverListFileKey), 0);
+                groupReceiverListReader.readNextAddress();
+                groupReceiverListReader.close();
             } catch (Exception e) {
                 isError = true;
                 setStatusForException(e, "An error occurred when retrieving receiver list, please try again");
@@ -122,7 +127,7 @@ public class AdminEmailComposeSendAction extends Action {
         if (!groupModeOn) {
             return;
         }
-        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0, 0);
+        taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, 0);
     }
 
     private void moveJobToAddressModeTaskQueue() {
@@ -6,6 +6,7 @@ import java.util.Map;
 
 import teammates.common.util.Const;
 import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.ui.pagedata.AdminEmailComposePageData;
 
 import com.google.appengine.api.blobstore.BlobInfo;
@@ -35,17 +36,20 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
         }
 
         try {
-            List<List<String>> groupReceiverList =
-                    GoogleCloudStorageHelper.getGroupReceiverList(blobInfo.getBlobKey());
+            GroupReceiverListReader groupReceiverListReader =
+                    GoogleCloudStorageHelper.getGroupReceiverListReader(blobInfo.getBlobKey(), 0);
 
             // log all email addresses retrieved from the txt file
-            int i = 0;
-
-            for (List<String> list : groupReceiverList) {
-                for (String str : list) {
+            try {
+                int i = 0;
+                String str = groupReceiverListReader.readNextAddress();
+                while (str != null) {
                     log.info(str + " - " + i + " \n");
                     i++;
+                    str = groupReceiverListReader.readNextAddress();
                 }
+            } finally {
+                groupReceiverListReader.close();
             }
         } catch (IOException e) {
             data.isFileUploaded = false;
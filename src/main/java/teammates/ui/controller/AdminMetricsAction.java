@@ -0,0 +1,24 @@
+package teammates.ui.controller;
+
+import teammates.common.util.ActionMetrics;
+import teammates.ui.pagedata.AdminMetricsPageData;
+
+/**
+ * Returns the metrics shown by {@link AdminMetricsPageAction} as JSON, for monitoring scripts.
+ */
+public class AdminMetricsAction extends Action {
+
+    @Override
+    protected ActionResult execute() {
+
+        gateKeeper.verifyAdminPrivileges(account);
+
+        AdminMetricsPageData data =
+                new AdminMetricsPageData(account, ActionMetrics.inst(), System.currentTimeMillis());
+
+        statusToAdmin = "Admin Metrics Retrieval";
+
+        return createAjaxResult(data);
+    }
+
+}
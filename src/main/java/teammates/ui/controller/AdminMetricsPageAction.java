@@ -0,0 +1,26 @@
+package teammates.ui.controller;
+
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.Const;
+import teammates.ui.pagedata.AdminMetricsPageData;
+
+/**
+ * Shows the latencies and the datastore and other service calls of the requests handled by each action
+ * in the app instance serving the page.
+ */
+public class AdminMetricsPageAction extends Action {
+
+    @Override
+    protected ActionResult execute() {
+
+        gateKeeper.verifyAdminPrivileges(account);
+
+        AdminMetricsPageData data =
+                new AdminMetricsPageData(account, ActionMetrics.inst(), System.currentTimeMillis());
+
+        statusToAdmin = "Admin Metrics Page Load";
+
+        return createShowPageResult(Const.ViewURIs.ADMIN_METRICS, data);
+    }
+
+}
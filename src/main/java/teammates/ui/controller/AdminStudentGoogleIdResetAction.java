@@ -1,5 +1,7 @@
 package teammates.ui.controller;
 
+import java.util.Arrays;
+
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -30,7 +32,9 @@ public class AdminStudentGoogleIdResetAction extends Action {
 
         if (studentEmail != null && studentCourseId != null) {
             try {
-                logic.resetStudentGoogleId(studentEmail, studentCourseId);
+                logic.resetStudentGoogleIdWithoutDocument(studentEmail, studentCourseId);
+                scheduleSearchDocumentsUpdate(Const.SearchIndex.STUDENT, studentCourseId,
+                                              Arrays.asList(studentEmail));
                 taskQueuer.scheduleCourseRegistrationInviteToStudent(studentCourseId, studentEmail, true);
             } catch (InvalidParametersException e) {
                 statusToUser.add(new StatusMessage(Const.StatusMessages.STUDENT_GOOGLEID_RESET_FAIL,
@@ -3,6 +3,8 @@ package teammates.ui.controller;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
@@ -15,15 +17,20 @@ import teammates.common.exception.NullPostParameterException;
 import teammates.common.exception.PageNotFoundException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.ActionMetrics.Outcome;
 import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.Logger;
+import teammates.common.util.RequestOperationCounter;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.Logic;
 
 import com.google.appengine.api.datastore.DatastoreTimeoutException;
+import com.google.appengine.api.datastore.Key;
 import com.google.apphosting.api.DeadlineExceededException;
 
 /**
@@ -36,6 +43,9 @@ public class ControllerServlet extends HttpServlet {
 
     private static final Logger log = Logger.getLogger();
 
+    /** The write of the activity log of the request being served by the current thread. */
+    private static final ThreadLocal<Future<Key>> PER_THREAD_ACTIVITY_LOG_WRITE = new ThreadLocal<Future<Key>>();
+
     @Override
     public final void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
         this.doPost(req, resp);
@@ -46,20 +56,26 @@ public class ControllerServlet extends HttpServlet {
     public final void doPost(HttpServletRequest req, HttpServletResponse resp) throws IOException {
 
         UserType userType = new GateKeeper().getCurrentUser();
+        Logic logic = new Logic();
+        logic.startRequestScopedCaches();
+        RequestOperationCounter.reset();
 
+        long startTime = System.currentTimeMillis();
+        String actionName = ActionMetrics.UNKNOWN_ACTION;
+        Outcome outcome = Outcome.ERROR;
         try {
             /* We are using the Template Method Design Pattern here.
              * This method contains the high level logic of the request processing.
              * Concrete details of the processing steps are to be implemented by child
              * classes, based on request-specific needs.
              */
-            long startTime = System.currentTimeMillis();
 
             log.info("Request received : [" + req.getMethod() + "] " + req.getRequestURL().toString()
                     + ":" + HttpRequestHelper.printRequestParameters(req));
             log.info("User agent : " + req.getHeader("User-Agent"));
 
             Action c = new ActionFactory().getAction(req);
+            actionName = c.getClass().getSimpleName();
             if (c.isValidUser()) {
                 ActionResult actionResult = c.executeAndPostProcess();
                 actionResult.send(req, resp);
@@ -68,27 +84,32 @@ public class ControllerServlet extends HttpServlet {
             }
 
             long timeTaken = System.currentTimeMillis() - startTime;
-            // This is the log message that is used to generate the 'activity log' for the admin.
+            outcome = Outcome.SUCCESS;
+
+            // This is the log entry that is used to generate the 'activity log' for the admin.
+            ActivityLogEntry activityLogEntry = c.getActivityLogEntry();
+            activityLogEntry.setTimeTaken(timeTaken);
 
-            log.info(c.getLogMessage() + "|||" + timeTaken);
+            log.info(activityLogEntry.generateLogMessage() + "|||" + timeTaken);
+            putActivityLog(logic, activityLogEntry);
 
         } catch (PageNotFoundException e) {
-            log.warning(ActivityLogEntry.generateServletActionFailureLogMessage(req, e, userType));
+            logServletActionFailure(logic, req, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(Const.ViewURIs.ACTION_NOT_FOUND_PAGE);
         } catch (EntityNotFoundException e) {
-            log.warning(ActivityLogEntry.generateServletActionFailureLogMessage(req, e, userType));
+            logServletActionFailure(logic, req, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(Const.ViewURIs.ENTITY_NOT_FOUND_PAGE);
 
         } catch (FeedbackSessionNotVisibleException e) {
-            log.warning(ActivityLogEntry.generateServletActionFailureLogMessage(req, e, userType));
+            logServletActionFailure(logic, req, e, userType);
             cleanUpStatusMessageInSession(req);
             req.getSession().setAttribute(Const.ParamsNames.FEEDBACK_SESSION_NOT_VISIBLE, e.getStartTimeString());
             resp.sendRedirect(Const.ViewURIs.FEEDBACK_SESSION_NOT_VISIBLE);
 
         } catch (UnauthorizedAccessException e) {
-            log.warning(ActivityLogEntry.generateServletActionFailureLogMessage(req, e, userType));
+            logServletActionFailure(logic, req, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(Const.ViewURIs.UNAUTHORIZED);
 
@@ -97,6 +118,7 @@ public class ControllerServlet extends HttpServlet {
               the request soon after throwing it. In that case, the error
               message in the log will be emailed to the admin by a separate
               cron job.*/
+            outcome = Outcome.TIMEOUT;
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(Const.ViewURIs.DEADLINE_EXCEEDED_ERROR_PAGE);
 
@@ -130,10 +152,56 @@ public class ControllerServlet extends HttpServlet {
                         + TeammatesException.toStringWithStackTrace(t));
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(Const.ViewURIs.ERROR_PAGE);
+        } finally {
+            ActionMetrics.inst().record(actionName, outcome, System.currentTimeMillis() - startTime,
+                                        RequestOperationCounter.getCounts());
+            log.fine("Request-scoped cache : " + logic.getRequestScopedCacheHitCount() + " hits, "
+                     + logic.getRequestScopedCacheMissCount() + " misses");
+            logic.clearRequestScopedCaches();
+            RequestOperationCounter.reset();
+            checkActivityLogWritten();
         }
 
     }
 
+    private void logServletActionFailure(Logic logic, HttpServletRequest req, Exception e, UserType userType) {
+        ActivityLogEntry activityLogEntry = ActivityLogEntry.generateServletActionFailureLogEntry(req, e, userType);
+        log.warning(activityLogEntry.generateLogMessage());
+        putActivityLog(logic, activityLogEntry);
+    }
+
+    /**
+     * Starts writing {@code activityLogEntry} to the activity logs shown to the admin.
+     * A failure to write it is only logged, as it does not affect the result of the request.
+     */
+    private void putActivityLog(Logic logic, ActivityLogEntry activityLogEntry) {
+        try {
+            PER_THREAD_ACTIVITY_LOG_WRITE.set(logic.putActivityLogAsync(activityLogEntry));
+        } catch (Exception e) {
+            log.warning("Activity log not written: " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    /**
+     * Logs a failure to write the activity log of the request if the write is already complete.
+     * A write still in progress is not waited for, so that it never delays the response.
+     */
+    private void checkActivityLogWritten() {
+        Future<Key> write = PER_THREAD_ACTIVITY_LOG_WRITE.get();
+        PER_THREAD_ACTIVITY_LOG_WRITE.remove();
+        if (write == null || !write.isDone()) {
+            return;
+        }
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warning("Activity log not checked: " + TeammatesException.toStringWithStackTrace(e));
+        } catch (ExecutionException e) {
+            log.warning("Activity log not written: " + TeammatesException.toStringWithStackTrace(e.getCause()));
+        }
+    }
+
     private void cleanUpStatusMessageInSession(HttpServletRequest req) {
         req.getSession().removeAttribute(Const.ParamsNames.STATUS_MESSAGES_LIST);
     }
@@ -16,7 +16,7 @@ public class CourseStatsPageAction extends Action {
 
         gateKeeper.verifyInstructorPrivileges(account);
 
-        data.courseDetails = logic.getCourseDetails(courseId);
+        data.courseDetails = logic.getCourseSummaryWithoutSections(courseId);
 
         return createAjaxResult(data);
     }
@@ -18,7 +18,6 @@ import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EmailSendingException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.TeammatesException;
@@ -71,6 +70,10 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         String userTeamForCourse = getUserTeamForCourse();
         String userSectionForCourse = getUserSectionForCourse();
 
+        // responses of all questions are validated first, and then saved together as one batch
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<FeedbackResponseAttributes>();
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<FeedbackResponseAttributes>();
+
         int numOfQuestionsToGet = data.bundle.questionResponseBundle.size();
         for (int questionIndx = 1; questionIndx <= numOfQuestionsToGet; questionIndx++) {
             String totalResponsesForQuestion = getRequestParamValue(
@@ -130,7 +133,9 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
 
                 if (response.responseMetaData.getValue().isEmpty()) {
                     // deletes the response since answer is empty
-                    saveResponse(response);
+                    if (isExistingResponse) {
+                        responsesToDelete.add(response);
+                    }
                 } else {
                     response.giver = questionAttributes.giverType.isTeam() ? userTeamForCourse
                                                                                 : userEmailForCourse;
@@ -149,9 +154,7 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
             }
 
             if (errors.isEmpty()) {
-                for (FeedbackResponseAttributes response : responsesForQuestion) {
-                    saveResponse(response);
-                }
+                responsesToSave.addAll(responsesForQuestion);
             } else {
                 List<StatusMessage> errorMessages = new ArrayList<StatusMessage>();
 
@@ -165,6 +168,8 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
 
         }
 
+        saveResponses(responsesToSave, responsesToDelete);
+
         if (!isError) {
             statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_RESPONSES_SAVED, StatusMessageColor.SUCCESS));
         }
@@ -239,29 +244,20 @@ public abstract class FeedbackSubmissionEditSaveAction extends Action {
         return existingResponsesId.contains(response.getId());
     }
 
-    private void saveResponse(FeedbackResponseAttributes response)
+    private void saveResponses(List<FeedbackResponseAttributes> responsesToSave,
+                               List<FeedbackResponseAttributes> responsesToDelete)
             throws EntityDoesNotExistException {
-        boolean isExistingResponse = response.getId() != null;
-        if (isExistingResponse) {
-            // Delete away response if any empty fields
-            if (response.responseMetaData.getValue().isEmpty() || response.recipient.isEmpty()) {
-                logic.deleteFeedbackResponse(response);
-                return;
-            }
-            try {
-                logic.updateFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (EntityAlreadyExistsException | InvalidParametersException e) {
-                setStatusForException(e);
-            }
-        } else if (!response.responseMetaData.getValue().isEmpty()
-                   && !response.recipient.isEmpty()) {
-            try {
-                logic.createFeedbackResponse(response);
-                hasValidResponse = true;
-            } catch (InvalidParametersException e) {
+        if (responsesToSave.isEmpty() && responsesToDelete.isEmpty()) {
+            return;
+        }
+        try {
+            List<TeammatesException> errors = logic.saveFeedbackResponses(responsesToSave, responsesToDelete);
+            for (TeammatesException e : errors) {
                 setStatusForException(e);
             }
+            hasValidResponse = errors.size() < responsesToSave.size();
+        } catch (InvalidParametersException e) {
+            setStatusForException(e);
         }
     }
 
@@ -9,9 +9,9 @@ import teammates.common.datatransfer.CourseEnrollmentResult;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.exception.EnrollException;
-import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Assumption;
@@ -60,19 +60,6 @@ public class InstructorCourseEnrollSaveAction extends Action {
 
             InstructorCourseEnrollPageData pageData = new InstructorCourseEnrollPageData(account, courseId, studentsInfo);
 
-            return createShowPageResult(Const.ViewURIs.INSTRUCTOR_COURSE_ENROLL, pageData);
-        } catch (EntityAlreadyExistsException e) {
-            setStatusForException(e);
-
-            statusToUser.add(
-                    new StatusMessage("The enrollment failed, possibly because some students were re-enrolled before "
-                                      + "the previous enrollment action was still being processed by TEAMMATES database "
-                                      + "servers. Please try again after about 10 minutes. If the problem persists, "
-                                      + "please contact TEAMMATES support", StatusMessageColor.DANGER));
-
-            InstructorCourseEnrollPageData pageData = new InstructorCourseEnrollPageData(account, courseId, studentsInfo);
-
-            log.severe("Entity already exists exception occurred when updating student: " + e.getMessage());
             return createShowPageResult(Const.ViewURIs.INSTRUCTOR_COURSE_ENROLL, pageData);
         }
     }
@@ -89,16 +76,33 @@ public class InstructorCourseEnrollSaveAction extends Action {
     }
 
     private List<StudentAttributes>[] enrollAndProcessResultForDisplay(String studentsInfo, String courseId)
-            throws EnrollException, EntityDoesNotExistException, InvalidParametersException, EntityAlreadyExistsException {
+            throws EnrollException, EntityDoesNotExistException, InvalidParametersException {
         CourseEnrollmentResult enrollResult = logic.enrollStudents(studentsInfo, courseId);
         List<StudentAttributes> students = enrollResult.studentList;
 
-        // Adjust submissions for all feedback responses within the course
-        List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
-        for (FeedbackSessionAttributes session : feedbackSessions) {
-            // Schedule adjustment of submissions for feedback session in course
-            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
-                    courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+        List<String> emailsOfStudentsChanged = new ArrayList<String>();
+        boolean hasModifiedStudents = false;
+        for (StudentEnrollDetails enrollment : enrollResult.enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                hasModifiedStudents = true;
+            }
+            if (enrollment.updateStatus != StudentUpdateStatus.UNMODIFIED) {
+                emailsOfStudentsChanged.add(enrollment.email);
+            }
+        }
+
+        if (!emailsOfStudentsChanged.isEmpty()) {
+            scheduleSearchDocumentsUpdate(Const.SearchIndex.STUDENT, courseId, emailsOfStudentsChanged);
+        }
+
+        // Adjust submissions for all feedback responses within the course; only modified students affect them
+        if (hasModifiedStudents) {
+            List<FeedbackSessionAttributes> feedbackSessions = logic.getFeedbackSessionsForCourse(courseId);
+            for (FeedbackSessionAttributes session : feedbackSessions) {
+                // Schedule adjustment of submissions for feedback session in course
+                taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(
+                        courseId, session.getFeedbackSessionName(), enrollResult.enrollmentList);
+            }
         }
 
         Collections.sort(students, new Comparator<StudentAttributes>() {
@@ -68,11 +68,11 @@ public class InstructorCourseStudentDetailsEditSaveAction extends Action {
                 logic.validateTeams(Arrays.asList(student), courseId);
             }
 
-            logic.updateStudent(studentEmail, student);
+            logic.updateStudentWithoutDocument(studentEmail, student);
 
             boolean isSessionSummarySendEmail = getRequestParamAsBoolean(Const.ParamsNames.SESSION_SUMMARY_EMAIL_SEND_CHECK);
             if (isEmailChanged) {
-                logic.resetStudentGoogleId(student.email, courseId);
+                logic.resetStudentGoogleIdWithoutDocument(student.email, courseId);
                 if (isSessionSummarySendEmail) {
                     try {
                         EmailWrapper email = new EmailGenerator().generateFeedbackSessionSummaryOfCourse(courseId, student);
@@ -84,6 +84,8 @@ public class InstructorCourseStudentDetailsEditSaveAction extends Action {
                 }
             }
 
+            scheduleSearchDocumentsUpdate(Const.SearchIndex.STUDENT, courseId, Arrays.asList(student.email));
+
             statusToUser.add(new StatusMessage(isSessionSummarySendEmail && isEmailChanged
                                 ? Const.StatusMessages.STUDENT_EDITED_AND_EMAIL_SENT
                                 : Const.StatusMessages.STUDENT_EDITED, StatusMessageColor.SUCCESS));
@@ -1,6 +1,7 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 
 import teammates.common.datatransfer.CommentSendingState;
@@ -103,7 +104,8 @@ public class InstructorFeedbackResponseCommentAddAction extends Action {
         FeedbackResponseCommentAttributes createdComment = new FeedbackResponseCommentAttributes();
         try {
             createdComment = logic.createFeedbackResponseComment(feedbackResponseComment);
-            logic.putDocument(createdComment);
+            scheduleSearchDocumentsUpdate(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, courseId,
+                                          Arrays.asList(createdComment.getId().toString()));
         } catch (InvalidParametersException e) {
             setStatusForException(e);
             data.errorMessage = e.getMessage();
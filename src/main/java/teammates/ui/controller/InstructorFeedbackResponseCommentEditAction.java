@@ -1,6 +1,7 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 
 import teammates.common.datatransfer.CommentSendingState;
@@ -82,8 +83,8 @@ public class InstructorFeedbackResponseCommentEditAction extends Action {
         try {
             FeedbackResponseCommentAttributes updatedComment =
                     logic.updateFeedbackResponseComment(feedbackResponseComment);
-            //TODO: move putDocument to task queue
-            logic.putDocument(updatedComment);
+            scheduleSearchDocumentsUpdate(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, courseId,
+                                          Arrays.asList(updatedComment.getId().toString()));
         } catch (InvalidParametersException e) {
             setStatusForException(e);
             data.errorMessage = e.getMessage();
@@ -10,13 +10,14 @@ import teammates.common.util.Const;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StatusMessageColor;
 import teammates.common.util.StringHelper;
+import teammates.common.util.Url;
 import teammates.ui.datatransfer.InstructorFeedbackResultsPageViewType;
 import teammates.ui.pagedata.InstructorFeedbackResultsPageData;
 
 public class InstructorFeedbackResultsPageAction extends Action {
 
     private static final String ALL_SECTION_OPTION = "All";
-    private static final int DEFAULT_SECTION_QUERY_RANGE = 2500;
+    private static final int RESPONSES_PAGE_SIZE = 2500;
 
     @Override
     protected ActionResult execute() throws EntityDoesNotExistException {
@@ -80,31 +81,29 @@ public class InstructorFeedbackResultsPageAction extends Action {
         String questionId = getRequestParamValue(Const.ParamsNames.FEEDBACK_QUESTION_ID);
         String isTestingAjax = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_NEED_AJAX);
 
+        // responses of the participant views are loaded by pages, each page starting from the cursor
+        // left by the previous one
+        String cursor = getRequestParamValue(Const.ParamsNames.FEEDBACK_RESULTS_CURSOR);
+
         if (ALL_SECTION_OPTION.equals(selectedSection) && questionId == null
                 && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
             // bundle for all questions and all sections
-            data.setBundle(
-                     logic.getFeedbackSessionResultsForInstructorWithinRangeFromView(
-                                                                           feedbackSessionName, courseId,
-                                                                           instructor.email,
-                                                                           DEFAULT_SECTION_QUERY_RANGE, sortType));
+            data.setBundle(logic.getFeedbackSessionResultsForInstructorPageFromView(
+                                         feedbackSessionName, courseId, instructor.email,
+                                         cursor, RESPONSES_PAGE_SIZE, sortType));
         } else if (Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
             data.setBundle(getBundleForQuestionView(isTestingAjax, courseId, feedbackSessionName, instructor, data,
                                                     selectedSection, sortType, questionId));
         } else if (Const.FeedbackSessionResults.GQR_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.GRQ_SORT_TYPE.equals(sortType)) {
-            data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorFromSectionWithinRange(feedbackSessionName, courseId,
-                                                                                  instructor.email,
-                                                                                  selectedSection,
-                                                                                  DEFAULT_SECTION_QUERY_RANGE));
+            data.setBundle(logic.getFeedbackSessionResultsForInstructorFromSectionPage(
+                                         feedbackSessionName, courseId, instructor.email,
+                                         selectedSection, cursor, RESPONSES_PAGE_SIZE));
         } else if (Const.FeedbackSessionResults.RQG_SORT_TYPE.equals(sortType)
                 || Const.FeedbackSessionResults.RGQ_SORT_TYPE.equals(sortType)) {
-            data.setBundle(logic
-                    .getFeedbackSessionResultsForInstructorToSectionWithinRange(feedbackSessionName, courseId,
-                                                                                instructor.email,
-                                                                                selectedSection,
-                                                                                DEFAULT_SECTION_QUERY_RANGE));
+            data.setBundle(logic.getFeedbackSessionResultsForInstructorToSectionPage(
+                                         feedbackSessionName, courseId, instructor.email,
+                                         selectedSection, cursor, RESPONSES_PAGE_SIZE));
         }
 
         if (data.getBundle() == null) {
@@ -112,17 +111,29 @@ public class InstructorFeedbackResultsPageAction extends Action {
                                                   + " does not exist in " + courseId + ".");
         }
 
+        if (Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
+            // the number of respondents decides whether responses are loaded by ajax in the question view
+            logic.loadFeedbackSessionRespondents(data.getBundle().feedbackSession);
+        }
+
+        // Link to the next page of responses in the participant views.
+        String nextPageCursor = data.getBundle().nextPageCursor;
+        if (nextPageCursor != null && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType)) {
+            String nextPageLink = getNextPageLink(data, courseId, feedbackSessionName, selectedSection, sortType,
+                                                  groupByTeam, showStats, isMissingResponsesShown, nextPageCursor);
+            statusToUser.add(new StatusMessage(String.format(Const.StatusMessages.FEEDBACK_RESULTS_NEXTPAGEWARNING,
+                                                             nextPageLink),
+                                               StatusMessageColor.WARNING));
+        }
+
         // Warning for section wise viewing in case of many responses.
         boolean isShowSectionWarningForQuestionView = data.isLargeNumberOfRespondents()
                                                    && Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType);
-        boolean isShowSectionWarningForParticipantView = !data.getBundle().isComplete
-                                                   && !Const.FeedbackSessionResults.QUESTION_SORT_TYPE.equals(sortType);
 
         // Warning for section wise does not make sense if there are no multiple sections.
         boolean isMultipleSectionAvailable = data.getBundle().getRosterSectionTeamNameTable().size() > 1;
 
-        if (selectedSection.equals(ALL_SECTION_OPTION) && (isShowSectionWarningForParticipantView
-                                                           || isShowSectionWarningForQuestionView)) {
+        if (selectedSection.equals(ALL_SECTION_OPTION) && isShowSectionWarningForQuestionView) {
             if (isMultipleSectionAvailable) {
                 statusToUser.add(new StatusMessage(Const.StatusMessages.FEEDBACK_RESULTS_SECTIONVIEWWARNING,
                                                    StatusMessageColor.WARNING));
@@ -200,9 +211,11 @@ public class InstructorFeedbackResultsPageAction extends Action {
             }
         } else {
             if (ALL_SECTION_OPTION.equals(selectedSection)) {
-                // bundle for a specific question, with all sections
-                bundle = logic.getFeedbackSessionResultsForInstructorFromQuestion(feedbackSessionName, courseId,
-                                                                                  instructor.email, questionId);
+                // bundle for a specific question, with all sections,
+                // or only its statistics if it has too many responses
+                bundle = logic.getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+                                                feedbackSessionName, courseId, instructor.email, questionId,
+                                                RESPONSES_PAGE_SIZE);
             } else {
                 // bundle for a specific question and a specific section
                 bundle = logic.getFeedbackSessionResultsForInstructorFromQuestionInSection(
@@ -214,6 +227,19 @@ public class InstructorFeedbackResultsPageAction extends Action {
         return bundle;
     }
 
+    private String getNextPageLink(InstructorFeedbackResultsPageData data, String courseId, String feedbackSessionName,
+                                   String selectedSection, String sortType, String groupByTeam, String showStats,
+                                   boolean isMissingResponsesShown, String nextPageCursor) {
+        String link = data.getInstructorFeedbackResultsLink(courseId, feedbackSessionName);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYSECTION, selectedSection);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_SORTTYPE, sortType);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_GROUPBYTEAM, groupByTeam);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_SHOWSTATS, showStats);
+        link = Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_INDICATE_MISSING_RESPONSES,
+                                 String.valueOf(isMissingResponsesShown));
+        return Url.addParamToUrl(link, Const.ParamsNames.FEEDBACK_RESULTS_CURSOR, nextPageCursor);
+    }
+
     private ActionResult createAjaxResultForCsvTableLoadedInHtml(String courseId, String feedbackSessionName,
                                     InstructorAttributes instructor, InstructorFeedbackResultsPageData data,
                                     String selectedSection, String filterText, boolean isMissingResponsesShown,
@@ -1,6 +1,7 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -62,8 +63,8 @@ public class InstructorStudentCommentAddAction extends Action {
 
         try {
             CommentAttributes createdComment = logic.createComment(comment);
-            //TODO: move putDocument to Task Queue
-            logic.putDocument(createdComment);
+            scheduleSearchDocumentsUpdate(Const.SearchIndex.COMMENT, courseId,
+                                          Arrays.asList(createdComment.getCommentId().toString()));
             String commentPlainText = Jsoup.clean(createdComment.getCommentText(), Whitelist.none());
             statusToUser.add(new StatusMessage(String.format(Const.StatusMessages.COMMENT_ADDED, commentPlainText),
                                                StatusMessageColor.SUCCESS));
@@ -1,6 +1,7 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
@@ -49,8 +50,8 @@ public class InstructorStudentCommentEditAction extends Action {
         try {
             if ("edit".equals(editType)) {
                 CommentAttributes updatedComment = logic.updateComment(comment);
-                //TODO: move putDocument to task queue
-                logic.putDocument(updatedComment);
+                scheduleSearchDocumentsUpdate(Const.SearchIndex.COMMENT, courseId,
+                                              Arrays.asList(updatedComment.getCommentId().toString()));
 
                 statusToUser.add(new StatusMessage(Const.StatusMessages.COMMENT_EDITED, StatusMessageColor.SUCCESS));
                 statusToAdmin = "Edited Comment for Student:<span class=\"bold\">("
@@ -1,14 +1,11 @@
 package teammates.ui.controller;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
-import teammates.common.datatransfer.attributes.SessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.util.Assumption;
@@ -43,26 +40,16 @@ public class InstructorStudentRecordsAjaxPageAction extends Action {
             return createRedirectResult(Const.ActionURIs.INSTRUCTOR_HOME_PAGE);
         }
 
-        List<FeedbackSessionAttributes> feedbacks = logic.getFeedbackSessionsListForInstructor(account.googleId, false);
-
-        filterFeedbackSessions(courseId, feedbacks, instructor, student);
-
-        List<SessionAttributes> sessions = new ArrayList<SessionAttributes>();
-        sessions.addAll(feedbacks);
-        Collections.sort(sessions, SessionAttributes.DESCENDING_ORDER);
-
+        // only the target session is read, and only the responses of the student in it
         List<FeedbackSessionResultsBundle> results = new ArrayList<FeedbackSessionResultsBundle>();
-        for (SessionAttributes session : sessions) {
-            if (session instanceof FeedbackSessionAttributes) {
-                if (!targetSessionName.isEmpty() && targetSessionName.equals(session.getSessionName())) {
-                    FeedbackSessionResultsBundle result = logic.getFeedbackSessionResultsForInstructor(
-                                                    session.getSessionName(), courseId, instructor.email);
-                    results.add(result);
-                }
-            } else {
-                Assumption.fail("Unknown session type");
-            }
+        FeedbackSessionAttributes session = targetSessionName.isEmpty()
+                                            ? null
+                                            : logic.getFeedbackSession(targetSessionName, courseId);
+        if (isSessionViewable(session, instructor, student)) {
+            results.add(logic.getFeedbackSessionResultsOfStudentForInstructor(
+                    targetSessionName, courseId, studentEmail, instructor.email));
         }
+
         statusToAdmin = "instructorStudentRecords Ajax Page Load<br>"
                       + "Viewing <span class=\"bold\">" + studentEmail + "'s</span> records "
                       + "for session <span class=\"bold\">[" + targetSessionName + "]</span> "
@@ -74,17 +61,12 @@ public class InstructorStudentRecordsAjaxPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_STUDENT_RECORDS_AJAX, data);
     }
 
-    private void filterFeedbackSessions(String courseId, List<FeedbackSessionAttributes> feedbacks,
-                                        InstructorAttributes currentInstructor, StudentAttributes student) {
-        Iterator<FeedbackSessionAttributes> iterFs = feedbacks.iterator();
-        while (iterFs.hasNext()) {
-            FeedbackSessionAttributes tempFs = iterFs.next();
-            if (!tempFs.getCourseId().equals(courseId)
-                    || !currentInstructor.isAllowedForPrivilege(student.section, tempFs.getSessionName(),
-                                              Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS)) {
-                iterFs.remove();
-            }
-        }
+    private boolean isSessionViewable(FeedbackSessionAttributes session, InstructorAttributes currentInstructor,
+                                      StudentAttributes student) {
+        return session != null
+               && (!session.isPrivateSession() || session.isCreator(currentInstructor.email))
+               && currentInstructor.isAllowedForPrivilege(student.section, session.getFeedbackSessionName(),
+                                                          Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS);
     }
 
 }
@@ -0,0 +1,66 @@
+package teammates.ui.controller;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.StatusMessage;
+
+/**
+ * A file download whose content is generated while it is being sent,
+ * so that the content never has to be held in memory as a whole.
+ *
+ * <p>Once part of the content is sent, a failure can no longer be reported with an error page,
+ * so the file is ended with a line saying that it is incomplete instead.</p>
+ */
+public abstract class StreamingFileDownloadResult extends FileDownloadResult {
+
+    public StreamingFileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status, String fileName) {
+        super(destination, account, status, fileName, "");
+    }
+
+    @Override
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        try {
+            super.send(req, resp);
+        } catch (RuntimeException e) {
+            if (!resp.isCommitted()) {
+                // nothing has been sent yet, so the failure is reported as for any other result
+                throw e;
+            }
+            log.severe("File download " + fileName + " stopped after part of it was sent: "
+                       + TeammatesException.toStringWithStackTrace(e));
+            Writer writer = resp.getWriter();
+            writer.write(Const.EOL + Const.StatusMessages.FILE_DOWNLOAD_INCOMPLETE + Const.EOL);
+            writer.flush();
+        }
+    }
+
+    @Override
+    protected abstract void writeFileContent(Writer writer) throws IOException;
+
+    /**
+     * Generates the whole content of the file in memory. To be used in tests only.
+     */
+    @Override
+    public String getFileContent() {
+        StringWriter writer = new StringWriter();
+        try {
+            writeFileContent(writer);
+        } catch (IOException e) {
+            Assumption.fail("Writing to a StringWriter should not fail: " + e.getMessage());
+        }
+        return writer.toString();
+    }
+
+}
@@ -1,5 +1,6 @@
 package teammates.ui.controller;
 
+import java.util.Arrays;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -46,7 +47,7 @@ public class StudentCourseJoinAuthenticatedAction extends Action {
         ensureStudentExists();
 
         try {
-            logic.joinCourseForStudent(regkey, account.googleId);
+            logic.joinCourseForStudentWithoutDocument(regkey, account.googleId);
         } catch (JoinCourseException | InvalidParametersException e) {
             // Does not sanitize for html to allow insertion of mailto link
             if (e.errorCode.equals(Const.StatusCodes.INVALID_KEY)) {
@@ -60,6 +61,9 @@ public class StudentCourseJoinAuthenticatedAction extends Action {
             return createRedirectResult(nextUrl);
         }
 
+        scheduleSearchDocumentsUpdate(Const.SearchIndex.STUDENT, getStudent().course,
+                                      Arrays.asList(getStudent().email));
+
         final String studentInfo = "Action Student Joins Course"
                 + "<br>Google ID: " + account.googleId
                 + "<br>Key : " + regkey;
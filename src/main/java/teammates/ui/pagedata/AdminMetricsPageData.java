@@ -0,0 +1,31 @@
+package teammates.ui.pagedata;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.ActionMetrics.Period;
+import teammates.ui.template.AdminMetricsTable;
+
+public class AdminMetricsPageData extends PageData {
+
+    private AdminMetricsTable currentPeriodTable;
+    private AdminMetricsTable previousPeriodTable;
+
+    public AdminMetricsPageData(AccountAttributes account, ActionMetrics metrics, long currentTime) {
+        super(account);
+        this.currentPeriodTable = new AdminMetricsTable(metrics.getCurrentPeriod(currentTime));
+
+        Period previousPeriod = metrics.getPreviousPeriod();
+        this.previousPeriodTable = previousPeriod == null ? null : new AdminMetricsTable(previousPeriod);
+    }
+
+    public AdminMetricsTable getCurrentPeriodTable() {
+        return currentPeriodTable;
+    }
+
+    /**
+     * Returns the metrics of the period before the current one, or null if this app instance has none.
+     */
+    public AdminMetricsTable getPreviousPeriodTable() {
+        return previousPeriodTable;
+    }
+}
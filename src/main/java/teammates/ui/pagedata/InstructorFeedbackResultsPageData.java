@@ -16,6 +16,7 @@ import java.util.regex.Pattern;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
@@ -120,6 +121,11 @@ public class InstructorFeedbackResultsPageData extends PageData {
             if (isLoadingStructureOnly) {
                 questionPanel = buildQuestionTableWithoutResponseRows(question, responses, "");
                 questionPanel.setHasResponses(false);
+            } else if (bundle.isStatisticsOnly(question)) {
+                // the responses were not loaded as there are too many of them, only their statistics
+                questionPanel = buildQuestionTableWithoutResponseRows(question, responses, "");
+                questionPanel.setHasResponses(true);
+                questionPanel.setStatisticsOnly(true);
             } else {
                 questionPanel = buildQuestionTableAndResponseRows(question, responses, "");
             }
@@ -920,7 +926,10 @@ public class InstructorFeedbackResultsPageData extends PageData {
         }
 
         String studentEmail = student == null ? null : student.email;
-        String statisticsTable = questionDetails.getQuestionResultStatisticsHtml(responses, question, studentEmail,
+        FeedbackQuestionStatisticsAttributes statistics = bundle.getQuestionStatistics(question, responses);
+        String statisticsTable = studentEmail == null && statistics != null
+                               ? questionDetails.getQuestionResultStatisticsHtml(statistics)
+                               : questionDetails.getQuestionResultStatisticsHtml(responses, question, studentEmail,
                                                                                  bundle, viewType.toString());
 
         String questionText = questionDetails.getQuestionText();
@@ -0,0 +1,38 @@
+package teammates.ui.template;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.util.ActionMetrics.ActionStats;
+import teammates.common.util.ActionMetrics.Period;
+import teammates.common.util.TimeHelper;
+
+public class AdminMetricsTable {
+
+    private String periodStartTime;
+    private String periodEndTime;
+    private List<AdminMetricsTableRow> rows;
+
+    public AdminMetricsTable(Period period) {
+        this.periodStartTime = TimeHelper.formatDateTimeForComments(new Date(period.getStartTime()));
+        this.periodEndTime = TimeHelper.formatDateTimeForComments(new Date(period.getEndTime()));
+        this.rows = new ArrayList<AdminMetricsTableRow>();
+        for (Map.Entry<String, ActionStats> statsOfAction : period.getStatsOfActions().entrySet()) {
+            rows.add(new AdminMetricsTableRow(statsOfAction.getKey(), statsOfAction.getValue()));
+        }
+    }
+
+    public String getPeriodStartTime() {
+        return periodStartTime;
+    }
+
+    public String getPeriodEndTime() {
+        return periodEndTime;
+    }
+
+    public List<AdminMetricsTableRow> getRows() {
+        return rows;
+    }
+}
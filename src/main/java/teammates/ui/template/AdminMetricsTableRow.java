@@ -0,0 +1,109 @@
+package teammates.ui.template;
+
+import teammates.common.util.ActionMetrics.ActionStats;
+import teammates.common.util.ActionMetrics.Outcome;
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.RequestOperationCounter.Operation;
+
+public class AdminMetricsTableRow {
+
+    private String actionName;
+    private long requestCount;
+    private long errorCount;
+    private long timeoutCount;
+    private long meanLatency;
+    private long medianLatency;
+    private long p90Latency;
+    private long p99Latency;
+    private long maxLatency;
+    private String meanQueries;
+    private String meanGets;
+    private String meanPuts;
+    private String meanDeletes;
+    private String meanSearchApiCalls;
+    private String meanTaskQueueCalls;
+
+    public AdminMetricsTableRow(String actionName, ActionStats stats) {
+        LatencyHistogram latencies = stats.getLatencies();
+
+        this.actionName = actionName;
+        this.requestCount = stats.getRequestCount();
+        this.errorCount = stats.getRequestCount(Outcome.ERROR);
+        this.timeoutCount = stats.getRequestCount(Outcome.TIMEOUT);
+        this.meanLatency = latencies.getMean();
+        this.medianLatency = latencies.getPercentile(50);
+        this.p90Latency = latencies.getPercentile(90);
+        this.p99Latency = latencies.getPercentile(99);
+        this.maxLatency = latencies.getMax();
+        this.meanQueries = formatMean(stats.getOperationMean(Operation.DATASTORE_QUERY));
+        this.meanGets = formatMean(stats.getOperationMean(Operation.DATASTORE_GET));
+        this.meanPuts = formatMean(stats.getOperationMean(Operation.DATASTORE_PUT));
+        this.meanDeletes = formatMean(stats.getOperationMean(Operation.DATASTORE_DELETE));
+        this.meanSearchApiCalls = formatMean(stats.getOperationMean(Operation.SEARCH_API_CALL));
+        this.meanTaskQueueCalls = formatMean(stats.getOperationMean(Operation.TASK_QUEUE_CALL));
+    }
+
+    private static String formatMean(double mean) {
+        return String.format("%.1f", mean);
+    }
+
+    public String getActionName() {
+        return actionName;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount;
+    }
+
+    public long getMeanLatency() {
+        return meanLatency;
+    }
+
+    public long getMedianLatency() {
+        return medianLatency;
+    }
+
+    public long getP90Latency() {
+        return p90Latency;
+    }
+
+    public long getP99Latency() {
+        return p99Latency;
+    }
+
+    public long getMaxLatency() {
+        return maxLatency;
+    }
+
+    public String getMeanQueries() {
+        return meanQueries;
+    }
+
+    public String getMeanGets() {
+        return meanGets;
+    }
+
+    public String getMeanPuts() {
+        return meanPuts;
+    }
+
+    public String getMeanDeletes() {
+        return meanDeletes;
+    }
+
+    public String getMeanSearchApiCalls() {
+        return meanSearchApiCalls;
+    }
+
+    public String getMeanTaskQueueCalls() {
+        return meanTaskQueueCalls;
+    }
+}
@@ -27,6 +27,7 @@ public class InstructorFeedbackResultsQuestionTable {
 
     private boolean isHasResponses;
     private boolean isShowResponseRows;
+    private boolean isStatisticsOnly;
 
     private boolean isCollapsible;
     private boolean isBoldQuestionNumber;
@@ -145,6 +146,14 @@ public class InstructorFeedbackResultsQuestionTable {
         this.isHasResponses = isHasResponses;
     }
 
+    public boolean isStatisticsOnly() {
+        return isStatisticsOnly;
+    }
+
+    public void setStatisticsOnly(boolean isStatisticsOnly) {
+        this.isStatisticsOnly = isStatisticsOnly;
+    }
+
     public static void sortByQuestionNumber(List<InstructorFeedbackResultsQuestionTable> questionTables) {
         Collections.sort(questionTables, new Comparator<InstructorFeedbackResultsQuestionTable>() {
             @Override
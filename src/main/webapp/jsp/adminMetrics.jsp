@@ -0,0 +1,19 @@
+<%@ page language="java" contentType="text/html; charset=UTF-8" pageEncoding="UTF-8"%>
+<%@ taglib uri="http://java.sun.com/jsp/jstl/core" prefix="c" %>
+<%@ taglib tagdir="/WEB-INF/tags" prefix="t" %>
+<%@ taglib tagdir="/WEB-INF/tags/admin" prefix="ta" %>
+<%@ taglib tagdir="/WEB-INF/tags/admin/metrics" prefix="adminMetrics" %>
+<c:set var="jsIncludes">
+    <script type="text/javascript" src="/js/administrator.js"></script>
+</c:set>
+<ta:adminPage bodyTitle="Action Metrics" pageTitle="TEAMMATES - Administrator Metrics" jsIncludes="${jsIncludes}">
+    <p class="text-muted">
+        Latencies and mean calls per request of the actions handled by the app instance serving this page.
+        Statistics of other instances are not included.
+    </p>
+    <t:statusMessage statusMessagesToUser="${data.statusMessagesToUser}" />
+    <adminMetrics:metricsTable title="Current period" metricsTable="${data.currentPeriodTable}" />
+    <c:if test="${not empty data.previousPeriodTable}">
+        <adminMetrics:metricsTable title="Previous period" metricsTable="${data.previousPeriodTable}" />
+    </c:if>
+</ta:adminPage>
@@ -8,6 +8,8 @@ import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.testng.annotations.BeforeGroups;
 import org.testng.annotations.Test;
@@ -16,6 +18,8 @@ import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.entity.ActivityLog;
 import teammates.test.driver.FileHelper;
 import teammates.test.driver.TestProperties;
 import teammates.ui.controller.AdminActivityLogPageAction;
@@ -25,13 +29,20 @@ import teammates.ui.pagedata.AdminActivityLogPageData;
 import teammates.ui.pagedata.PageData;
 import teammates.ui.template.AdminActivityLogTableRow;
 
+import com.google.appengine.api.datastore.DatastoreService;
+import com.google.appengine.api.datastore.DatastoreServiceFactory;
+import com.google.appengine.api.datastore.Entity;
+import com.google.appengine.api.datastore.Key;
+import com.google.appengine.api.datastore.Query;
+import com.google.appengine.api.log.AppLogLine;
 import com.google.gson.reflect.TypeToken;
 
 /**
  * Action test for AdminActivityLogPageAction.
  *
- * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation} and
- * then test the correct execution of the action.
+ * <p>The test will store predefined activity logs using {@link ActivityLogsDb} and
+ * then test the correct execution of the action. Log messages which are not in the format of
+ * activity logs are not stored, as they are not written to the activity logs.
  *
  * <p>Logs will be injected to GAE with time relative to now. Typically, today, yesterday
  * and two days ago are the time. It is possible that when the test is run at
@@ -53,6 +64,8 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     // 130 seconds is chosen so that it will be around 50 logs within 2 hours before now.
     private static final int LOG_MESSAGE_INTERVAL_MANY_LOGS = 130;
 
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
     private List<List<String>> logMessages;
 
     private SimpleDateFormat formatterAdminTime;
@@ -94,7 +107,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("typicalLogs")
     public void removeAndRestoreLogMessage() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        deleteActivityLogs();
 
         Date twoDaysAgo = TimeHelper.getDateOffsetToCurrentTime(-2);
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_TWO_DAYS_AGO), twoDaysAgo.getTime());
@@ -274,21 +287,21 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // test statusMessage for default search
         AdminActivityLogPageAction action = getAction();
         String statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 5, yesterday);
+        verifyStatusMessage(statusMessage, 10, 5, yesterday);
         verifyLocalTimeInStatusMessage(statusMessage, yesterday, Const.SystemParams.ADMIN_TIME_ZONE_DOUBLE);
 
         // test statusMessage with filterQuery
         String query = "person:idOfInstructor1OfCourse1";
         action = getAction("filterQuery", query);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 1, yesterday);
+        verifyStatusMessage(statusMessage, 10, 1, yesterday);
 
         // test statusMessage with `to`
         query = "to:" + formatterAdminTime.format(yesterday);
         action = getAction("filterQuery", query);
         Calendar toDate = adminTimeZoneToUtc(getEndOfTheDayOffsetNowInAdminTimeZone(-2));
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 6, 3, toDate.getTime());
+        verifyStatusMessage(statusMessage, 5, 3, toDate.getTime());
         verifyLocalTimeInStatusMessage(statusMessage, toDate.getTime(), Const.SystemParams.ADMIN_TIME_ZONE_DOUBLE);
 
         // test statusMessage with `from`
@@ -296,7 +309,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Calendar fromDate = adminTimeZoneToUtc(getBeginOfTheDayOffsetNowInAdminTimeZone(-1));
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 17, 8, fromDate.getTime());
+        verifyStatusMessage(statusMessage, 15, 8, fromDate.getTime());
         verifyLocalTimeInStatusMessage(statusMessage, fromDate.getTime(), Const.SystemParams.ADMIN_TIME_ZONE_DOUBLE);
     }
 
@@ -340,7 +353,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // default continue search
         int[][] expected = new int[][]{{}, {0, 1, 2}};
         String[] params = new String[] {"searchTimeOffset", String.valueOf(yesterday.getTime())};
-        verifyContinueSearch(params, expected, 6, 3, twoDaysAgo);
+        verifyContinueSearch(params, expected, 5, 3, twoDaysAgo);
 
         // continue search and no more logs
         expected = new int[][]{};
@@ -351,14 +364,14 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         expected = new int[][]{{}, {0, 3}};
         params = new String[] {"searchTimeOffset", String.valueOf(yesterday.getTime()),
                 "filterQuery", "info:keyword1", "testdata", "true"};
-        verifyContinueSearch(params, expected, 6, 2, twoDaysAgo);
+        verifyContinueSearch(params, expected, 5, 2, twoDaysAgo);
 
         // when `from` is present, will not do continue search
         expected = new int[][]{{0, 1, 3, 4, 5}, {0, 1, 2}};
         params = new String[] {"searchTimeOffset", String.valueOf(yesterday.getTime()),
                 "filterQuery", String.format("from:%s", formatterAdminTime.format(yesterday))};
         Calendar yesterdayBegin = adminTimeZoneToUtc(getBeginOfTheDayOffsetNowInAdminTimeZone(-1));
-        verifyContinueSearch(params, expected, 17, 8, yesterdayBegin.getTime());
+        verifyContinueSearch(params, expected, 15, 8, yesterdayBegin.getTime());
 
         // `to` present, search with 1 day interval
         expected = new int[][]{{}, {}, {0, 1}};
@@ -373,7 +386,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @BeforeGroups("manyLogs")
     public void removeAndRestoreManyLogs() {
         gaeSimulation.loginAsAdmin("admin");
-        gaeSimulation.clearLogs();
+        deleteActivityLogs();
 
         Date today = TimeHelper.getDateOffsetToCurrentTime(0);
         insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
@@ -523,22 +536,35 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     }
 
     private void insertLogMessageAtTimeWithInterval(List<String> msgList, long timeMillis, int intervalInSecond) {
-        int levelInfo = 1;
+        String defaultVersion = "1";
+        List<Future<Key>> activityLogsWritten = new ArrayList<Future<Key>>();
         long logTimeInMillis = timeMillis - msgList.size() * intervalInSecond * 1000;
         for (int i = msgList.size() - 1; i >= 0; i--) {
-            createTestDataRequestInfoAtTime(logTimeInMillis);
-            gaeSimulation.addAppLogLine(String.valueOf(logTimeInMillis), logTimeInMillis * 1000,
-                    levelInfo, msgList.get(i));
+            if (msgList.get(i).startsWith(Const.ActivityLog.TEAMMATESLOG)) {
+                AppLogLine appLogLine = new AppLogLine();
+                appLogLine.setTimeUsec(logTimeInMillis * 1000);
+                appLogLine.setLogMessage(msgList.get(i));
+                activityLogsWritten.add(activityLogsDb.putActivityLogAsync(new ActivityLogEntry(appLogLine),
+                                                                           defaultVersion));
+            }
             logTimeInMillis += intervalInSecond * 1000;
         }
+
+        try {
+            for (Future<Key> activityLogWritten : activityLogsWritten) {
+                activityLogWritten.get();
+            }
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+        }
     }
 
-    private void createTestDataRequestInfoAtTime(long timeMillis) {
-        String testStr = "TEST";
-        String defaultVersion = "1";
-        gaeSimulation.addLogRequestInfo(testStr, defaultVersion, String.valueOf(timeMillis), testStr,
-                testStr, timeMillis * 1000, timeMillis * 1000, testStr, testStr, testStr, testStr,
-                true, 200, testStr);
+    private void deleteActivityLogs() {
+        DatastoreService datastore = DatastoreServiceFactory.getDatastoreService();
+        Query query = new Query(ActivityLog.class.getSimpleName()).setKeysOnly();
+        for (Entity activityLog : datastore.prepare(query).asIterable()) {
+            datastore.delete(activityLog.getKey());
+        }
     }
 
     private Calendar getBeginOfTheDayOffsetNowInAdminTimeZone(int dayOffset) {
@@ -0,0 +1,59 @@
+package teammates.test.cases.action;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.ActionMetrics.Outcome;
+import teammates.common.util.Const;
+import teammates.ui.controller.AdminMetricsPageAction;
+import teammates.ui.controller.ShowPageResult;
+import teammates.ui.pagedata.AdminMetricsPageData;
+import teammates.ui.template.AdminMetricsTableRow;
+
+public class AdminMetricsPageActionTest extends BaseActionTest {
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.ADMIN_METRICS_PAGE;
+    }
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() {
+        final String actionName = "AdminMetricsPageActionTestAction";
+        ActionMetrics.inst().record(actionName, Outcome.SUCCESS, 25, new long[] { 4, 2, 1, 0, 0, 0 });
+
+        ______TS("Normal case: the metrics of the current period are shown");
+        gaeSimulation.loginAsAdmin("admin.user");
+        AdminMetricsPageAction a = getAction();
+
+        ShowPageResult result = getShowPageResult(a);
+        assertEquals(Const.ViewURIs.ADMIN_METRICS, result.destination);
+
+        AdminMetricsPageData data = (AdminMetricsPageData) result.data;
+        AdminMetricsTableRow recordedRow = null;
+        for (AdminMetricsTableRow row : data.getCurrentPeriodTable().getRows()) {
+            if (actionName.equals(row.getActionName())) {
+                recordedRow = row;
+            }
+        }
+        assertNotNull(recordedRow);
+        assertEquals(1, recordedRow.getRequestCount());
+        assertEquals(25, recordedRow.getMeanLatency());
+        assertEquals(25, recordedRow.getMaxLatency());
+        assertEquals("4.0", recordedRow.getMeanQueries());
+        assertEquals("2.0", recordedRow.getMeanGets());
+        assertEquals("1.0", recordedRow.getMeanPuts());
+    }
+
+    @Override
+    protected AdminMetricsPageAction getAction(String... params) {
+        return (AdminMetricsPageAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+}
@@ -72,6 +72,7 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
 
         // there are 6 sessions in this course
         verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 6);
+        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME, 1);
 
         List<TaskWrapper> tasksAdded = enrollAction.getTaskQueuer().getTasksAdded();
         for (TaskWrapper task : tasksAdded) {
@@ -140,7 +141,10 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
                      pageResult.getDestinationWithParams());
         assertFalse(pageResult.isError);
         assertEquals("", pageResult.getStatusMessage());
-        verifyNoTasksAdded(enrollAction);
+
+        // only new students, whose search documents are to be added
+        assertEquals(1, enrollAction.getTaskQueuer().getNumberOfTasksAdded().size());
+        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME, 1);
 
         pageData = (InstructorCourseEnrollResultPageData) pageResult.data;
         assertEquals(courseId, pageData.getCourseId());
@@ -236,7 +240,7 @@ public class InstructorCourseEnrollSaveActionTest extends BaseActionTest {
         pageResult = getShowPageResult(enrollAction);
         assertFalse(pageResult.isError);
         assertEquals("", pageResult.getStatusMessage());
-        verifyNoTasksAdded(enrollAction);
+        verifySpecifiedTasksAdded(enrollAction, Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_QUEUE_NAME, 1);
 
         //fail to enroll, if exceed the range
         enrollStringBuilder.append(Const.EOL).append(
@@ -1,12 +1,16 @@
 package teammates.test.cases.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +50,35 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Gets the emails in the batches of emails scheduled to be sent by the {@code action}.
+     */
+    protected List<EmailWrapper> getEmailsScheduled(AutomatedAction action) {
+        List<EmailWrapper> emails = new ArrayList<EmailWrapper>();
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (!task.getQueueName().equals(Const.TaskQueue.SEND_EMAIL_QUEUE_NAME)) {
+                continue;
+            }
+            Map<String, String[]> paramMap = task.getParamMap();
+            String[] recipients = paramMap.get(ParamsNames.EMAIL_RECEIVER);
+            for (int i = 0; i < recipients.length; i++) {
+                EmailWrapper email = new EmailWrapper();
+                email.setRecipient(recipients[i]);
+                email.setSubject(paramMap.get(ParamsNames.EMAIL_SUBJECT)[i]);
+                email.setContent(paramMap.get(ParamsNames.EMAIL_CONTENT)[i]);
+                email.setSenderEmail(paramMap.get(ParamsNames.EMAIL_SENDER)[i]);
+                email.setSenderName(paramMap.get(ParamsNames.EMAIL_SENDERNAME)[i]);
+                email.setReplyTo(paramMap.get(ParamsNames.EMAIL_REPLY_TO_ADDRESS)[i]);
+                emails.add(email);
+            }
+        }
+        return emails;
+    }
+
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        assertEquals(emailCount, getEmailsScheduled(action).size());
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
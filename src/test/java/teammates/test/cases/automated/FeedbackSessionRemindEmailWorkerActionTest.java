@@ -2,7 +2,6 @@ package teammates.test.cases.automated;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -12,7 +11,7 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.util.Const;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailType;
-import teammates.common.util.TaskWrapper;
+import teammates.common.util.EmailWrapper;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
@@ -53,7 +52,7 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
         action.execute();
 
         // 2 students and 4 instructors sent reminder, 5 instructors notified
-        verifySpecifiedTasksAdded(action, Const.TaskQueue.SEND_EMAIL_QUEUE_NAME, 11);
+        verifyNumberOfEmailsScheduled(action, 11);
 
         List<String> studentRecipientList = new ArrayList<String>();
         for (StudentAttributes student : studentsLogic.getStudentsForCourse(session1.getCourseId())) {
@@ -72,16 +71,14 @@ public class FeedbackSessionRemindEmailWorkerActionTest extends BaseAutomatedAct
         }
 
         String courseName = coursesLogic.getCourse(session1.getCourseId()).getName();
-        List<TaskWrapper> tasksAdded = action.getTaskQueuer().getTasksAdded();
-        for (TaskWrapper task : tasksAdded) {
-            Map<String, String[]> paramMap = task.getParamMap();
+        for (EmailWrapper email : getEmailsScheduled(action)) {
             assertEquals(String.format(EmailType.FEEDBACK_SESSION_REMINDER.getSubject(), courseName,
                                        session1.getSessionName()),
-                         paramMap.get(ParamsNames.EMAIL_SUBJECT)[0]);
+                         email.getSubject());
 
             String header = "The email below has been sent to students of course: " + session1.getCourseId();
-            String content = paramMap.get(ParamsNames.EMAIL_CONTENT)[0];
-            String recipient = paramMap.get(ParamsNames.EMAIL_RECEIVER)[0];
+            String content = email.getContent();
+            String recipient = email.getRecipient();
 
             if (content.contains(header)) { // notification to all instructors
                 assertTrue(instructorNotifiedList.contains(recipient));
@@ -0,0 +1,120 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
+import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.api.SearchDocumentMarkersDb;
+import teammates.storage.api.StudentsDb;
+import teammates.ui.automated.SearchDocumentsUpdateWorkerAction;
+
+import com.google.appengine.api.datastore.Text;
+
+/**
+ * SUT: {@link SearchDocumentsUpdateWorkerAction}.
+ */
+public class SearchDocumentsUpdateWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final FeedbackResponseCommentsDb frcDb = new FeedbackResponseCommentsDb();
+    private static final SearchDocumentMarkersDb markersDb = new SearchDocumentMarkersDb();
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_DOCUMENTS_UPDATE_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+
+        StudentAttributes stu1InCourse1 = studentsDb.getStudentForEmail(
+                dataBundle.students.get("student1InCourse1").course, dataBundle.students.get("student1InCourse1").email);
+        StudentAttributes stu2InCourse1 = studentsDb.getStudentForEmail(
+                dataBundle.students.get("student2InCourse1").course, dataBundle.students.get("student2InCourse1").email);
+        String courseId = stu1InCourse1.course;
+        List<InstructorAttributes> ins1OfCourse1 = Arrays.asList(dataBundle.instructors.get("instructor1OfCourse1"));
+
+        ______TS("typical case: marked documents updated, non-existent students skipped");
+
+        updateTeamWithoutDocument(stu1InCourse1, "Team Marked");
+        markersDb.markForUpdate(Const.SearchIndex.STUDENT, courseId, Arrays.asList(stu1InCourse1.email));
+        assertEquals(0, studentsDb.search("Marked", ins1OfCourse1).numberOfResults);
+
+        SearchDocumentsUpdateWorkerAction action = getAction(
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                ParamsNames.COURSE_ID, courseId,
+                ParamsNames.SEARCH_INDEX_ENTITY_ID, stu1InCourse1.email,
+                ParamsNames.SEARCH_INDEX_ENTITY_ID, "non-existent@email.tmt");
+        action.execute();
+
+        StudentSearchResultBundle bundle = studentsDb.search("Marked", ins1OfCourse1);
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(stu1InCourse1.email, bundle.studentList.get(0).email);
+        verifyNoTasksAdded(action);
+
+        ______TS("document already updated by an earlier task: not updated again");
+
+        updateTeamWithoutDocument(stu1InCourse1, "Team Unmarked");
+
+        action = getAction(ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                           ParamsNames.COURSE_ID, courseId,
+                           ParamsNames.SEARCH_INDEX_ENTITY_ID, stu1InCourse1.email);
+        action.execute();
+
+        assertEquals(0, studentsDb.search("Unmarked", ins1OfCourse1).numberOfResults);
+
+        ______TS("other documents of the course marked since: updated together");
+
+        updateTeamWithoutDocument(stu2InCourse1, "Team Unmarked");
+        markersDb.markForUpdate(Const.SearchIndex.STUDENT, courseId, Arrays.asList(stu2InCourse1.email));
+
+        action = getAction(ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                           ParamsNames.COURSE_ID, courseId,
+                           ParamsNames.SEARCH_INDEX_ENTITY_ID, stu1InCourse1.email);
+        action.execute();
+
+        bundle = studentsDb.search("Unmarked", ins1OfCourse1);
+        assertEquals(1, bundle.numberOfResults);
+        assertEquals(stu2InCourse1.email, bundle.studentList.get(0).email);
+
+        ______TS("typical case: response comment");
+
+        FeedbackResponseCommentAttributes frc = dataBundle.feedbackResponseComments.get("comment1FromT1C1ToR1Q1S1C1");
+        frc = frcDb.getFeedbackResponseComment(frc.courseId, frc.createdAt, frc.giverEmail);
+        frc.commentText = new Text("Edited comment marked for update");
+        frcDb.updateFeedbackResponseComment(frc);
+        markersDb.markForUpdate(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frc.courseId,
+                                Arrays.asList(frc.getId().toString()));
+
+        assertEquals(0, frcDb.search("\"Edited comment\"", ins1OfCourse1).numberOfResults);
+
+        action = getAction(ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                           ParamsNames.COURSE_ID, frc.courseId,
+                           ParamsNames.SEARCH_INDEX_ENTITY_ID, frc.getId().toString());
+        action.execute();
+
+        FeedbackResponseCommentSearchResultBundle frcBundle = frcDb.search("\"Edited comment\"", ins1OfCourse1);
+        assertEquals(1, frcBundle.numberOfResults);
+    }
+
+    private void updateTeamWithoutDocument(StudentAttributes student, String team) throws Exception {
+        studentsDb.updateStudentWithoutSearchability(student.course, student.email, student.name, team,
+                                                     student.section, student.email, student.googleId,
+                                                     student.comments);
+    }
+
+    @Override
+    protected SearchDocumentsUpdateWorkerAction getAction(String... params) {
+        return (SearchDocumentsUpdateWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
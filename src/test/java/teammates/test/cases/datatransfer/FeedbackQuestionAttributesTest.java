@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.util.Const;
@@ -192,6 +193,26 @@ public class FeedbackQuestionAttributesTest extends BaseTestCase {
 
         fq = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1");
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
+
+        ______TS("details are parsed once until the metadata changes");
+
+        assertSame(fq.getQuestionDetails(), fq.getQuestionDetails());
+
+        fq.questionMetaData = new Text("Changed question");
+        assertEquals("Changed question", fq.getQuestionDetails().getQuestionText());
+
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Question set through details"));
+        assertEquals("Question set through details", fq.getQuestionDetails().getQuestionText());
+
+        ______TS("changes to a copy of the details are not seen by later calls until they are set");
+
+        FeedbackQuestionDetails changedDetails = fq.getQuestionDetailsCopy();
+        assertFalse(changedDetails == fq.getQuestionDetails());
+        changedDetails.setQuestionText("Changed through returned details");
+        assertEquals("Question set through details", fq.getQuestionDetails().getQuestionText());
+
+        fq.setQuestionDetails(changedDetails);
+        assertEquals("Changed through returned details", fq.getQuestionDetails().getQuestionText());
     }
 
     @Test
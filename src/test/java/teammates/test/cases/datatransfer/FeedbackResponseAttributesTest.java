@@ -5,9 +5,16 @@ import java.util.Date;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackMcqQuestionDetails;
+import teammates.common.datatransfer.questions.FeedbackMcqResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
+import com.google.appengine.api.datastore.Text;
+
 public class FeedbackResponseAttributesTest extends BaseTestCase {
 
     private static class FeedbackResponseAttributesWithModifiableTimestamp extends FeedbackResponseAttributes {
@@ -41,4 +48,44 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+
+        ______TS("missing response");
+
+        assertNull(fra.getResponseDetails());
+
+        ______TS("details are parsed once until the metadata changes");
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Original answer"));
+        FeedbackResponseDetails responseDetails = fra.getResponseDetails();
+        assertEquals("Original answer", responseDetails.getAnswerString());
+        assertSame(responseDetails, fra.getResponseDetails());
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Updated answer"));
+        assertEquals("Updated answer", fra.getResponseDetails().getAnswerString());
+
+        fra.responseMetaData = new Text("Answer set through metadata");
+        assertEquals("Answer set through metadata", fra.getResponseDetails().getAnswerString());
+
+        ______TS("changes to a copy of the details are not seen by later calls until they are set");
+
+        fra.feedbackQuestionType = FeedbackQuestionType.MCQ;
+        FeedbackMcqResponseDetails mcqDetails = new FeedbackMcqResponseDetails();
+        mcqDetails.extractResponseDetails(FeedbackQuestionType.MCQ, new FeedbackMcqQuestionDetails(),
+                                          new String[] {"Option A"});
+        fra.setResponseDetails(mcqDetails);
+
+        FeedbackResponseDetails changedDetails = fra.getResponseDetailsCopy();
+        assertFalse(changedDetails == fra.getResponseDetails());
+        changedDetails.extractResponseDetails(FeedbackQuestionType.MCQ, new FeedbackMcqQuestionDetails(),
+                                              new String[] {"Option B"});
+        assertEquals("Option A", fra.getResponseDetails().getAnswerString());
+
+        fra.setResponseDetails(changedDetails);
+        assertEquals("Option B", fra.getResponseDetails().getAnswerString());
+    }
+
 }
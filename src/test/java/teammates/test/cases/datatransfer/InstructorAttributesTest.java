@@ -211,6 +211,40 @@ public class InstructorAttributesTest extends BaseTestCase {
                 Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS));
     }
 
+    @Test
+    public void testPrivilegesFromSameText() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR);
+        privileges.updatePrivilege("sectionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        @SuppressWarnings("deprecation")
+        InstructorAttributes instructor =
+                new InstructorAttributes("valid.google.id", "valid-course-id", "valid name", "valid@email.com");
+        instructor.privileges = privileges;
+        String privilegesAsText = instructor.getTextFromInstructorPrivileges();
+
+        InstructorAttributes instructor1 = new InstructorAttributes("googleId1", "courseId", "name1", "email1@google.com",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR, "Tutor", privilegesAsText);
+        InstructorAttributes instructor2 = new InstructorAttributes("googleId2", "courseId", "name2", "email2@google.com",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR, "Tutor", privilegesAsText);
+
+        assertEquals(privileges, instructor1.privileges);
+        assertEquals(privileges, instructor2.privileges);
+        assertFalse(instructor1.privileges == instructor2.privileges);
+
+        ______TS("changing the privileges of one instructor does not change those of others");
+
+        instructor1.privileges.updatePrivilege(
+                "sectionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(instructor1.isAllowedForPrivilege(
+                "sectionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(instructor2.isAllowedForPrivilege(
+                "sectionId", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        InstructorAttributes instructor3 = new InstructorAttributes("googleId3", "courseId", "name3", "email3@google.com",
+                Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_TUTOR, "Tutor", privilegesAsText);
+        assertEquals(privileges, instructor3.privileges);
+    }
+
     @Test
     public void testIsEqualToAnotherInstructor() {
         String googleId = "valid.googleId";
@@ -434,6 +434,40 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testGetCopy() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        String sectionId = "sectionId";
+        String sessionId = "sessionId";
+        privileges.updatePrivilege(sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("copy has the same privileges");
+
+        InstructorPrivileges copy = privileges.getCopy();
+        assertEquals(privileges, copy);
+        assertFalse(copy.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("changing the copy does not change the original");
+
+        copy.updatePrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(copy.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(privileges.equals(copy));
+
+        copy.removeSectionLevelPrivileges(sectionId);
+        assertTrue(copy.isAllowedForPrivilege(
+                sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilege(
+                sectionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
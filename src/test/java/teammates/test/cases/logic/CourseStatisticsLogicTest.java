@@ -0,0 +1,175 @@
+package teammates.test.cases.logic;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseStats;
+import teammates.common.datatransfer.attributes.CourseStatisticsAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.CourseStatisticsLogic;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.StudentsLogic;
+import teammates.storage.api.CourseStatisticsDb;
+
+public class CourseStatisticsLogicTest extends BaseLogicTest {
+
+    private static final String COURSE_ID = "idOfTypicalCourse1";
+
+    private static CourseStatisticsLogic courseStatisticsLogic = CourseStatisticsLogic.inst();
+    private static CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static CourseStatisticsDb courseStatisticsDb = new CourseStatisticsDb();
+
+    @Test
+    public void allTests() throws Exception {
+        testCountStatisticsWhenFirstRead();
+        testUpdateStatisticsForStudentChanges();
+        testCreateAndDeleteStatisticsWithCourse();
+    }
+
+    private void testCountStatisticsWhenFirstRead() {
+
+        ______TS("statistics of existing courses do not exist until read");
+
+        assertFalse(isStatisticsStored(COURSE_ID));
+
+        ______TS("statistics are counted from the students of the course and stored");
+
+        CourseStats stats = courseStatisticsLogic.getCourseStats(COURSE_ID);
+        assertEquals(5, stats.studentsTotal);
+        assertEquals(0, stats.unregisteredTotal);
+        assertEquals(2, stats.teamsTotal);
+        assertEquals(2, stats.sectionsTotal);
+        assertTrue(isStatisticsStored(COURSE_ID));
+
+        ______TS("section names are read from the statistics");
+
+        assertEquals(Arrays.asList("Section 1", "Section 2"), courseStatisticsLogic.getSectionNames(COURSE_ID));
+
+        ______TS("statistics of courses which do not exist are not counted");
+
+        String nonExistentCourseId = "CSLT.nonExistentCourse";
+        assertNull(courseStatisticsLogic.getCourseStats(nonExistentCourseId));
+        assertTrue(courseStatisticsLogic.getSectionNames(nonExistentCourseId).isEmpty());
+        assertFalse(isStatisticsStored(nonExistentCourseId));
+    }
+
+    private void testUpdateStatisticsForStudentChanges() throws Exception {
+
+        ______TS("enrollment of a new student and of a student moving to a new team and section");
+
+        String lines = "Section | Team | Name | Email" + Const.EOL
+                       + "Section 3 | Team 1.3 | new student | new.student@gmail.tmt" + Const.EOL
+                       + "Section 3 | Team 1.3 | student5 In Course1 | student5InCourse1@gmail.tmt";
+        studentsLogic.enrollStudents(lines, COURSE_ID);
+
+        // the mark made before the students were changed is cleared when the change is added
+        assertFalse(getStoredStatistics(COURSE_ID).isRecountNeeded);
+        CourseStats stats = verifyStatisticsAreConsistent(COURSE_ID);
+        assertEquals(6, stats.studentsTotal);
+        assertEquals(1, stats.unregisteredTotal);
+        assertEquals(2, stats.teamsTotal);
+        assertEquals(2, stats.sectionsTotal);
+
+        ______TS("edit of a student moving back to an existing team");
+
+        StudentAttributes student = studentsLogic.getStudentForEmail(COURSE_ID, "student5InCourse1@gmail.tmt");
+        student.team = "Team 1.2";
+        student.section = "Section 2";
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, student);
+
+        stats = verifyStatisticsAreConsistent(COURSE_ID);
+        assertEquals(3, stats.teamsTotal);
+        assertEquals(3, stats.sectionsTotal);
+
+        ______TS("reset of the google id of a student");
+
+        studentsLogic.resetStudentGoogleId(student.email, COURSE_ID, false);
+
+        stats = verifyStatisticsAreConsistent(COURSE_ID);
+        assertEquals(2, stats.unregisteredTotal);
+
+        ______TS("deletion of the students of a team and a section");
+
+        studentsLogic.deleteStudentCascadeWithoutDocument(COURSE_ID, "new.student@gmail.tmt");
+
+        stats = verifyStatisticsAreConsistent(COURSE_ID);
+        assertEquals(5, stats.studentsTotal);
+        assertEquals(1, stats.unregisteredTotal);
+        assertEquals(2, stats.teamsTotal);
+        assertEquals(2, stats.sectionsTotal);
+
+        ______TS("changes to statistics which do not exist mark them to be counted again");
+
+        courseStatisticsDb.deleteCourseStatisticsForCourses(Arrays.asList(COURSE_ID));
+        studentsLogic.deleteStudentCascadeWithoutDocument(COURSE_ID, student.email);
+
+        assertTrue(getStoredStatistics(COURSE_ID).isRecountNeeded);
+        assertEquals(4, courseStatisticsLogic.getCourseStats(COURSE_ID).studentsTotal);
+        assertFalse(getStoredStatistics(COURSE_ID).isRecountNeeded);
+        verifyStatisticsAreConsistent(COURSE_ID);
+
+        ______TS("statistics marked before a change to the students which is never added are counted again");
+
+        courseStatisticsLogic.markCourseStatisticsForChange(COURSE_ID);
+
+        assertTrue(getStoredStatistics(COURSE_ID).isRecountNeeded);
+        verifyStatisticsAreConsistent(COURSE_ID);
+        assertFalse(getStoredStatistics(COURSE_ID).isRecountNeeded);
+
+        ______TS("statistics counted again are not stored if changed while being counted");
+
+        CourseStatisticsAttributes statistics = getStoredStatistics(COURSE_ID);
+        Date lastUpdatedAt = statistics.updatedAt;
+        studentsLogic.resetStudentGoogleId("student4InCourse1@gmail.tmt", COURSE_ID, false);
+
+        statistics.unregisteredTotal = 0;
+        assertFalse(courseStatisticsDb.replaceCourseStatistics(statistics, lastUpdatedAt));
+        assertFalse(courseStatisticsDb.replaceCourseStatistics(statistics, null));
+        verifyStatisticsAreConsistent(COURSE_ID);
+    }
+
+    private void testCreateAndDeleteStatisticsWithCourse() throws Exception {
+
+        ______TS("statistics are created empty with the course");
+
+        String courseId = "CSLT.newCourse";
+        coursesLogic.createCourse(courseId, "New course", "UTC");
+
+        assertTrue(isStatisticsStored(courseId));
+        assertEquals(0, courseStatisticsLogic.getCourseStats(courseId).studentsTotal);
+
+        ______TS("statistics are deleted with the course");
+
+        coursesLogic.deleteCourseCascade(courseId);
+
+        assertFalse(isStatisticsStored(courseId));
+    }
+
+    /**
+     * Verifies that the stored statistics of the course give the same stats as counting its students.
+     */
+    private CourseStats verifyStatisticsAreConsistent(String courseId) throws Exception {
+        assertTrue(isStatisticsStored(courseId));
+
+        CourseStats stats = courseStatisticsLogic.getCourseStats(courseId);
+        CourseStats countedStats = coursesLogic.getCourseSummary(courseId).stats;
+        assertEquals(countedStats.studentsTotal, stats.studentsTotal);
+        assertEquals(countedStats.unregisteredTotal, stats.unregisteredTotal);
+        assertEquals(countedStats.teamsTotal, stats.teamsTotal);
+        assertEquals(countedStats.sectionsTotal, stats.sectionsTotal);
+        return stats;
+    }
+
+    private CourseStatisticsAttributes getStoredStatistics(String courseId) {
+        return courseStatisticsDb.getCourseStatisticsForCourses(Arrays.asList(courseId)).get(courseId);
+    }
+
+    private boolean isStatisticsStored(String courseId) {
+        return courseStatisticsDb.getCourseStatisticsForCourses(Arrays.asList(courseId)).containsKey(courseId);
+    }
+
+}
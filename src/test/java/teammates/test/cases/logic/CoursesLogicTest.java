@@ -11,6 +11,7 @@ import org.testng.annotations.Test;
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.CourseDetailsBundle;
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.CourseSummaryBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -24,6 +25,7 @@ import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.storage.api.AccountsDb;
+import teammates.storage.api.CourseRosterCache;
 import teammates.storage.api.CoursesDb;
 import teammates.storage.api.InstructorsDb;
 import teammates.test.driver.AssertHelper;
@@ -34,10 +36,14 @@ public class CoursesLogicTest extends BaseLogicTest {
     private static final CoursesDb coursesDb = new CoursesDb();
     private static final AccountsDb accountsDb = new AccountsDb();
     private static final InstructorsDb instructorsDb = new InstructorsDb();
+    private static final CourseRosterCache courseRosterCache = new CourseRosterCache();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Test
     public void testAll() throws Exception {
         testGetCourse();
+        testGetCourseRoster();
         testGetCoursesForInstructor();
         testIsSampleCourse();
         testIsCoursePresent();
@@ -48,7 +54,7 @@ public class CoursesLogicTest extends BaseLogicTest {
         testGetTeamsForCourse();
         testGetCoursesForStudentAccount();
         testGetCourseDetailsListForStudent();
-        testGetCourseSummariesForInstructor();
+        testGetCourseSummariesWithoutSectionsForInstructor();
         testGetCoursesSummaryWithoutStatsForInstructor();
         testGetCourseStudentListAsCsv();
         testHasIndicatedSections();
@@ -82,6 +88,44 @@ public class CoursesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetCourseRoster() throws Exception {
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        ______TS("success: roster is read and cached");
+
+        CourseRoster roster = coursesLogic.getCourseRoster(course.getId());
+        assertEquals(studentsLogic.getStudentsForCourse(course.getId()).size(), roster.getStudents().size());
+        assertEquals(instructorsLogic.getInstructorsForCourse(course.getId()).size(), roster.getInstructors().size());
+        assertEquals(student.name, roster.getStudentForEmail(student.email).name);
+        assertTrue(roster.isInstructorOfCourse(instructor.email));
+
+        long version = courseRosterCache.getVersion(course.getId());
+        CourseRoster cachedRoster = courseRosterCache.getCourseRoster(course.getId(), version);
+        assertEquals(roster.getStudents().size(), cachedRoster.getStudents().size());
+        assertEquals(roster.getStudentForEmail(student.email).key, cachedRoster.getStudentForEmail(student.email).key);
+
+        ______TS("success: adding a student invalidates the cached roster");
+
+        StudentAttributes newStudent = new StudentAttributes("Section 1", "Team 1.1", "New Student",
+                                                             "newStudent@roster.tmt", "", course.getId());
+        studentsLogic.createStudentCascadeWithoutDocument(newStudent);
+
+        assertFalse(version == courseRosterCache.getVersion(course.getId()));
+        roster = coursesLogic.getCourseRoster(course.getId());
+        assertTrue(roster.isStudentInCourse(newStudent.email));
+
+        ______TS("success: deleting a student invalidates the cached roster");
+
+        studentsLogic.deleteStudentCascadeWithoutDocument(course.getId(), newStudent.email);
+
+        roster = coursesLogic.getCourseRoster(course.getId());
+        assertFalse(roster.isStudentInCourse(newStudent.email));
+        assertEquals(studentsLogic.getStudentsForCourse(course.getId()).size(), roster.getStudents().size());
+    }
+
     private void testGetCoursesForInstructor() throws Exception {
 
         ______TS("success: instructor with present courses");
@@ -516,13 +560,13 @@ public class CoursesLogicTest extends BaseLogicTest {
         }
     }
 
-    private void testGetCourseSummariesForInstructor() throws Exception {
+    private void testGetCourseSummariesWithoutSectionsForInstructor() throws Exception {
 
         ______TS("Instructor with 2 courses");
 
         InstructorAttributes instructor = dataBundle.instructors.get("instructor3OfCourse1");
         HashMap<String, CourseDetailsBundle> courseList =
-                coursesLogic.getCourseSummariesForInstructor(instructor.googleId, false);
+                coursesLogic.getCourseSummariesWithoutSectionsForInstructor(instructor.googleId, false);
         assertEquals(2, courseList.size());
         for (CourseDetailsBundle cdd : courseList.values()) {
             // check if course belongs to this instructor
@@ -532,18 +576,18 @@ public class CoursesLogicTest extends BaseLogicTest {
         ______TS("Instructor with 1 archived, 1 unarchived course");
 
         InstructorsLogic.inst().setArchiveStatusOfInstructor(instructor.googleId, "idOfTypicalCourse1", true);
-        courseList = coursesLogic.getCourseSummariesForInstructor(instructor.googleId, true);
+        courseList = coursesLogic.getCourseSummariesWithoutSectionsForInstructor(instructor.googleId, true);
         assertEquals(1, courseList.size());
         InstructorsLogic.inst().setArchiveStatusOfInstructor(instructor.googleId, "idOfTypicalCourse1", false);
 
         ______TS("Instructor with 0 courses");
-        courseList = coursesLogic.getCourseSummariesForInstructor("instructorWithoutCourses", false);
+        courseList = coursesLogic.getCourseSummariesWithoutSectionsForInstructor("instructorWithoutCourses", false);
         assertEquals(0, courseList.size());
 
         ______TS("Non-existent instructor");
 
         try {
-            coursesLogic.getCourseSummariesForInstructor("non-existent-instructor", false);
+            coursesLogic.getCourseSummariesWithoutSectionsForInstructor("non-existent-instructor", false);
             signalFailureToDetectException();
         } catch (EntityDoesNotExistException e) {
             AssertHelper.assertContains("does not exist",
@@ -553,7 +597,7 @@ public class CoursesLogicTest extends BaseLogicTest {
         ______TS("Null parameter");
 
         try {
-            coursesLogic.getCourseSummariesForInstructor(null, false);
+            coursesLogic.getCourseSummariesWithoutSectionsForInstructor(null, false);
             signalFailureToDetectException();
         } catch (AssertionError e) {
             assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getMessage());
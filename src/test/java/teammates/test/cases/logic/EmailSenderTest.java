@@ -1,5 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -8,12 +11,14 @@ import org.json.JSONArray;
 import org.json.JSONObject;
 import org.testng.annotations.Test;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.EmailWrapper;
 import teammates.logic.api.EmailSender;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
+import teammates.test.driver.MockEmailSenderService;
 
 import com.mailjet.client.MailjetRequest;
 import com.mailjet.client.resource.Email;
@@ -54,6 +59,144 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private List<EmailWrapper> getTypicalEmailWrapperBatch() {
+        List<EmailWrapper> wrappers = new ArrayList<EmailWrapper>();
+        for (int i = 1; i <= 3; i++) {
+            EmailWrapper wrapper = getTypicalEmailWrapper();
+            wrapper.setBcc(null);
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setSubject("Test subject " + i);
+            wrapper.setContent("<p>This is test content " + i + "</p>");
+            wrappers.add(wrapper);
+        }
+        return wrappers;
+    }
+
+    @Test
+    public void testSendEmailsInBatches() throws Exception {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+
+        EmailWrapper wrapperWithBcc = getTypicalEmailWrapper();
+        wrappers.add(wrapperWithBcc);
+
+        EmailWrapper wrapperWithOtherReplyTo = getTypicalEmailWrapperBatch().get(0);
+        wrapperWithOtherReplyTo.setReplyTo("otherreplyto@email.com");
+        wrappers.add(wrapperWithOtherReplyTo);
+
+        EmailWrapper wrapperToSameRecipient = getTypicalEmailWrapperBatch().get(2);
+        wrappers.add(wrapperToSameRecipient);
+
+        MockEmailSenderService service = new MockEmailSenderService(2);
+        new EmailSender(service).sendEmails(wrappers);
+
+        ______TS("emails are batched by sender and reply-to address, up to the maximum batch size");
+
+        List<List<EmailWrapper>> requestsSent = service.getRequestsSent();
+        assertEquals(5, requestsSent.size());
+        assertEquals(wrappers.subList(0, 2), requestsSent.get(0));
+        assertEquals(wrappers.subList(2, 3), requestsSent.get(1));
+
+        ______TS("emails with bcc are not batched");
+
+        assertEquals(wrappers.subList(3, 4), requestsSent.get(2));
+
+        ______TS("emails with different reply-to addresses are not batched");
+
+        assertEquals(wrappers.subList(4, 5), requestsSent.get(3));
+
+        ______TS("emails to the same recipient are not batched");
+
+        assertEquals(wrappers.subList(5, 6), requestsSent.get(4));
+    }
+
+    @Test
+    public void testSendEmailsWithFailedRequest() throws Exception {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        MockEmailSenderService service = new MockEmailSenderService(1);
+        service.setFailingRecipient(wrappers.get(1).getRecipient());
+
+        List<EmailWrapper> unsentEmails = null;
+        try {
+            new EmailSender(service).sendEmails(wrappers);
+            signalFailureToDetectException();
+        } catch (EmailSendingException e) {
+            unsentEmails = e.getUnsentEmails();
+        }
+
+        ______TS("only the emails of the failed request are reported as not sent");
+
+        assertEquals(wrappers.subList(1, 2), unsentEmails);
+
+        ______TS("a failed request does not stop the other emails from being sent");
+
+        List<List<EmailWrapper>> requestsSent = service.getRequestsSent();
+        assertEquals(2, requestsSent.size());
+        assertEquals(wrappers.subList(0, 1), requestsSent.get(0));
+        assertEquals(wrappers.subList(2, 3), requestsSent.get(1));
+    }
+
+    @Test
+    public void testConvertBatchToSendgrid() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        SendGrid.Email email = new SendgridService().parseToEmail(wrappers);
+        EmailWrapper first = wrappers.get(0);
+
+        assertEquals(first.getSenderEmail(), email.getFrom());
+        assertEquals(first.getSenderName(), email.getFromName());
+        assertEquals(first.getReplyTo(), email.getReplyTo());
+        assertEquals(0, email.getTos().length);
+
+        String[] recipients = email.getSMTPAPI().getTos();
+        JSONArray subjects = email.getSubstitutions().getJSONArray(email.getSubject());
+        JSONArray htmls = email.getSubstitutions().getJSONArray(email.getHtml());
+        assertEquals(wrappers.size(), recipients.length);
+        for (int i = 0; i < wrappers.size(); i++) {
+            assertEquals(wrappers.get(i).getRecipient(), recipients[i]);
+            assertEquals(wrappers.get(i).getSubject(), subjects.getString(i));
+            assertEquals(wrappers.get(i).getContent(), htmls.getString(i));
+        }
+    }
+
+    @Test
+    public void testConvertBatchToMailgun() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        FormDataMultiPart formData = new MailgunService().parseToEmail(wrappers);
+        EmailWrapper first = wrappers.get(0);
+
+        assertEquals(first.getSenderName() + " <" + first.getSenderEmail() + ">",
+                     formData.getField("from").getValue());
+        assertEquals(first.getReplyTo(), formData.getField("h:Reply-To").getValue());
+        assertEquals("%recipient.subject%", formData.getField("subject").getValue());
+        assertEquals("%recipient.html%", formData.getField("html").getValue());
+
+        JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+        assertEquals(wrappers.size(), formData.getFields("to").size());
+        for (int i = 0; i < wrappers.size(); i++) {
+            EmailWrapper wrapper = wrappers.get(i);
+            assertEquals(wrapper.getRecipient(), formData.getFields("to").get(i).getValue());
+            assertEquals(wrapper.getSubject(),
+                         recipientVariables.getJSONObject(wrapper.getRecipient()).getString("subject"));
+            assertEquals(wrapper.getContent(),
+                         recipientVariables.getJSONObject(wrapper.getRecipient()).getString("html"));
+        }
+    }
+
+    @Test
+    public void testConvertBatchToMailjet() {
+        List<EmailWrapper> wrappers = getTypicalEmailWrapperBatch();
+        MailjetRequest request = new MailjetService().parseToEmail(wrappers);
+        JSONArray messages = new JSONObject(request.getBody()).getJSONArray(Email.MESSAGES);
+
+        assertEquals(wrappers.size(), messages.length());
+        for (int i = 0; i < wrappers.size(); i++) {
+            JSONObject email = messages.getJSONObject(i);
+            assertEquals(wrappers.get(i).getRecipient(),
+                         ((JSONArray) email.get(Email.RECIPIENTS)).getJSONObject(0).get("Email"));
+            assertEquals(wrappers.get(i).getSubject(), email.get(Email.SUBJECT));
+            assertEquals(wrappers.get(i).getContent(), email.get(Email.HTMLPART));
+        }
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
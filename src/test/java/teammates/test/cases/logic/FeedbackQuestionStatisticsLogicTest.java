@@ -0,0 +1,206 @@
+package teammates.test.cases.logic;
+
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.FeedbackSessionResultsBundle;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.logic.core.FeedbackQuestionStatisticsLogic;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponsesLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+
+import com.google.appengine.api.datastore.Text;
+
+public class FeedbackQuestionStatisticsLogicTest extends BaseLogicTest {
+
+    private static final String COURSE_ID = "FSQTT.idOfTypicalCourse1";
+
+    private static FeedbackQuestionStatisticsLogic fqsLogic = FeedbackQuestionStatisticsLogic.inst();
+    private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        dataBundle = loadDataBundle("/FeedbackSessionQuestionTypeTest.json");
+        removeAndRestoreDataBundle(dataBundle);
+    }
+
+    @AfterClass
+    public void classTearDown() {
+        backDoorLogic.removeDataBundle(loadDataBundle("/FeedbackSessionQuestionTypeTest.json"));
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        testRebuildAndCheckStatistics();
+        testUpdateStatisticsForResponseChanges();
+        testCreateAndDeleteStatisticsWithQuestion();
+        testGetResultsWithStatisticsOnly();
+    }
+
+    private void testRebuildAndCheckStatistics() throws Exception {
+
+        ______TS("statistics of existing sessions do not exist until rebuilt");
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion("MCQ Session", COURSE_ID, 1);
+        assertNull(fqsLogic.getFeedbackQuestionStatistics(question.getId()));
+        assertEquals(3, fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MCQ Session", COURSE_ID).size());
+
+        ______TS("statistics of questions whose statistics are not kept are not rebuilt");
+
+        fqsLogic.rebuildFeedbackQuestionStatisticsForSession("NUMSCALE Session", COURSE_ID);
+        assertTrue(fqsLogic.getFeedbackQuestionStatisticsForSession("NUMSCALE Session", COURSE_ID).isEmpty());
+        assertTrue(fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("NUMSCALE Session", COURSE_ID).isEmpty());
+
+        ______TS("rebuild counts the responses of the session");
+
+        fqsLogic.rebuildFeedbackQuestionStatisticsForSession("MCQ Session", COURSE_ID);
+        assertTrue(fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MCQ Session", COURSE_ID).isEmpty());
+        assertEquals(3, fqsLogic.getFeedbackQuestionStatisticsForSession("MCQ Session", COURSE_ID).size());
+
+        FeedbackQuestionStatisticsAttributes statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(2, statistics.numberOfResponses);
+        assertEquals(1, statistics.getCount("It's good"));
+        assertEquals(1, statistics.getCount("It's perfect"));
+
+        FeedbackQuestionAttributes questionWithOther = fqLogic.getFeedbackQuestion("MCQ Session", COURSE_ID, 3);
+        statistics = fqsLogic.getFeedbackQuestionStatistics(questionWithOther.getId());
+        assertEquals(1, statistics.numberOfResponses);
+        assertEquals(1, statistics.getCount("Other"));
+
+        ______TS("inconsistent statistics are detected");
+
+        frLogic.deleteFeedbackResponsesForCourse(COURSE_ID);
+
+        List<FeedbackQuestionAttributes> inconsistentQuestions =
+                fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MCQ Session", COURSE_ID);
+        assertEquals(3, inconsistentQuestions.size());
+
+        fqsLogic.rebuildFeedbackQuestionStatisticsForSession("MCQ Session", COURSE_ID);
+        assertTrue(fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MCQ Session", COURSE_ID).isEmpty());
+        assertTrue(fqsLogic.getFeedbackQuestionStatistics(question.getId()).isEmpty());
+    }
+
+    private void testUpdateStatisticsForResponseChanges() throws Exception {
+        prepareTestData();
+        fqsLogic.rebuildFeedbackQuestionStatisticsForSession("MSQ Session", COURSE_ID);
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion("MSQ Session", COURSE_ID, 1);
+        FeedbackQuestionStatisticsAttributes statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(3, statistics.numberOfResponses);
+        assertEquals(2, statistics.getCount("It's good"));
+        assertEquals(1, statistics.getCount("It's perfect"));
+
+        ______TS("updating a response moves its counts");
+
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(
+                question.getId(), "student2InCourse1@gmail.tmt", "student2InCourse1@gmail.tmt");
+        response.responseMetaData = new Text("{\"isOther\":false,\"answers\":[\"It's perfect\"],"
+                                             + "\"otherFieldContent\":\"\",\"questionType\":\"MSQ\"}");
+        frLogic.updateFeedbackResponse(response);
+
+        statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(3, statistics.numberOfResponses);
+        assertEquals(1, statistics.getCount("It's good"));
+        assertEquals(2, statistics.getCount("It's perfect"));
+
+        ______TS("deleting a response removes its counts");
+
+        frLogic.deleteFeedbackResponseAndCascade(response);
+
+        statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(2, statistics.numberOfResponses);
+        assertEquals(1, statistics.getCount("It's good"));
+        assertEquals(1, statistics.getCount("It's perfect"));
+
+        ______TS("creating a response adds its counts");
+
+        frLogic.createFeedbackResponse(response);
+
+        statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(3, statistics.numberOfResponses);
+        assertEquals(2, statistics.getCount("It's perfect"));
+        assertTrue(fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MSQ Session", COURSE_ID).isEmpty());
+
+        ______TS("deleting the responses of a student removes their counts");
+
+        frLogic.deleteFeedbackResponsesForStudentAndCascade(COURSE_ID, "student1InCourse1@gmail.tmt");
+
+        statistics = fqsLogic.getFeedbackQuestionStatistics(question.getId());
+        assertEquals(2, statistics.numberOfResponses);
+        assertEquals(0, statistics.getCount("It's good"));
+        assertEquals(1, statistics.getCount("It's perfect"));
+        assertTrue(fqsLogic.getFeedbackQuestionsWithInconsistentStatistics("MSQ Session", COURSE_ID).isEmpty());
+
+        ______TS("deleting the responses of a question clears its statistics");
+
+        frLogic.deleteFeedbackResponsesForQuestionAndCascade(question.getId(), true);
+        assertTrue(fqsLogic.getFeedbackQuestionStatistics(question.getId()).isEmpty());
+    }
+
+    private void testCreateAndDeleteStatisticsWithQuestion() throws Exception {
+        prepareTestData();
+
+        ______TS("statistics are created with the question");
+
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion("RUBRIC Session", COURSE_ID, 1);
+        fqLogic.deleteFeedbackQuestionCascade(question.getId());
+        assertNull(fqsLogic.getFeedbackQuestionStatistics(question.getId()));
+
+        question.setId(null);
+        question.questionNumber = 2;
+        fqLogic.createFeedbackQuestion(question);
+
+        FeedbackQuestionAttributes createdQuestion = fqLogic.getFeedbackQuestion("RUBRIC Session", COURSE_ID, 2);
+        FeedbackQuestionStatisticsAttributes statistics =
+                fqsLogic.getFeedbackQuestionStatistics(createdQuestion.getId());
+        assertTrue(statistics.isEmpty());
+
+        ______TS("statistics of questions whose statistics are not kept are not created");
+
+        FeedbackQuestionAttributes numScaleQuestion = fqLogic.getFeedbackQuestion("NUMSCALE Session", COURSE_ID, 1);
+        numScaleQuestion.setId(null);
+        numScaleQuestion.questionNumber = 3;
+        fqLogic.createFeedbackQuestion(numScaleQuestion);
+
+        FeedbackQuestionAttributes createdNumScaleQuestion =
+                fqLogic.getFeedbackQuestion("NUMSCALE Session", COURSE_ID, 3);
+        assertNull(fqsLogic.getFeedbackQuestionStatistics(createdNumScaleQuestion.getId()));
+
+        ______TS("statistics are deleted with the question");
+
+        fqLogic.deleteFeedbackQuestionCascade(createdQuestion.getId());
+        assertNull(fqsLogic.getFeedbackQuestionStatistics(createdQuestion.getId()));
+    }
+
+    private void testGetResultsWithStatisticsOnly() throws Exception {
+        prepareTestData();
+        fqsLogic.rebuildFeedbackQuestionStatisticsForSession("MCQ Session", COURSE_ID);
+        FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion("MCQ Session", COURSE_ID, 1);
+
+        ______TS("responses of a question are loaded if they are within the range");
+
+        FeedbackSessionResultsBundle bundle = fsLogic.getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+                "MCQ Session", COURSE_ID, "instructor1@course1.tmt", question.getId(), 2);
+        assertTrue(bundle.isComplete);
+        assertEquals(2, bundle.responses.size());
+        assertFalse(bundle.isStatisticsOnly(question));
+        assertEquals(2, bundle.getQuestionStatistics(question, bundle.responses).numberOfResponses);
+
+        ______TS("only the statistics of a question are loaded if it has more responses than the range");
+
+        bundle = fsLogic.getFeedbackSessionResultsForInstructorFromQuestionWithinRange(
+                "MCQ Session", COURSE_ID, "instructor1@course1.tmt", question.getId(), 1);
+        assertFalse(bundle.isComplete);
+        assertTrue(bundle.responses.isEmpty());
+        assertTrue(bundle.isStatisticsOnly(question));
+        assertEquals(2, bundle.getQuestionStatistics(question, bundle.responses).numberOfResponses);
+    }
+
+}
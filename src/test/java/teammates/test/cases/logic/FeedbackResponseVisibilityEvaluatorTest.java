@@ -0,0 +1,140 @@
+package teammates.test.cases.logic;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.CourseRoster;
+import teammates.common.datatransfer.FeedbackParticipantType;
+import teammates.common.datatransfer.UserRole;
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.logic.core.CoursesLogic;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackResponseVisibilityEvaluator;
+import teammates.logic.core.FeedbackResponsesLogic;
+
+public class FeedbackResponseVisibilityEvaluatorTest extends BaseLogicTest {
+
+    private static final CoursesLogic coursesLogic = CoursesLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+    private static final FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+
+    @Test
+    public void testIsNameVisible() throws Exception {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), courseId);
+        List<FeedbackResponseAttributes> responses =
+                frLogic.getFeedbackResponsesForSession(session.getFeedbackSessionName(), courseId);
+
+        ______TS("same name visibility as FeedbackResponsesLogic for every user and response");
+
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (student.course.equals(courseId)) {
+                verifyNameVisibility(questions, responses, student.email, UserRole.STUDENT, roster);
+            }
+        }
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
+            if (instructor.courseId.equals(courseId)) {
+                verifyNameVisibility(questions, responses, instructor.email, UserRole.INSTRUCTOR, roster);
+            }
+        }
+    }
+
+    @Test
+    public void testIsResponseVisible() {
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        String courseId = session.getCourseId();
+        CourseRoster roster = coursesLogic.getCourseRoster(courseId);
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), courseId, 1);
+        FeedbackResponseAttributes response = frLogic.getFeedbackResponse(
+                question.getId(), student1.email, student1.email);
+
+        ______TS("response visible to instructors only");
+
+        assertTrue(getEvaluator(session, instructor.email, UserRole.INSTRUCTOR, null, instructor, roster)
+                .isResponseVisible(response, question));
+        assertTrue(getEvaluator(session, student1.email, UserRole.STUDENT, student1, null, roster)
+                .isResponseVisible(response, question));
+        assertFalse(getEvaluator(session, student2.email, UserRole.STUDENT, student2, null, roster)
+                .isResponseVisible(response, question));
+
+        ______TS("response visible to students");
+
+        FeedbackQuestionAttributes questionVisibleToStudents = question.getCopy();
+        questionVisibleToStudents.showResponsesTo = new ArrayList<FeedbackParticipantType>();
+        questionVisibleToStudents.showResponsesTo.add(FeedbackParticipantType.STUDENTS);
+
+        assertTrue(getEvaluator(session, student2.email, UserRole.STUDENT, student2, null, roster)
+                .isResponseVisible(response, questionVisibleToStudents));
+        assertFalse(getEvaluator(session, instructor.email, UserRole.INSTRUCTOR, null, instructor, roster)
+                .isResponseVisible(response, questionVisibleToStudents));
+
+        ______TS("instructor not allowed to view the section of the response");
+
+        InstructorAttributes restrictedInstructor = instructor.getCopy();
+        restrictedInstructor.privileges.updatePrivilege(
+                response.giverSection, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+
+        assertFalse(getEvaluator(session, instructor.email, UserRole.INSTRUCTOR, null, restrictedInstructor, roster)
+                .isResponseVisible(response, question));
+    }
+
+    private void verifyNameVisibility(List<FeedbackQuestionAttributes> questions,
+                                      List<FeedbackResponseAttributes> responses,
+                                      String userEmail, UserRole role, CourseRoster roster) {
+        FeedbackResponseVisibilityEvaluator evaluator = new FeedbackResponseVisibilityEvaluator(
+                responses.get(0).feedbackSessionName, userEmail, role, null, null, null, roster);
+        Map<String, FeedbackQuestionAttributes> questionsById = getQuestionsById(questions);
+        for (FeedbackResponseAttributes response : responses) {
+            FeedbackQuestionAttributes question = questionsById.get(response.feedbackQuestionId);
+            for (boolean isGiverName : new boolean[] {true, false}) {
+                assertEquals(response.getId() + " seen by " + userEmail,
+                             frLogic.isNameVisibleToUser(question, response, userEmail, role, isGiverName, roster),
+                             evaluator.isNameVisible(response, question, isGiverName));
+            }
+        }
+    }
+
+    private Map<String, FeedbackQuestionAttributes> getQuestionsById(List<FeedbackQuestionAttributes> questions) {
+        Map<String, FeedbackQuestionAttributes> questionsById = new HashMap<String, FeedbackQuestionAttributes>();
+        for (FeedbackQuestionAttributes question : questions) {
+            questionsById.put(question.getId(), question);
+        }
+        return questionsById;
+    }
+
+    private FeedbackResponseVisibilityEvaluator getEvaluator(FeedbackSessionAttributes session, String userEmail,
+                                                             UserRole role, StudentAttributes student,
+                                                             InstructorAttributes instructor, CourseRoster roster) {
+        Set<String> studentsEmailInTeam = null;
+        if (student != null) {
+            studentsEmailInTeam = new HashSet<String>();
+            for (StudentAttributes studentInCourse : dataBundle.students.values()) {
+                if (studentInCourse.course.equals(student.course) && studentInCourse.team.equals(student.team)) {
+                    studentsEmailInTeam.add(studentInCourse.email);
+                }
+            }
+        }
+        return new FeedbackResponseVisibilityEvaluator(session.getFeedbackSessionName(), userEmail, role,
+                                                       student, studentsEmailInTeam, instructor, roster);
+    }
+
+}
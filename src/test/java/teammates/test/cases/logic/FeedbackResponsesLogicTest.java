@@ -22,6 +22,7 @@ import teammates.common.datatransfer.UserRole;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
+import teammates.common.exception.TeammatesException;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
@@ -60,6 +61,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testUpdateFeedbackResponsesForChangingEmail();
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
+        testSaveFeedbackResponses();
         testDeleteFeedbackResponsesForCourse();
     }
 
@@ -353,6 +355,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
     private int getResponseRate(String sessionName, String courseId) {
         FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
+        fsLogic.loadRespondents(sessionFromDataStore);
         return sessionFromDataStore.getRespondingInstructorList().size()
                 + sessionFromDataStore.getRespondingStudentList().size();
     }
@@ -634,6 +637,117 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertEquals(remainingResponses.size(), 0);
     }
 
+    private void testSaveFeedbackResponses() throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore("qn2InSession1InCourse1");
+        FeedbackResponseAttributes firstResponse = new FeedbackResponseAttributes(
+                question.feedbackSessionName, question.courseId, question.getId(), question.questionType,
+                "student3InCourse1@gmail.tmt", "Section 1", "student5InCourse1@gmail.tmt", "Section 2",
+                new Text("First batched response"));
+        FeedbackResponseAttributes secondResponse = new FeedbackResponseAttributes(
+                question.feedbackSessionName, question.courseId, question.getId(), question.questionType,
+                "student3InCourse1@gmail.tmt", "Section 1", "student1InCourse1@gmail.tmt", "Section 1",
+                new Text("Second batched response"));
+
+        ______TS("success: new responses are created");
+
+        List<FeedbackResponseAttributes> responsesToSave = new ArrayList<FeedbackResponseAttributes>();
+        responsesToSave.add(firstResponse);
+        responsesToSave.add(secondResponse);
+        frLogic.saveFeedbackResponses(responsesToSave, new ArrayList<FeedbackResponseAttributes>());
+
+        FeedbackResponseAttributes createdFirstResponse = frLogic.getFeedbackResponse(
+                question.getId(), firstResponse.giver, firstResponse.recipient);
+        FeedbackResponseAttributes createdSecondResponse = frLogic.getFeedbackResponse(
+                question.getId(), secondResponse.giver, secondResponse.recipient);
+        assertEquals("First batched response", createdFirstResponse.responseMetaData.getValue());
+        assertEquals("Second batched response", createdSecondResponse.responseMetaData.getValue());
+
+        ______TS("success: existing responses are updated and deleted in the same batch");
+
+        createdFirstResponse.responseMetaData = new Text("Updated batched response");
+        FeedbackResponseAttributes responseWithoutId = new FeedbackResponseAttributes(secondResponse);
+        responseWithoutId.responseMetaData = new Text("Updated response without id");
+        responsesToSave.clear();
+        responsesToSave.add(createdFirstResponse);
+
+        List<FeedbackResponseAttributes> responsesToDelete = new ArrayList<FeedbackResponseAttributes>();
+        responsesToDelete.add(createdSecondResponse);
+        frLogic.saveFeedbackResponses(responsesToSave, responsesToDelete);
+
+        assertEquals("Updated batched response", frLogic.getFeedbackResponse(createdFirstResponse.getId())
+                                                        .responseMetaData.getValue());
+        assertNull(frLogic.getFeedbackResponse(createdSecondResponse.getId()));
+
+        ______TS("success: response without id is created again after being deleted");
+
+        responsesToSave.clear();
+        responsesToSave.add(responseWithoutId);
+        frLogic.saveFeedbackResponses(responsesToSave, new ArrayList<FeedbackResponseAttributes>());
+
+        assertEquals("Updated response without id",
+                     frLogic.getFeedbackResponse(question.getId(), responseWithoutId.giver, responseWithoutId.recipient)
+                            .responseMetaData.getValue());
+
+        ______TS("failure: update of non-existent response, nothing is saved");
+
+        FeedbackResponseAttributes nonExistentResponse = new FeedbackResponseAttributes(createdFirstResponse);
+        nonExistentResponse.setId("nonExistentId");
+        createdFirstResponse.responseMetaData = new Text("Should not be saved");
+        responsesToSave.clear();
+        responsesToSave.add(createdFirstResponse);
+        responsesToSave.add(nonExistentResponse);
+
+        try {
+            frLogic.saveFeedbackResponses(responsesToSave, new ArrayList<FeedbackResponseAttributes>());
+            signalFailureToDetectException("Should have detected that this response does not exist");
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("Trying to update a feedback response that does not exist.", e.getMessage());
+        }
+        assertEquals("Updated batched response", frLogic.getFeedbackResponse(createdFirstResponse.getId())
+                                                        .responseMetaData.getValue());
+
+        ______TS("success: changed recipient and new response to the same recipient are both saved");
+
+        FeedbackResponseAttributes movedResponse = new FeedbackResponseAttributes(createdFirstResponse);
+        movedResponse.recipient = "student2InCourse1@gmail.tmt";
+        movedResponse.recipientSection = "Section 1";
+        movedResponse.responseMetaData = new Text("Moved response");
+        FeedbackResponseAttributes newResponseToSameRecipient = new FeedbackResponseAttributes(
+                question.feedbackSessionName, question.courseId, question.getId(), question.questionType,
+                "student3InCourse1@gmail.tmt", "Section 1", "student2InCourse1@gmail.tmt", "Section 1",
+                new Text("New response to the same recipient"));
+        responsesToSave.clear();
+        responsesToSave.add(movedResponse);
+        responsesToSave.add(newResponseToSameRecipient);
+
+        assertTrue(frLogic.saveFeedbackResponses(responsesToSave, new ArrayList<FeedbackResponseAttributes>())
+                          .isEmpty());
+        assertNull(frLogic.getFeedbackResponse(createdFirstResponse.getId()));
+        assertEquals("New response to the same recipient",
+                     frLogic.getFeedbackResponse(question.getId(), "student3InCourse1@gmail.tmt",
+                                                 "student2InCourse1@gmail.tmt")
+                            .responseMetaData.getValue());
+
+        ______TS("failure: invalid response is reported, the other responses are still saved");
+
+        FeedbackResponseAttributes validResponse = frLogic.getFeedbackResponse(
+                question.getId(), responseWithoutId.giver, responseWithoutId.recipient);
+        validResponse.responseMetaData = new Text("Saved despite an invalid response");
+        FeedbackResponseAttributes invalidResponse = new FeedbackResponseAttributes(firstResponse);
+        invalidResponse.courseId = "invalid course id";
+        responsesToSave.clear();
+        responsesToSave.add(invalidResponse);
+        responsesToSave.add(validResponse);
+
+        List<TeammatesException> errors =
+                frLogic.saveFeedbackResponses(responsesToSave, new ArrayList<FeedbackResponseAttributes>());
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof InvalidParametersException);
+        AssertHelper.assertContains("invalid course id", errors.get(0).getMessage());
+        assertEquals("Saved despite an invalid response",
+                     frLogic.getFeedbackResponse(validResponse.getId()).responseMetaData.getValue());
+    }
+
     private void testDeleteFeedbackResponsesForCourse() {
         ______TS("standard delete");
 
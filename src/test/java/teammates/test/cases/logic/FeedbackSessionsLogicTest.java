@@ -1,5 +1,6 @@
 package teammates.test.cases.logic;
 
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -18,7 +19,9 @@ import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.FeedbackSessionCompletionStatus;
 import teammates.common.datatransfer.FeedbackSessionDetailsBundle;
 import teammates.common.datatransfer.FeedbackSessionQuestionsBundle;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
@@ -35,6 +38,8 @@ import teammates.common.util.TimeHelper;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 
 import com.google.appengine.api.datastore.Text;
@@ -43,6 +48,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -62,7 +69,9 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testGetFeedbackSessionQuestionsForStudent();
         testGetFeedbackSessionQuestionsForInstructor();
         testGetFeedbackSessionResultsForUser();
+        testGetFeedbackSessionResultsOfStudentForInstructor();
         testGetFeedbackSessionResultsSummaryAsCsv();
+        testWriteFeedbackSessionResultsSummaryAsCsv();
         testIsFeedbackSessionViewableToStudents();
 
         testCreateAndDeleteFeedbackSession();
@@ -75,6 +84,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetFeedbackSessionCompletionStatus();
+        testGetFeedbackSessionFullCompletionStatusForStudents();
 
         testDeleteFeedbackSessionsForCourse();
     }
@@ -905,6 +916,23 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         //Instructor should still see all questions
         assertEquals(8, results.questions.size());
 
+        ______TS("instructor views the results page by page");
+
+        List<FeedbackResponseAttributes> pagedResponses = new ArrayList<FeedbackResponseAttributes>();
+        FeedbackSessionResultsBundle resultsPage = fsLogic.getFeedbackSessionResultsForInstructorPageFromView(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                null, 3, Const.FeedbackSessionResults.RGQ_SORT_TYPE);
+        assertFalse(resultsPage.isComplete);
+        pagedResponses.addAll(resultsPage.responses);
+        while (resultsPage.nextPageCursor != null) {
+            resultsPage = fsLogic.getFeedbackSessionResultsForInstructorPageFromView(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                    resultsPage.nextPageCursor, 3, Const.FeedbackSessionResults.RGQ_SORT_TYPE);
+            assertFalse(resultsPage.isComplete);
+            pagedResponses.addAll(resultsPage.responses);
+        }
+        AssertHelper.assertSameContentIgnoreOrder(results.responses, pagedResponses);
+
         // Test the user email-name maps used for display purposes
         mapString = results.emailNameTable.toString();
         expectedStrings.clear();
@@ -1119,6 +1147,82 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         //TODO: check for cases where a person is both a student and an instructor
     }
 
+    private void testGetFeedbackSessionResultsOfStudentForInstructor() throws Exception {
+        DataBundle responseBundle = loadDataBundle("/FeedbackSessionResultsTest.json");
+        removeAndRestoreDataBundle(responseBundle);
+
+        ______TS("typical case: same responses of the student as in the results of the session");
+
+        FeedbackSessionAttributes session = responseBundle.feedbackSessions.get("standard.session");
+        InstructorAttributes instructor = responseBundle.instructors.get("instructor1OfCourse1");
+
+        for (String studentKey : new String[] {"student1InCourse1", "student2InCourse1", "student4InCourse1"}) {
+            StudentAttributes student = responseBundle.students.get(studentKey);
+
+            FeedbackSessionResultsBundle allResults = fsLogic.getFeedbackSessionResultsForInstructor(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email);
+            FeedbackSessionResultsBundle studentResults = fsLogic.getFeedbackSessionResultsOfStudentForInstructor(
+                    session.getFeedbackSessionName(), session.getCourseId(), student.email, instructor.email);
+
+            String studentName = allResults.appendTeamNameToName(student.name, student.team);
+            assertEquals(getResponseIdsByPerson(allResults.getResponsesSortedByRecipient().get(studentName)),
+                         getResponseIdsByPerson(studentResults.getResponsesSortedByRecipient().get(studentName)));
+            assertEquals(getResponseIdsByPerson(allResults.getResponsesSortedByGiver().get(studentName)),
+                         getResponseIdsByPerson(studentResults.getResponsesSortedByGiver().get(studentName)));
+            for (FeedbackResponseAttributes response : studentResults.responses) {
+                assertEquals(getCommentIds(allResults.responseComments.get(response.getId())),
+                             getCommentIds(studentResults.responseComments.get(response.getId())));
+            }
+        }
+
+        ______TS("private session not created by the instructor: no responses");
+
+        session = responseBundle.feedbackSessions.get("private.session");
+        instructor = responseBundle.instructors.get("instructor2OfCourse1");
+        FeedbackSessionResultsBundle results = fsLogic.getFeedbackSessionResultsOfStudentForInstructor(
+                session.getFeedbackSessionName(), session.getCourseId(),
+                responseBundle.students.get("student1InCourse1").email, instructor.email);
+        assertTrue(results.responses.isEmpty());
+
+        ______TS("failure: non-existent session");
+
+        try {
+            fsLogic.getFeedbackSessionResultsOfStudentForInstructor(
+                    "non-existent session", session.getCourseId(), "student@email.tmt", instructor.email);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to view a non-existent feedback session: "
+                         + session.getCourseId() + "/" + "non-existent session",
+                         edne.getMessage());
+        }
+    }
+
+    private Map<String, List<String>> getResponseIdsByPerson(
+            Map<String, List<FeedbackResponseAttributes>> responsesByPerson) {
+        Map<String, List<String>> responseIdsByPerson = new HashMap<String, List<String>>();
+        if (responsesByPerson == null) {
+            return responseIdsByPerson;
+        }
+        for (Map.Entry<String, List<FeedbackResponseAttributes>> entry : responsesByPerson.entrySet()) {
+            List<String> responseIds = new ArrayList<String>();
+            for (FeedbackResponseAttributes response : entry.getValue()) {
+                responseIds.add(response.getId());
+            }
+            responseIdsByPerson.put(entry.getKey(), responseIds);
+        }
+        return responseIdsByPerson;
+    }
+
+    private List<Long> getCommentIds(List<FeedbackResponseCommentAttributes> comments) {
+        List<Long> commentIds = new ArrayList<Long>();
+        if (comments != null) {
+            for (FeedbackResponseCommentAttributes comment : comments) {
+                commentIds.add(comment.getId());
+            }
+        }
+        return commentIds;
+    }
+
     private void testGetFeedbackSessionResultsSummaryAsCsv() throws Exception {
 
         ______TS("typical case: get all results");
@@ -1824,6 +1928,77 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testWriteFeedbackSessionResultsSummaryAsCsv() throws Exception {
+
+        ______TS("written results are the same as the results generated at once");
+
+        for (FeedbackSessionAttributes session : dataBundle.feedbackSessions.values()) {
+            InstructorAttributes instructor = getInstructorOfCourse(session.getCourseId());
+            if (session.isPrivateSession()) {
+                continue;
+            }
+
+            assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                                 session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                                 null, null, true, true),
+                         writeFeedbackSessionResultsSummaryAsCsv(session, instructor, null, null, null, true, true));
+            assertEquals(fsLogic.getFeedbackSessionResultsSummaryInSectionAsCsv(
+                                 session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                                 "Section 1", null, null, false, false),
+                         writeFeedbackSessionResultsSummaryAsCsv(session, instructor, "Section 1", null, null,
+                                                                 false, false));
+        }
+
+        ______TS("written results of a question and of questions matching a filter");
+
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        FeedbackQuestionAttributes question =
+                fqLogic.getFeedbackQuestion(session.getFeedbackSessionName(), session.getCourseId(), 2);
+
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                             session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                             question.getId(), null, true, true),
+                     writeFeedbackSessionResultsSummaryAsCsv(session, instructor, null, question.getId(), null,
+                                                             true, true));
+        assertEquals(fsLogic.getFeedbackSessionResultsSummaryAsCsv(
+                             session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                             null, "My comments", true, true),
+                     writeFeedbackSessionResultsSummaryAsCsv(session, instructor, null, null, "My comments",
+                                                             true, true));
+
+        ______TS("Non-existent Course/Session");
+
+        try {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv("non.existent", "no course",
+                    instructor.email, null, null, null, true, true, new StringWriter());
+            signalFailureToDetectException("Failed to detect non-existent feedback session.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback session: "
+                         + "no course" + "/" + "non.existent",
+                         e.getMessage());
+        }
+    }
+
+    private String writeFeedbackSessionResultsSummaryAsCsv(
+            FeedbackSessionAttributes session, InstructorAttributes instructor, String section, String questionId,
+            String filterText, boolean isMissingResponsesShown, boolean isStatsShown) throws Exception {
+        StringWriter writer = new StringWriter();
+        fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                section, questionId, filterText, isMissingResponsesShown, isStatsShown, writer);
+        return writer.toString();
+    }
+
+    private InstructorAttributes getInstructorOfCourse(String courseId) {
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
+            if (instructor.courseId.equals(courseId)) {
+                return instructor;
+            }
+        }
+        return null;
+    }
+
     private String getStudentAnonEmail(DataBundle dataBundle, String studentKey) {
         return FeedbackSessionResultsBundle.getAnonEmail(FeedbackParticipantType.STUDENTS,
                                                          dataBundle.students.get(studentKey).name);
@@ -2013,6 +2188,96 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetFeedbackSessionCompletionStatus() throws Exception {
+
+        ______TS("success: matches completion of each user");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        fs = fsLogic.getFeedbackSession(fs.getFeedbackSessionName(), fs.getCourseId());
+        FeedbackSessionCompletionStatus status = fsLogic.getFeedbackSessionCompletionStatus(fs);
+
+        List<String> expectedStudents = new ArrayList<String>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email)) {
+                expectedStudents.add(student.email);
+            }
+        }
+        List<String> expectedInstructors = new ArrayList<String>();
+        for (InstructorAttributes instructor : instructorsLogic.getInstructorsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionCompletedByInstructor(fs, instructor.email)) {
+                expectedInstructors.add(instructor.email);
+            }
+        }
+
+        assertFalse(expectedStudents.isEmpty());
+        assertFalse(expectedInstructors.isEmpty());
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudents, getStudentEmails(status.getStudentsYetToComplete()));
+        AssertHelper.assertSameContentIgnoreOrder(expectedInstructors,
+                                                  getInstructorEmails(status.getInstructorsYetToComplete()));
+
+        ______TS("success: empty session");
+
+        fs = dataBundle.feedbackSessions.get("empty.session");
+        status = fsLogic.getFeedbackSessionCompletionStatus(fs);
+        assertTrue(status.getStudentsYetToComplete().isEmpty());
+        assertTrue(status.getInstructorsYetToComplete().isEmpty());
+
+        ______TS("failure: non-existent session");
+
+        fs = getNewFeedbackSession();
+        fs.setFeedbackSessionName("non-existent session");
+        try {
+            fsLogic.getFeedbackSessionCompletionStatus(fs);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to get questions for a feedback session that does not exist.", e.getMessage());
+        }
+    }
+
+    private void testGetFeedbackSessionFullCompletionStatusForStudents() throws Exception {
+
+        ______TS("success: matches full completion of each student");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        FeedbackSessionCompletionStatus status = fsLogic.getFeedbackSessionFullCompletionStatusForStudents(fs);
+
+        List<String> expectedStudents = new ArrayList<String>();
+        for (StudentAttributes student : studentsLogic.getStudentsForCourse(fs.getCourseId())) {
+            if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(fs.getFeedbackSessionName(), fs.getCourseId(),
+                                                                  student.email)) {
+                expectedStudents.add(student.email);
+            }
+        }
+
+        List<String> actualStudents = getStudentEmails(status.getStudentsYetToComplete());
+        assertTrue(actualStudents.contains(dataBundle.students.get("student3InCourse1").email));
+        assertFalse(actualStudents.contains(dataBundle.students.get("student1InCourse1").email));
+        AssertHelper.assertSameContentIgnoreOrder(expectedStudents, actualStudents);
+        assertTrue(status.getInstructorsYetToComplete().isEmpty());
+
+        ______TS("success: session without questions for students");
+
+        fs = dataBundle.feedbackSessions.get("empty.session");
+        status = fsLogic.getFeedbackSessionFullCompletionStatusForStudents(fs);
+        assertTrue(status.getStudentsYetToComplete().isEmpty());
+    }
+
+    private static List<String> getStudentEmails(List<StudentAttributes> students) {
+        List<String> emails = new ArrayList<String>();
+        for (StudentAttributes student : students) {
+            emails.add(student.email);
+        }
+        return emails;
+    }
+
+    private static List<String> getInstructorEmails(List<InstructorAttributes> instructors) {
+        List<String> emails = new ArrayList<String>();
+        for (InstructorAttributes instructor : instructors) {
+            emails.add(instructor.email);
+        }
+        return emails;
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         FeedbackSessionAttributes fsa = new FeedbackSessionAttributes();
         fsa.setFeedbackSessionType(FeedbackSessionType.STANDARD);
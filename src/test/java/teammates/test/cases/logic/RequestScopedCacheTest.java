@@ -0,0 +1,95 @@
+package teammates.test.cases.logic;
+
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.FeedbackQuestionsLogic;
+import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.RequestScopedCache;
+import teammates.logic.core.StudentsLogic;
+
+public class RequestScopedCacheTest extends BaseLogicTest {
+
+    private static final RequestScopedCache requestCache = RequestScopedCache.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final FeedbackSessionsLogic fsLogic = FeedbackSessionsLogic.inst();
+    private static final FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
+
+    @AfterMethod
+    public void methodTearDown() {
+        requestCache.clear();
+    }
+
+    @Test
+    public void testCachingOutsideRequest() {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+
+        ______TS("nothing is cached before the request starts");
+
+        studentsLogic.getStudentsForCourse(student.course);
+        studentsLogic.getStudentsForCourse(student.course);
+        assertEquals(0, requestCache.getHitCount());
+        assertEquals(0, requestCache.getMissCount());
+    }
+
+    @Test
+    public void testCachingWithinRequest() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        FeedbackSessionAttributes session = dataBundle.feedbackSessions.get("session1InCourse1");
+        requestCache.start();
+
+        ______TS("repeated reads are served from the cache");
+
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(student.course);
+        assertEquals(students.toString(), studentsLogic.getStudentsForCourse(student.course).toString());
+        fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(), session.getCourseId());
+        assertEquals(3, requestCache.getHitCount());
+        assertEquals(3, requestCache.getMissCount());
+
+        ______TS("modifying a returned value does not affect the cache");
+
+        students.get(0).name = "Modified Name";
+        questions.clear();
+        assertFalse(studentsLogic.getStudentsForCourse(student.course).get(0).name.equals("Modified Name"));
+        assertFalse(fqLogic.getFeedbackQuestionsForSession(session.getFeedbackSessionName(),
+                                                           session.getCourseId()).isEmpty());
+
+        ______TS("writing to the course invalidates its cached values");
+
+        FeedbackSessionAttributes cachedSession =
+                fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+        StudentAttributes updatedStudent = studentsLogic.getStudentForEmail(student.course, student.email);
+        String originalComments = updatedStudent.comments;
+        updatedStudent.comments = "Updated comments";
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, updatedStudent);
+
+        int missCount = requestCache.getMissCount();
+        for (StudentAttributes studentInCourse : studentsLogic.getStudentsForCourse(student.course)) {
+            if (studentInCourse.email.equals(student.email)) {
+                assertEquals("Updated comments", studentInCourse.comments);
+            }
+        }
+        fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId());
+        assertEquals(missCount + 2, requestCache.getMissCount());
+        assertEquals(cachedSession.toString(),
+                     fsLogic.getFeedbackSession(session.getFeedbackSessionName(), session.getCourseId()).toString());
+
+        updatedStudent.comments = originalComments;
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, updatedStudent);
+
+        ______TS("clearing the cache stops caching");
+
+        requestCache.clear();
+        studentsLogic.getStudentsForCourse(student.course);
+        assertEquals(0, requestCache.getHitCount());
+        assertEquals(0, requestCache.getMissCount());
+    }
+
+}
@@ -636,7 +636,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         String lines = headerLine + Const.EOL + line0 + Const.EOL + line1 + Const.EOL + line2 + Const.EOL
                     + "  \t \t \t \t           " + Const.EOL + line3 + Const.EOL + Const.EOL + line4
                     + Const.EOL + "    " + Const.EOL + Const.EOL;
-        CourseEnrollmentResult enrollResults = studentsLogic.enrollStudentsWithoutDocument(lines, courseIdForEnrollTest);
+        CourseEnrollmentResult enrollResults = studentsLogic.enrollStudents(lines, courseIdForEnrollTest);
 
         StudentAttributesFactory saf = new StudentAttributesFactory(headerLine);
         assertEquals(5, enrollResults.studentList.size());
@@ -658,7 +658,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         String modifiedLine2 = "t3|modified name|e3@g|c3";
         String line5 = "t6|n6|e6@g|c6";
         lines = headerLine + Const.EOL + line0 + Const.EOL + modifiedLine2 + Const.EOL + line1 + Const.EOL + line5;
-        enrollResults = studentsLogic.enrollStudentsWithoutDocument(lines, courseIdForEnrollTest);
+        enrollResults = studentsLogic.enrollStudents(lines, courseIdForEnrollTest);
         assertEquals(6, enrollResults.studentList.size());
         assertEquals(6, studentsLogic.getStudentsForCourse(courseIdForEnrollTest).size());
         verifyEnrollmentResultForStudent(saf.makeStudent(line0, courseIdForEnrollTest),
@@ -681,7 +681,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         lines = headerLine + Const.EOL + "t7|n7|e7@g|c7" + Const.EOL + incorrectLine + Const.EOL + line2 + Const.EOL
                 + line3;
         try {
-            enrollResults = studentsLogic.enrollStudentsWithoutDocument(lines, courseIdForEnrollTest);
+            enrollResults = studentsLogic.enrollStudents(lines, courseIdForEnrollTest);
             signalFailureToDetectException("Did not throw exception for incorrectly formatted line");
         } catch (EnrollException e) {
             assertTrue(e.getMessage().contains(incorrectLine));
@@ -691,7 +691,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         ______TS("null parameters");
 
         try {
-            studentsLogic.enrollStudentsWithoutDocument("a|b|c|d", null);
+            studentsLogic.enrollStudents("a|b|c|d", null);
             signalFailureToDetectException();
         } catch (AssertionError ae) {
             assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
@@ -706,17 +706,17 @@ public class StudentsLogicTest extends BaseLogicTest {
         coursesLogic.createCourseAndInstructor("tes.instructor", "tes.course", "TES Course", "UTC");
 
         String line = headerLine + Const.EOL + "t8|n8|e8@g|c1";
-        enrollResults = studentsLogic.enrollStudentsWithoutDocument(line, "tes.course");
+        enrollResults = studentsLogic.enrollStudents(line, "tes.course");
         assertEquals(1, enrollResults.studentList.size());
         assertEquals(StudentUpdateStatus.NEW, enrollResults.studentList.get(0).updateStatus);
 
         line = headerLine + Const.EOL + "t8|n8a|e8@g|c1";
-        enrollResults = studentsLogic.enrollStudentsWithoutDocument(line, "tes.course");
+        enrollResults = studentsLogic.enrollStudents(line, "tes.course");
         assertEquals(1, enrollResults.studentList.size());
         assertEquals(StudentUpdateStatus.MODIFIED, enrollResults.studentList.get(0).updateStatus);
 
         line = headerLine + Const.EOL + "t8|n8a|e8@g|c1";
-        enrollResults = studentsLogic.enrollStudentsWithoutDocument(line, "tes.course");
+        enrollResults = studentsLogic.enrollStudents(line, "tes.course");
         assertEquals(1, enrollResults.studentList.size());
         assertEquals(StudentUpdateStatus.UNMODIFIED, enrollResults.studentList.get(0).updateStatus);
 
@@ -726,7 +726,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         String lineT10 = "t10|n10|e9@g|c10";
         lines = headerLine + Const.EOL + lineT9 + Const.EOL + lineT10;
         try {
-            studentsLogic.enrollStudentsWithoutDocument(lines, "tes.course");
+            studentsLogic.enrollStudents(lines, "tes.course");
         } catch (EnrollException e) {
             assertTrue(e.getMessage().contains(lineT10));
             AssertHelper.assertContains("Same email address as the student in line \"" + lineT9 + "\"", e.getMessage());
@@ -737,7 +737,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         String enrollLines = headerLine + Const.EOL;
         String invalidCourseId = "invalidCourseId";
         try {
-            studentsLogic.enrollStudentsWithoutDocument(enrollLines, invalidCourseId);
+            studentsLogic.enrollStudents(enrollLines, invalidCourseId);
             signalFailureToDetectException();
         } catch (EntityDoesNotExistException e) {
             ignoreExpectedException();
@@ -746,7 +746,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         ______TS("empty enroll line");
 
         try {
-            studentsLogic.enrollStudentsWithoutDocument("", courseIdForEnrollTest);
+            studentsLogic.enrollStudents("", courseIdForEnrollTest);
             signalFailureToDetectException();
         } catch (EnrollException e) {
             ignoreExpectedException();
@@ -756,7 +756,7 @@ public class StudentsLogicTest extends BaseLogicTest {
 
         enrollLines = headerLine + Const.EOL + "invalidline0\ninvalidline1\n";
         try {
-            studentsLogic.enrollStudentsWithoutDocument(enrollLines, courseIdForEnrollTest);
+            studentsLogic.enrollStudents(enrollLines, courseIdForEnrollTest);
             signalFailureToDetectException();
         } catch (EnrollException e) {
             ignoreExpectedException();
@@ -1096,9 +1096,10 @@ public class StudentsLogicTest extends BaseLogicTest {
     }
 
     private static StudentEnrollDetails enrollStudent(StudentAttributes student) throws Exception {
-        return (StudentEnrollDetails) invokeMethod(StudentsLogic.class, "enrollStudent",
-                                                   new Class<?>[] { StudentAttributes.class, Boolean.class },
-                                                   StudentsLogic.inst(), new Object[] { student, false });
+        String enrollLines = "Section | Team | Name | Email | Comments" + Const.EOL
+                             + student.section + " | " + student.team + " | " + student.name + " | "
+                             + student.email + " | " + student.comments;
+        return StudentsLogic.inst().enrollStudents(enrollLines, student.course).enrollmentList.get(0);
     }
 
     @AfterClass
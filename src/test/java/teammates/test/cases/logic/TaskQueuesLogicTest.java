@@ -1,6 +1,8 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.testng.annotations.BeforeTest;
@@ -92,4 +94,50 @@ public class TaskQueuesLogicTest extends BaseLogicTest {
 
     }
 
+    @Test
+    public void testAddTasks() {
+
+        MockTaskQueueCallback.resetTaskCount();
+
+        ______TS("add many tasks for different queues in bulk, in more than one request");
+
+        List<TaskWrapper> tasks = new ArrayList<TaskWrapper>();
+        for (int i = 0; i < 150; i++) {
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, "/workerUrl", new HashMap<String, String[]>()));
+        }
+        tasks.add(new TaskWrapper(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, "/workerUrl",
+                                  new HashMap<String, String[]>()));
+        assertTrue(taskQueuesLogic.addTasks(tasks).isEmpty());
+        waitForTaskCount(151);
+
+        MockTaskQueueCallback.resetTaskCount();
+
+        ______TS("add tasks in bulk where one task is too large");
+
+        tasks = new ArrayList<TaskWrapper>();
+        for (int i = 0; i < 5; i++) {
+            tasks.add(new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, "/workerUrl", new HashMap<String, String[]>()));
+        }
+        Map<String, String[]> largeParamMap = new HashMap<String, String[]>();
+        largeParamMap.put("content", new String[] { new String(new char[200 * 1024]).replace('\0', 'a') });
+        TaskWrapper largeTask = new TaskWrapper(TaskQueue.SEND_EMAIL_QUEUE_NAME, "/workerUrl", largeParamMap);
+        tasks.add(2, largeTask);
+
+        List<TaskWrapper> failedTasks = taskQueuesLogic.addTasks(tasks);
+        assertEquals(1, failedTasks.size());
+        assertEquals(largeTask, failedTasks.get(0));
+        waitForTaskCount(5); // the other tasks are added once each
+    }
+
+    /**
+     * Waits until {@code expectedTaskCount} tasks are run, then verifies that no more tasks are run.
+     */
+    private void waitForTaskCount(int expectedTaskCount) {
+        for (int i = 0; i < 20 && MockTaskQueueCallback.taskCount < expectedTaskCount; i++) {
+            ThreadHelper.waitFor(500);
+        }
+        ThreadHelper.waitFor(500);
+        assertEquals(expectedTaskCount, MockTaskQueueCallback.taskCount);
+    }
+
 }
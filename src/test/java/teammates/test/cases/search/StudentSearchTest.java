@@ -21,7 +21,7 @@ import teammates.test.driver.AssertHelper;
 public class StudentSearchTest extends BaseSearchTest {
 
     @Test
-    public void allTests() {
+    public void allTests() throws Exception {
 
         StudentsDb studentsDb = new StudentsDb();
 
@@ -77,6 +77,26 @@ public class StudentSearchTest extends BaseSearchTest {
         assertEquals(1, bundle.numberOfResults);
         AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(stu1InCourse2), bundle.studentList);
 
+        ______TS("success: search for students; documents put in batch are searchable");
+
+        studentsDb.updateStudentWithoutSearchability(stu1InCourse1.course, stu1InCourse1.email, stu1InCourse1.name,
+                "batchTeam", stu1InCourse1.section, stu1InCourse1.email, stu1InCourse1.googleId, stu1InCourse1.comments);
+        studentsDb.updateStudentWithoutSearchability(stu1InCourse2.course, stu1InCourse2.email, stu1InCourse2.name,
+                "batchTeam", stu1InCourse2.section, stu1InCourse2.email, stu1InCourse2.googleId, stu1InCourse2.comments);
+
+        bundle = studentsDb.searchStudentsInWholeSystem("batchTeam");
+
+        assertEquals(0, bundle.numberOfResults);
+
+        studentsDb.putDocuments(Arrays.asList(
+                studentsDb.getStudentForEmail(stu1InCourse1.course, stu1InCourse1.email),
+                studentsDb.getStudentForEmail(stu1InCourse2.course, stu1InCourse2.email)));
+        bundle = studentsDb.searchStudentsInWholeSystem("batchTeam");
+
+        assertEquals(2, bundle.numberOfResults);
+        assertEquals("batchTeam", bundle.studentList.get(0).team);
+        assertEquals("batchTeam", bundle.studentList.get(1).team);
+
         ______TS("success: search for students; deleted student no longer searchable");
 
         studentsDb.deleteStudent(stu1InCourse1.course, stu1InCourse1.email);
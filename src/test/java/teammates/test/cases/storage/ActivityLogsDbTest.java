@@ -0,0 +1,105 @@
+package teammates.test.cases.storage;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+import com.google.appengine.api.log.AppLogLine;
+
+public class ActivityLogsDbTest extends BaseComponentTestCase {
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @Test
+    public void testPutGetActivityLogs() throws Exception {
+
+        ______TS("success: put and get, all the fields are kept");
+
+        String logMessage = "TEAMMATESLOG|||instructorHomePage|||instructorHomePage|||true|||Instructor(M)|||Name1"
+                            + "|||id1|||email1@email.tmt|||<b>message</b>|||/page/instructorHomePage|||id1%1|||120";
+        putActivityLog(logMessage, 1000L, "5-59");
+
+        List<ActivityLogEntry> retrieved = activityLogsDb.getActivityLogs(Arrays.asList("5-59"), 1000L, 1000L);
+        assertEquals(1, retrieved.size());
+        ActivityLogEntry activityLog = retrieved.get(0);
+        assertEquals(1000L, activityLog.getTime());
+        assertEquals(120L, activityLog.getTimeTaken());
+        assertEquals("Instructor(M)", activityLog.getRole());
+        assertEquals(logMessage, activityLog.generateLogMessage() + "|||" + activityLog.getTimeTaken());
+
+        ______TS("success: logs within the time period of the versions, latest first");
+
+        putActivityLog(getLogMessage("id2"), 2000L, "5-59");
+        putActivityLog(getLogMessage("id3"), 3000L, "5-60");
+        putActivityLog(getLogMessage("id4"), 4000L, "5-58");
+        putActivityLog(getLogMessage("id5"), 5000L, "5-60");
+
+        retrieved = activityLogsDb.getActivityLogs(Arrays.asList("5-59", "5-60"), 1500L, 5000L);
+        assertEquals(3, retrieved.size());
+        assertEquals("id5", retrieved.get(0).getId());
+        assertEquals("id3", retrieved.get(1).getId());
+        assertEquals("id2", retrieved.get(2).getId());
+
+        ______TS("success: no versions");
+
+        assertTrue(activityLogsDb.getActivityLogs(Arrays.<String>asList(), 0L, 5000L).isEmpty());
+
+        ______TS("failure: null parameter");
+
+        try {
+            activityLogsDb.putActivityLogAsync(null, "5-59");
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testDeleteActivityLogsBefore() throws Exception {
+
+        ______TS("success: only the logs before the time are deleted");
+
+        activityLogsDb.deleteActivityLogsBefore(new Date(30000L)); // removes the logs of other tests
+        putActivityLog(getLogMessage("old1"), 10000L, "5-61");
+        putActivityLog(getLogMessage("old2"), 20000L, "5-61");
+        putActivityLog(getLogMessage("new1"), 30000L, "5-61");
+
+        assertEquals(2, activityLogsDb.deleteActivityLogsBefore(new Date(30000L)));
+        List<ActivityLogEntry> retrieved = activityLogsDb.getActivityLogs(Arrays.asList("5-61"), 0L, 30000L);
+        assertEquals(1, retrieved.size());
+        assertEquals("new1", retrieved.get(0).getId());
+
+        ______TS("success: no logs before the time");
+
+        assertEquals(0, activityLogsDb.deleteActivityLogsBefore(new Date(30000L)));
+
+        ______TS("failure: null parameter");
+
+        try {
+            activityLogsDb.deleteActivityLogsBefore(null);
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    private String getLogMessage(String id) {
+        return "TEAMMATESLOG|||studentHomePage|||studentHomePage|||true|||Student|||Name|||googleId|||email@email.tmt"
+               + "|||message|||/page/studentHomePage|||" + id + "|||10";
+    }
+
+    private void putActivityLog(String logMessage, long time, String version) throws Exception {
+        AppLogLine appLogLine = new AppLogLine();
+        appLogLine.setTimeUsec(time * 1000);
+        appLogLine.setLogMessage(logMessage);
+        activityLogsDb.putActivityLogAsync(new ActivityLogEntry(appLogLine), version).get();
+    }
+
+}
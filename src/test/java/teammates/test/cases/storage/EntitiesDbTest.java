@@ -3,6 +3,8 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.CourseAttributes;
@@ -11,6 +13,7 @@ import teammates.common.exception.InvalidParametersException;
 import teammates.common.util.Const;
 import teammates.common.util.FieldValidator;
 import teammates.storage.api.CoursesDb;
+import teammates.storage.api.EntitiesDb;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.test.driver.AssertHelper;
 
@@ -68,4 +71,43 @@ public class EntitiesDbTest extends BaseComponentTestCase {
         }
     }
 
+    @Test
+    public void testReadYourWrites() throws Exception {
+        CoursesDb coursesDb = new CoursesDb();
+        CourseAttributes c = new CourseAttributes("Computing102-fresh", "Basic Computing", "UTC");
+        coursesDb.deleteCourse(c.getId());
+
+        ______TS("create after delete in the same request");
+        coursesDb.createEntity(c);
+        coursesDb.deleteEntity(c);
+        coursesDb.createEntity(c);
+        verifyPresentInDatastore(c);
+
+        ______TS("created entity is seen as existing before the request ends");
+        try {
+            coursesDb.createEntity(c);
+            signalFailureToDetectException();
+        } catch (EntityAlreadyExistsException e) {
+            AssertHelper.assertContains(c.getIdentificationString(), e.getMessage());
+        }
+
+        ______TS("key and query reads see the writes of the request");
+        assertNotNull(coursesDb.getCourse(c.getId()));
+        assertEquals(1, coursesDb.getCourses(Arrays.asList(c.getId())).size());
+        coursesDb.deleteEntity(c);
+        assertNull(coursesDb.getCourse(c.getId()));
+        assertTrue(coursesDb.getCourses(Arrays.asList(c.getId())).isEmpty());
+        coursesDb.createEntity(c);
+
+        ______TS("writes remain visible after the request ends");
+        EntitiesDb.closePmForRequest();
+        verifyPresentInDatastore(c);
+        coursesDb.deleteEntity(c);
+        verifyAbsentInDatastore(c);
+
+        ______TS("deleting an already deleted entity fails silently");
+        coursesDb.deleteEntity(c);
+        verifyAbsentInDatastore(c);
+    }
+
 }
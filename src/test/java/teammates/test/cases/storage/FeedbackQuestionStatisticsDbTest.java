@@ -0,0 +1,187 @@
+package teammates.test.cases.storage;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.FeedbackQuestionStatisticsAttributes;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.FieldValidator;
+import teammates.storage.api.FeedbackQuestionStatisticsDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+public class FeedbackQuestionStatisticsDbTest extends BaseComponentTestCase {
+
+    private static final FeedbackQuestionStatisticsDb fqsDb = new FeedbackQuestionStatisticsDb();
+
+    @Test
+    public void testPutGetDeleteFeedbackQuestionStatistics() throws Exception {
+
+        ______TS("success: put and get");
+
+        FeedbackQuestionStatisticsAttributes statistics = getNewStatistics("question-1", "idOfCourse1");
+        statistics.addResponse(getCounts("A", 1));
+        statistics.addResponse(getCounts("B", 1));
+        putStatistics(statistics);
+
+        FeedbackQuestionStatisticsAttributes retrieved = fqsDb.getFeedbackQuestionStatistics("question-1");
+        assertEquals(2, retrieved.numberOfResponses);
+        assertEquals(1, retrieved.getCount("A"));
+        assertEquals(1, retrieved.getCount("B"));
+
+        ______TS("success: put replaces existing statistics");
+
+        putStatistics(getNewStatistics("question-1", "idOfCourse1"));
+        retrieved = fqsDb.getFeedbackQuestionStatistics("question-1");
+        assertTrue(retrieved.isEmpty());
+
+        ______TS("success: get for session");
+
+        putStatistics(getNewStatistics("question-2", "idOfCourse1"));
+        putStatistics(getNewStatistics("question-3", "idOfCourse2"));
+
+        Map<String, FeedbackQuestionStatisticsAttributes> statisticsForSession =
+                fqsDb.getFeedbackQuestionStatisticsForSession("Statistics Session", "idOfCourse1");
+        assertEquals(2, statisticsForSession.size());
+        assertTrue(statisticsForSession.containsKey("question-1"));
+        assertTrue(statisticsForSession.containsKey("question-2"));
+
+        ______TS("failure: invalid course id");
+
+        try {
+            putStatistics(getNewStatistics("question-4", "invalid course id"));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            assertEquals(getPopulatedErrorMessage(
+                             FieldValidator.COURSE_ID_ERROR_MESSAGE, "invalid course id",
+                             FieldValidator.COURSE_ID_FIELD_NAME, FieldValidator.REASON_INCORRECT_FORMAT,
+                             FieldValidator.COURSE_ID_MAX_LENGTH),
+                         e.getMessage());
+        }
+        assertNull(fqsDb.getFeedbackQuestionStatistics("question-4"));
+
+        ______TS("failure: null parameters");
+
+        try {
+            fqsDb.getFeedbackQuestionStatistics(null);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getMessage());
+        }
+
+        ______TS("success: delete");
+
+        fqsDb.deleteFeedbackQuestionStatistics("question-1");
+        assertNull(fqsDb.getFeedbackQuestionStatistics("question-1"));
+
+        // deleting non-existent statistics fails silently
+        fqsDb.deleteFeedbackQuestionStatistics("question-1");
+
+        ______TS("success: delete for courses");
+
+        List<String> courseIds = new ArrayList<String>();
+        courseIds.add("idOfCourse1");
+        courseIds.add("idOfCourse2");
+        fqsDb.deleteFeedbackQuestionStatisticsForCourses(courseIds);
+        assertNull(fqsDb.getFeedbackQuestionStatistics("question-2"));
+        assertNull(fqsDb.getFeedbackQuestionStatistics("question-3"));
+    }
+
+    @Test
+    public void testAddToFeedbackQuestionStatistics() throws Exception {
+        FeedbackQuestionStatisticsAttributes statistics = getNewStatistics("question-5", "idOfCourse1");
+        statistics.addResponse(getCounts("A", 1));
+        putStatistics(statistics);
+
+        ______TS("success: changes are added to the stored statistics");
+
+        FeedbackQuestionStatisticsAttributes change = getNewStatistics("question-5", "idOfCourse1");
+        change.removeResponse(getCounts("A", 1));
+        change.addResponse(getCounts("B", 1));
+        change.addResponse(getCounts("B", 1));
+
+        List<FeedbackQuestionStatisticsAttributes> changes = new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        changes.add(change);
+        assertTrue(fqsDb.addToFeedbackQuestionStatistics(changes).isEmpty());
+
+        FeedbackQuestionStatisticsAttributes retrieved = fqsDb.getFeedbackQuestionStatistics("question-5");
+        assertEquals(2, retrieved.numberOfResponses);
+        assertEquals(0, retrieved.getCount("A"));
+        assertFalse(retrieved.counts.containsKey("A"));
+        assertEquals(2, retrieved.getCount("B"));
+
+        ______TS("success: changes to statistics which do not exist are skipped");
+
+        changes.clear();
+        changes.add(getNewStatistics("non-existent-question", "idOfCourse1"));
+        assertTrue(fqsDb.addToFeedbackQuestionStatistics(changes).isEmpty());
+        assertNull(fqsDb.getFeedbackQuestionStatistics("non-existent-question"));
+
+        fqsDb.deleteFeedbackQuestionStatistics("question-5");
+    }
+
+    @Test
+    public void testReplaceFeedbackQuestionStatistics() throws Exception {
+
+        ______TS("success: statistics which do not exist are created");
+
+        FeedbackQuestionStatisticsAttributes statistics = getNewStatistics("question-6", "idOfCourse1");
+        statistics.addResponse(getCounts("A", 1));
+        assertTrue(fqsDb.replaceFeedbackQuestionStatistics(statistics, null));
+
+        FeedbackQuestionStatisticsAttributes retrieved = fqsDb.getFeedbackQuestionStatistics("question-6");
+        assertEquals(1, retrieved.getCount("A"));
+
+        ______TS("failure: statistics created in the meantime are not replaced");
+
+        assertFalse(fqsDb.replaceFeedbackQuestionStatistics(getNewStatistics("question-6", "idOfCourse1"), null));
+        assertEquals(1, fqsDb.getFeedbackQuestionStatistics("question-6").getCount("A"));
+
+        ______TS("success: unchanged statistics are replaced");
+
+        FeedbackQuestionStatisticsAttributes recounted = getNewStatistics("question-6", "idOfCourse1");
+        recounted.addResponse(getCounts("B", 1));
+        assertTrue(fqsDb.replaceFeedbackQuestionStatistics(recounted, retrieved.updatedAt));
+
+        FeedbackQuestionStatisticsAttributes replaced = fqsDb.getFeedbackQuestionStatistics("question-6");
+        assertEquals(0, replaced.getCount("A"));
+        assertEquals(1, replaced.getCount("B"));
+
+        ______TS("failure: statistics changed in the meantime are not replaced");
+
+        FeedbackQuestionStatisticsAttributes change = getNewStatistics("question-6", "idOfCourse1");
+        change.addResponse(getCounts("B", 1));
+        List<FeedbackQuestionStatisticsAttributes> changes = new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        changes.add(change);
+        fqsDb.addToFeedbackQuestionStatistics(changes);
+
+        assertFalse(fqsDb.replaceFeedbackQuestionStatistics(getNewStatistics("question-6", "idOfCourse1"),
+                                                            replaced.updatedAt));
+        assertEquals(2, fqsDb.getFeedbackQuestionStatistics("question-6").getCount("B"));
+
+        fqsDb.deleteFeedbackQuestionStatistics("question-6");
+    }
+
+    private static FeedbackQuestionStatisticsAttributes getNewStatistics(String questionId, String courseId) {
+        return new FeedbackQuestionStatisticsAttributes(questionId, "Statistics Session", courseId);
+    }
+
+    private static Map<String, Integer> getCounts(String key, int count) {
+        Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+        counts.put(key, count);
+        return counts;
+    }
+
+    private static void putStatistics(FeedbackQuestionStatisticsAttributes statistics)
+            throws InvalidParametersException {
+        List<FeedbackQuestionStatisticsAttributes> statisticsToPut =
+                new ArrayList<FeedbackQuestionStatisticsAttributes>();
+        statisticsToPut.add(statistics);
+        fqsDb.putFeedbackQuestionStatistics(statisticsToPut);
+    }
+
+}
@@ -1,6 +1,8 @@
 package teammates.test.cases.storage;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +12,7 @@ import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.datatransfer.FeedbackResponsesPage;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.questions.FeedbackResponseDetails;
@@ -73,7 +76,9 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         feedbackResponse.recipient = newRecipientEmail;
         frDb.updateFeedbackResponse(feedbackResponse);
 
-        FeedbackResponseAttributes updatedFr = frDb.getFeedbackResponse(feedbackQuestionId, giverEmail, newRecipientEmail);
+        // the id is kept when the recipient is changed in place
+        FeedbackResponseAttributes updatedFr = frDb.getFeedbackResponse(feedbackResponse.getId());
+        assertEquals(newRecipientEmail, updatedFr.recipient);
 
         // Assert lastUpdate has changed, and is now.
         assertFalse(feedbackResponse.getUpdatedAt().equals(updatedFr.getUpdatedAt()));
@@ -85,8 +90,8 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
         feedbackResponse.recipient = newRecipientEmailTwo;
         frDb.updateFeedbackResponse(feedbackResponse, true);
 
-        FeedbackResponseAttributes updatedFrTwo =
-                frDb.getFeedbackResponse(feedbackQuestionId, giverEmail, newRecipientEmailTwo);
+        FeedbackResponseAttributes updatedFrTwo = frDb.getFeedbackResponse(feedbackResponse.getId());
+        assertEquals(newRecipientEmailTwo, updatedFrTwo.recipient);
 
         // Assert lastUpdate has NOT changed.
         assertEquals(updatedFr.getUpdatedAt(), updatedFrTwo.getUpdatedAt());
@@ -620,6 +625,122 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                 feedbackSessionName, "non-existent courseId", 1).isEmpty());
     }
 
+    @Test
+    public void testGetFeedbackResponsesPages() {
+
+        String courseId = fras.get("response1ForQ1S1C1").courseId;
+        String feedbackSessionName = fras.get("response1ForQ1S1C1").feedbackSessionName;
+        String questionId = fras.get("response1ForQ1S1C1").feedbackQuestionId;
+
+        ______TS("standard success case: session");
+
+        List<FeedbackResponseAttributes> expected =
+                frDb.getFeedbackResponsesForSession(feedbackSessionName, courseId);
+        FeedbackResponsesPage page =
+                frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, null, 2);
+        assertEquals(2, page.responses.size());
+        assertTrue(page.hasNextPage());
+
+        List<FeedbackResponseAttributes> paged = new ArrayList<FeedbackResponseAttributes>(page.responses);
+        while (page.hasNextPage()) {
+            page = frDb.getFeedbackResponsesForSessionPage(feedbackSessionName, courseId, page.nextPageCursor, 2);
+            paged.addAll(page.responses);
+        }
+        assertEquals(getIds(expected), getIds(paged));
+
+        ______TS("standard success case: session in, from and to a section");
+
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionInSection(feedbackSessionName, courseId, "Section 1")),
+                     getIds(getAllPagesInSection(feedbackSessionName, courseId, "Section 1")));
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionFromSection(feedbackSessionName, courseId, "Section 1")),
+                     getIds(getAllPagesFromSection(feedbackSessionName, courseId, "Section 1")));
+        assertEquals(getIds(frDb.getFeedbackResponsesForSessionToSection(feedbackSessionName, courseId, "Section 1")),
+                     getIds(getAllPagesToSection(feedbackSessionName, courseId, "Section 1")));
+
+        ______TS("standard success case: question");
+
+        expected = frDb.getFeedbackResponsesForQuestion(questionId);
+        page = frDb.getFeedbackResponsesForQuestionPage(questionId, null, expected.size());
+        assertEquals(getIds(expected), getIds(page.responses));
+        assertFalse(page.hasNextPage());
+
+        ______TS("null params");
+
+        try {
+            frDb.getFeedbackResponsesForSessionPage(null, courseId, null, 1);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.getFeedbackResponsesForSessionInSectionPage(feedbackSessionName, courseId, null, null, 1);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        try {
+            frDb.getFeedbackResponsesForQuestionPage(null, null, 1);
+            signalFailureToDetectException();
+        } catch (AssertionError e) {
+            AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
+        }
+
+        ______TS("non-existent feedback session");
+
+        page = frDb.getFeedbackResponsesForSessionPage("non-existent feedback session", courseId, null, 1);
+        assertTrue(page.responses.isEmpty());
+        assertFalse(page.hasNextPage());
+    }
+
+    private List<FeedbackResponseAttributes> getAllPagesInSection(String feedbackSessionName, String courseId,
+                                                                  String section) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        String cursor = null;
+        do {
+            FeedbackResponsesPage page =
+                    frDb.getFeedbackResponsesForSessionInSectionPage(feedbackSessionName, courseId, section, cursor, 1);
+            responses.addAll(page.responses);
+            cursor = page.nextPageCursor;
+        } while (cursor != null);
+        return responses;
+    }
+
+    private List<FeedbackResponseAttributes> getAllPagesFromSection(String feedbackSessionName, String courseId,
+                                                                    String section) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        String cursor = null;
+        do {
+            FeedbackResponsesPage page =
+                    frDb.getFeedbackResponsesForSessionFromSectionPage(feedbackSessionName, courseId, section, cursor, 1);
+            responses.addAll(page.responses);
+            cursor = page.nextPageCursor;
+        } while (cursor != null);
+        return responses;
+    }
+
+    private List<FeedbackResponseAttributes> getAllPagesToSection(String feedbackSessionName, String courseId,
+                                                                  String section) {
+        List<FeedbackResponseAttributes> responses = new ArrayList<FeedbackResponseAttributes>();
+        String cursor = null;
+        do {
+            FeedbackResponsesPage page =
+                    frDb.getFeedbackResponsesForSessionToSectionPage(feedbackSessionName, courseId, section, cursor, 1);
+            responses.addAll(page.responses);
+            cursor = page.nextPageCursor;
+        } while (cursor != null);
+        return responses;
+    }
+
+    private Set<String> getIds(List<FeedbackResponseAttributes> responses) {
+        Set<String> ids = new HashSet<String>();
+        for (FeedbackResponseAttributes response : responses) {
+            assertTrue(ids.add(response.getId()));
+        }
+        return ids;
+    }
+
     @Test
     public void testGetFeedbackResponsesForSessionInSection() {
 
@@ -816,6 +937,58 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
                                                     modifiedResponse.recipient);
         assertEquals("New answer text!", modifiedResponse.getResponseDetails().getAnswerString());
 
+        ______TS("success: section-filtered queries follow updated sections");
+
+        FeedbackResponseAttributes newResponse = getNewFeedbackResponseAttributes();
+        frDb.deleteEntity(newResponse);
+        frDb.createEntity(newResponse);
+        assertTrue(frDb.getFeedbackResponsesForSessionInSection(
+                newResponse.feedbackSessionName, newResponse.courseId, "Section A").isEmpty());
+
+        newResponse.recipientSection = "Section A";
+        frDb.updateFeedbackResponse(newResponse);
+
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                newResponse.feedbackSessionName, newResponse.courseId, "Section A").size());
+        assertEquals(1, frDb.getFeedbackResponsesForQuestionInSection(
+                newResponse.feedbackQuestionId, "Section A").size());
+
+        newResponse.giverSection = "Section B";
+        frDb.updateFeedbackResponse(newResponse);
+
+        // responses between two different sections are excluded from the question in each section
+        assertTrue(frDb.getFeedbackResponsesForQuestionInSection(newResponse.feedbackQuestionId, "Section A").isEmpty());
+        assertEquals(1, frDb.getFeedbackResponsesForSessionInSection(
+                newResponse.feedbackSessionName, newResponse.courseId, "Section B").size());
+
+        frDb.deleteEntity(newResponse);
+    }
+
+    @Test
+    public void testBackfillSectionsInvolvedOfFeedbackResponses() {
+
+        ______TS("success: all responses are walked through in batches");
+
+        FeedbackResponseAttributes expected = getResponseAttributes("response1ForQ1S1C1");
+        FeedbackResponseAttributes before =
+                frDb.getFeedbackResponse(expected.feedbackQuestionId, expected.giver, expected.recipient);
+
+        int numberOfBatches = 0;
+        String cursor = null;
+        do {
+            cursor = frDb.backfillSectionsInvolvedOfFeedbackResponses(cursor, 2);
+            numberOfBatches++;
+        } while (cursor != null);
+        assertTrue(numberOfBatches > 1);
+
+        ______TS("success: responses keep their sections and update timestamps");
+
+        FeedbackResponseAttributes after =
+                frDb.getFeedbackResponse(expected.feedbackQuestionId, expected.giver, expected.recipient);
+        assertEquals(before.toString(), after.toString());
+        assertEquals(before.getUpdatedAt(), after.getUpdatedAt());
+        assertTrue(getIds(frDb.getFeedbackResponsesForSessionInSection(
+                after.feedbackSessionName, after.courseId, after.giverSection)).contains(after.getId()));
     }
 
     private FeedbackResponseAttributes getNewFeedbackResponseAttributes() {
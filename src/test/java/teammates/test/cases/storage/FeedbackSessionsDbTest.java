@@ -4,6 +4,7 @@ import static teammates.common.util.FieldValidator.SESSION_END_TIME_FIELD_NAME;
 import static teammates.common.util.FieldValidator.SESSION_START_TIME_FIELD_NAME;
 import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.List;
@@ -281,6 +282,101 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         verifyPresentInDatastore(modifiedSession);
     }
 
+    @Test
+    public void testRespondents() throws Exception {
+
+        FeedbackSessionAttributes fsa = getNewFeedbackSession();
+        fsDb.deleteEntity(fsa);
+
+        ______TS("respondents recorded in the session entity are read");
+
+        fsa.getRespondingStudentList().add("legacy@email.com");
+        fsDb.createEntity(fsa);
+        fsa = fsDb.getFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(1, fsa.getRespondingStudentList().size());
+        assertTrue(fsa.getRespondingStudentList().contains("legacy@email.com"));
+        assertTrue(fsa.getRespondingInstructorList().isEmpty());
+
+        ______TS("added respondents are loaded by key together with respondents recorded in the session entity");
+
+        fsDb.addStudentRespondent("student1@email.com", fsa);
+        fsDb.addStudentRespondents(Arrays.asList("student2@email.com", "student2@email.com"), fsa);
+        fsDb.addInstructorRespondent("instructor@email.com", fsa);
+        fsDb.addInstructorRespondent("instructor@email.com", fsa);
+
+        fsa = fsDb.getFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        assertEquals(1, fsa.getRespondingStudentList().size());
+        assertTrue(fsDb.isStudentRespondent(fsa, "student1@email.com"));
+        assertFalse(fsDb.isStudentRespondent(fsa, "non-respondent@email.com"));
+        assertTrue(fsDb.isInstructorRespondent(fsa, "instructor@email.com"));
+        assertFalse(fsDb.isStudentRespondent(fsa, "instructor@email.com"));
+
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertEquals(3, fsa.getRespondingStudentList().size());
+        assertTrue(fsa.getRespondingStudentList().contains("student1@email.com"));
+        assertTrue(fsa.getRespondingStudentList().contains("student2@email.com"));
+        assertEquals(1, fsa.getRespondingInstructorList().size());
+        assertTrue(fsa.getRespondingInstructorList().contains("instructor@email.com"));
+
+        List<FeedbackSessionAttributes> sessionsInCourse = fsDb.getFeedbackSessionsForCourse(fsa.getCourseId());
+        assertEquals(1, sessionsInCourse.size());
+        assertEquals(1, sessionsInCourse.get(0).getRespondingStudentList().size());
+        assertTrue(sessionsInCourse.get(0).getRespondingInstructorList().isEmpty());
+
+        ______TS("update and delete respondents");
+
+        fsDb.updateStudentRespondent("legacy@email.com", "legacy.new@email.com", fsa);
+        fsDb.updateStudentRespondent("student1@email.com", "student1.new@email.com", fsa);
+        fsDb.updateStudentRespondent("non-respondent@email.com", "non-respondent.new@email.com", fsa);
+        fsDb.deleteStudentRespondent("student2@email.com", fsa);
+        fsDb.deleteInstructorRespondent("instructor@email.com", fsa);
+
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertEquals(2, fsa.getRespondingStudentList().size());
+        assertTrue(fsa.getRespondingStudentList().contains("legacy.new@email.com"));
+        assertTrue(fsa.getRespondingStudentList().contains("student1.new@email.com"));
+        assertTrue(fsa.getRespondingInstructorList().isEmpty());
+
+        ______TS("clear respondents");
+
+        fsDb.addInstructorRespondent("instructor@email.com", fsa);
+        fsDb.clearStudentRespondents(fsa);
+
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertTrue(fsa.getRespondingStudentList().isEmpty());
+        assertEquals(1, fsa.getRespondingInstructorList().size());
+
+        fsDb.clearInstructorRespondents(fsa);
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertTrue(fsa.getRespondingInstructorList().isEmpty());
+
+        ______TS("respondents are deleted with the session");
+
+        fsDb.addStudentRespondent("student1@email.com", fsa);
+        fsDb.deleteEntity(fsa);
+        fsDb.createEntity(getNewFeedbackSession());
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertTrue(fsa.getRespondingStudentList().isEmpty());
+
+        fsDb.addStudentRespondent("student1@email.com", fsa);
+        fsDb.deleteFeedbackSessionsForCourse(fsa.getCourseId());
+        fsDb.createEntity(getNewFeedbackSession());
+        fsa = getFeedbackSessionWithRespondents(fsa);
+        assertTrue(fsa.getRespondingStudentList().isEmpty());
+
+        fsDb.deleteEntity(fsa);
+    }
+
+    private FeedbackSessionAttributes getFeedbackSessionWithRespondents(FeedbackSessionAttributes fsa) {
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(fsa.getCourseId(), fsa.getFeedbackSessionName());
+        fsDb.loadRespondents(session,
+                             Arrays.asList("legacy@email.com", "legacy.new@email.com", "student1@email.com",
+                                           "student1.new@email.com", "student2@email.com",
+                                           "non-respondent@email.com", "non-respondent.new@email.com"),
+                             Arrays.asList("instructor@email.com"));
+        return session;
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         FeedbackSessionAttributes fsa = new FeedbackSessionAttributes();
         fsa.setFeedbackSessionType(FeedbackSessionType.STANDARD);
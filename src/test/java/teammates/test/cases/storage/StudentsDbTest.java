@@ -3,6 +3,10 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -239,6 +243,97 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testGetStudentsForEmails() throws Exception {
+        StudentAttributes s = createNewStudent();
+        StudentAttributes s2 = createNewStudent("multi.get@email.com");
+
+        ______TS("typical case");
+
+        Map<String, StudentAttributes> students = studentsDb.getStudentsForEmails(
+                s.course, Arrays.asList(s.email, s2.email, "non-existent@email.com"));
+        assertEquals(2, students.size());
+        assertTrue(s.isEnrollInfoSameAs(students.get(s.email)));
+        assertTrue(s2.isEnrollInfoSameAs(students.get(s2.email)));
+
+        ______TS("students of other courses are not returned");
+
+        assertTrue(studentsDb.getStudentsForEmails("any-course-id", Arrays.asList(s.email)).isEmpty());
+
+        ______TS("deleted student is not returned");
+
+        studentsDb.deleteStudentWithoutDocument(s2.course, s2.email);
+        students = studentsDb.getStudentsForEmails(s.course, Arrays.asList(s.email, s2.email));
+        assertEquals(1, students.size());
+        assertNull(students.get(s2.email));
+
+        ______TS("empty list of emails");
+
+        assertTrue(studentsDb.getStudentsForEmails(s.course, new ArrayList<String>()).isEmpty());
+
+        ______TS("null params case");
+
+        try {
+            studentsDb.getStudentsForEmails(null, Arrays.asList(s.email));
+            signalFailureToDetectException();
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testCreateAndUpdateStudentsInBatch() throws Exception {
+        StudentAttributes s = new StudentAttributes("validGoogleId", "batch.create1@email.com", "valid student",
+                                                    "", "valid-course", "validTeamName", "validSectionName");
+        StudentAttributes s2 = new StudentAttributes("", "batch.create2@email.com", "valid student 2",
+                                                     "", "valid-course", "validTeamName", "validSectionName");
+        studentsDb.deleteStudentWithoutDocument(s.course, s.email);
+        studentsDb.deleteStudentWithoutDocument(s2.course, s2.email);
+
+        ______TS("fail : invalid student, none created");
+
+        StudentAttributes invalidStudent = new StudentAttributes("", "batch.invalid@email.com", "valid student",
+                                                                 "", "invalid id space", "team", "section");
+        try {
+            studentsDb.createNewStudentsWithoutSearchability(Arrays.asList(s, invalidStudent));
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("invalid id space", e.getMessage());
+        }
+        verifyAbsentInDatastore(s);
+
+        ______TS("success : create new students");
+
+        studentsDb.createNewStudentsWithoutSearchability(Arrays.asList(s, s2));
+        verifyPresentInDatastore(s);
+        verifyPresentInDatastore(s2);
+
+        ______TS("success : update students");
+
+        s.name = "new name";
+        s.team = "new team";
+        s2.section = "new section";
+        s2.comments = "new comments";
+        studentsDb.updateStudentsWithoutSearchability(s.course, Arrays.asList(s, s2));
+        assertTrue(s.isEnrollInfoSameAs(studentsDb.getStudentForEmail(s.course, s.email)));
+        assertTrue(s2.isEnrollInfoSameAs(studentsDb.getStudentForEmail(s2.course, s2.email)));
+        assertEquals(s.googleId, studentsDb.getStudentForEmail(s.course, s.email).googleId);
+
+        ______TS("fail : update non-existent student");
+
+        StudentAttributes nonExistentStudent = new StudentAttributes("", "batch.non-existent@email.com", "name",
+                                                                     "", s.course, "team", "section");
+        try {
+            studentsDb.updateStudentsWithoutSearchability(s.course, Arrays.asList(nonExistentStudent));
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(StudentsDb.ERROR_UPDATE_NON_EXISTENT_STUDENT, e.getMessage());
+        }
+
+        studentsDb.deleteStudentWithoutDocument(s.course, s.email);
+        studentsDb.deleteStudentWithoutDocument(s2.course, s2.email);
+    }
+
     @SuppressWarnings("deprecation")
     @Test
     public void testDeleteStudent() throws InvalidParametersException, EntityDoesNotExistException {
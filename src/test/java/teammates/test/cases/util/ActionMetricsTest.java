@@ -0,0 +1,135 @@
+package teammates.test.cases.util;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActionMetrics;
+import teammates.common.util.ActionMetrics.ActionStats;
+import teammates.common.util.ActionMetrics.Outcome;
+import teammates.common.util.LatencyHistogram;
+import teammates.common.util.RequestOperationCounter;
+import teammates.common.util.RequestOperationCounter.Operation;
+import teammates.test.cases.BaseTestCase;
+
+public class ActionMetricsTest extends BaseTestCase {
+
+    private static final long PERIOD_LENGTH = 1000;
+
+    @Test
+    public void testLatencyHistogram() {
+
+        ______TS("no latency recorded");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getPercentile(50));
+
+        ______TS("percentiles are the bucket bounds, capped at the maximum");
+
+        for (int i = 1; i <= 98; i++) {
+            histogram.record(i % 10 == 0 ? 10 : 3);
+        }
+        histogram.record(400);
+        histogram.record(450);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(450, histogram.getMax());
+        assertEquals((88 * 3 + 10 * 10 + 400 + 450) / 100, histogram.getMean());
+        assertEquals(5, histogram.getPercentile(50));
+        assertEquals(10, histogram.getPercentile(98));
+        assertEquals(450, histogram.getPercentile(99));
+        assertEquals(450, histogram.getPercentile(100));
+
+        ______TS("latency beyond the last bucket");
+
+        histogram.record(100000);
+        assertEquals(100000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testRequestOperationCounter() {
+        RequestOperationCounter.reset();
+        RequestOperationCounter.record(Operation.DATASTORE_QUERY);
+        RequestOperationCounter.record(Operation.DATASTORE_PUT, 3);
+
+        long[] counts = RequestOperationCounter.getCounts();
+        assertEquals(1, counts[Operation.DATASTORE_QUERY.ordinal()]);
+        assertEquals(3, counts[Operation.DATASTORE_PUT.ordinal()]);
+        assertEquals(0, counts[Operation.DATASTORE_GET.ordinal()]);
+
+        RequestOperationCounter.reset();
+        assertEquals(0, RequestOperationCounter.getCounts()[Operation.DATASTORE_PUT.ordinal()]);
+    }
+
+    @Test
+    public void testRecord() {
+        ActionMetrics metrics = new ActionMetrics(PERIOD_LENGTH, 0);
+
+        ______TS("requests are recorded under their actions, whatever their outcome");
+
+        metrics.record("ActionA", Outcome.SUCCESS, 10, getCounts(2, 1), 100);
+        metrics.record("ActionA", Outcome.ERROR, 30, getCounts(0, 0), 200);
+        metrics.record("ActionB", Outcome.SUCCESS, 500, getCounts(5, 0), 300);
+
+        Map<String, ActionStats> statsOfActions = metrics.getCurrentPeriod(400).getStatsOfActions();
+        assertEquals(2, statsOfActions.size());
+
+        ActionStats statsOfA = statsOfActions.get("ActionA");
+        assertEquals(2, statsOfA.getRequestCount());
+        assertEquals(20, statsOfA.getLatencies().getMean());
+        assertEquals(1, statsOfA.getRequestCount(Outcome.SUCCESS));
+        assertEquals(1, statsOfA.getRequestCount(Outcome.ERROR));
+        assertEquals(0, statsOfA.getRequestCount(Outcome.TIMEOUT));
+        assertEquals(30, statsOfA.getLatencies(Outcome.ERROR).getMax());
+        assertEquals(2, statsOfA.getOperationTotal(Operation.DATASTORE_QUERY));
+        assertEquals(1.0, statsOfA.getOperationMean(Operation.DATASTORE_QUERY), 0.001);
+        assertEquals(0.5, statsOfA.getOperationMean(Operation.DATASTORE_GET), 0.001);
+
+        assertEquals(1, statsOfActions.get("ActionB").getRequestCount());
+        assertNull(metrics.getPreviousPeriod());
+
+        ______TS("a new period is started once the current one is over");
+
+        metrics.record("ActionA", Outcome.SUCCESS, 10, getCounts(0, 0), 1500);
+
+        ActionMetrics.Period currentPeriod = metrics.getCurrentPeriod(1500);
+        assertEquals(1000, currentPeriod.getStartTime());
+        assertEquals(2000, currentPeriod.getEndTime());
+        assertEquals(1, currentPeriod.getStatsOfActions().size());
+        assertEquals(1, currentPeriod.getStatsOfActions().get("ActionA").getRequestCount());
+        assertEquals(0, metrics.getPreviousPeriod().getStartTime());
+        assertEquals(2, metrics.getPreviousPeriod().getStatsOfActions().size());
+
+        ______TS("periods without requests are skipped");
+
+        metrics.record("ActionB", Outcome.SUCCESS, 10, getCounts(0, 0), 5500);
+
+        assertEquals(5000, metrics.getCurrentPeriod(5500).getStartTime());
+        assertEquals(1000, metrics.getPreviousPeriod().getStartTime());
+    }
+
+    @Test
+    public void testRecord_manyActions_extraActionsRecordedTogether() {
+        ActionMetrics metrics = new ActionMetrics(PERIOD_LENGTH, 0);
+
+        for (int i = 0; i < 400; i++) {
+            metrics.record("Action" + i, Outcome.SUCCESS, 10, getCounts(0, 0), 0);
+        }
+        metrics.record("Action0", Outcome.SUCCESS, 10, getCounts(0, 0), 0);
+
+        Map<String, ActionStats> statsOfActions = metrics.getCurrentPeriod(0).getStatsOfActions();
+        assertEquals(301, statsOfActions.size());
+        assertEquals(2, statsOfActions.get("Action0").getRequestCount());
+        assertEquals(400 - 300, statsOfActions.get(ActionMetrics.OTHER_ACTIONS).getRequestCount());
+    }
+
+    private static long[] getCounts(long queries, long gets) {
+        long[] counts = new long[Operation.values().length];
+        counts[Operation.DATASTORE_QUERY.ordinal()] = queries;
+        counts[Operation.DATASTORE_GET.ordinal()] = gets;
+        return counts;
+    }
+
+}
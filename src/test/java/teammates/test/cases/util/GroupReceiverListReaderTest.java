@@ -0,0 +1,76 @@
+package teammates.test.cases.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Const;
+import teammates.common.util.GroupReceiverListReader;
+import teammates.test.cases.BaseTestCase;
+
+public class GroupReceiverListReaderTest extends BaseTestCase {
+
+    @Test
+    public void testReadNextAddress() throws IOException {
+
+        ______TS("addresses are trimmed and empty entries are skipped");
+
+        byte[] file = getBytes(" a@email.tmt,b@email.tmt ,\nc@email.tmt,, \n");
+        assertEquals(Arrays.asList("a@email.tmt", "b@email.tmt", "c@email.tmt"), readAll(file, 0));
+
+        ______TS("empty file");
+
+        assertEquals(new ArrayList<String>(), readAll(getBytes(""), 0));
+
+        ______TS("large file, with addresses across the boundaries of the read buffer");
+
+        StringBuilder largeFile = new StringBuilder();
+        List<String> addresses = new ArrayList<String>();
+        for (int i = 0; i < 100000; i++) {
+            String address = "receiver" + i + "@email.tmt";
+            addresses.add(address);
+            largeFile.append(i == 0 ? "" : ",").append(address);
+        }
+        file = getBytes(largeFile.toString());
+        assertEquals(addresses, readAll(file, 0));
+    }
+
+    @Test
+    public void testResumeFromOffset() throws IOException {
+        byte[] file = getBytes("a@email.tmt,b@email.tmt,c@email.tmt");
+
+        GroupReceiverListReader reader = new GroupReceiverListReader(new ByteArrayInputStream(file), 0);
+        assertEquals(0, reader.getOffset());
+        assertEquals("a@email.tmt", reader.readNextAddress());
+        assertEquals(12, reader.getOffset());
+        assertEquals("b@email.tmt", reader.readNextAddress());
+        long offset = reader.getOffset();
+        reader.close();
+
+        assertEquals(Arrays.asList("c@email.tmt"), readAll(file, offset));
+        assertEquals(new ArrayList<String>(), readAll(file, file.length));
+    }
+
+    private List<String> readAll(byte[] file, long offset) throws IOException {
+        ByteArrayInputStream stream = new ByteArrayInputStream(file, (int) offset, file.length - (int) offset);
+        GroupReceiverListReader reader = new GroupReceiverListReader(stream, offset);
+        List<String> addresses = new ArrayList<String>();
+        String address = reader.readNextAddress();
+        while (address != null) {
+            addresses.add(address);
+            address = reader.readNextAddress();
+        }
+        reader.close();
+        assertEquals(file.length, reader.getOffset());
+        return addresses;
+    }
+
+    private byte[] getBytes(String content) throws IOException {
+        return content.getBytes(Const.SystemParams.ENCODING);
+    }
+
+}
@@ -0,0 +1,75 @@
+package teammates.test.cases.util;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.Template;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+
+        ______TS("placeholders are replaced, unknown placeholders are kept");
+
+        String template = "Dear ${userName}, ${courseName} (${courseId}) ${unknown} ${userName}$ {notPlaceholder}";
+        assertEquals("Dear Alice, Course 1 (C1) ${unknown} Alice$ {notPlaceholder}",
+                     Templates.populateTemplate(template,
+                             "${userName}", "Alice",
+                             "${courseName}", "Course 1",
+                             "${courseId}", "C1"));
+
+        ______TS("values containing placeholders of later keys are populated as well");
+
+        template = "<p>${joinFragment}</p>";
+        assertEquals("<p><a href=\"url\">join ${joinFragment}</a></p>",
+                     Templates.populateTemplate(template,
+                             "${joinFragment}", "<a href=\"${joinUrl}\">join ${joinFragment}</a>",
+                             "${joinUrl}", "url"));
+
+        ______TS("placeholder starts in the middle of another placeholder");
+
+        assertEquals("${a b", Templates.populateTemplate("${a ${b}", "${b}", "b"));
+        assertEquals("x ${", Templates.populateTemplate("${x} ${", "${x}", "x"));
+
+        ______TS("keys which are not placeholders are replaced one after another");
+
+        assertEquals("demo.course.new-demo",
+                     Templates.populateTemplate("demo.course-demo", "demo.course", "demo.course.new"));
+
+        ______TS("populating a template read from a resource file gives the same result as replacing keys");
+
+        String[] keyValuePairs = {
+                "${userName}", "Alice",
+                "${courseName}", "Course 1",
+                "${courseId}", "C1",
+                "${feedbackSessionName}", "Session 1",
+                "${deadline}", "1 Jan",
+                "${instructorFragment}", "",
+                "${submitUrl}", "submit-url",
+                "${reportUrl}", "report-url",
+                "${supportEmail}", "support@email.tmt"
+        };
+        String expected = EmailTemplates.USER_FEEDBACK_SESSION;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        assertEquals(expected, Templates.populateTemplate(EmailTemplates.USER_FEEDBACK_SESSION, keyValuePairs));
+
+        StringBuilder populatedTemplates = new StringBuilder("start");
+        Templates.appendPopulatedTemplate(populatedTemplates, EmailTemplates.USER_FEEDBACK_SESSION, keyValuePairs);
+        assertEquals("start" + expected, populatedTemplates.toString());
+    }
+
+    @Test
+    public void testIsPlaceholder() {
+        assertTrue(Template.isPlaceholder("${userName}"));
+        assertTrue(Template.isPlaceholder("${FeedbackParticipantType.STUDENTS.toString()}"));
+        assertFalse(Template.isPlaceholder("demo.course"));
+        assertFalse(Template.isPlaceholder("${a}${b}"));
+        assertFalse(Template.isPlaceholder("${a ${b}"));
+    }
+
+}
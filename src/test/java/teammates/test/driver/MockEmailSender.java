@@ -21,6 +21,11 @@ public class MockEmailSender extends EmailSender {
         sentEmails.add(email);
     }
 
+    @Override
+    public void sendEmails(List<EmailWrapper> emails) {
+        sentEmails.addAll(emails);
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;
@@ -0,0 +1,67 @@
+package teammates.test.driver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import teammates.common.exception.EmailSendingException;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
+
+/**
+ * Allows mocking of an email sending service which can send a batch of emails in one request.
+ *
+ * <p>Instead of actually sending the emails, the service records the batches of emails
+ * it would have sent in each request, so that the batching of emails can be tracked.
+ */
+public class MockEmailSenderService extends EmailSenderService {
+
+    private final int maxBatchSize;
+    private List<List<EmailWrapper>> requestsSent = new ArrayList<List<EmailWrapper>>();
+    private String failingRecipient;
+
+    public MockEmailSenderService(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public EmailWrapper parseToEmail(EmailWrapper wrapper) {
+        return wrapper;
+    }
+
+    @Override
+    protected void sendEmailWithService(EmailWrapper wrapper) {
+        List<EmailWrapper> request = new ArrayList<EmailWrapper>();
+        request.add(parseToEmail(wrapper));
+        requestsSent.add(request);
+    }
+
+    @Override
+    protected List<List<EmailWrapper>> groupIntoRequests(List<EmailWrapper> wrappers) {
+        return groupIntoBatches(wrappers, maxBatchSize);
+    }
+
+    @Override
+    protected void sendEmailsWithService(List<EmailWrapper> request) throws EmailSendingException {
+        for (EmailWrapper wrapper : request) {
+            if (wrapper.getRecipient().equals(failingRecipient)) {
+                throw new EmailSendingException(new Exception("Failed to send email to " + failingRecipient));
+            }
+        }
+        requestsSent.add(request);
+    }
+
+    /**
+     * Makes the requests which include an email to {@code recipient} fail.
+     */
+    public void setFailingRecipient(String recipient) {
+        this.failingRecipient = recipient;
+    }
+
+    /**
+     * Gets the emails sent in each request to the service.
+     */
+    public List<List<EmailWrapper>> getRequestsSent() {
+        return requestsSent;
+    }
+
+}
@@ -41,6 +41,12 @@ public class MockTaskQueuer extends TaskQueuer {
         tasksAdded.add(task);
     }
 
+    @Override
+    protected List<TaskWrapper> addTasks(List<TaskWrapper> tasks) {
+        tasksAdded.addAll(tasks);
+        return new ArrayList<TaskWrapper>();
+    }
+
     @Override
     public List<TaskWrapper> getTasksAdded() {
         return tasksAdded;